@@ -58,7 +58,6 @@ dependencies {
    implementation("org.springframework.boot:spring-boot-starter-mail")
     compileOnly("org.projectlombok:lombok:1.18.34")
    developmentOnly("org.springframework.boot:spring-boot-devtools")
-   implementation ("org.springframework.cloud:spring-cloud-starter-aws:2.2.6.RELEASE")
 //   implementation ("me.paulschwarz:spring-dotenv:2.5.4")
    implementation("com.google.zxing:core:3.5.1")
    implementation("com.google.zxing:javase:3.5.1")
@@ -68,12 +67,14 @@ dependencies {
    implementation("com.vladmihalcea:hibernate-types-60:2.21.1")
    implementation ("com.microsoft.playwright:playwright:1.46.0")
    implementation("software.amazon.awssdk:s3:2.25.61")
+   implementation("software.amazon.awssdk:apache-client:2.25.61")
    implementation ("org.springframework.boot:spring-boot-starter-websocket")
    implementation ("org.springframework:spring-messaging")
    implementation ("org.apache.httpcomponents.client5:httpclient5:5.2.1")
    implementation ("org.springframework.boot:spring-boot-starter-actuator")
    implementation ("org.springframework.boot:spring-boot-starter-webflux")
    implementation ("org.springframework.boot:spring-boot-starter-cache")
+   implementation ("com.github.ben-manes.caffeine:caffeine")
    runtimeOnly ("io.micrometer:micrometer-registry-prometheus")
    runtimeOnly("io.jsonwebtoken:jjwt-impl:0.11.5")
    runtimeOnly("io.jsonwebtoken:jjwt-jackson:0.11.5")
@@ -88,6 +89,8 @@ dependencies {
 
    testImplementation("org.springframework.boot:spring-boot-starter-test")
    testImplementation("org.springframework.security:spring-security-test")
+   // Lua 스크립트 검증용 실제 Redis (Docker 없으면 해당 테스트 skip)
+   testImplementation("org.testcontainers:junit-jupiter")
    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
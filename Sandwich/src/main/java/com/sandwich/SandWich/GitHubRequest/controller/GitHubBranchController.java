@@ -29,7 +29,7 @@ public class GitHubBranchController {
             @RequestHeader("X-GitHub-Token") String gitHubToken,
             @AuthenticationPrincipal UserDetailsImpl userDetails) {
 
-        Long userId = userDetails.getUser().getId();
+        Long userId = userDetails.getId();
 
         try {
             Map<String, String> sandwichEnv = Collections.emptyMap();
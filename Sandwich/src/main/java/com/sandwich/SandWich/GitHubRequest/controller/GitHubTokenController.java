@@ -30,7 +30,7 @@ public class GitHubTokenController {
             return ResponseEntity.badRequest().body("유효한 토큰이 아닙니다.");
         }
 
-        Long userId = userDetails.getUser().getId();
+        Long userId = userDetails.getId();
         gitHubTokenService.saveToken(userId, projectId, request.getToken());
 
         return ResponseEntity.ok("GitHub 토큰이 성공적으로 저장되었습니다.");
@@ -44,7 +44,7 @@ public class GitHubTokenController {
             @RequestParam String branch,
             @AuthenticationPrincipal UserDetailsImpl userDetails
     ) {
-        Long userId = userDetails.getUser().getId();
+        Long userId = userDetails.getId();
         String sha = gitHubTokenService.getLatestCommitSha(userId, projectId, owner, repo, branch);
         return ResponseEntity.ok(sha);
     }
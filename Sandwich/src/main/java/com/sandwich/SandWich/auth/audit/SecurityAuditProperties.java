@@ -0,0 +1,23 @@
+package com.sandwich.SandWich.auth.audit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/** 보안 감사 로그 비동기 적재 (app.audit) */
+@Getter @Setter
+@Component
+@ConfigurationProperties(prefix = "app.audit")
+public class SecurityAuditProperties {
+    /** 메모리 큐 상한 — 가득 차면 새 이벤트를 버리고 security_audit_dropped_total 증가 */
+    private int queueCapacity = 10_000;
+    /** 한 번에 insert 할 최대 행 수 (multi-row VALUES) */
+    private int batchSize = 200;
+    /** 큐가 비어 있을 때 writer 가 대기하는 최대 시간 (종료 신호 확인 주기) */
+    private Duration pollInterval = Duration.ofMillis(500);
+    /** 종료 시 남은 이벤트를 비우는 데 기다리는 최대 시간 */
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+}
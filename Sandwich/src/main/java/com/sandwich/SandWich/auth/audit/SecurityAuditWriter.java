@@ -0,0 +1,126 @@
+package com.sandwich.SandWich.auth.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 보안 감사 이벤트 비동기 적재.
+ * - 요청 스레드는 제한된 큐에 offer 만 하고 바로 돌아간다 (인증 지연 없음)
+ * - 전용 스레드 하나가 쌓인 만큼(최대 batchSize) 꺼내 multi-row insert 한 번으로 기록
+ * - 큐가 가득 차면 새 이벤트를 버리고 security_audit_dropped_total{reason=overflow} 증가
+ * - 종료 시 새 이벤트는 받지 않고, 남은 큐를 shutdownTimeout 안에서 모두 기록
+ */
+@Slf4j
+@Component
+public class SecurityAuditWriter {
+
+    private final SecurityEventBatchRepository repo;
+    private final SecurityAuditProperties props;
+    private final BlockingQueue<SecurityEventBatchRepository.Row> queue;
+
+    private final Counter enqueued;
+    private final Counter written;
+    private final Counter failed;
+    private final Counter droppedOverflow;
+    private final Counter droppedShutdown;
+    private final Timer batchTimer;
+
+    private volatile boolean accepting = false;
+    private Thread worker;
+
+    public SecurityAuditWriter(SecurityEventBatchRepository repo,
+                               SecurityAuditProperties props,
+                               MeterRegistry registry) {
+        this.repo = repo;
+        this.props = props;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, props.getQueueCapacity()));
+        this.enqueued        = Counter.builder("security_audit_enqueued_total").description("Audit events queued").register(registry);
+        this.written         = Counter.builder("security_audit_written_total").description("Audit events inserted").register(registry);
+        this.failed          = Counter.builder("security_audit_failed_total").description("Audit events lost to insert failures").register(registry);
+        this.droppedOverflow = Counter.builder("security_audit_dropped_total").tag("reason", "overflow").description("Audit events dropped").register(registry);
+        this.droppedShutdown = Counter.builder("security_audit_dropped_total").tag("reason", "shutdown").description("Audit events dropped").register(registry);
+        this.batchTimer      = Timer.builder("security_audit_batch_seconds").description("Audit batch insert latency").register(registry);
+        Gauge.builder("security_audit_queue_size", queue, BlockingQueue::size).description("Pending audit events").register(registry);
+    }
+
+    @PostConstruct
+    void start() {
+        accepting = true;
+        worker = new Thread(this::run, "security-audit-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        accepting = false; // worker 는 큐가 빌 때까지 계속 기록한 뒤 끝남
+        try {
+            worker.join(props.getShutdownTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            worker.interrupt();
+            int left = queue.size();
+            droppedShutdown.increment(left);
+            log.warn("[Audit] shutdown timeout, dropping {} pending events", left);
+        }
+    }
+
+    /** 막히지 않음 — 큐가 가득 찼거나 종료 중이면 버리고 false */
+    public boolean enqueue(SecurityEventBatchRepository.Row row) {
+        if (!accepting) {
+            droppedShutdown.increment();
+            return false;
+        }
+        if (!queue.offer(row)) {
+            droppedOverflow.increment();
+            return false;
+        }
+        enqueued.increment();
+        return true;
+    }
+
+    private void run() {
+        int batchSize = Math.max(1, Math.min(props.getBatchSize(), 1_000)); // 바인드 변수 상한 여유
+        long pollMs = Math.max(1, props.getPollInterval().toMillis());
+        List<SecurityEventBatchRepository.Row> batch = new ArrayList<>(batchSize);
+        while (accepting || !queue.isEmpty()) {
+            try {
+                SecurityEventBatchRepository.Row first = queue.poll(pollMs, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<SecurityEventBatchRepository.Row> batch) {
+        try {
+            batchTimer.record(() -> repo.insertAll(batch));
+            written.increment(batch.size());
+        } catch (Exception e) {
+            failed.increment(batch.size());
+            log.warn("[Audit] batch insert fail size={} first={} msg={}",
+                    batch.size(), batch.get(0).type(), e.getMessage());
+        }
+    }
+}
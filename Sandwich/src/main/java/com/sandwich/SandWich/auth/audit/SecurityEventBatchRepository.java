@@ -0,0 +1,46 @@
+package com.sandwich.SandWich.auth.audit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * security_events 다건 insert — 배치 하나를 multi-row VALUES 문 한 번으로 (SecurityEvent 엔티티 테이블).
+ */
+@Repository
+@RequiredArgsConstructor
+public class SecurityEventBatchRepository {
+
+    /** 요청 스레드에서 값만 뽑아 둔 감사 이벤트 */
+    public record Row(String type, Long userId, String email, String pendingId,
+                      String ip, String ua, String details, OffsetDateTime occurredAt) {}
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public int insertAll(List<Row> rows) {
+        if (rows.isEmpty()) return 0;
+        StringBuilder sql = new StringBuilder(
+                "insert into security_events (type, user_id, email, pending_id, ip, ua, details, created_at, updated_at) values ");
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        for (int i = 0; i < rows.size(); i++) {
+            Row r = rows.get(i);
+            if (i > 0) sql.append(',');
+            sql.append("(:t").append(i).append(", :u").append(i).append(", :e").append(i)
+               .append(", :p").append(i).append(", :ip").append(i).append(", :ua").append(i)
+               .append(", :d").append(i).append(", :at").append(i).append(", :at").append(i).append(')');
+            params.addValue("t" + i, r.type())
+                  .addValue("u" + i, r.userId())
+                  .addValue("e" + i, r.email())
+                  .addValue("p" + i, r.pendingId())
+                  .addValue("ip" + i, r.ip())
+                  .addValue("ua" + i, r.ua())
+                  .addValue("d" + i, r.details())
+                  .addValue("at" + i, r.occurredAt());
+        }
+        return jdbc.update(sql.toString(), params);
+    }
+}
@@ -84,7 +84,7 @@ public class AuthController {
         }
 
         // 3) 새 토큰 생성
-        String newAccessToken  = jwtUtil.createAccessToken(user.getEmail(), user.getRole().name());
+        String newAccessToken  = jwtUtil.createAccessToken(user.getEmail(), user.getRole().name(), user.getTokenVersion());
         String newRefreshToken = jwtUtil.createRefreshToken(user.getEmail());
 
         // 4) Redis 저장 (TTL 7일)
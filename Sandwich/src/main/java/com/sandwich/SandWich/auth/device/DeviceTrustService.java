@@ -17,6 +17,7 @@ import static com.sandwich.SandWich.auth.security.TrustedDeviceFilter.ATTR_TRUST
 @RequiredArgsConstructor
 public class DeviceTrustService {
     private final UserDeviceRepository repo;
+    private final TrustedDeviceCache verifiedDevices;
     private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
     private final SecureRandom rnd = new SecureRandom();
     private final String cookieDomain = System.getenv().getOrDefault("TRUST_COOKIE_DOMAIN", "");
@@ -29,15 +30,12 @@ public class DeviceTrustService {
         if (attr instanceof Boolean trustedFlag) {
             return trustedFlag;   // true/false 그대로 반환
         }
-        // 기존 로직: 쿠키 → DB 검증
+        // 기존 로직: 쿠키 → (검증 캐시 미스 시) DB + BCrypt 검증
         String tdid = readCookie(req,"tdid");
         String tdt  = readCookie(req,"tdt");
         if (tdid==null || tdt==null) return false;
-        return repo.findByDeviceIdAndRevokedAtIsNull(tdid)
-                .filter(d -> d.getUserId().equals(userId))
-                .filter(d -> d.getTrustUntil()!=null && d.getTrustUntil().isAfter(OffsetDateTime.now()))
-                .filter(d -> encoder.matches(tdt, d.getDeviceSecretHash()))
-                .isPresent();
+        var v = verifiedDevice(tdid, tdt);
+        return v != null && v.userId().equals(userId);
     }
 
     /** 기존 버전(호환용) */
@@ -58,6 +56,7 @@ public class DeviceTrustService {
                 d.setLastIp(clientIp(req));
                 d.setTrustUntil(OffsetDateTime.now().plus(30, ChronoUnit.DAYS));
                 repo.save(d);
+                verifiedDevices.evict(d.getDeviceId()); // 회전 전 토큰의 검증 결과 폐기
                 addCookie(res,"tdt", newSecret, 30*24*3600);
                 return;
             }
@@ -111,6 +110,7 @@ public class DeviceTrustService {
             if (d.getUserId().equals(userId)) {
                 d.setTrustUntil(OffsetDateTime.now().plus(days, ChronoUnit.DAYS));
                 repo.save(d);
+                verifiedDevices.evict(tdid);
             }
         });
     }
@@ -136,10 +136,17 @@ public class DeviceTrustService {
 
     //전역 필터용: userId 없이 디바이스 자체가 유효/미해지/미만료이고, 비밀이 맞는지만 검사
     public boolean isTrusted(String deviceId, String deviceToken, String userAgent, String ip) {
-        return repo.findByDeviceIdAndRevokedAtIsNull(deviceId)
-                .filter(d -> d.getTrustUntil()!=null && d.getTrustUntil().isAfter(OffsetDateTime.now()))
-                .filter(d -> encoder.matches(deviceToken, d.getDeviceSecretHash()))
-                .isPresent();
+        return verifiedDevice(deviceId, deviceToken) != null;
+    }
+
+    // 같은 (tdid, tdt) 는 캐시된 HMAC 비교로 끝내고, 처음 보는 토큰만 DB + BCrypt
+    private TrustedDeviceCache.VerifiedDevice verifiedDevice(String deviceId, String deviceToken) {
+        return verifiedDevices.get(deviceId, deviceToken, () ->
+                repo.findByDeviceIdAndRevokedAtIsNull(deviceId)
+                        .filter(d -> d.getTrustUntil()!=null && d.getTrustUntil().isAfter(OffsetDateTime.now()))
+                        .filter(d -> encoder.matches(deviceToken, d.getDeviceSecretHash()))
+                        .map(d -> verifiedDevices.verified(d, deviceToken))
+                        .orElse(null));
     }
 
     private String clientIp(HttpServletRequest req) {
@@ -157,11 +164,14 @@ public class DeviceTrustService {
                 .orElseThrow(() -> new IllegalArgumentException("DEVICE_NOT_FOUND"));
         if (dev.getRevokedAt() == null) dev.setRevokedAt(OffsetDateTime.now());
         repo.save(dev);
+        verifiedDevices.evict(dev.getDeviceId());
     }
 
     // === revoke 전체 ===
     @Transactional
     public int revokeAll(Long userId) {
+        verifiedDevices.evictAll(repo.findByUserIdAndRevokedAtIsNull(userId).stream()
+                .map(UserDevice::getDeviceId).toList());
         return repo.revokeAllActiveByUserId(userId, OffsetDateTime.now());
     }
 
@@ -175,6 +185,7 @@ public class DeviceTrustService {
         if (!dev.getUserId().equals(userId)) throw new SecurityException("FORBIDDEN");
         dev.setRevokedAt(OffsetDateTime.now());
         repo.save(dev);
+        verifiedDevices.evict(tdid);
     }
 
     // === 쿠키 제거 유틸 ===
@@ -0,0 +1,111 @@
+package com.sandwich.SandWich.auth.device;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * 신뢰 기기 검증 결과 캐시 — BCrypt 는 기기 세션(토큰 회전 주기)당 한 번만.
+ * - 항목 키는 deviceId, 값은 검증에 성공한 토큰의 HMAC(deviceId, tdt) 과 만료 시점
+ * - HMAC 키는 프로세스마다 새로 뽑는다 (L1 전용 캐시라 노드 간 공유할 필요 없음)
+ * - 회전/연장/해지 시 커밋 후 evict → 다른 노드에도 무효화 메시지로 전파, TTL 은 누락 대비 안전망
+ */
+@Component
+public class TrustedDeviceCache {
+
+    public static final String CACHE = "trustedDevices";
+
+    private final Cache cache;
+    private final SecretKeySpec key;
+    private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(this::newMac);
+
+    /** 검증된 기기 — tokenMac 은 원문 토큰 대신 보관 */
+    public record VerifiedDevice(Long userId, byte[] tokenMac, OffsetDateTime trustUntil) {
+        boolean matches(byte[] mac) { return MessageDigest.isEqual(tokenMac, mac); }
+        boolean valid(OffsetDateTime now) { return trustUntil != null && trustUntil.isAfter(now); }
+    }
+
+    public TrustedDeviceCache(CacheManager cacheManager) {
+        this.cache = cacheManager.getCache(CACHE);
+        byte[] k = new byte[32];
+        new SecureRandom().nextBytes(k);
+        this.key = new SecretKeySpec(k, "HmacSHA256");
+    }
+
+    /**
+     * 캐시에 같은 토큰의 검증 결과가 있으면 그대로, 없으면 verifier(DB + BCrypt) 결과를 채워서 반환.
+     * verifier 는 검증 실패 시 null. 실패 결과는 캐시에 남기지 않는다.
+     */
+    public VerifiedDevice get(String deviceId, String token, Supplier<VerifiedDevice> verifier) {
+        byte[] mac = mac(deviceId, token);
+        boolean[] loaded = {false};
+        VerifiedDevice v = cache.get(deviceId, () -> {
+            loaded[0] = true;
+            return verifier.get();
+        });
+        if (v != null && v.matches(mac) && v.valid(OffsetDateTime.now())) return v;
+        if (loaded[0]) {
+            if (v == null) cache.evict(deviceId); // 실패 결과(null)가 남지 않도록
+            return null;
+        }
+        // 다른 토큰으로 채워진 항목 (회전 직후 등) — 직접 검증하고 맞으면 교체
+        VerifiedDevice fresh = verifier.get();
+        if (fresh == null) return null;
+        cache.put(deviceId, fresh);
+        return fresh;
+    }
+
+    /** verifier 가 캐시에 넣을 값을 만들 때 사용 */
+    public VerifiedDevice verified(UserDevice d, String token) {
+        return new VerifiedDevice(d.getUserId(), mac(d.getDeviceId(), token), d.getTrustUntil());
+    }
+
+    /** 트랜잭션 안이면 커밋 후에 (커밋 전 다른 요청이 옛 값을 다시 채우지 않도록) */
+    public void evict(String deviceId) {
+        if (deviceId == null) return;
+        afterCommit(() -> cache.evict(deviceId));
+    }
+
+    public void evictAll(Collection<String> deviceIds) {
+        if (deviceIds.isEmpty()) return;
+        afterCommit(() -> deviceIds.forEach(cache::evict));
+    }
+
+    private void afterCommit(Runnable r) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override public void afterCommit() { r.run(); }
+            });
+        } else {
+            r.run();
+        }
+    }
+
+    private byte[] mac(String deviceId, String token) {
+        Mac m = macs.get();
+        m.update(deviceId.getBytes(StandardCharsets.UTF_8));
+        m.update((byte) 0);
+        return m.doFinal(token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac m = Mac.getInstance("HmacSHA256");
+            m.init(key);
+            return m;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
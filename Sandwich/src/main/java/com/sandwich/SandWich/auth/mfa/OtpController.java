@@ -64,7 +64,7 @@ public class OtpController {
                 User user = userRepository.findByEmailAndIsDeletedFalse(ctx.getEmail())
                         .orElseThrow(() -> new RuntimeException("USER_NOT_FOUND"));
 
-                String accessToken  = jwt.createAccessToken(user.getEmail(), user.getRole().name());
+                String accessToken  = jwt.createAccessToken(user.getEmail(), user.getRole().name(), user.getTokenVersion());
                 String refreshToken = jwt.createRefreshToken(user.getEmail());
                 redisUtil.saveRefreshToken(String.valueOf(user.getId()), refreshToken);
 
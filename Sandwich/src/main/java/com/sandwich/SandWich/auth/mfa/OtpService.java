@@ -3,14 +3,12 @@ package com.sandwich.SandWich.auth.mfa;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sandwich.SandWich.auth.mfa.metrics.OtpMetrics;
+import com.sandwich.SandWich.common.otp.OtpEngine;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import lombok.extern.slf4j.Slf4j;
-import java.util.concurrent.TimeUnit;
-import java.security.SecureRandom;
 import java.time.Duration;
 
 @Slf4j
@@ -20,28 +18,23 @@ public class OtpService {
 
     // 꼭 StringRedisTemplate로!
     private final @Qualifier("stringRedisTemplate") StringRedisTemplate redis;
-    private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
-    private final SecureRandom rnd = new SecureRandom();
+    private final OtpEngine engine;
     private final ObjectMapper om = new ObjectMapper();
     private final OtpMetrics metrics;
 
+    // 코드/시도수 키는 OtpEngine 이 관리 (otp:login:{pid}:code, otp:login:{pid}:try)
+    private static final String SCOPE = "login";
+
     // Redis Keys
-    private static String K_CODE(String pid)    { return "otp:code:" + pid; }      // bcrypt(code), 5분
-    private static String K_ATTEMPT(String pid) { return "otp:try:"  + pid; }      // 시도수, 10분
     private static String K_CTX(String pid)     { return "otp:ctx:"  + pid; }      // OtpContext JSON, 5분
 
     public String issueCode(String pendingId) {
         try {
             return metrics.timeIssue(() -> {
-                String code = String.format("%06d", rnd.nextInt(1_000_000));
-                String codeKey = K_CODE(pendingId);
-
-                redis.opsForValue().set(codeKey, encoder.encode(code), Duration.ofMinutes(5));
-                redis.opsForValue().setIfAbsent(K_ATTEMPT(pendingId), "0", Duration.ofMinutes(10));
-                Long ttlSec = redis.getExpire(codeKey, TimeUnit.SECONDS);
+                String code = engine.newCode();
+                engine.issue(SCOPE, pendingId, code);
 
-                log.info("otp.issue success pid={} ttlSec={} codeKey={} ctxKey={}",
-                        pendingId, ttlSec, codeKey, K_CTX(pendingId));
+                log.info("otp.issue success pid={} ctxKey={}", pendingId, K_CTX(pendingId));
                 metrics.incIssued();
                 return code;
             });
@@ -70,6 +63,7 @@ public class OtpService {
 
     public enum VerifyResult { OK, INVALID, EXPIRED, LOCKED }
 
+    // 조회·시도수·잠금·소비가 스크립트 한 번 (왕복 1회)
     public VerifyResult verifyDetailed(String pendingId, String code, int maxTries) {
         try {
             return metrics.timeVerify(() -> {
@@ -79,37 +73,27 @@ public class OtpService {
                     return VerifyResult.EXPIRED;
                 }
 
-                String codeKey = K_CODE(pendingId);
-                String tryKey  = K_ATTEMPT(pendingId);
-
-                String hash = redis.opsForValue().get(codeKey);
-                Long ttlSec = redis.getExpire(codeKey, TimeUnit.SECONDS);
-                String triesStr = redis.opsForValue().get(tryKey);
-                int tries = (triesStr == null) ? 0 : Integer.parseInt(triesStr);
-
-                if (hash == null) {
-                    log.info("otp.verify expired pid={} ttl=null", pendingId);
-                    metrics.incVerifyExpired();
-                    return VerifyResult.EXPIRED;
-                }
-                if (tries >= maxTries) {
-                    log.info("otp.verify locked pid={} tries={}", pendingId, tries);
-                    metrics.incVerifyLocked();
-                    return VerifyResult.LOCKED;
-                }
-
-                boolean ok = encoder.matches(code, hash);
-                if (ok) {
-                    redis.delete(codeKey);
-                    redis.delete(tryKey);
-                    log.info("otp.verify ok pid={} ttlSec={} tries={}", pendingId, ttlSec, tries);
-                    metrics.incVerifyOk();
-                    return VerifyResult.OK;
-                } else {
-                    redis.opsForValue().increment(tryKey);
-                    log.info("otp.verify invalid pid={} ttlSec={} tries={}", pendingId, ttlSec, tries+1);
-                    metrics.incVerifyInvalid();
-                    return VerifyResult.INVALID;
+                switch (engine.verify(SCOPE, pendingId, code, maxTries)) {
+                    case OK -> {
+                        log.info("otp.verify ok pid={}", pendingId);
+                        metrics.incVerifyOk();
+                        return VerifyResult.OK;
+                    }
+                    case INVALID -> {
+                        log.info("otp.verify invalid pid={}", pendingId);
+                        metrics.incVerifyInvalid();
+                        return VerifyResult.INVALID;
+                    }
+                    case LOCKED -> {
+                        log.info("otp.verify locked pid={} maxTries={}", pendingId, maxTries);
+                        metrics.incVerifyLocked();
+                        return VerifyResult.LOCKED;
+                    }
+                    default -> {
+                        log.info("otp.verify expired pid={} ttl=null", pendingId);
+                        metrics.incVerifyExpired();
+                        return VerifyResult.EXPIRED;
+                    }
                 }
             });
         } catch (Exception e) {
@@ -129,8 +113,7 @@ public class OtpService {
 
     // 모두 정리하는 헬퍼
     public void clearAll(String pendingId) {
-        redis.delete(K_CODE(pendingId));
-        redis.delete(K_ATTEMPT(pendingId));
+        engine.clear(SCOPE, pendingId);
         redis.delete(K_CTX(pendingId));
     }
 }
@@ -0,0 +1,20 @@
+package com.sandwich.SandWich.auth.security;
+
+import com.sandwich.SandWich.user.domain.Role;
+import com.sandwich.SandWich.user.domain.User;
+
+/**
+ * 인증에 필요한 최소 사용자 정보 (JwtFilter 가 캐시해서 매 요청 User 엔티티 로드를 피함).
+ * tokenVersion: 토큰의 tv 클레임보다 크면 그 토큰은 무효 (로그아웃/탈퇴/권한 변경 시 증가).
+ */
+public record AuthPrincipal(Long userId, String email, Role role, Boolean verified, Long tokenVersion) {
+
+    public static AuthPrincipal from(User user) {
+        return new AuthPrincipal(user.getId(), user.getEmail(), user.getRole(),
+                user.getIsVerified(), user.getTokenVersion());
+    }
+
+    public boolean accepts(long tokenVersionClaim) {
+        return tokenVersion == null || tokenVersionClaim >= tokenVersion;
+    }
+}
@@ -1,8 +1,9 @@
 package com.sandwich.SandWich.auth.security;
 
+import com.sandwich.SandWich.common.route.RouteClassifier;
+import com.sandwich.SandWich.common.route.RoutePolicy;
 import com.sandwich.SandWich.user.repository.UserRepository;
 import io.jsonwebtoken.Claims;
-import com.sandwich.SandWich.user.domain.User;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.*;
@@ -15,41 +16,24 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.util.AntPathMatcher;
 
 import java.io.IOException;
-import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 public class JwtFilter extends OncePerRequestFilter {
 
     private static final Logger log = LoggerFactory.getLogger(JwtFilter.class);
-    private static final AntPathMatcher MATCHER = new AntPathMatcher();
-
-    // 토큰 검사 '예외'로 둘 공개 경로만 명시 (여기에 /api/auth/devices/** 넣지 말 것!)
-    private static final List<String> EXCLUDE_PATHS = List.of(
-            "/health",
-            "/error", "/error/**",
-            "/api/auth/login",
-            "/api/auth/signup",
-            "/api/auth/refresh",
-            "/api/auth/otp/**",
-            "/swagger-ui/**", "/v3/api-docs/**", "/swagger-resources/**", "/webjars/**",
-            "/oauth2/**", "/login/oauth2/**"
-    );
 
     private final JwtUtil jwtUtil;
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+    private final RouteClassifier routes; // 공개 경로 목록은 RouteClassifier.PUBLIC_PATHS
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
-        // getRequestURI()가 가장 직관적 (컨텍스트 경로 고려 X)
-        String path = request.getRequestURI();
-        for (String p : EXCLUDE_PATHS) {
-            if (MATCHER.match(p, path)) return true;
-        }
-        return false; // 위에 없으면 모두 JWT 검사
+        // 공개 경로가 아니면 모두 JWT 검사 (분류는 요청당 한 번, 요청 속성에 캐시)
+        return routes.classify(request).has(RoutePolicy.PUBLIC);
     }
 
     @Override
@@ -85,10 +69,15 @@ public class JwtFilter extends OncePerRequestFilter {
             Claims claims = jwtUtil.parseClaims(token);
             String email = claims.getSubject();
 
-            User user = userRepository.findByEmailAndIsDeletedFalse(email)
-                    .orElseThrow(() -> new UsernameNotFoundException("유저를 찾을 수 없습니다."));
+            // 캐시된 주체로 인증 (User 엔티티는 컨트롤러가 getUser() 를 부를 때만 로드)
+            AuthPrincipal principal = principalCache.get(email);
+            if (principal == null) throw new UsernameNotFoundException("유저를 찾을 수 없습니다.");
+            if (!principal.accepts(JwtUtil.tokenVersion(claims))) {
+                throw new UsernameNotFoundException("만료된 토큰 버전입니다.");
+            }
 
-            UserDetailsImpl userDetails = new UserDetailsImpl(user);
+            UserDetailsImpl userDetails = new UserDetailsImpl(principal, id -> userRepository.findByIdIfNotDeleted(id)
+                    .orElseThrow(() -> new UsernameNotFoundException("유저를 찾을 수 없습니다.")));
             var authentication = new UsernamePasswordAuthenticationToken(
                     userDetails, null, userDetails.getAuthorities());
             authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -23,10 +23,18 @@ public class JwtUtil {
     }
 
 
+    public static final String CLAIM_TOKEN_VERSION = "tv";
+
     public String createAccessToken(String email, String role) {
+        return createAccessToken(email, role, 0L);
+    }
+
+    /** tokenVersion: User.tokenVersion — 이후 버전이 오르면 이 토큰은 JwtFilter 에서 거절됨 */
+    public String createAccessToken(String email, String role, Long tokenVersion) {
         return Jwts.builder()
                 .setSubject(email)
                 .claim("role", role)
+                .claim(CLAIM_TOKEN_VERSION, tokenVersion != null ? tokenVersion : 0L)
                 .setExpiration(new Date(System.currentTimeMillis() + ACCESS_TOKEN_EXP))
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
@@ -66,6 +74,12 @@ public class JwtUtil {
             throw new JwtInvalidException(); // 다른 모든 JWT 예외 처리
         }
     }
+    /** tv 클레임 (없는 옛 토큰은 0) */
+    public static long tokenVersion(Claims claims) {
+        Number tv = claims.get(CLAIM_TOKEN_VERSION, Number.class);
+        return tv != null ? tv.longValue() : 0L;
+    }
+
     public String extractUsername(String token) {
         return parseClaims(token).getSubject(); // 이메일이 subject로 들어가 있어야 함
     }
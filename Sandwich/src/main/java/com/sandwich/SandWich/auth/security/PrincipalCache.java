@@ -0,0 +1,44 @@
+package com.sandwich.SandWich.auth.security;
+
+import com.sandwich.SandWich.user.repository.UserRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 이메일(JWT subject) → AuthPrincipal 캐시.
+ * L1 전용 TwoTierCache(authPrincipals, 짧은 TTL) — evict 는 다른 노드에도 무효화 메시지로 전파된다.
+ * User 가 바뀌면 UserPrincipalListener 가 커밋 후 evict 하므로 TTL 은 누락 대비 안전망.
+ */
+@Component
+public class PrincipalCache {
+
+    public static final String CACHE = "authPrincipals";
+
+    private final Cache cache;
+    private final UserRepository userRepository;
+
+    public PrincipalCache(CacheManager cacheManager, UserRepository userRepository) {
+        this.cache = cacheManager.getCache(CACHE);
+        this.userRepository = userRepository;
+    }
+
+    /** 활성 사용자가 없으면 null */
+    public AuthPrincipal get(String email) {
+        return cache.get(email, () -> userRepository.findPrincipalByEmail(email).orElse(null));
+    }
+
+    /** 트랜잭션 안이면 커밋 후에 (커밋 전 다른 요청이 옛 값을 다시 채우지 않도록) */
+    public void evict(String email) {
+        if (email == null) return;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override public void afterCommit() { cache.evict(email); }
+            });
+        } else {
+            cache.evict(email);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.sandwich.SandWich.oauth.handler.OAuth2SuccessHandler;
 import com.sandwich.SandWich.oauth.service.CustomOAuth2UserService;
 import com.sandwich.SandWich.auth.device.DeviceTrustService;
 import com.sandwich.SandWich.auth.security.TrustedDeviceFilter;
+import com.sandwich.SandWich.common.route.RouteClassifier;
 import com.sandwich.SandWich.oauth.handler.CustomAuthorizationRequestResolver;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -41,6 +42,7 @@ public class SecurityConfig {
 
     private final JwtFilter jwtFilter;
     private final DeviceTrustService deviceTrustService;
+    private final RouteClassifier routeClassifier;
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
     private final ServiceTokenFilter serviceTokenFilter;
 
@@ -151,11 +153,13 @@ public class SecurityConfig {
                         .requestMatchers("/api/meta/**").permitAll()
                         .requestMatchers("/api/_debug/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.GET, "/api/search/accounts").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/search/suggest").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/likes").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/likes/users").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/public/users/*/message-preferences").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/build/**").permitAll()
                         .requestMatchers("/ws/chat/**", "/topic/**", "/app/**").permitAll()
+                        .requestMatchers("/api/emojis/recent").authenticated() // 유저별 최근 사용
                         .requestMatchers("/api/emojis/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/discovery/hot-developers").permitAll()
 
@@ -204,6 +208,7 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.POST, "/api/likes").authenticated()
                         .requestMatchers(HttpMethod.POST, "/api/build/**").authenticated()
                         .requestMatchers(HttpMethod.GET,  "/api/files/**").authenticated()
+                        .requestMatchers(HttpMethod.POST, "/api/files/presign").authenticated()
                         .requestMatchers(HttpMethod.POST, "/api/messages/*/attachments").authenticated()
 
                         // 챌린지
@@ -234,7 +239,7 @@ public class SecurityConfig {
                 )
 
                 .addFilterBefore(serviceTokenFilter, UsernamePasswordAuthenticationFilter.class)
-                .addFilterBefore(new TrustedDeviceFilter(deviceTrustService), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new TrustedDeviceFilter(deviceTrustService, routeClassifier), UsernamePasswordAuthenticationFilter.class)
                 .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class)
 
                 // 예외 처리: 401 / 403
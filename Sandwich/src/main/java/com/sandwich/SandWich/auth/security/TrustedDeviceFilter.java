@@ -1,6 +1,8 @@
 package com.sandwich.SandWich.auth.security;
 
 import com.sandwich.SandWich.auth.device.DeviceTrustService;
+import com.sandwich.SandWich.common.route.RouteClassifier;
+import com.sandwich.SandWich.common.route.RoutePolicy;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -23,6 +25,13 @@ public class TrustedDeviceFilter extends OncePerRequestFilter {
     public static final String COOKIE_DEVICE_TOKEN = "tdt";
 
     private final DeviceTrustService deviceTrustService;
+    private final RouteClassifier routes;
+
+    // 신뢰 기기 쿠키를 참고하는 경로에서만 검증 (BCrypt 비용을 모든 요청에 물지 않도록)
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !routes.classify(request).has(RoutePolicy.DEVICE_TRUST);
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
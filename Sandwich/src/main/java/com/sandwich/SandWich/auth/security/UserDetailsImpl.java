@@ -1,37 +1,63 @@
 package com.sandwich.SandWich.auth.security;
 
+import com.sandwich.SandWich.user.domain.Role;
 import com.sandwich.SandWich.user.domain.User;
-import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.function.Function;
 
 
-@Getter
+/**
+ * 인증 주체. JwtFilter 에서는 캐시된 AuthPrincipal 만으로 만들고,
+ * User 엔티티는 getUser() 를 처음 부를 때 로드한다 (id/role 만 쓰는 컨트롤러는 DB 를 타지 않음).
+ */
 public class UserDetailsImpl implements UserDetails {
 
-    private final User user;
+    private final AuthPrincipal principal;
+    private final Function<Long, User> userLoader; // null 이면 생성 시 받은 User 사용
+    private User user;
 
     public UserDetailsImpl(User user) {
         this.user = user;
+        this.principal = AuthPrincipal.from(user);
+        this.userLoader = null;
+    }
+
+    public UserDetailsImpl(AuthPrincipal principal, Function<Long, User> userLoader) {
+        this.principal = principal;
+        this.userLoader = userLoader;
+    }
+
+    /** 엔티티가 꼭 필요할 때만 — 지연 로드 (요청당 한 번) */
+    public User getUser() {
+        if (user == null && userLoader != null) {
+            user = userLoader.apply(principal.userId());
+        }
+        return user;
+    }
+
+    public AuthPrincipal getPrincipal() {
+        return principal;
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return Collections.singletonList(new SimpleGrantedAuthority(user.getRole().name()));
+        return Collections.singletonList(new SimpleGrantedAuthority(principal.role().name()));
     }
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        // 캐시 기반 주체는 비밀번호를 들고 있지 않음 (JWT 인증 이후엔 쓰이지 않음)
+        return user != null ? user.getPassword() : null;
     }
 
     @Override
     public String getUsername() {
-        return user.getEmail();
+        return principal.email();
     }
 
     @Override
@@ -52,10 +78,15 @@ public class UserDetailsImpl implements UserDetails {
     @Override
     public boolean isEnabled() {
         // 삭제 계정/미인증 계정 로그인 차단
-        return !user.isDeleted() && Boolean.TRUE.equals(user.getIsVerified());
+        if (user != null) return !user.isDeleted() && Boolean.TRUE.equals(user.getIsVerified());
+        return Boolean.TRUE.equals(principal.verified()); // 캐시 조회는 삭제되지 않은 계정만
     }
 
     public Long getId() {
-        return user.getId();
+        return principal.userId();
+    }
+
+    public Role getRole() {
+        return principal.role();
     }
 }
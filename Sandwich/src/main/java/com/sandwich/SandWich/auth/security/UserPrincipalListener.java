@@ -0,0 +1,31 @@
+package com.sandwich.SandWich.auth.security;
+
+import com.sandwich.SandWich.user.domain.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * User 변경(권한/탈퇴/차단/토큰 버전 등) 시 PrincipalCache 무효화.
+ * JPQL 벌크 업데이트는 잡지 못하므로 그런 경로에서는 PrincipalCache.evict 를 직접 호출할 것.
+ * (EntityManagerFactory 생성 중 순환 참조를 피하려고 ObjectProvider 로 지연 조회)
+ */
+@Component
+public class UserPrincipalListener {
+
+    private final ObjectProvider<PrincipalCache> principalCache;
+
+    public UserPrincipalListener(ObjectProvider<PrincipalCache> principalCache) {
+        this.principalCache = principalCache;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(User user) {
+        PrincipalCache cache = principalCache.getIfAvailable();
+        if (cache != null) cache.evict(user.getEmail());
+    }
+}
@@ -133,7 +133,7 @@ public class AuthService {
 
         // === 전역 Feature Flag: 꺼져 있으면 2FA 생략 ===
         if (!mfaProperties.isEnabled()) {
-            String accessToken = jwtUtil.createAccessToken(user.getEmail(), user.getRole().name());
+            String accessToken = jwtUtil.createAccessToken(user.getEmail(), user.getRole().name(), user.getTokenVersion());
             String refreshToken = jwtUtil.createRefreshToken(user.getEmail());
             redisUtil.saveRefreshToken(String.valueOf(user.getId()), refreshToken);
 
@@ -146,7 +146,7 @@ public class AuthService {
 
         // 5) Trusted Device면 즉시 토큰 발급
         if (deviceTrustService.isTrusted(httpReq, user.getId())) {
-            String accessToken = jwtUtil.createAccessToken(user.getEmail(), user.getRole().name());
+            String accessToken = jwtUtil.createAccessToken(user.getEmail(), user.getRole().name(), user.getTokenVersion());
             String refreshToken = jwtUtil.createRefreshToken(user.getEmail());
             redisUtil.saveRefreshToken(String.valueOf(user.getId()), refreshToken);
             
@@ -207,6 +207,9 @@ public class AuthService {
         User user = userRepository.findByEmailAndIsDeletedFalse(username)
                 .orElseThrow(() -> new UsernameNotFoundException("유저를 찾을 수 없습니다."));
         redisUtil.deleteRefreshToken(String.valueOf(user.getId()));
+        // 발급된 액세스 토큰도 즉시 무효화 (저장 시 PrincipalCache 도 비워짐)
+        user.bumpTokenVersion();
+        userRepository.save(user);
     }
 
     private String maskEmail(String email) {
@@ -35,7 +35,7 @@ public class SubmissionController {
         String[] s = sort.split(",");
         var dir = (s.length > 1 && "asc".equalsIgnoreCase(s[1])) ? Sort.Direction.ASC : Sort.Direction.DESC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(dir, s[0]));
-        Long viewerId = (user == null ? null : user.getUser().getId());
+        Long viewerId = (user == null ? null : user.getId());
         return service.list(challengeId, pageable, viewerId);
     }
 
@@ -45,7 +45,7 @@ public class SubmissionController {
             @PathVariable Long submissionId,
             @RequestBody @Valid SubmissionDtos.UpdateReq req,
             @AuthenticationPrincipal UserDetailsImpl user) {
-        service.updateMySubmission(challengeId, submissionId, req, user.getUser().getId());
+        service.updateMySubmission(challengeId, submissionId, req, user.getId());
         return ResponseEntity.ok().build();
     }
 
@@ -54,7 +54,7 @@ public class SubmissionController {
             @PathVariable Long challengeId,
             @PathVariable Long submissionId,
             @AuthenticationPrincipal UserDetailsImpl user) {
-        service.deleteMySubmission(challengeId, submissionId, user.getUser().getId());
+        service.deleteMySubmission(challengeId, submissionId, user.getId());
         return ResponseEntity.noContent().build();
     }
 
@@ -66,7 +66,7 @@ public class SubmissionController {
             jakarta.servlet.http.HttpServletRequest request
     ) {
         return service.getAndIncreaseView(challengeId, submissionId,
-                (user==null? null : user.getUser().getId()), request);
+                (user==null? null : user.getId()), request);
     }
 
     public record CreatedResp(Long id, String status, java.time.OffsetDateTime createdAt) {}
@@ -13,6 +13,7 @@ import com.sandwich.SandWich.common.exception.exceptiontype.BadRequestException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import com.sandwich.SandWich.internal.ai.AiRecoClient;
 import java.time.*;
 import java.time.temporal.WeekFields;
@@ -29,6 +30,7 @@ public class ChallengeSyncService {
     private final AiRecoClient ai;
     private final ChallengeSyncLogRepository logs;
     private final CurrentUserProvider currentUser;
+    private final TransactionTemplate tx;
 
     @Transactional
     public Challenge upsertMonthlyPortfolio(SyncAiDtos.MonthlyReq req) {
@@ -136,7 +138,7 @@ public class ChallengeSyncService {
     }
 
 
-    @Transactional
+    // AI 호출은 트랜잭션 밖에서 (느린 upstream 이 DB 커넥션을 잡고 있지 않도록), 저장만 트랜잭션으로
     public Challenge fetchAndUpsertMonthly(String ymOrNull) {
         AiRecoClient.MonthlyResp r = (ymOrNull == null || ymOrNull.isBlank())
                 ? ai.getLatestMonthly()
@@ -154,21 +156,22 @@ public class ChallengeSyncService {
         d.setRequirements(null); d.setTips(null);
         req.setData(d);
 
-        var saved = upsertMonthlyPortfolio(req);
+        return tx.execute(status -> {
+            var saved = upsertMonthlyPortfolio(req);
 
-        // ✔ fetch로 들어온 건 출처를 FETCH로 덮어씌워줌
-        saved.setSource("AI_FETCH");
-        saved.setAiMonth(req.getYm());
-        saved.setAiWeek(null);
-        repo.save(saved);
+            // ✔ fetch로 들어온 건 출처를 FETCH로 덮어씌워줌
+            saved.setSource("AI_FETCH");
+            saved.setAiMonth(req.getYm());
+            saved.setAiWeek(null);
+            repo.save(saved);
 
-        writeLog("FETCH_MONTHLY", "SUCCESS", req.getYm(), null, null,
-                om.valueToTree(r), mapResult(saved));
-        return saved;
+            writeLog("FETCH_MONTHLY", "SUCCESS", req.getYm(), null, null,
+                    om.valueToTree(r), mapResult(saved));
+            return saved;
+        });
     }
 
     // 주간: AI에서 가져와서 우리 코드 업서트
-    @Transactional
     public Challenge fetchAndUpsertWeekly(String weekOrNull) {
         var r = (weekOrNull == null || weekOrNull.isBlank()) ? ai.getLatestWeekly() : ai.getWeekly(weekOrNull);
         if (!r.found()) throw new BadRequestException("NOT_FOUND","AI weekly 없음");
@@ -184,16 +187,18 @@ public class ChallengeSyncService {
         d.setRequirements(null); d.setTips(null);
         req.setData(d);
 
-        var saved = upsertWeeklyCode(req);
+        return tx.execute(status -> {
+            var saved = upsertWeeklyCode(req);
 
-        saved.setSource("AI_FETCH");
-        saved.setAiMonth(null);
-        saved.setAiWeek(req.getWeek());
-        repo.save(saved);
+            saved.setSource("AI_FETCH");
+            saved.setAiMonth(null);
+            saved.setAiWeek(req.getWeek());
+            repo.save(saved);
 
-        writeLog("FETCH_WEEKLY", "SUCCESS", null, req.getWeek(), null,
-                om.valueToTree(r), mapResult(saved));
-        return saved;
+            writeLog("FETCH_WEEKLY", "SUCCESS", null, req.getWeek(), null,
+                    om.valueToTree(r), mapResult(saved));
+            return saved;
+        });
     }
 
     private void writeLog(String method, String status,
@@ -21,7 +21,7 @@ public class CommentController {
     @PostMapping
     public ResponseEntity<Void> create(@RequestBody CommentRequest request,
                                        @AuthenticationPrincipal UserDetailsImpl user) {
-        commentService.create(request, user.getUser().getId());
+        commentService.create(request, user.getId());
         return ResponseEntity.ok().build();
     }
 
@@ -29,14 +29,14 @@ public class CommentController {
     public ResponseEntity<Void> update(@PathVariable Long id,
                                        @RequestBody CommentRequest request,
                                        @AuthenticationPrincipal UserDetailsImpl user) {
-        commentService.update(id, request.getComment(), user.getUser().getId());
+        commentService.update(id, request.getComment(), user.getId());
         return ResponseEntity.ok().build();
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(@PathVariable Long id,
                                        @AuthenticationPrincipal UserDetailsImpl user) {
-        commentService.delete(id, user.getUser().getId());
+        commentService.delete(id, user.getId());
         return ResponseEntity.ok().build();
     }
 
@@ -0,0 +1,109 @@
+package com.sandwich.SandWich.common.cache;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.core.TreeNode;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.NamedType;
+import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.TypeIdResolver;
+import com.fasterxml.jackson.databind.jsontype.impl.ClassNameIdResolver;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * L2(Redis) 값 코덱 — 캐시는 읽을 때 값 타입을 모르므로 클래스명을 함께 저장한다 (허용 패키지 제한).
+ * - 타입 정보는 record/List 원소까지 붙이되, String·Long·OffsetDateTime 같은 final JDK 타입은 선언 타입으로 충분해 생략
+ * - List.of()/Collections.unmodifiableList() 처럼 생성자가 없는 JDK 내부 컬렉션은
+ *   ArrayList/LinkedHashSet/LinkedHashMap 으로 기록 (그대로 두면 읽을 수 없어 매번 L2 오류)
+ */
+public final class CacheCodec {
+
+    private CacheCodec() {}
+
+    public static GenericJackson2JsonRedisSerializer serializer() {
+        return new GenericJackson2JsonRedisSerializer(objectMapper());
+    }
+
+    static ObjectMapper objectMapper() {
+        PolymorphicTypeValidator ptv = BasicPolymorphicTypeValidator.builder()
+                .allowIfSubType("com.sandwich.SandWich.")
+                .allowIfSubType("java.util.")
+                .allowIfSubType("java.time.")
+                .allowIfSubType("java.lang.")
+                .allowIfSubType("java.math.")
+                .build();
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        mapper.setDefaultTyping(new TypeResolver(ptv)
+                .init(JsonTypeInfo.Id.CLASS, null)
+                .inclusion(JsonTypeInfo.As.PROPERTY));
+        return mapper;
+    }
+
+    private static final class TypeResolver extends ObjectMapper.DefaultTypeResolverBuilder {
+
+        TypeResolver(PolymorphicTypeValidator ptv) {
+            super(ObjectMapper.DefaultTyping.NON_FINAL, ptv);
+        }
+
+        @Override
+        public boolean useForType(JavaType t) {
+            while (t.isArrayType()) t = t.getContentType();
+            while (t.isReferenceType()) t = t.getReferencedType();
+            if (t.isJavaLangObject()) return true;
+            if (t.isPrimitive() || t.isEnumType() || TreeNode.class.isAssignableFrom(t.getRawClass())) return false;
+            return !(t.isFinal() && t.getRawClass().getName().startsWith("java."));
+        }
+
+        @Override
+        protected TypeIdResolver idResolver(MapperConfig<?> config, JavaType baseType, PolymorphicTypeValidator subtypeValidator,
+                                            Collection<NamedType> subtypes, boolean forSer, boolean forDeser) {
+            if (_idType != JsonTypeInfo.Id.CLASS) {
+                return super.idResolver(config, baseType, subtypeValidator, subtypes, forSer, forDeser);
+            }
+            return new PortableCollectionIdResolver(baseType, config.getTypeFactory(), subtypeValidator);
+        }
+    }
+
+    /** 공개 생성자가 없는 java.util 내부 컬렉션 → 같은 모양의 일반 컬렉션 클래스명 */
+    private static final class PortableCollectionIdResolver extends ClassNameIdResolver {
+
+        PortableCollectionIdResolver(JavaType baseType, TypeFactory typeFactory, PolymorphicTypeValidator ptv) {
+            super(baseType, typeFactory, ptv);
+        }
+
+        @Override
+        public String idFromValue(Object value) {
+            return idFromValueAndType(value, value.getClass());
+        }
+
+        @Override
+        public String idFromValueAndType(Object value, Class<?> type) {
+            if (type != null && type.getName().startsWith("java.util.")
+                    && (!Modifier.isPublic(type.getModifiers()) || type.getEnclosingClass() != null)
+                    && !(value instanceof EnumSet) && !(value instanceof EnumMap)) {
+                if (List.class.isAssignableFrom(type)) return ArrayList.class.getName();
+                if (Set.class.isAssignableFrom(type)) return LinkedHashSet.class.getName();
+                if (Map.class.isAssignableFrom(type)) return LinkedHashMap.class.getName();
+            }
+            return super.idFromValueAndType(value, type);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.sandwich.SandWich.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.lang.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+
+/**
+ * L1 Caffeine + L2 Redis 캐시.
+ * - 읽기: L1 → L2(있으면 L1 채움) → 로더. 같은 노드의 동시 미스는 Caffeine 이 한 번만 로드
+ * - 쓰기/삭제: L1·L2 갱신 후 다른 노드에 무효화 메시지 → 각 노드는 L1 만 비움
+ * - Redis 장애 시 잠시 L2 를 건너뛰고 L1 만으로 동작 (오류는 카운터로)
+ * 키는 String.valueOf(key) 로 통일 (L2 키와 무효화 메시지에 그대로 사용).
+ */
+@Slf4j
+public class TwoTierCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final Cache<String, Object> local;
+    @Nullable private final RedisTemplate<String, Object> redis; // null → L1 전용
+    private final RedisSerializer<Object> codec;
+    private final Duration ttl;
+    private final byte[] keySetKey;
+    private final String keyPrefix;
+    private final BiConsumer<String, String> invalidationPublisher; // (cacheName, key | null=전체)
+
+    /** L2 오류 후 잠시 Redis 를 건너뜀 (명령 타임아웃을 매 요청마다 기다리지 않도록) */
+    private static final long L2_BACKOFF_MS = 30_000L;
+    private volatile long l2PausedUntil = 0L;
+
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+    private final Counter l2Errors;
+
+    public TwoTierCache(String name,
+                        Cache<String, Object> local,
+                        @Nullable RedisTemplate<String, Object> redis,
+                        RedisSerializer<Object> codec,
+                        String keyPrefix,
+                        Duration ttl,
+                        BiConsumer<String, String> invalidationPublisher,
+                        MeterRegistry registry) {
+        super(true);
+        this.name = name;
+        this.local = local;
+        this.redis = redis;
+        this.codec = codec;
+        this.ttl = ttl;
+        this.keyPrefix = keyPrefix + "{" + name + "}:";
+        this.keySetKey = bytes(this.keyPrefix + "~keys");
+        this.invalidationPublisher = invalidationPublisher;
+        this.l2Hits   = Counter.builder("cache_l2_requests_total").tag("cache", name).tag("result", "hit").description("Redis L2 cache lookups").register(registry);
+        this.l2Misses = Counter.builder("cache_l2_requests_total").tag("cache", name).tag("result", "miss").description("Redis L2 cache lookups").register(registry);
+        this.l2Errors = Counter.builder("cache_l2_errors_total").tag("cache", name).description("Redis L2 cache failures (served from L1/loader)").register(registry);
+    }
+
+    @Override public String getName() { return name; }
+
+    @Override public Object getNativeCache() { return local; }
+
+    @Override
+    @Nullable
+    protected Object lookup(Object key) {
+        String k = String.valueOf(key);
+        Object v = local.getIfPresent(k);
+        if (v != null) return v;
+        v = readL2(k);
+        if (v != null) local.put(k, v);
+        return v;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String k = String.valueOf(key);
+        Object stored = local.get(k, kk -> {
+            Object fromL2 = readL2(kk);
+            if (fromL2 != null) return fromL2;
+            Object loaded;
+            try {
+                loaded = toStoreValue(valueLoader.call());
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+            writeL2(kk, loaded);
+            return loaded;
+        });
+        return (T) fromStoreValue(stored);
+    }
+
+    @Override
+    public void put(Object key, @Nullable Object value) {
+        String k = String.valueOf(key);
+        Object stored = toStoreValue(value);
+        local.put(k, stored);
+        writeL2(k, stored);
+        invalidationPublisher.accept(name, k);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+        Object existing = lookup(key);
+        if (existing != null) return toValueWrapper(existing);
+        put(key, value);
+        return null;
+    }
+
+    @Override
+    public void evict(Object key) {
+        String k = String.valueOf(key);
+        local.invalidate(k);
+        deleteL2(k);
+        invalidationPublisher.accept(name, k);
+    }
+
+    @Override
+    public void clear() {
+        local.invalidateAll();
+        clearL2();
+        invalidationPublisher.accept(name, null);
+    }
+
+    // ───── 다른 노드의 무효화 메시지 (L1 만) ─────
+
+    void evictLocal(@Nullable String key) {
+        if (key == null) local.invalidateAll();
+        else local.invalidate(key);
+    }
+
+    // ───── L2 ─────
+
+    @Nullable
+    private Object readL2(String k) {
+        if (!l2Usable()) return null;
+        try {
+            byte[] raw = redis.execute((RedisCallback<byte[]>) c -> c.stringCommands().get(bytes(keyPrefix + k)));
+            if (raw == null) {
+                l2Misses.increment();
+                return null;
+            }
+            l2Hits.increment();
+            return codec.deserialize(raw);
+        } catch (Exception e) {
+            l2Error("read", e);
+            return null;
+        }
+    }
+
+    private void writeL2(String k, Object stored) {
+        if (!l2Usable() || stored == NullValue.INSTANCE) return; // null 결과는 L1 에만
+        try {
+            byte[] raw = codec.serialize(stored);
+            byte[] key = bytes(keyPrefix + k);
+            long ttlMs = ttl.toMillis();
+            redis.executePipelined((RedisCallback<Object>) c -> {
+                c.stringCommands().set(key, raw, Expiration.milliseconds(ttlMs), RedisStringCommands.SetOption.upsert());
+                c.setCommands().sAdd(keySetKey, key);       // clear() 용 키 목록 (같은 슬롯)
+                c.keyCommands().pExpire(keySetKey, ttlMs);  // 마지막 쓰기 이후 TTL 이면 모든 항목도 만료
+                return null;
+            });
+        } catch (Exception e) {
+            l2Error("write", e);
+        }
+    }
+
+    private void deleteL2(String k) {
+        if (redis == null) return; // 삭제는 장애 중에도 시도 (L2 에 오래된 값이 남지 않도록)
+        try {
+            byte[] key = bytes(keyPrefix + k);
+            redis.executePipelined((RedisCallback<Object>) c -> {
+                c.keyCommands().del(key);
+                c.setCommands().sRem(keySetKey, key);
+                return null;
+            });
+        } catch (Exception e) {
+            l2Error("evict", e);
+        }
+    }
+
+    private void clearL2() {
+        if (redis == null) return;
+        try {
+            redis.execute((RedisCallback<Void>) c -> {
+                Set<byte[]> keys = c.setCommands().sMembers(keySetKey);
+                if (keys != null && !keys.isEmpty()) c.keyCommands().del(keys.toArray(byte[][]::new));
+                c.keyCommands().del(keySetKey);
+                return null;
+            });
+        } catch (Exception e) {
+            l2Error("clear", e);
+        }
+    }
+
+    private boolean l2Usable() {
+        return redis != null && System.currentTimeMillis() >= l2PausedUntil;
+    }
+
+    private void l2Error(String op, Exception e) {
+        l2Errors.increment();
+        l2PausedUntil = System.currentTimeMillis() + L2_BACKOFF_MS;
+        log.debug("[Cache] L2 {} failed cache={} err={}", op, name, e.toString());
+    }
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,104 @@
+package com.sandwich.SandWich.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.lang.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * TwoTierCache 를 만드는 CacheManager. 설정(app.cache.specs)에 없는 이름도 defaults 로 생성.
+ * 무효화 메시지 형식: {nodeId}\t{cacheName}\t{key} — key 가 "*" 이면 전체, 자기 노드 메시지는 무시.
+ */
+@Slf4j
+public class TwoTierCacheManager extends AbstractCacheManager implements MessageListener {
+
+    private static final String ALL = "*";
+
+    private final TwoTierCacheProperties props;
+    @Nullable private final RedisTemplate<String, Object> redis;
+    private final RedisSerializer<Object> codec;
+    private final MeterRegistry registry;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Counter invalidationsReceived;
+
+    public TwoTierCacheManager(TwoTierCacheProperties props,
+                               @Nullable RedisTemplate<String, Object> redis,
+                               RedisSerializer<Object> codec,
+                               MeterRegistry registry) {
+        this.props = props;
+        this.redis = redis;
+        this.codec = codec;
+        this.registry = registry;
+        this.invalidationsReceived = Counter.builder("cache_invalidations_received_total")
+                .description("L1 invalidations received from other nodes").register(registry);
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        List<Cache> caches = new ArrayList<>();
+        props.getSpecs().keySet().forEach(name -> caches.add(create(name)));
+        return caches;
+    }
+
+    @Override
+    @Nullable
+    protected Cache getMissingCache(String name) {
+        return create(name);
+    }
+
+    private TwoTierCache create(String name) {
+        TwoTierCacheProperties.Spec spec = props.specFor(name);
+        com.github.benmanes.caffeine.cache.Cache<String, Object> local = Caffeine.newBuilder()
+                .maximumSize(Math.max(1, spec.getMaxSize()))
+                .expireAfterWrite(spec.effectiveL1Ttl())
+                .recordStats()
+                .build();
+        // cache_gets / cache_puts / cache_evictions / cache_size (cache=이름 태그)
+        CaffeineCacheMetrics.monitor(registry, local, name);
+
+        boolean l2 = redis != null && props.isRedisEnabled() && spec.isRedis();
+        return new TwoTierCache(name, local, l2 ? redis : null, codec, props.getKeyPrefix(),
+                spec.getTtl(), this::publish, registry);
+    }
+
+    // ───── 노드 간 무효화 ─────
+
+    private void publish(String cacheName, @Nullable String key) {
+        if (redis == null || !props.isRedisEnabled()) return;
+        byte[] channel = props.getInvalidationChannel().getBytes(StandardCharsets.UTF_8);
+        byte[] body = (nodeId + '\t' + cacheName + '\t' + (key == null ? ALL : key)).getBytes(StandardCharsets.UTF_8);
+        try {
+            redis.execute((RedisCallback<Long>) c -> c.publish(channel, body));
+        } catch (Exception e) {
+            log.debug("[Cache] invalidation publish failed cache={} err={}", cacheName, e.toString());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, @Nullable byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\t", 3);
+        if (parts.length != 3 || nodeId.equals(parts[0])) return;
+        // 이 노드에서 아직 안 만든 캐시면 비울 것도 없음
+        if (!getCacheNames().contains(parts[1])) return;
+        if (getCache(parts[1]) instanceof TwoTierCache c) {
+            c.evictLocal(ALL.equals(parts[2]) ? null : parts[2]);
+            invalidationsReceived.increment();
+        }
+    }
+}
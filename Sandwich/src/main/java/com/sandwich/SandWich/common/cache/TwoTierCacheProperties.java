@@ -0,0 +1,74 @@
+package com.sandwich.SandWich.common.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 스프링 캐시 설정 (app.cache) — 캐시 이름별 TTL/크기, 미등록 이름은 defaults 사용.
+ * 예) app.cache.specs.hotDevelopers.ttl=15m, app.cache.specs.hotDevelopers.max-size=200
+ */
+@Getter @Setter
+@Component
+@ConfigurationProperties(prefix = "app.cache")
+public class TwoTierCacheProperties {
+
+    /** false 면 Caffeine L1 만 사용 (Redis L2·pub/sub 무효화 끔) */
+    private boolean redisEnabled = true;
+
+    /** L2 키 접두어 — 실제 키는 {prefix}{캐시이름}:{키} (캐시 이름은 해시태그라 한 슬롯) */
+    private String keyPrefix = "cache:";
+
+    /** 노드 간 L1 무효화 채널 */
+    private String invalidationChannel = "cache:invalidate";
+
+    private Spec defaults = new Spec();
+
+    private Map<String, Spec> specs = new HashMap<>(Map.of(
+            // 스냅샷 재계산(10분) 때마다 evictAll 되므로 TTL 은 안전망
+            "hotDevelopers", spec(Duration.ofMinutes(15), 200),
+            // JwtFilter 인증 정보 — 노드 로컬만, 변경 시 무효화 메시지로 전파
+            "authPrincipals", localSpec(Duration.ofSeconds(60), 50_000),
+            // 신뢰 기기 검증 결과 — 회전/해지 시 무효화 메시지로 전파, TTL 이 지나면 BCrypt 재검증
+            "trustedDevices", localSpec(Duration.ofMinutes(10), 50_000)
+    ));
+
+    public Spec specFor(String cacheName) {
+        Spec s = specs.get(cacheName);
+        return s != null ? s : defaults;
+    }
+
+    @Getter @Setter
+    public static class Spec {
+        /** L2(Redis) 보관 시간, L1 도 l1Ttl 이 없으면 같은 값 */
+        private Duration ttl = Duration.ofMinutes(10);
+        /** L1 보관 시간 — L2 보다 짧게 두면 다른 노드의 변경을 무효화 메시지 없이도 빨리 따라감 */
+        private Duration l1Ttl;
+        /** L1 최대 항목 수 */
+        private long maxSize = 1_000;
+        /** false 면 이 캐시는 L1 만 */
+        private boolean redis = true;
+
+        public Duration effectiveL1Ttl() {
+            return (l1Ttl != null && l1Ttl.compareTo(ttl) < 0) ? l1Ttl : ttl;
+        }
+    }
+
+    private static Spec spec(Duration ttl, long maxSize) {
+        Spec s = new Spec();
+        s.setTtl(ttl);
+        s.setMaxSize(maxSize);
+        return s;
+    }
+
+    private static Spec localSpec(Duration ttl, long maxSize) {
+        Spec s = spec(ttl, maxSize);
+        s.setRedis(false);
+        return s;
+    }
+}
@@ -1,48 +1,60 @@
 package com.sandwich.SandWich.common.captcha;
 
 import com.sandwich.SandWich.common.exception.exceptiontype.BadRequestException;
+import com.sandwich.SandWich.common.route.RouteClassification;
+import com.sandwich.SandWich.common.route.RouteClassifier;
+import com.sandwich.SandWich.common.route.RoutePolicy;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Set;
 
 @Component
-@RequiredArgsConstructor
 @EnableConfigurationProperties(RecaptchaProperties.class)
 public class RecaptchaFilter extends OncePerRequestFilter {
 
     private final RecaptchaProperties props;
     private final RecaptchaVerifier verifier;
+    private final RouteClassifier routes; // v2/v3 경로는 RouteClassifier 가 captcha.v2/v3.paths 로 미리 컴파일
 
-    private Set<String> v3Paths() { return props.getV3().pathSet(); }
-    private Set<String> v2Paths() { return props.getV2().pathSet(); }
+    @Autowired
+    public RecaptchaFilter(RecaptchaProperties props, RecaptchaVerifier verifier, RouteClassifier routes) {
+        this.props = props;
+        this.verifier = verifier;
+        this.routes = routes;
+    }
+
+    // standalone 테스트용
+    public RecaptchaFilter(RecaptchaProperties props, RecaptchaVerifier verifier) {
+        this(props, verifier, new RouteClassifier(props));
+    }
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         if (!props.isEnabled()) return true;
-        String path = request.getRequestURI();
+        RouteClassification route = routes.classify(request);
         // v2 / v3 둘 다 아닌 경로면 필터 안탐
-        return !(v2Paths().contains(path) || v3Paths().contains(path));
+        return !(route.has(RoutePolicy.CAPTCHA_V2) || route.has(RoutePolicy.CAPTCHA_V3));
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
             throws ServletException, IOException {
 
-        String path = req.getRequestURI();
+        RouteClassification route = routes.classify(req);
         String token = req.getHeader("X-Recaptcha-Token");
 
+        // 요청마다 siteverify — 토큰은 1회용이라 같은 토큰의 동시 요청끼리 결과를 공유하면 안 됨
         boolean ok;
-        if (v2Paths().contains(path)) {
+        if (route.has(RoutePolicy.CAPTCHA_V2)) {
             ok = verifier.verifyV2(token, props.getV2().getSecret());
-        } else if (v3Paths().contains(path)) {
+        } else if (route.has(RoutePolicy.CAPTCHA_V3)) {
             ok = verifier.verifyV3(token, props.getV3().getSecret(), props.getV3().getThreshold());
         } else {
             ok = true; // 방어적
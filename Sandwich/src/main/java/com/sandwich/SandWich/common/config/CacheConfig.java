@@ -1,18 +1,41 @@
 package com.sandwich.SandWich.common.config;
 
-import org.springframework.cache.CacheManager;
+import com.sandwich.SandWich.common.cache.CacheCodec;
+import com.sandwich.SandWich.common.cache.TwoTierCacheManager;
+import com.sandwich.SandWich.common.cache.TwoTierCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
-    // 필요한 캐시 이름을 등록 (예: hotDevelopers)
+    // 캐시 이름/TTL/크기는 app.cache.* (TwoTierCacheProperties), 미등록 이름은 defaults 로 자동 생성
     @Bean
-    public CacheManager cacheManager() {
-        return new ConcurrentMapCacheManager("hotDevelopers");
+    public TwoTierCacheManager cacheManager(TwoTierCacheProperties props,
+                                            @Qualifier("redisJsonTemplate") RedisTemplate<String, Object> redisJsonTemplate,
+                                            MeterRegistry registry) {
+        return new TwoTierCacheManager(props, props.isRedisEnabled() ? redisJsonTemplate : null,
+                CacheCodec.serializer(), registry);
+    }
+
+    // 다른 노드가 put/evict 하면 내 L1 만 비움
+    @Bean
+    @ConditionalOnProperty(name = "app.cache.redis-enabled", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer cacheInvalidationListener(RedisConnectionFactory factory,
+                                                                   TwoTierCacheManager cacheManager,
+                                                                   TwoTierCacheProperties props) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(factory);
+        container.addMessageListener(cacheManager, new ChannelTopic(props.getInvalidationChannel()));
+        return container;
     }
 }
@@ -0,0 +1,138 @@
+package com.sandwich.SandWich.common.otp;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 6자리 일회용 코드 발급/검증 (Redis).
+ * - otp:{scope}:{subject}:code  HMAC-SHA256(scope, subject, code), codeTtl
+ * - otp:{scope}:{subject}:try   실패 횟수, attemptTtl (재발급 시 유지)
+ * 조회·시도 횟수·잠금·소비를 Lua 스크립트 한 번(= 왕복 1회)으로 처리한다.
+ * 두 키는 subject 해시태그로 같은 슬롯 (클러스터 CROSSSLOT 방지).
+ * 5분짜리 6자리 코드라 BCrypt 는 과하다 — 키가 있는 HMAC 이면 Redis 가 털려도 코드를 역산할 수 없다.
+ */
+@Slf4j
+@Component
+public class OtpEngine {
+
+    public enum Result { OK, INVALID, EXPIRED, LOCKED }
+
+    /** 코드 저장 + 시도 횟수 키는 없을 때만 생성 */
+    private static final RedisScript<Long> ISSUE = new DefaultRedisScript<>("""
+            redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2])
+            redis.call('SET', KEYS[2], '0', 'NX', 'EX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    /** 0=OK(코드·횟수 삭제), 1=INVALID(횟수+1), 2=EXPIRED, 3=LOCKED */
+    private static final RedisScript<Long> VERIFY = new DefaultRedisScript<>("""
+            local h = redis.call('GET', KEYS[1])
+            if not h then return 2 end
+            local max = tonumber(ARGV[2])
+            if tonumber(redis.call('GET', KEYS[2]) or '0') >= max then return 3 end
+            if h == ARGV[1] then
+              redis.call('DEL', KEYS[1], KEYS[2])
+              return 0
+            end
+            redis.call('INCR', KEYS[2])
+            if redis.call('TTL', KEYS[2]) < 0 then redis.call('EXPIRE', KEYS[2], ARGV[3]) end
+            return 1
+            """, Long.class);
+
+    private static final Result[] RESULTS = Result.values();
+
+    private final StringRedisTemplate redis;
+    private final OtpProperties props;
+    private final SecretKeySpec key;
+    private final SecureRandom rnd = new SecureRandom();
+    private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(this::newMac);
+
+    public OtpEngine(@Qualifier("stringRedisTemplate") StringRedisTemplate redis,
+                     OtpProperties props,
+                     @Value("${jwt.secret.key:}") String jwtSecret) {
+        this.redis = redis;
+        this.props = props;
+        this.key = new SecretKeySpec(keyBytes(props.getHmacSecret(), jwtSecret), "HmacSHA256");
+    }
+
+    public String newCode() {
+        return String.format("%06d", rnd.nextInt(1_000_000));
+    }
+
+    /** 새 코드를 저장 (이전 코드는 무효). 실패 횟수는 그대로 */
+    public void issue(String scope, String subject, String code) {
+        redis.execute(ISSUE, keys(scope, subject),
+                hash(scope, subject, code),
+                String.valueOf(props.getCodeTtl().toSeconds()),
+                String.valueOf(props.getAttemptTtl().toSeconds()));
+    }
+
+    public Result verify(String scope, String subject, String code, int maxTries) {
+        if (subject == null || code == null) return Result.EXPIRED;
+        Long r = redis.execute(VERIFY, keys(scope, subject),
+                hash(scope, subject, code),
+                String.valueOf(maxTries),
+                String.valueOf(props.getAttemptTtl().toSeconds()));
+        return RESULTS[r == null ? Result.EXPIRED.ordinal() : r.intValue()];
+    }
+
+    public void clear(String scope, String subject) {
+        redis.delete(keys(scope, subject));
+    }
+
+    // scope/subject 까지 MAC 에 넣어 다른 흐름의 해시를 재사용할 수 없게
+    String hash(String scope, String subject, String code) {
+        Mac m = macs.get();
+        m.update(scope.getBytes(StandardCharsets.UTF_8));
+        m.update((byte) 0);
+        m.update(subject.getBytes(StandardCharsets.UTF_8));
+        m.update((byte) 0);
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(m.doFinal(code.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static List<String> keys(String scope, String subject) {
+        String base = "otp:" + scope + ":{" + subject + "}:";
+        return List.of(base + "code", base + "try");
+    }
+
+    private static byte[] keyBytes(String otpSecret, String jwtSecret) {
+        if (otpSecret != null && !otpSecret.isBlank()) return otpSecret.getBytes(StandardCharsets.UTF_8);
+        if (jwtSecret != null && !jwtSecret.isBlank()) {
+            // JWT 서명 키를 그대로 쓰지 않고 용도 라벨로 파생
+            try {
+                Mac m = Mac.getInstance("HmacSHA256");
+                m.init(new SecretKeySpec(jwtSecret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+                return m.doFinal("sandwich-otp".getBytes(StandardCharsets.UTF_8));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        log.warn("[OTP] app.otp.hmac-secret 미설정 — 프로세스별 임의 키 사용 (다중 노드에선 검증 실패)");
+        byte[] k = new byte[32];
+        new SecureRandom().nextBytes(k);
+        return k;
+    }
+
+    private Mac newMac() {
+        try {
+            Mac m = Mac.getInstance("HmacSHA256");
+            m.init(key);
+            return m;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.sandwich.SandWich.common.otp;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/** 일회용 코드 엔진 설정 (app.otp) — 로그인 2FA, 이메일 인증 공용 */
+@Getter @Setter
+@Component
+@ConfigurationProperties(prefix = "app.otp")
+public class OtpProperties {
+    /** 코드 HMAC 키 — 모든 노드가 같아야 함. 비어 있으면 jwt.secret.key 에서 파생 */
+    private String hmacSecret;
+    /** 코드 유효 시간 */
+    private Duration codeTtl = Duration.ofMinutes(5);
+    /** 실패 횟수 보관 시간 — 재발급해도 초기화되지 않음 (재전송으로 잠금 우회 방지) */
+    private Duration attemptTtl = Duration.ofMinutes(10);
+}
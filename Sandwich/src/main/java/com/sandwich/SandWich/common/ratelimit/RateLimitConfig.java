@@ -16,7 +16,7 @@ public class RateLimitConfig implements WebMvcConfigurer {
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(interceptor)
-                .addPathPatterns("/api/challenges/**") // 실제 경로 밑에서만 동작하게 제한
+                .addPathPatterns("/**") // 대상 경로 판단은 RouteClassifier (요청당 한 번, 트라이)
                 .order(5);
     }
 }
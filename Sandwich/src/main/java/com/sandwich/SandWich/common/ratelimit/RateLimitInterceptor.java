@@ -1,62 +1,83 @@
 package com.sandwich.SandWich.common.ratelimit;
 
 import com.sandwich.SandWich.auth.CurrentUserProvider;
+import com.sandwich.SandWich.common.captcha.RecaptchaProperties;
 import com.sandwich.SandWich.common.exception.exceptiontype.TooManyRequestsException;
+import com.sandwich.SandWich.common.route.RouteClassification;
+import com.sandwich.SandWich.common.route.RouteClassifier;
+import com.sandwich.SandWich.common.route.RoutePolicy;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
-import java.time.Duration;
+import java.util.List;
 
 @Component
-@RequiredArgsConstructor
 public class RateLimitInterceptor implements HandlerInterceptor {
 
     private final RateLimitProperties props;
     private final RateLimiter limiter;
     private final CurrentUserProvider currentUser; // 네 프로젝트에서 이미 사용하던 컴포넌트
+    private final RouteClassifier routes;
+
+    @Autowired
+    public RateLimitInterceptor(RateLimitProperties props, RateLimiter limiter,
+                                CurrentUserProvider currentUser, RouteClassifier routes) {
+        this.props = props;
+        this.limiter = limiter;
+        this.currentUser = currentUser;
+        this.routes = routes;
+    }
+
+    // standalone 테스트용 (captcha 경로 없이 기본 분류만)
+    public RateLimitInterceptor(RateLimitProperties props, RateLimiter limiter, CurrentUserProvider currentUser) {
+        this(props, limiter, currentUser, new RouteClassifier(new RecaptchaProperties()));
+    }
 
     @Override
     public boolean preHandle(HttpServletRequest req, HttpServletResponse res, Object handler) {
 
         if (!props.isEnabled()) return true;
 
-        final String method = req.getMethod();
-        final String path = req.getRequestURI();
-
-        // 쓰기 메서드만 제한
-        final boolean isWrite = "POST".equalsIgnoreCase(method) || "PUT".equalsIgnoreCase(method);
-        if (!isWrite) return true;
-
-        // 경로 매칭
-        final boolean isSubmission = path.matches("^/api/challenges/\\d+/submissions$");
-        final boolean isVote = path.startsWith("/api/challenges/") && path.contains("/votes");
-        if (!isSubmission && !isVote) return true;
-
-        // 라우트/룰 결정
-        final String routeType = isSubmission ? "submit" : "vote";
-        final RateLimitProperties.Rule rule = isSubmission ? props.getSubmission() : props.getVote();
+        // 경로/메서드 매칭은 RouteClassifier (제출·투표 + ratelimit.policies 의 경로)
+        final RouteClassification route = routes.classify(req);
+        if (!route.has(RoutePolicy.RATE_LIMITED)) return true;
 
         // 유저ID(실패 시 null → IP 기준)
         Long userId = null;
         try { userId = currentUser.currentUserId(); } catch (Exception ignore) {}
 
-        // 1) 분당 제한
-        boolean okMin = limiter.tryConsume(
-                RateLimiter.bucket(req, userId, routeType, "min"),
-                rule.getPerMin(), Duration.ofMinutes(1)
-        );
-        if (!okMin) throw new TooManyRequestsException("RATE_LIMIT_MINUTE", "요청이 너무 많습니다(분당 제한).");
-
-        // 2) 일일 제한
-        boolean okDay = limiter.tryConsume(
-                RateLimiter.bucket(req, userId, routeType, "day"),
-                rule.getPerDay(), Duration.ofDays(1)
-        );
-        if (!okDay) throw new TooManyRequestsException("RATE_LIMIT_DAILY", "요청이 너무 많습니다(일일 제한).");
+        // 겹치는 정책·한도를 순서대로 모두 소모, 하나라도 거부되면 429
+        RateLimiter.Decision tightest = null;
+        for (String name : route.rateLimitBuckets()) {
+            RateLimitProperties.Policy policy = props.policy(name);
+            if (policy == null) continue;
+            String who = RateLimiter.principal(req, userId, policy.getKeyBy());
+            if (who == null) continue;
 
+            List<RateLimitProperties.Limit> limits = policy.getLimits();
+            for (int i = 0; i < limits.size(); i++) {
+                RateLimitProperties.Limit limit = limits.get(i);
+                RateLimiter.Decision d = limiter.acquire(name + ":" + i + ":" + who, limit);
+                if (!d.allowed()) {
+                    writeHeaders(res, d);
+                    res.setHeader("Retry-After", String.valueOf(Math.max(1, d.resetSeconds())));
+                    throw new TooManyRequestsException(limit.getCode(), limit.getMessage());
+                }
+                if (d.remaining() >= 0 && (tightest == null || d.remaining() < tightest.remaining())) tightest = d;
+            }
+        }
+        if (tightest != null) writeHeaders(res, tightest);
         return true;
     }
+
+    // IETF RateLimit 헤더 (남은 수가 가장 적은 한도 기준)
+    private static void writeHeaders(HttpServletResponse res, RateLimiter.Decision d) {
+        if (d.remaining() < 0) return;
+        res.setHeader("RateLimit-Limit", String.valueOf(d.limit()));
+        res.setHeader("RateLimit-Remaining", String.valueOf(d.remaining()));
+        res.setHeader("RateLimit-Reset", String.valueOf(d.resetSeconds()));
+    }
 }
@@ -4,17 +4,123 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 레이트 리밋 설정 (ratelimit).
+ * 선언형 정책 예)
+ *   ratelimit.policies.search.paths[0]=/api/search/**
+ *   ratelimit.policies.search.key-by=USER_OR_IP
+ *   ratelimit.policies.search.limits[0].algorithm=TOKEN_BUCKET
+ *   ratelimit.policies.search.limits[0].capacity=30
+ *   ratelimit.policies.search.limits[0].window=1m
+ * 경로 매칭은 RouteClassifier 가 기동 시 컴파일해 두고, 한 요청에 여러 정책이 겹치면 모두 적용한다.
+ */
 @Getter @Setter
 @ConfigurationProperties(prefix = "ratelimit")
 public class RateLimitProperties {
     private boolean enabled = true;
 
+    /** Redis 장애 시 true 면 통과(기본), false 면 429 */
+    private boolean failOpen = true;
+
+    private NearCache nearCache = new NearCache();
+
     @Getter @Setter
     public static class Rule {
         private int perMin = 3;
         private int perDay = 50;
     }
 
+    // 챌린지 제출/투표 (RouteClassifier 의 submit / vote 버킷) — 분당·일일 슬라이딩 윈도우
     private Rule submission = new Rule();
     private Rule vote = new Rule();
-}
\ No newline at end of file
+
+    /** 이름 → 정책. submit / vote 는 위 Rule 이 우선 */
+    private Map<String, Policy> policies = new LinkedHashMap<>(Map.of(
+            // 인증 엔드포인트 — 계정이 없으니 IP 기준, 짧은 버스트만 허용
+            "auth", policy(List.of("/api/auth/login", "/api/auth/signup", "/api/auth/otp/**"), Set.of("POST"),
+                    KeyBy.IP, limit(Algorithm.TOKEN_BUCKET, 20, Duration.ofMinutes(1), "RATE_LIMIT_AUTH")),
+            // 이메일 코드 검증 — 시도 횟수는 요청자(IP) 기준으로 막고, 이메일별 잠금은 넉넉한 상한만 둔다
+            "email-verify", policy(List.of("/api/email/verify"), Set.of("POST"),
+                    KeyBy.IP, limit(Algorithm.SLIDING_WINDOW, 10, Duration.ofMinutes(10), "RATE_LIMIT_EMAIL_VERIFY"))
+    ));
+
+    public enum Algorithm { SLIDING_WINDOW, TOKEN_BUCKET }
+
+    /** 누구 기준으로 셀지 — USER 는 비로그인 요청을 세지 않음 */
+    public enum KeyBy { USER_OR_IP, USER, IP }
+
+    @Getter @Setter
+    public static class Policy {
+        private List<String> paths = new ArrayList<>();
+        /** 비어 있으면 모든 메서드 */
+        private Set<String> methods = Set.of();
+        private KeyBy keyBy = KeyBy.USER_OR_IP;
+        private List<Limit> limits = new ArrayList<>();
+    }
+
+    @Getter @Setter
+    public static class Limit {
+        private Algorithm algorithm = Algorithm.SLIDING_WINDOW;
+        /** 윈도우당 허용 수 (토큰 버킷은 버킷 크기, window 동안 가득 참) */
+        private int capacity = 60;
+        private Duration window = Duration.ofMinutes(1);
+        /** 429 응답 code / message */
+        private String code = "RATE_LIMIT";
+        private String message = "요청이 너무 많습니다.";
+    }
+
+    /** 로컬 거부 캐시 — Redis 가 거부한 키는 Retry-After 동안 이 노드에서 바로 거부 */
+    @Getter @Setter
+    public static class NearCache {
+        private boolean enabled = true;
+        private long maxEntries = 100_000;
+        /** 일일 한도처럼 긴 거부도 이 시간마다 Redis 로 다시 확인 */
+        private Duration maxTtl = Duration.ofMinutes(1);
+    }
+
+    public Policy policy(String name) {
+        return switch (name) {
+            case "submit" -> legacy(submission);
+            case "vote" -> legacy(vote);
+            default -> policies.get(name);
+        };
+    }
+
+    private static Policy legacy(Rule rule) {
+        Policy p = new Policy();
+        p.setLimits(List.of(
+                limit(Algorithm.SLIDING_WINDOW, rule.getPerMin(), Duration.ofMinutes(1), "RATE_LIMIT_MINUTE", "요청이 너무 많습니다(분당 제한)."),
+                limit(Algorithm.SLIDING_WINDOW, rule.getPerDay(), Duration.ofDays(1), "RATE_LIMIT_DAILY", "요청이 너무 많습니다(일일 제한).")));
+        return p;
+    }
+
+    private static Policy policy(List<String> paths, Set<String> methods, KeyBy keyBy, Limit... limits) {
+        Policy p = new Policy();
+        p.setPaths(new ArrayList<>(paths));
+        p.setMethods(methods);
+        p.setKeyBy(keyBy);
+        p.setLimits(new ArrayList<>(List.of(limits)));
+        return p;
+    }
+
+    private static Limit limit(Algorithm algorithm, int capacity, Duration window, String code) {
+        return limit(algorithm, capacity, window, code, "요청이 너무 많습니다.");
+    }
+
+    private static Limit limit(Algorithm algorithm, int capacity, Duration window, String code, String message) {
+        Limit l = new Limit();
+        l.setAlgorithm(algorithm);
+        l.setCapacity(capacity);
+        l.setWindow(window);
+        l.setCode(code);
+        l.setMessage(message);
+        return l;
+    }
+}
@@ -1,44 +1,197 @@
 package com.sandwich.SandWich.common.ratelimit;
 
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.List;
 
+/**
+ * Redis 레이트 리미터 — 판정은 키 하나에 대한 Lua 스크립트 한 번 (왕복 1회, TTL 도 같은 스크립트에서).
+ * - SLIDING_WINDOW: 현재/직전 고정 윈도우 카운트를 경과 비율로 가중 (경계에서 2배 버스트 없음)
+ * - TOKEN_BUCKET: window 동안 capacity 개가 다시 차는 버킷
+ * 시각은 Redis TIME 기준이라 노드 간 시계 차이에 영향받지 않는다.
+ * Redis 가 거부한 키는 Retry-After 동안 로컬 캐시에서 바로 거부 (몰아치는 요청이 Redis 까지 가지 않음).
+ */
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class RateLimiter {
 
+    /** 허용 여부 + RateLimit-* 헤더 값. remaining 이 음수면 모름 (헤더 생략) */
+    public record Decision(boolean allowed, int limit, long remaining, long resetMillis) {
+        public long resetSeconds() { return Math.max(0, (resetMillis + 999) / 1000); }
+    }
+
+    // KEYS[1]=HASH{w=윈도우 번호, c=현재 카운트, p=직전 카운트}, ARGV: limit, windowMs → {허용, 남은 수, 리셋까지 ms}
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SLIDING_WINDOW = new DefaultRedisScript<>("""
+            local t = redis.call('TIME')
+            local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+            local limit = tonumber(ARGV[1])
+            local win = tonumber(ARGV[2])
+            local idx = math.floor(now / win)
+            local h = redis.call('HMGET', KEYS[1], 'w', 'c', 'p')
+            local w = tonumber(h[1])
+            local c = tonumber(h[2]) or 0
+            local p = tonumber(h[3]) or 0
+            if w == nil or w < idx - 1 then c = 0; p = 0
+            elseif w == idx - 1 then p = c; c = 0 end
+            local into = now - idx * win
+            local est = p * (win - into) / win + c
+            local allowed = 0
+            if est + 1 <= limit then
+              c = c + 1
+              est = est + 1
+              allowed = 1
+            end
+            redis.call('HSET', KEYS[1], 'w', idx, 'c', c, 'p', p)
+            redis.call('PEXPIRE', KEYS[1], win * 2)
+            local reset = win - into
+            if allowed == 0 and p > 0 then
+              -- 직전 윈도우 가중치가 빠지면서 한 자리가 나는 시점
+              local need = est + 1 - limit
+              reset = math.min(reset, math.ceil(need * win / p))
+            end
+            return {allowed, math.max(0, math.floor(limit - est)), reset}
+            """, List.class);
+
+    // KEYS[1]=HASH{k=토큰 수, ts=마지막 갱신 ms}, ARGV: capacity, windowMs → {허용, 남은 토큰, 리셋까지 ms}
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TOKEN_BUCKET = new DefaultRedisScript<>("""
+            local t = redis.call('TIME')
+            local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+            local cap = tonumber(ARGV[1])
+            local win = tonumber(ARGV[2])
+            local rate = cap / win
+            local h = redis.call('HMGET', KEYS[1], 'k', 'ts')
+            local tokens = tonumber(h[1]) or cap
+            local ts = tonumber(h[2]) or now
+            tokens = math.min(cap, tokens + math.max(0, now - ts) * rate)
+            local allowed = 0
+            if tokens >= 1 then
+              tokens = tokens - 1
+              allowed = 1
+            end
+            redis.call('HSET', KEYS[1], 'k', tostring(tokens), 'ts', now)
+            redis.call('PEXPIRE', KEYS[1], win)
+            local reset
+            if allowed == 1 then reset = math.ceil((cap - tokens) / rate) else reset = math.ceil((1 - tokens) / rate) end
+            return {allowed, math.floor(tokens), reset}
+            """, List.class);
+
     private final StringRedisTemplate redis;
+    private final RateLimitProperties props;
+    private final Cache<String, Long> denied; // 키 → 거부 만료 시각(ms)
+
+    private final Counter allowedCount;
+    private final Counter deniedCount;
+    private final Counter localDeniedCount;
+    private final Counter errorCount;
+    private final Timer redisTimer;
 
+    @Autowired
+    public RateLimiter(StringRedisTemplate redis, RateLimitProperties props, MeterRegistry registry) {
+        this.redis = redis;
+        this.props = props;
+        this.denied = Caffeine.newBuilder()
+                .maximumSize(props.getNearCache().getMaxEntries())
+                .expireAfterWrite(props.getNearCache().getMaxTtl())
+                .build();
+        this.allowedCount     = decisions(registry, "allowed");
+        this.deniedCount      = decisions(registry, "denied");
+        this.localDeniedCount = decisions(registry, "local_denied");
+        this.errorCount       = decisions(registry, "error");
+        this.redisTimer = Timer.builder("ratelimit_redis_seconds").description("Rate limit script latency").register(registry);
+    }
+
+    // 테스트 대역용 — 전역 레지스트리에 등록하지 않음 (인스턴스마다 같은 이름 미터가 쌓이지 않게)
+    public RateLimiter(StringRedisTemplate redis) {
+        this(redis, new RateLimitProperties(), new SimpleMeterRegistry());
+    }
+
+    /** 기존 API — 슬라이딩 윈도우로 판정만 */
     public boolean tryConsume(String bucketKey, int limit, Duration window) {
-        String key = "rl:" + bucketKey;
-        Long v = redis.opsForValue().increment(key);
-        if (v != null && v == 1L) {
-            redis.expire(key, window); // 첫 증가 시 TTL 설정
+        RateLimitProperties.Limit l = new RateLimitProperties.Limit();
+        l.setCapacity(limit);
+        l.setWindow(window);
+        return decide(bucketKey, l).allowed();
+    }
+
+    public Decision acquire(String key, RateLimitProperties.Limit limit) {
+        if (redis == null) {
+            // Redis 없이 만든 대역(테스트 등)은 tryConsume 재정의 결과만 반영
+            boolean ok = tryConsume(key, limit.getCapacity(), limit.getWindow());
+            return new Decision(ok, limit.getCapacity(), -1, 0);
+        }
+        return decide(key, limit);
+    }
+
+    private Decision decide(String key, RateLimitProperties.Limit limit) {
+        boolean near = props.getNearCache().isEnabled();
+        long now = System.currentTimeMillis();
+        if (near) {
+            Long until = denied.getIfPresent(key);
+            if (until != null && until > now) {
+                localDeniedCount.increment();
+                return new Decision(false, limit.getCapacity(), 0, until - now);
+            }
+        }
+
+        Decision d;
+        try {
+            d = redisTimer.record(() -> evaluate(key, limit));
+        } catch (Exception e) {
+            errorCount.increment();
+            log.debug("[RateLimit] redis error key={} err={}", key, e.toString());
+            return new Decision(props.isFailOpen(), limit.getCapacity(), -1, 0);
+        }
+
+        if (d.allowed()) {
+            allowedCount.increment();
+        } else {
+            deniedCount.increment();
+            if (near && d.resetMillis() > 0) denied.put(key, now + d.resetMillis());
         }
-        return v != null && v <= limit;
+        return d;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Decision evaluate(String key, RateLimitProperties.Limit limit) {
+        RedisScript<List> script = limit.getAlgorithm() == RateLimitProperties.Algorithm.TOKEN_BUCKET
+                ? TOKEN_BUCKET : SLIDING_WINDOW;
+        long windowMs = Math.max(1, limit.getWindow().toMillis());
+        List<Long> r = redis.execute(script, List.of("rl:" + key),
+                String.valueOf(limit.getCapacity()), String.valueOf(windowMs));
+        return new Decision(r.get(0) == 1L, limit.getCapacity(), r.get(1), r.get(2));
     }
 
-    // userId 있으면 USER 기준, 없으면 IP 기준
-    public static String bucket(HttpServletRequest req, Long userId, String route, String granularity) {
-        String who = (userId != null) ? ("u:" + userId) : ("ip:" + clientIp(req));
-        String ts = switch (granularity) {
-            case "min" -> DateTimeFormatter.ofPattern("yyyyMMddHHmm").format(LocalDateTime.now());
-            case "day" -> DateTimeFormatter.ofPattern("yyyyMMdd").format(LocalDateTime.now());
-            default -> "raw";
+    /**
+     * 정책 키의 주체 부분 — USER 기준인데 비로그인이면 null (세지 않음).
+     * IP 는 getRemoteAddr() — forward-headers-strategy=framework 가 신뢰 프록시의 X-Forwarded-For 로 이미 바꿔 둔 값.
+     * 헤더 첫 값을 직접 읽으면 클라이언트가 매 요청 다른 값을 넣어 IP 기준 한도를 우회할 수 있다.
+     */
+    public static String principal(HttpServletRequest req, Long userId, RateLimitProperties.KeyBy keyBy) {
+        return switch (keyBy) {
+            case USER -> userId != null ? "u:" + userId : null;
+            case IP -> "ip:" + req.getRemoteAddr();
+            case USER_OR_IP -> (userId != null) ? ("u:" + userId) : ("ip:" + req.getRemoteAddr());
         };
-        return route + ":" + who + ":" + ts;
     }
 
-    private static String clientIp(HttpServletRequest req) {
-        String xff = req.getHeader("X-Forwarded-For");
-        if (xff != null && !xff.isBlank()) return xff.split(",")[0].trim();
-        return req.getRemoteAddr();
+    private static Counter decisions(MeterRegistry registry, String outcome) {
+        return Counter.builder("ratelimit_decisions_total").tag("outcome", outcome)
+                .description("Rate limit decisions").register(registry);
     }
-}
\ No newline at end of file
+}
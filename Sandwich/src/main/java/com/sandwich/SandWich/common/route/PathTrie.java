@@ -0,0 +1,63 @@
+package com.sandwich.SandWich.common.route;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 패턴의 앞쪽 리터럴 세그먼트로 만든 트라이.
+ * 요청 경로 세그먼트를 따라 내려가며 만나는 노드의 패턴만 PathPattern.matches 로 확인하므로
+ * 패턴 수가 늘어도 요청당 검사하는 후보는 경로 접두사를 공유하는 것들뿐이다.
+ */
+final class PathTrie<T> {
+
+    record Entry<T>(PathPattern pattern, T value) {}
+
+    private static final class Node<T> {
+        final Map<String, Node<T>> children = new HashMap<>();
+        final List<Entry<T>> entries = new ArrayList<>();
+    }
+
+    private final Node<T> root = new Node<>();
+
+    void add(PathPattern pattern, T value) {
+        Node<T> node = root;
+        for (String seg : pattern.getPatternString().split("/")) {
+            if (seg.isEmpty()) continue;
+            if (isDynamic(seg)) break; // 변수/와일드카드부터는 PathPattern 이 판단
+            node = node.children.computeIfAbsent(seg, k -> new Node<>());
+        }
+        node.entries.add(new Entry<>(pattern, value));
+    }
+
+    /** path 에 매칭되는 모든 값 */
+    void match(String path, PathContainer parsed, Consumer<T> sink) {
+        Node<T> node = root;
+        visit(node, parsed, sink);
+        int from = 0;
+        int len = path.length();
+        while (node != null && from < len) {
+            if (path.charAt(from) == '/') { from++; continue; }
+            int to = path.indexOf('/', from);
+            if (to < 0) to = len;
+            node = node.children.get(path.substring(from, to));
+            if (node != null) visit(node, parsed, sink);
+            from = to;
+        }
+    }
+
+    private void visit(Node<T> node, PathContainer parsed, Consumer<T> sink) {
+        for (Entry<T> e : node.entries) {
+            if (e.pattern().matches(parsed)) sink.accept(e.value());
+        }
+    }
+
+    private static boolean isDynamic(String seg) {
+        return seg.indexOf('*') >= 0 || seg.indexOf('{') >= 0 || seg.indexOf('?') >= 0;
+    }
+}
@@ -0,0 +1,43 @@
+package com.sandwich.SandWich.common.route;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/** 한 요청의 정책 집합 (요청 속성 RouteClassifier.ATTR 로 공유) */
+public final class RouteClassification {
+
+    static final RouteClassification NONE = new RouteClassification(EnumSet.noneOf(RoutePolicy.class), List.of());
+
+    private final Set<RoutePolicy> policies;
+    private final List<String> rateLimitBuckets;
+
+    RouteClassification(EnumSet<RoutePolicy> policies, List<String> rateLimitBuckets) {
+        this.policies = Collections.unmodifiableSet(policies);
+        this.rateLimitBuckets = List.copyOf(rateLimitBuckets);
+    }
+
+    public boolean has(RoutePolicy policy) {
+        return policies.contains(policy);
+    }
+
+    public Set<RoutePolicy> policies() {
+        return policies;
+    }
+
+    /** RATE_LIMITED 일 때 첫 버킷 이름 (submit / vote / 정책 이름), 아니면 null */
+    public String rateLimitBucket() {
+        return rateLimitBuckets.isEmpty() ? null : rateLimitBuckets.get(0);
+    }
+
+    /** 이 요청에 겹치는 레이트 리밋 정책 이름 전부 */
+    public List<String> rateLimitBuckets() {
+        return rateLimitBuckets;
+    }
+
+    @Override
+    public String toString() {
+        return policies + (rateLimitBuckets.isEmpty() ? "" : rateLimitBuckets.toString());
+    }
+}
@@ -0,0 +1,109 @@
+package com.sandwich.SandWich.common.route;
+
+import com.sandwich.SandWich.common.captcha.RecaptchaProperties;
+import com.sandwich.SandWich.common.ratelimit.RateLimitProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 요청 경로 → 정책 집합(RouteClassification).
+ * 패턴은 기동 시 한 번 PathPattern 으로 컴파일해 트라이에 넣고, 결과는 요청 속성에 저장해
+ * TrustedDeviceFilter / JwtFilter / RecaptchaFilter / RateLimitInterceptor 가 같은 값을 재사용한다.
+ * 경로는 기존 필터들과 같이 getRequestURI() 기준 (컨텍스트 경로 미고려).
+ */
+@Component
+public class RouteClassifier {
+
+    public static final String ATTR = RouteClassifier.class.getName() + ".classification";
+
+    // 토큰 검사 '예외'로 둘 공개 경로만 명시 (여기에 /api/auth/devices/** 넣지 말 것!)
+    static final List<String> PUBLIC_PATHS = List.of(
+            "/health",
+            "/error", "/error/**",
+            "/api/auth/login",
+            "/api/auth/signup",
+            "/api/auth/refresh",
+            "/api/auth/otp/**",
+            "/swagger-ui/**", "/v3/api-docs/**", "/swagger-resources/**", "/webjars/**",
+            "/oauth2/**", "/login/oauth2/**"
+    );
+
+    // 레이트 리밋 (POST/PUT 만)
+    static final String SUBMISSION_PATH = "/api/challenges/{id:\\d+}/submissions";
+    static final String VOTE_PATH = "/api/challenges/{id}/votes/**";
+
+    // 신뢰 기기 쿠키를 실제로 참고하는 경로 (그 외 경로에서는 DeviceTrustService 가 필요 시 직접 검증)
+    static final List<String> DEVICE_TRUST_PATHS = List.of(
+            "/api/auth/login",
+            "/api/auth/devices/**",
+            "/oauth2/**", "/login/oauth2/**"
+    );
+
+    private record Rule(RoutePolicy policy, String bucket, Set<String> methods) {}
+
+    private final PathTrie<Rule> trie = new PathTrie<>();
+
+    // 선언형 레이트 리밋 정책(ratelimit.policies) 없이 기본 분류만
+    public RouteClassifier(RecaptchaProperties recaptcha) {
+        this(recaptcha, Map.of());
+    }
+
+    @Autowired
+    public RouteClassifier(RecaptchaProperties recaptcha, RateLimitProperties rateLimit) {
+        this(recaptcha, rateLimit.getPolicies());
+    }
+
+    private RouteClassifier(RecaptchaProperties recaptcha, Map<String, RateLimitProperties.Policy> rateLimitPolicies) {
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+        PUBLIC_PATHS.forEach(p -> add(parser, p, new Rule(RoutePolicy.PUBLIC, null, null)));
+        DEVICE_TRUST_PATHS.forEach(p -> add(parser, p, new Rule(RoutePolicy.DEVICE_TRUST, null, null)));
+        Set<String> writes = Set.of("POST", "PUT");
+        add(parser, SUBMISSION_PATH, new Rule(RoutePolicy.RATE_LIMITED, "submit", writes));
+        add(parser, VOTE_PATH, new Rule(RoutePolicy.RATE_LIMITED, "vote", writes));
+        rateLimitPolicies.forEach((name, policy) -> {
+            Set<String> methods = policy.getMethods().isEmpty() ? null
+                    : policy.getMethods().stream().map(String::toUpperCase).collect(Collectors.toUnmodifiableSet());
+            policy.getPaths().forEach(p -> add(parser, p, new Rule(RoutePolicy.RATE_LIMITED, name, methods)));
+        });
+        // captcha 는 enabled 여부와 무관하게 분류만 (적용 여부는 RecaptchaFilter 가 판단)
+        recaptcha.getV2().pathSet().forEach(p -> add(parser, p, new Rule(RoutePolicy.CAPTCHA_V2, null, null)));
+        recaptcha.getV3().pathSet().forEach(p -> add(parser, p, new Rule(RoutePolicy.CAPTCHA_V3, null, null)));
+    }
+
+    /** 요청당 한 번 계산 후 요청 속성에 저장 */
+    public RouteClassification classify(HttpServletRequest request) {
+        Object cached = request.getAttribute(ATTR);
+        if (cached instanceof RouteClassification rc) return rc;
+        RouteClassification rc = classify(request.getMethod(), request.getRequestURI());
+        request.setAttribute(ATTR, rc);
+        return rc;
+    }
+
+    public RouteClassification classify(String method, String path) {
+        if (path == null || path.isEmpty()) return RouteClassification.NONE;
+        EnumSet<RoutePolicy> policies = EnumSet.noneOf(RoutePolicy.class);
+        List<String> buckets = new ArrayList<>(2);
+        trie.match(path, PathContainer.parsePath(path), rule -> {
+            if (rule.methods() != null && (method == null || !rule.methods().contains(method.toUpperCase()))) return;
+            policies.add(rule.policy());
+            if (rule.bucket() != null && !buckets.contains(rule.bucket())) buckets.add(rule.bucket());
+        });
+        return policies.isEmpty() ? RouteClassification.NONE : new RouteClassification(policies, buckets);
+    }
+
+    private void add(PathPatternParser parser, String pattern, Rule rule) {
+        PathPattern compiled = parser.parse(pattern);
+        trie.add(compiled, rule);
+    }
+}
@@ -0,0 +1,13 @@
+package com.sandwich.SandWich.common.route;
+
+/** 요청 경로별 정책 (RouteClassifier 가 요청당 한 번 계산) */
+public enum RoutePolicy {
+    /** JWT 검사 생략 (공개 경로) */
+    PUBLIC,
+    /** 레이트 리밋 대상 (제출·투표 쓰기 요청 + ratelimit.policies) — 정책 이름은 RouteClassification.rateLimitBuckets() */
+    RATE_LIMITED,
+    CAPTCHA_V2,
+    CAPTCHA_V3,
+    /** 신뢰 기기 쿠키 검증이 필요한 경로 (로그인/OAuth/기기 관리) */
+    DEVICE_TRUST
+}
@@ -0,0 +1,107 @@
+package com.sandwich.SandWich.common.singleflight;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 노드 간 single-flight.
+ * 1) 노드 내에서는 SingleFlight 로 먼저 합치고
+ * 2) 노드 대표 호출만 Redis 로 조율: 결과 키가 있으면 그걸 쓰고, 없으면 SET NX 락을 잡은 노드만 loader 실행
+ *    → 결과를 resultTtl 동안 남기고 락 해제. 락을 못 잡은 노드는 결과 키를 폴링.
+ * Redis 오류/대기 초과/결과 역직렬화 실패 시에는 그냥 직접 호출한다 (조율은 최적화일 뿐).
+ * 키: sf:{name:key}:lock / sf:{name:key}:result (같은 슬롯)
+ */
+@Slf4j
+public class ClusterSingleFlight {
+
+    private static final DefaultRedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final String name;
+    private final SingleFlight local;
+    private final StringRedisTemplate redis; // null 이면 노드 내 single-flight 만
+    private final ObjectMapper om;
+    private final SingleFlightProperties props;
+
+    ClusterSingleFlight(String name, SingleFlight local, StringRedisTemplate redis,
+                        ObjectMapper om, SingleFlightProperties props) {
+        this.name = name;
+        this.local = local;
+        this.redis = redis;
+        this.om = om;
+        this.props = props;
+    }
+
+    public <T> T execute(String key, Class<T> type, Supplier<T> loader) {
+        if (redis == null || !props.isClusterEnabled()) return local.execute(key, loader);
+        return local.execute(key, () -> coordinate(key, type, loader));
+    }
+
+    private <T> T coordinate(String key, Class<T> type, Supplier<T> loader) {
+        String base = "sf:{" + name + ":" + key + "}";
+        String lockKey = base + ":lock";
+        String resultKey = base + ":result";
+        String token = UUID.randomUUID().toString();
+        long deadline = System.nanoTime() + props.getWaitTimeout().toNanos();
+
+        while (true) {
+            String cached;
+            Boolean locked;
+            try {
+                cached = redis.opsForValue().get(resultKey);
+                locked = cached == null ? redis.opsForValue().setIfAbsent(lockKey, token, props.getLockTtl()) : null;
+            } catch (Exception e) {
+                log.debug("[SingleFlight] redis unavailable, calling directly. name={}, err={}", name, e.toString());
+                return loader.get();
+            }
+
+            if (cached != null) {
+                try {
+                    return om.readValue(cached, type);
+                } catch (Exception e) {
+                    log.warn("[SingleFlight] result decode failed, calling directly. name={}, key={}", name, key);
+                    return loader.get();
+                }
+            }
+            if (Boolean.TRUE.equals(locked)) {
+                return lead(lockKey, resultKey, token, loader);
+            }
+            if (System.nanoTime() > deadline) {
+                log.debug("[SingleFlight] wait timeout, calling directly. name={}, key={}", name, key);
+                return loader.get();
+            }
+            try {
+                Thread.sleep(props.getPollInterval().toMillis());
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                return loader.get();
+            }
+        }
+    }
+
+    private <T> T lead(String lockKey, String resultKey, String token, Supplier<T> loader) {
+        try {
+            T value = loader.get();
+            try {
+                redis.opsForValue().set(resultKey, om.writeValueAsString(value), props.getResultTtl());
+            } catch (Exception e) {
+                log.debug("[SingleFlight] result publish failed. name={}, err={}", name, e.toString());
+            }
+            return value;
+        } finally {
+            // 실패 시 결과 없이 락만 풀림 → 대기 중인 노드가 다음 폴링에서 락을 잡고 재시도
+            try {
+                redis.execute(RELEASE, List.of(lockKey), token);
+            } catch (Exception ignore) {
+                // TTL 로 자연 해제
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.sandwich.SandWich.common.singleflight;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 프로세스 내 single-flight: 같은 키로 동시에 들어온 호출은 먼저 온 한 건만 loader 를 실행하고
+ * 나머지는 그 결과(또는 예외)를 그대로 공유한다. 결과를 보관하지 않으므로 캐시가 아니다.
+ */
+public class SingleFlight {
+
+    private final Map<String, CompletableFuture<Object>> inflight = new ConcurrentHashMap<>();
+    private final Counter leaders;
+    private final Counter shared;
+
+    public SingleFlight(String name, MeterRegistry registry) {
+        this.leaders = Counter.builder("singleflight_calls_total").tag("name", name).tag("role", "leader")
+                .description("Calls that executed the loader").register(registry);
+        this.shared = Counter.builder("singleflight_calls_total").tag("name", name).tag("role", "shared")
+                .description("Calls that joined an in-flight loader").register(registry);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> loader) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inflight.putIfAbsent(key, mine);
+        if (existing != null) {
+            shared.increment();
+            try {
+                return (T) existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException re ? re : e;
+            }
+        }
+        leaders.increment();
+        try {
+            T value = loader.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inflight.remove(key, mine);
+        }
+    }
+
+    /** 현재 진행 중인 키 수 (테스트/디버그용) */
+    public int inflightCount() {
+        return inflight.size();
+    }
+}
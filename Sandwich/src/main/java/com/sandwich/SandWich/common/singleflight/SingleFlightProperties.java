@@ -0,0 +1,24 @@
+package com.sandwich.SandWich.common.singleflight;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/** 노드 간 single-flight (app.single-flight) — Redis 락 + 결과 키 */
+@Getter @Setter
+@Component
+@ConfigurationProperties(prefix = "app.single-flight")
+public class SingleFlightProperties {
+    /** false 면 노드 내 single-flight 만 */
+    private boolean clusterEnabled = true;
+    /** 리더 락 TTL — 리더가 죽어도 이 시간 뒤엔 다른 노드가 이어받음 */
+    private Duration lockTtl = Duration.ofSeconds(15);
+    /** 리더 결과를 다른 노드가 가져갈 수 있도록 남겨 두는 시간 (짧게) */
+    private Duration resultTtl = Duration.ofSeconds(3);
+    /** 팔로워가 결과를 기다리는 최대 시간 — 넘으면 직접 호출 */
+    private Duration waitTimeout = Duration.ofSeconds(10);
+    private Duration pollInterval = Duration.ofMillis(50);
+}
@@ -0,0 +1,35 @@
+package com.sandwich.SandWich.common.singleflight;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/** 이름별 single-flight 인스턴스 생성 (이름은 메트릭 태그 / Redis 키 네임스페이스) */
+@Component
+public class SingleFlights {
+
+    private final MeterRegistry registry;
+    private final ObjectProvider<StringRedisTemplate> redis;
+    private final ObjectMapper om;
+    private final SingleFlightProperties props;
+
+    public SingleFlights(MeterRegistry registry, ObjectProvider<StringRedisTemplate> redis,
+                         ObjectMapper om, SingleFlightProperties props) {
+        this.registry = registry;
+        this.redis = redis;
+        this.om = om;
+        this.props = props;
+    }
+
+    /** 노드 내에서만 합침 */
+    public SingleFlight local(String name) {
+        return new SingleFlight(name, registry);
+    }
+
+    /** 노드 간에도 합침 (Redis 없으면 노드 내만) */
+    public ClusterSingleFlight cluster(String name) {
+        return new ClusterSingleFlight(name, local(name), redis.getIfAvailable(), om, props);
+    }
+}
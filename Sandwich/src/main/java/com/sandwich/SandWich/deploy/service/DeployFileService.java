@@ -1,19 +1,23 @@
 package com.sandwich.SandWich.deploy.service;
 
-import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.ObjectMetadata;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetUrlRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
 import java.io.IOException;
+import java.io.InputStream;
 
 @Service
 @RequiredArgsConstructor
 public class DeployFileService {
 
-    private final AmazonS3 amazonS3;
+    private final S3Client s3Client;
 
     // 배포용 S3 버킷
     @Value("${cloud.aws.s3.deploy.bucket}")
@@ -27,13 +31,15 @@ public class DeployFileService {
         String fileName = String.format("%s/%d/deploy/%s",
                 userId, projectId, file.getOriginalFilename());
 
-        ObjectMetadata metadata = new ObjectMetadata();
-        metadata.setContentLength(file.getSize());
-        metadata.setContentType(file.getContentType());
+        try (InputStream in = file.getInputStream()) {
+            s3Client.putObject(PutObjectRequest.builder()
+                            .bucket(deployBucket).key(fileName).contentType(file.getContentType()).build(),
+                    RequestBody.fromInputStream(in, file.getSize()));
+        }
 
-        amazonS3.putObject(deployBucket, fileName, file.getInputStream(), metadata);
-
-        return amazonS3.getUrl(deployBucket, fileName).toString();
+        return s3Client.utilities()
+                .getUrl(GetUrlRequest.builder().bucket(deployBucket).key(fileName).build())
+                .toString();
     }
 
     /**
@@ -41,6 +47,6 @@ public class DeployFileService {
      */
     public void deleteFile(String fileUrl) {
         String fileKey = fileUrl.substring(fileUrl.indexOf(".com/") + 5);
-        amazonS3.deleteObject(deployBucket, fileKey);
+        s3Client.deleteObject(DeleteObjectRequest.builder().bucket(deployBucket).key(fileKey).build());
     }
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.sandwich.SandWich.discovery.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+/** 감쇠 트렌드 점수 순위 스냅샷 — 주기 작업이 통째로 교체, 조회는 rank_no 순 top-N */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "hot_developer_snapshot")
+public class HotDeveloperSnapshot {
+
+    @Id
+    @Column(name = "rank_no")
+    private Integer rankNo;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "trend_score", nullable = false)
+    private double trendScore;
+
+    @Column(name = "computed_at", nullable = false)
+    private OffsetDateTime computedAt;
+}
@@ -0,0 +1,41 @@
+package com.sandwich.SandWich.discovery.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 유저(프로젝트 작성자)별 일 단위 활동 집계 — 조회/좋아요/댓글 이벤트가 증분으로 더해진다.
+ * 쓰기는 ActivityRollupService 가 모아서 upsert (TrendRollupRepository), 엔티티는 테이블 생성용.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+        name = "user_activity_daily",
+        uniqueConstraints = @UniqueConstraint(name = "uk_activity_user_date", columnNames = {"user_id", "activity_date"}),
+        indexes = @Index(name = "idx_activity_date", columnList = "activity_date")
+)
+public class UserActivityDaily {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "activity_date", nullable = false)
+    private LocalDate activityDate;
+
+    @Column(nullable = false)
+    private long views;
+
+    @Column(nullable = false)
+    private long likes;
+
+    @Column(nullable = false)
+    private long comments;
+}
@@ -0,0 +1,146 @@
+package com.sandwich.SandWich.discovery.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * PostgreSQL 전용 활동 롤업 / 트렌드 스냅샷 쿼리 (테이블은 UserActivityDaily, HotDeveloperSnapshot 엔티티로 생성).
+ */
+@Repository
+@RequiredArgsConstructor
+public class TrendRollupRepository {
+
+    public record Increment(long userId, LocalDate date, long views, long likes, long comments) {}
+
+    public record ScoreRow(Long userId, Double trendScore) implements DiscoveryRepository.HotDeveloperRow {
+        @Override public Long getUserId() { return userId; }
+        @Override public Double getTrendScore() { return trendScore; }
+    }
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    /** 증분 배치 upsert — 같은 (user, date) 는 더하기 */
+    public void upsert(List<Increment> increments) {
+        if (increments.isEmpty()) return;
+        SqlParameterSource[] batch = increments.stream()
+                .map(i -> new MapSqlParameterSource()
+                        .addValue("userId", i.userId())
+                        .addValue("date", i.date())
+                        .addValue("views", i.views())
+                        .addValue("likes", i.likes())
+                        .addValue("comments", i.comments()))
+                .toArray(SqlParameterSource[]::new);
+        jdbc.batchUpdate("""
+                insert into user_activity_daily (user_id, activity_date, views, likes, comments)
+                values (:userId, :date, :views, :likes, :comments)
+                on conflict (user_id, activity_date) do update
+                   set views    = user_activity_daily.views    + excluded.views,
+                       likes    = user_activity_daily.likes    + excluded.likes,
+                       comments = user_activity_daily.comments + excluded.comments
+                """, batch);
+    }
+
+    public boolean isRollupEmpty() {
+        Boolean exists = jdbc.getJdbcTemplate().queryForObject(
+                "select exists (select 1 from user_activity_daily)", Boolean.class);
+        return !Boolean.TRUE.equals(exists);
+    }
+
+    /** 롤업이 비어 있을 때 한 번만 — 원본 이벤트 테이블에서 기간 내 일별 집계를 채움 */
+    public int backfill(int windowDays) {
+        return jdbc.update("""
+                insert into user_activity_daily (user_id, activity_date, views, likes, comments)
+                select x.user_id, x.d, sum(x.v), sum(x.l), sum(x.c)
+                from (
+                  select p.user_id, cast(pv.viewed_at as date) d, pv.count v, 0 l, 0 c
+                  from project_views pv join project p on p.id = pv.project_id
+                  where pv.viewed_at >= now() - make_interval(days => :windowDays)
+                  union all
+                  select p.user_id, cast(l.created_at as date), 0, 1, 0
+                  from likes l join project p on p.id = l.target_id
+                  where l.target_type = 'PROJECT'
+                    and l.created_at >= now() - make_interval(days => :windowDays)
+                  union all
+                  select p.user_id, cast(c.created_at as date), 0, 0, 1
+                  from comment c join project p on p.id = c.commentable_id
+                  where c.commentable_type = 'Project'
+                    and c.created_at >= now() - make_interval(days => :windowDays)
+                ) x
+                group by x.user_id, x.d
+                on conflict (user_id, activity_date) do nothing
+                """, new MapSqlParameterSource("windowDays", windowDays));
+    }
+
+    /** 일별 점수 × 0.5^(경과일/반감기) 합산, 탈퇴 유저 제외, 상위 size 명 */
+    public List<ScoreRow> computeScores(LocalDate today, int windowDays, double halfLifeDays,
+                                        double wViews, double wLikes, double wComments, int size) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("today", today)
+                .addValue("from", today.minusDays(windowDays - 1L))
+                .addValue("halfLife", halfLifeDays)
+                .addValue("wViews", wViews)
+                .addValue("wLikes", wLikes)
+                .addValue("wComments", wComments)
+                .addValue("size", size);
+        return jdbc.query("""
+                select a.user_id,
+                       sum((:wViews * a.views + :wLikes * a.likes + :wComments * a.comments)
+                           * power(0.5, (cast(:today as date) - a.activity_date) / cast(:halfLife as double precision))) as score
+                from user_activity_daily a
+                join users u on u.id = a.user_id and u.is_deleted = false
+                where a.activity_date >= :from
+                group by a.user_id
+                having sum(:wViews * a.views + :wLikes * a.likes + :wComments * a.comments) > 0
+                order by score desc, a.user_id
+                limit :size
+                """, params, (rs, i) -> new ScoreRow(rs.getLong(1), rs.getDouble(2)));
+    }
+
+    /** 스냅샷 통째 교체 — 한 트랜잭션 안에서 호출 (읽는 쪽은 커밋 전까지 이전 스냅샷을 봄) */
+    public void replaceSnapshot(List<ScoreRow> ranked, Instant computedAt) {
+        jdbc.getJdbcTemplate().update("delete from hot_developer_snapshot");
+        if (ranked.isEmpty()) return;
+        Timestamp at = Timestamp.from(computedAt);
+        SqlParameterSource[] batch = new SqlParameterSource[ranked.size()];
+        for (int i = 0; i < ranked.size(); i++) {
+            batch[i] = new MapSqlParameterSource()
+                    .addValue("rank", i + 1)
+                    .addValue("userId", ranked.get(i).userId())
+                    .addValue("score", ranked.get(i).trendScore())
+                    .addValue("at", at);
+        }
+        jdbc.batchUpdate("""
+                insert into hot_developer_snapshot (rank_no, user_id, trend_score, computed_at)
+                values (:rank, :userId, :score, :at)
+                """, batch);
+    }
+
+    public List<ScoreRow> readSnapshot(int limit, int offset) {
+        return jdbc.query("""
+                select user_id, trend_score from hot_developer_snapshot
+                order by rank_no
+                limit :limit offset :offset
+                """, new MapSqlParameterSource().addValue("limit", limit).addValue("offset", offset),
+                (rs, i) -> new ScoreRow(rs.getLong(1), rs.getDouble(2)));
+    }
+
+    public boolean hasSnapshot() {
+        Boolean exists = jdbc.getJdbcTemplate().queryForObject(
+                "select exists (select 1 from hot_developer_snapshot)", Boolean.class);
+        return Boolean.TRUE.equals(exists);
+    }
+
+    /** 기간 밖 롤업 행 정리 */
+    public int pruneBefore(LocalDate cutoff) {
+        return jdbc.update("delete from user_activity_daily where activity_date < :cutoff",
+                new MapSqlParameterSource("cutoff", cutoff));
+    }
+}
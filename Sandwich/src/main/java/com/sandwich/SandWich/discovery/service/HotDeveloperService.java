@@ -2,24 +2,25 @@ package com.sandwich.SandWich.discovery.service;
 
 import com.sandwich.SandWich.discovery.dto.HotDeveloperDto;
 import com.sandwich.SandWich.discovery.repository.DiscoveryRepository;
+import com.sandwich.SandWich.discovery.repository.TrendRollupRepository;
+import com.sandwich.SandWich.discovery.support.TrendProperties;
 import com.sandwich.SandWich.project.repository.ProjectRepository;
 import com.sandwich.SandWich.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.CacheManager;
-import org.springframework.data.redis.core.RedisTemplate;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.time.Duration;
 import java.util.*;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class HotDeveloperService {
 
     private final DiscoveryRepository discoveryRepository;
+    private final TrendRollupRepository trendRollupRepository;
+    private final TrendProperties props;
     private final UserRepository userRepository;
     private final ProjectRepository projectRepository;
 
@@ -29,9 +30,9 @@ public class HotDeveloperService {
             key = "T(java.lang.String).format('%d:%d', #limit, #offset)"
     )
     public List<HotDeveloperDto> getHot(int limit, int offset) {
-        // ↓↓↓ 기존 로직 유지 (DB 조회 → DTO 조립)
-        var rows = discoveryRepository.findHotDevelopers(windowDays, wViews, wLikes, wComments, limit, offset);
-        if (rows.isEmpty()) return List.of();
+        // 순위 스냅샷(TrendRollupService 가 주기적으로 교체)에서 top-N → DTO 조립
+        List<? extends DiscoveryRepository.HotDeveloperRow> rows = loadRanked(limit, offset);
+        if (rows.isEmpty()) return new ArrayList<>(); // 캐시 값은 일반 컬렉션으로 (L2 코덱)
 
         Map<Long, Double> scoreByUser = rows.stream()
                 .collect(Collectors.toMap(
@@ -57,7 +58,7 @@ public class HotDeveloperService {
             String nickname = (u != null) ? u.getNickname() : "탈퇴한 사용자";
             String avatarUrl = (u != null) ? u.getAvatarUrl() : null;
             String position  = (u != null) ? u.getPosition()  : null;
-            var projs = projectsByUser.getOrDefault(r.getUserId(), List.of());
+            var projs = projectsByUser.getOrDefault(r.getUserId(), new ArrayList<>());
             result.add(new HotDeveloperDto(
                     r.getUserId(), nickname, position, avatarUrl,
                     Optional.ofNullable(r.getTrendScore()).orElse(0.0), projs));
@@ -65,16 +66,21 @@ public class HotDeveloperService {
         return result;
     }
 
-    // 🔹 캐시 전부 무효화 (관리자용)
+    private List<? extends DiscoveryRepository.HotDeveloperRow> loadRanked(int limit, int offset) {
+        try {
+            var snapshot = trendRollupRepository.readSnapshot(limit, offset);
+            if (!snapshot.isEmpty() || (offset > 0 && trendRollupRepository.hasSnapshot())) return snapshot;
+        } catch (Exception e) {
+            log.warn("[HotDeveloper] snapshot read failed, using live aggregate err={}", e.toString());
+        }
+        // 스냅샷이 아직 없으면(첫 기동/비 PostgreSQL) 기존 집계 쿼리
+        var w = props.getWeights();
+        return discoveryRepository.findHotDevelopers(props.getWindowDays(), w.getViews(), w.getLikes(), w.getComments(), limit, offset);
+    }
+
+    // 🔹 캐시 전부 무효화 (관리자용, 스냅샷 교체 시)
     @org.springframework.cache.annotation.CacheEvict(cacheNames = "hotDevelopers", allEntries = true)
     public void evictAll() {
         // no-op (어노테이션이 캐시 삭제 수행)
     }
-
-    // ---- 기존 필드들 중 수동 Redis 캐시 관련은 제거 ----
-    @Value("${app.discovery.trend.windowDays:14}") private int windowDays;
-    @Value("${app.discovery.trend.weights.views:0.5}")    private double wViews;
-    @Value("${app.discovery.trend.weights.likes:2.0}")    private double wLikes;
-    @Value("${app.discovery.trend.weights.comments:3.0}") private double wComments;
 }
-
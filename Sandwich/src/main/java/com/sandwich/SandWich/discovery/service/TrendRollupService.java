@@ -0,0 +1,246 @@
+package com.sandwich.SandWich.discovery.service;
+
+import com.sandwich.SandWich.discovery.repository.TrendRollupRepository;
+import com.sandwich.SandWich.discovery.support.TrendProperties;
+import com.sandwich.SandWich.notification.events.CommentCreatedEvent;
+import com.sandwich.SandWich.notification.events.LikeCreatedEvent;
+import com.sandwich.SandWich.project.event.ProjectViewedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 핫 개발자 트렌드 점수 — 원본 이벤트 테이블을 매번 다시 훑지 않도록
+ * 1) 조회/좋아요/댓글 이벤트를 (작성자, 날짜)별로 메모리에 모아 주기적으로 user_activity_daily 에 upsert
+ * 2) 주기적으로 롤업에서 감쇠 점수를 계산해 hot_developer_snapshot 을 교체하고 결과 캐시를 비움 (Redis 락으로 한 노드만)
+ * 3) 종료 시 새 이벤트는 받지 않고 남은 증가분을 한 번 더 upsert (배포마다 최대 flush 주기만큼 유실되지 않게)
+ * PostgreSQL 이 아니면 비활성 → HotDeveloperService 가 기존 집계 쿼리로 동작.
+ */
+@Slf4j
+@Service
+public class TrendRollupService {
+
+    private static final String LOCK_KEY = "trend:snapshot:lock";
+    private static final String NO_LOCK = ""; // Redis 장애로 락 없이 진행 — 풀 것도 없음
+
+    // 내 토큰일 때만 삭제 — 재계산이 lockTtl 보다 길어져 다른 노드가 다시 잡은 락을 지우지 않게
+    private static final RedisScript<Long> UNLOCK = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final TrendRollupRepository repo;
+    private final TrendProperties props;
+    private final HotDeveloperService hotDevelopers;
+    private final StringRedisTemplate redis;
+    private final DataSource dataSource;
+    private final TransactionTemplate tx;
+    private final Clock clock = Clock.systemDefaultZone();
+
+    private record Key(long userId, LocalDate date) {}
+
+    /** (작성자, 날짜) → [views, likes, comments], 증가/회수 모두 compute/remove 로 키 단위 원자적 */
+    private final Map<Key, long[]> pending = new ConcurrentHashMap<>();
+
+    private volatile boolean available = false;
+
+    private final Counter increments;
+    private final Counter flushFailures;
+    private final Timer snapshotTimer;
+
+    public TrendRollupService(TrendRollupRepository repo,
+                              TrendProperties props,
+                              HotDeveloperService hotDevelopers,
+                              StringRedisTemplate redis,
+                              DataSource dataSource,
+                              PlatformTransactionManager txManager,
+                              MeterRegistry registry) {
+        this.repo = repo;
+        this.props = props;
+        this.hotDevelopers = hotDevelopers;
+        this.redis = redis;
+        this.dataSource = dataSource;
+        this.tx = new TransactionTemplate(txManager);
+        this.increments    = Counter.builder("trend_rollup_increments_total").description("Activity events added to the daily rollup").register(registry);
+        this.flushFailures = Counter.builder("trend_rollup_flush_failures_total").description("Rollup upsert failures").register(registry);
+        this.snapshotTimer = Timer.builder("trend_snapshot_seconds").description("Hot developer snapshot recompute time").register(registry);
+        Gauge.builder("trend_rollup_pending", pending, Map::size).description("Pending (user, day) rollup rows").register(registry);
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    // ───── 이벤트 수집 ─────
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProjectViewed(ProjectViewedEvent ev) {
+        add(ev.ownerId(), 0);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLikeCreated(LikeCreatedEvent ev) {
+        if ("PROJECT".equals(ev.getResourceType())) add(ev.getTargetUserId(), 1);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommentCreated(CommentCreatedEvent ev) {
+        if ("PROJECT".equals(ev.getResourceType())) add(ev.getTargetUserId(), 2);
+    }
+
+    private void add(Long ownerId, int slot) {
+        if (!available || ownerId == null) return;
+        pending.compute(new Key(ownerId, LocalDate.now(clock)), (k, v) -> {
+            long[] c = v != null ? v : new long[3];
+            c[slot]++;
+            return c;
+        });
+        increments.increment();
+    }
+
+    // ───── 기동 / 주기 작업 ─────
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (!props.isRollupEnabled()) return;
+        try (Connection c = dataSource.getConnection()) {
+            String product = c.getMetaData().getDatabaseProductName();
+            if (!"PostgreSQL".equalsIgnoreCase(product)) {
+                log.info("[TrendRollup] {} detected, using live aggregate query", product);
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("[TrendRollup] db check failed err={}", e.toString());
+            return;
+        }
+        available = true;
+        try {
+            if (props.isBackfillOnStartup() && repo.isRollupEmpty()) {
+                int rows = repo.backfill(props.getWindowDays());
+                log.info("[TrendRollup] backfilled {} daily rows", rows);
+            }
+            recomputeSnapshot();
+        } catch (Exception e) {
+            log.warn("[TrendRollup] initial snapshot failed err={}", e.toString());
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        if (!available) return;
+        available = false; // 이후 이벤트는 버림
+        drain();
+        if (!pending.isEmpty()) {
+            log.warn("[TrendRollup] shutdown flush failed, dropping {} pending rows", pending.size());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.discovery.trend.flush-interval-ms:30000}")
+    public void flush() {
+        if (!available) return;
+        drain();
+    }
+
+    private void drain() {
+        if (pending.isEmpty()) return;
+        List<TrendRollupRepository.Increment> batch = new ArrayList<>(pending.size());
+        for (Key k : List.copyOf(pending.keySet())) {
+            long[] c = pending.remove(k);
+            if (c != null) batch.add(new TrendRollupRepository.Increment(k.userId(), k.date(), c[0], c[1], c[2]));
+        }
+        try {
+            repo.upsert(batch);
+        } catch (Exception e) {
+            flushFailures.increment();
+            log.warn("[TrendRollup] upsert failed, re-queueing {} rows err={}", batch.size(), e.toString());
+            for (var i : batch) {
+                pending.merge(new Key(i.userId(), i.date()), new long[]{i.views(), i.likes(), i.comments()},
+                        (a, b) -> new long[]{a[0] + b[0], a[1] + b[1], a[2] + b[2]});
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.discovery.trend.snapshot-interval-ms:600000}",
+               initialDelayString = "${app.discovery.trend.snapshot-interval-ms:600000}")
+    public void refreshSnapshot() {
+        if (!available) return;
+        try {
+            recomputeSnapshot();
+        } catch (Exception e) {
+            log.warn("[TrendRollup] snapshot failed err={}", e.toString());
+        }
+    }
+
+    private void recomputeSnapshot() {
+        flush(); // 방금 쌓인 활동까지 반영
+        String lock = tryLock();
+        if (lock == null) {
+            log.debug("[TrendRollup] snapshot skipped, another node holds the lock");
+            return;
+        }
+        try {
+            snapshotTimer.record(() -> {
+                LocalDate today = LocalDate.now(clock);
+                var w = props.getWeights();
+                var ranked = repo.computeScores(today, props.getWindowDays(), Math.max(0.1, props.getHalfLifeDays()),
+                        w.getViews(), w.getLikes(), w.getComments(), Math.max(1, props.getSnapshotSize()));
+                tx.executeWithoutResult(s -> {
+                    repo.replaceSnapshot(ranked, Instant.now(clock));
+                    repo.pruneBefore(today.minusDays(props.getWindowDays()));
+                });
+                log.info("[TrendRollup] snapshot refreshed ranked={}", ranked.size());
+            });
+            hotDevelopers.evictAll(); // 스냅샷이 바뀌었으니 조립 결과 캐시도 갱신 (무효화는 다른 노드로 전파됨)
+        } finally {
+            unlock(lock);
+        }
+    }
+
+    /** 잡았으면 소유 토큰, 다른 노드가 잡고 있으면 null */
+    private String tryLock() {
+        String token = UUID.randomUUID().toString();
+        try {
+            return Boolean.TRUE.equals(redis.opsForValue()
+                    .setIfAbsent(LOCK_KEY, token, Duration.ofMillis(props.getSnapshotLockTtlMs()))) ? token : null;
+        } catch (Exception e) {
+            return NO_LOCK; // Redis 장애면 각 노드가 알아서 재계산
+        }
+    }
+
+    private void unlock(String token) {
+        if (token.isEmpty()) return;
+        try {
+            redis.execute(UNLOCK, List.of(LOCK_KEY), token);
+        } catch (Exception ignore) {
+            // TTL 로 풀림
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.sandwich.SandWich.discovery.support;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter @Setter
+@Component
+@ConfigurationProperties(prefix = "app.discovery.trend")
+public class TrendProperties {
+    /** 점수 계산에 포함할 기간(일) */
+    private int windowDays = 14;
+
+    /** 감쇠 반감기(일) — 이만큼 지난 활동은 점수가 절반 */
+    private double halfLifeDays = 7;
+
+    private Weights weights = new Weights();
+
+    /** 롤업/스냅샷 사용 여부 (PostgreSQL 에서만 동작, 아니면 기존 집계 쿼리) */
+    private boolean rollupEnabled = true;
+
+    /** 메모리에 모은 증분을 DB 에 upsert 하는 주기(ms) */
+    private long flushIntervalMs = 30_000L;
+
+    /** 순위 스냅샷 재계산 주기(ms) */
+    private long snapshotIntervalMs = 10 * 60 * 1000L;
+
+    /** 스냅샷 재계산 락 TTL(ms) — 한 번에 한 노드만 교체하도록 */
+    private long snapshotLockTtlMs = 5 * 60 * 1000L;
+
+    /** 스냅샷에 보관할 최대 순위 수 */
+    private int snapshotSize = 500;
+
+    /** 롤업 테이블이 비어 있으면 기동 시 원본 테이블에서 한 번 채움 */
+    private boolean backfillOnStartup = true;
+
+    @Getter @Setter
+    public static class Weights {
+        private double views = 0.5;
+        private double likes = 2.0;
+        private double comments = 3.0;
+    }
+}
@@ -1,107 +1,55 @@
 package com.sandwich.SandWich.internal.ai;
 
-import lombok.RequiredArgsConstructor;
+import com.sandwich.SandWich.common.singleflight.ClusterSingleFlight;
+import com.sandwich.SandWich.common.singleflight.SingleFlights;
+import com.sandwich.SandWich.internal.http.InternalHttpClient;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Mono;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class AiRecoClient {
 
-    private final AiApiProps props;
+    private final InternalHttpClient http; // 공유 풀 + 타임아웃/재시도/서킷 (internal.http.InternalHttpConfig)
+    private final ClusterSingleFlight topWeekFlight; // 스냅샷 만료 시 동시 갱신이 upstream 으로 몰리지 않도록
 
-    private WebClient client() {
-        boolean apiKeyPresent = props != null && props.key() != null && !props.key().isBlank();
-        String base = (props != null && props.base() != null && !props.base().isBlank())
-                ? props.base()
-                : "https://api.dnutzs.org";
-
-        log.debug("[AiRecoClient] building WebClient. baseUrl={}, apiKeyPresent={}, apiKeyLength={}",
-                base, apiKeyPresent,
-                (props != null && props.key() != null) ? props.key().length() : 0);
-
-        WebClient.Builder builder = WebClient.builder()
-                .baseUrl(base)
-                .defaultHeader(HttpHeaders.CONTENT_TYPE, "application/json");
-
-        if (apiKeyPresent) {
-            builder.defaultHeader("X-AI-API-Key", props.key());
-        }
-
-        return builder.build();
+    public AiRecoClient(InternalHttpClient http, SingleFlights flights) {
+        this.http = http;
+        this.topWeekFlight = flights.cluster("ai-reco-top-week");
     }
 
-    // === 공통 helper: GET + 강한 로그 ===
-    private <T> T getWithLog(String pathDescription,
-                             String uriString,
-                             Class<T> bodyType) {
-
-        WebClient c = client(); // 매번 새로 만들지만, 지금 구조 유지
-
-        log.debug("[AiRecoClient] GET {} -> {}", pathDescription, uriString);
-
-        try {
-            return c.get()
-                    .uri(uriString)
-                    .exchangeToMono(res -> {
-                        var status = res.statusCode();  // HttpStatusCode
-                        log.debug("[AiRecoClient] response status={} for {}", status, pathDescription);
-
-                        if (status.is2xxSuccessful()) {
-                            return res.bodyToMono(bodyType)
-                                    .doOnNext(body -> log.info(
-                                            "[AiRecoClient] 2xx OK. path={}, status={}, bodyClass={}",
-                                            pathDescription, status, bodyType.getSimpleName()
-                                    ));
-                        } else {
-                            return res.bodyToMono(String.class)
-                                    .defaultIfEmpty("")
-                                    .flatMap(body -> {
-                                        log.warn("[AiRecoClient] NON-2xx. path={}, status={}, bodySnippet={}",
-                                                pathDescription, status, truncate(body));
-                                        return res.createException().flatMap(Mono::error);
-                                    });
-                        }
-                    })
-                    .doOnError(ex -> log.error(
-                            "[AiRecoClient] exception while calling {} uri={}",
-                            pathDescription, uriString, ex))
-                    .block();
-        } catch (Exception e) {
-            log.error("[AiRecoClient] FAILED call. path={}, uri={}", pathDescription, uriString, e);
-            throw e;
-        }
+    // === 공통 helper: GET + 로그 ===
+    private <T> T getWithLog(String endpoint, String uriTemplate, Class<T> bodyType, Object... uriVars) {
+        log.debug("[AiRecoClient] GET {} -> {}", endpoint, uriTemplate);
+        T body = http.get(endpoint, uriTemplate, bodyType, uriVars);
+        log.info("[AiRecoClient] 2xx OK. endpoint={}, bodyClass={}", endpoint, bodyType.getSimpleName());
+        return body;
     }
 
 
     // 최신 월간
     public MonthlyResp getLatestMonthly() {
-        return getWithLog("getLatestMonthly", "/api/reco/monthly", MonthlyResp.class);
+        return getWithLog("reco-monthly-latest", "/api/reco/monthly", MonthlyResp.class);
     }
 
     // 특정 월간
     public MonthlyResp getMonthly(String ym) {
-        String uri = "/api/reco/topics/monthly?ym=" + ym;
-        return getWithLog("getMonthly(ym=" + ym + ")", uri, MonthlyResp.class);
+        return getWithLog("reco-monthly", "/api/reco/topics/monthly?ym={ym}", MonthlyResp.class, ym);
     }
 
     // 최신 주간
     public WeeklyResp getLatestWeekly() {
-        return getWithLog("getLatestWeekly", "/api/reco/weekly", WeeklyResp.class);
+        return getWithLog("reco-weekly-latest", "/api/reco/weekly", WeeklyResp.class);
     }
 
     // 특정 주간
     public WeeklyResp getWeekly(String week) {
-        String uri = "/api/reco/topics/weekly?week=" + week;
-        return getWithLog("getWeekly(week=" + week + ")", uri, WeeklyResp.class);
+        return getWithLog("reco-weekly", "/api/reco/topics/weekly?week={week}", WeeklyResp.class, week);
     }
 
     public TopWeekResp getTopWeekRanking() {
-        return getWithLog("getTopWeekRanking", "/api/reco/top/week", TopWeekResp.class);
+        return topWeekFlight.execute("latest", TopWeekResp.class,
+                () -> getWithLog("reco-top-week", "/api/reco/top/week", TopWeekResp.class));
     }
 
     // === 응답 DTO ===
@@ -135,13 +83,6 @@ public class AiRecoClient {
         ) {}
     }
 
-    private static String truncate(String body) {
-        if (body == null) return "";
-        int max = 500;
-        String trimmed = body.replaceAll("\\s+", " ").trim();
-        return (trimmed.length() <= max) ? trimmed : trimmed.substring(0, max) + "...(truncated)";
-    }
-
     public record WeeklyTopicListResp(
             String week,
             Integer total,
@@ -176,13 +117,11 @@ public class AiRecoClient {
 
     /** AI 서버: 주간 토픽 리스트 */
     public WeeklyTopicListResp getWeeklyTopicList() {
-        String uri = "/api/reco/topics/weekly/list";
-        return getWithLog("getWeeklyTopicList", uri, WeeklyTopicListResp.class);
+        return getWithLog("reco-weekly-list", "/api/reco/topics/weekly/list", WeeklyTopicListResp.class);
     }
 
     /** AI 서버: 월간 토픽 리스트 */
     public MonthlyTopicListResp getMonthlyTopicList() {
-        String uri = "/api/reco/topics/monthly/list";
-        return getWithLog("getMonthlyTopicList", uri, MonthlyTopicListResp.class);
+        return getWithLog("reco-monthly-list", "/api/reco/topics/monthly/list", MonthlyTopicListResp.class);
     }
 }
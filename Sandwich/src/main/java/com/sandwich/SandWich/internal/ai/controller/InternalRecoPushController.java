@@ -0,0 +1,27 @@
+package com.sandwich.SandWich.internal.ai.controller;
+
+import com.sandwich.SandWich.reco.service.RecoTopWeekService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/** AI 서버가 랭킹을 새로 계산했을 때 부르는 웹훅 (X-AI-API-Key → ServiceTokenFilter) */
+@RestController
+@RequestMapping("/internal/ai/reco")
+@RequiredArgsConstructor
+public class InternalRecoPushController {
+
+    private final RecoTopWeekService topWeek;
+
+    @PostMapping("/top-week/refresh")
+    @PreAuthorize("hasRole('SERVICE')")
+    public ResponseEntity<Map<String, Object>> refreshTopWeek() {
+        boolean scheduled = topWeek.refreshAsync(); // 이미 갱신 중이면 false
+        return ResponseEntity.accepted().body(Map.of("scheduled", scheduled));
+    }
+}
@@ -0,0 +1,106 @@
+package com.sandwich.SandWich.internal.http;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 호출 수 기반 슬라이딩 윈도우 서킷 브레이커.
+ * CLOSED: 최근 windowSize 번 실패율이 임계 이상이면 OPEN
+ * OPEN: openMillis 동안 즉시 거절, 지나면 HALF_OPEN
+ * HALF_OPEN: halfOpenCalls 개만 통과, 모두 성공하면 CLOSED / 하나라도 실패하면 다시 OPEN
+ */
+final class CircuitBreaker {
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openMillis;
+    private final int halfOpenCalls;
+    private final LongSupplier clock;
+
+    private final boolean[] window; // true = 실패
+    private int next;
+    private int recorded;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenInFlight;
+    private int halfOpenSucceeded;
+
+    CircuitBreaker(InternalHttpProperties.Breaker cfg, LongSupplier clock) {
+        this.windowSize = Math.max(1, cfg.getWindowSize());
+        this.minimumCalls = Math.max(1, Math.min(cfg.getMinimumCalls(), windowSize));
+        this.failureRateThreshold = cfg.getFailureRateThreshold();
+        this.openMillis = cfg.getOpenDuration().toMillis();
+        this.halfOpenCalls = Math.max(1, cfg.getHalfOpenCalls());
+        this.clock = clock;
+        this.window = new boolean[windowSize];
+    }
+
+    /** 호출 허용 여부 — true 를 받았으면 반드시 onSuccess/onFailure 중 하나를 호출 */
+    synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (clock.getAsLong() - openedAt < openMillis) return false;
+            state = State.HALF_OPEN;
+            halfOpenInFlight = 0;
+            halfOpenSucceeded = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenInFlight + halfOpenSucceeded >= halfOpenCalls) return false;
+            halfOpenInFlight++;
+        }
+        return true;
+    }
+
+    synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            halfOpenInFlight = Math.max(0, halfOpenInFlight - 1);
+            if (++halfOpenSucceeded >= halfOpenCalls) close();
+            return;
+        }
+        record(false);
+    }
+
+    synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+        if (state == State.CLOSED && recorded >= minimumCalls
+                && failures * 100 >= failureRateThreshold * recorded) {
+            open();
+        }
+    }
+
+    synchronized State state() {
+        // 조회만으로 OPEN → HALF_OPEN 전이는 하지 않음 (tryAcquire 에서만)
+        return state;
+    }
+
+    private void record(boolean failed) {
+        if (recorded == windowSize) {
+            if (window[next]) failures--;
+        } else {
+            recorded++;
+        }
+        window[next] = failed;
+        if (failed) failures++;
+        next = (next + 1) % windowSize;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = clock.getAsLong();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        next = 0;
+        recorded = 0;
+        failures = 0;
+        java.util.Arrays.fill(window, false);
+    }
+}
@@ -0,0 +1,198 @@
+package com.sandwich.SandWich.internal.http;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 내부 서비스 하나(예: ai)에 대한 동기 GET 클라이언트.
+ * - WebClient 는 공유 커넥션 풀 위에서 한 번만 만들어 재사용
+ * - 시도마다 엔드포인트별 타임아웃, 타임아웃/연결 오류/5xx 는 지수 백오프 + 지터로 재시도
+ * - 엔드포인트별 bulkhead (동시 호출 상한, 넘으면 즉시 거절)
+ * - 클라이언트 단위 서킷 브레이커 (upstream 이 죽으면 모든 엔드포인트가 같이 영향받으므로)
+ * - internal_http_client_seconds{client,endpoint,outcome} 히스토그램
+ *
+ * 4xx 는 upstream 이 정상 응답한 것으로 보고 WebClientResponseException 을 그대로 던진다.
+ * 나머지 실패는 InternalHttpException 으로 감싼다.
+ */
+@Slf4j
+public class InternalHttpClient {
+
+    private final String name;
+    private final WebClient webClient;
+    private final InternalHttpProperties.Client cfg;
+    private final MeterRegistry registry;
+    private final CircuitBreaker breaker;
+    private final Map<String, Semaphore> bulkheads = new ConcurrentHashMap<>();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public InternalHttpClient(String name, WebClient webClient, InternalHttpProperties.Client cfg, MeterRegistry registry) {
+        this.name = name;
+        this.webClient = webClient;
+        this.cfg = cfg;
+        this.registry = registry;
+        this.breaker = new CircuitBreaker(cfg.getBreaker(), System::currentTimeMillis);
+        Gauge.builder("internal_http_client_circuit_state", breaker, b -> b.state().ordinal())
+                .description("0=closed, 1=open, 2=half_open")
+                .tag("client", name)
+                .register(registry);
+    }
+
+    /**
+     * GET 후 2xx 바디를 type 으로 변환해 반환 (바디 없으면 null).
+     * @param endpoint 메트릭/설정 키 (예: reco-top-week)
+     */
+    public <T> T get(String endpoint, String uriTemplate, Class<T> type, Object... uriVars) {
+        Duration timeout = timeout(endpoint);
+        int retries = retries(endpoint);
+
+        Semaphore bulkhead = bulkheads.computeIfAbsent(endpoint, e -> new Semaphore(maxConcurrent(e)));
+        if (!bulkhead.tryAcquire()) {
+            rejected(endpoint, "bulkhead_full");
+            throw new InternalHttpException(name, endpoint, "bulkhead_full", null);
+        }
+        try {
+            if (!breaker.tryAcquire()) {
+                rejected(endpoint, "circuit_open");
+                throw new InternalHttpException(name, endpoint, "circuit_open", null);
+            }
+
+            long start = System.nanoTime();
+            String outcome = "error";
+            try {
+                T body = webClient.get()
+                        .uri(uriTemplate, uriVars)
+                        .exchangeToMono(res -> {
+                            if (res.statusCode().is2xxSuccessful()) return res.bodyToMono(type);
+                            return res.bodyToMono(String.class)
+                                    .defaultIfEmpty("")
+                                    .flatMap(b -> {
+                                        log.warn("[InternalHttp] NON-2xx. client={}, endpoint={}, status={}, bodySnippet={}",
+                                                name, endpoint, res.statusCode(), truncate(b));
+                                        return res.createException().flatMap(Mono::error);
+                                    });
+                        })
+                        .timeout(timeout)
+                        .retryWhen(retrySpec(endpoint, retries))
+                        .block(deadline(timeout, retries));
+                breaker.onSuccess();
+                outcome = "success";
+                return body;
+            } catch (RuntimeException e) {
+                Throwable cause = unwrap(e);
+                if (cause instanceof WebClientResponseException wre && wre.getStatusCode().is4xxClientError()) {
+                    breaker.onSuccess();
+                    outcome = "client_error";
+                    throw wre;
+                }
+                breaker.onFailure();
+                outcome = reason(cause);
+                log.warn("[InternalHttp] call failed. client={}, endpoint={}, reason={}, err={}",
+                        name, endpoint, outcome, cause.toString());
+                throw new InternalHttpException(name, endpoint, outcome, cause);
+            } finally {
+                timer(endpoint, outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    public String name() { return name; }
+
+    CircuitBreaker.State circuitState() { return breaker.state(); }
+
+    // ───── 내부 ─────
+
+    private Retry retrySpec(String endpoint, int retries) {
+        return Retry.backoff(retries, cfg.getRetryBackoff())
+                .jitter(0.5)
+                .filter(InternalHttpClient::retryable)
+                .doBeforeRetry(s -> log.debug("[InternalHttp] retry #{} client={}, endpoint={}, err={}",
+                        s.totalRetries() + 1, name, endpoint, s.failure().toString()))
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+    }
+
+    private static boolean retryable(Throwable t) {
+        if (t instanceof TimeoutException || t instanceof WebClientRequestException) return true;
+        return t instanceof WebClientResponseException wre && wre.getStatusCode().is5xxServerError();
+    }
+
+    private static Throwable unwrap(RuntimeException e) {
+        Throwable t = Exceptions.unwrap(e);
+        // block(deadline) 초과 시 IllegalStateException("Timeout on blocking read ...")
+        if (t instanceof IllegalStateException && t.getMessage() != null && t.getMessage().startsWith("Timeout on blocking read")) {
+            return new TimeoutException(t.getMessage());
+        }
+        return t;
+    }
+
+    private static String reason(Throwable t) {
+        if (t instanceof TimeoutException) return "timeout";
+        if (t instanceof WebClientRequestException) return "connect";
+        if (t instanceof WebClientResponseException) return "upstream_5xx";
+        return "error";
+    }
+
+    /** 재시도까지 포함한 호출 전체 상한 — 타임아웃 합 + 최대 백오프 + 여유 1초 */
+    private Duration deadline(Duration timeout, int retries) {
+        long backoff = cfg.getRetryBackoff().toMillis() * ((1L << retries) - 1) * 2;
+        return timeout.multipliedBy(retries + 1L).plusMillis(backoff).plusSeconds(1);
+    }
+
+    private Duration timeout(String endpoint) {
+        InternalHttpProperties.Endpoint ep = cfg.getEndpoints().get(endpoint);
+        return ep != null && ep.getTimeout() != null ? ep.getTimeout() : cfg.getTimeout();
+    }
+
+    private int retries(String endpoint) {
+        InternalHttpProperties.Endpoint ep = cfg.getEndpoints().get(endpoint);
+        return Math.max(0, ep != null && ep.getRetries() != null ? ep.getRetries() : cfg.getRetries());
+    }
+
+    private int maxConcurrent(String endpoint) {
+        InternalHttpProperties.Endpoint ep = cfg.getEndpoints().get(endpoint);
+        return Math.max(1, ep != null && ep.getMaxConcurrent() != null ? ep.getMaxConcurrent() : cfg.getMaxConcurrent());
+    }
+
+    private Timer timer(String endpoint, String outcome) {
+        return timers.computeIfAbsent(endpoint + '|' + outcome, k -> Timer.builder("internal_http_client_seconds")
+                .description("Internal service call latency (including retries)")
+                .tag("client", name)
+                .tag("endpoint", endpoint)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry));
+    }
+
+    private void rejected(String endpoint, String reason) {
+        Counter.builder("internal_http_client_rejected_total")
+                .tag("client", name)
+                .tag("endpoint", endpoint)
+                .tag("reason", reason)
+                .register(registry)
+                .increment();
+    }
+
+    private static String truncate(String body) {
+        if (body == null) return "";
+        int max = 500;
+        String trimmed = body.replaceAll("\\s+", " ").trim();
+        return (trimmed.length() <= max) ? trimmed : trimmed.substring(0, max) + "...(truncated)";
+    }
+}
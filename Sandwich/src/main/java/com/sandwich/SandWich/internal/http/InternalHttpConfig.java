@@ -0,0 +1,67 @@
+package com.sandwich.SandWich.internal.http;
+
+import com.sandwich.SandWich.internal.ai.AiApiProps;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * 내부 서비스 호출용 공유 Reactor Netty 커넥션 풀 + 서비스별 InternalHttpClient.
+ * 호출마다 WebClient/커넥션을 새로 만들지 않도록 풀과 클라이언트는 여기서 한 번만 만든다.
+ */
+@Slf4j
+@Configuration
+public class InternalHttpConfig {
+
+    private static final String AI_DEFAULT_BASE = "https://api.dnutzs.org";
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider internalHttpConnectionProvider(InternalHttpProperties props) {
+        InternalHttpProperties.Pool pool = props.getPool();
+        return ConnectionProvider.builder("internal-http")
+                .maxConnections(pool.getMaxConnections())
+                .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .maxLifeTime(pool.getMaxLifeTime())
+                .evictInBackground(pool.getMaxIdleTime())
+                .metrics(true)
+                .build();
+    }
+
+    // ClientHttpConnector 타입으로 노출하면 Boot 가 모든 WebClient.Builder 에 적용하므로 Netty HttpClient 로만 노출
+    @Bean
+    public HttpClient internalNettyHttpClient(ConnectionProvider internalHttpConnectionProvider,
+                                              InternalHttpProperties props) {
+        return HttpClient.create(internalHttpConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) props.getConnectTimeout().toMillis())
+                .compress(true);
+    }
+
+    @Bean
+    public InternalHttpClient aiHttpClient(ObjectProvider<AiApiProps> aiProps,
+                                           ObjectProvider<WebClient.Builder> builderProvider,
+                                           HttpClient internalNettyHttpClient,
+                                           InternalHttpProperties props,
+                                           MeterRegistry registry) {
+        AiApiProps ai = aiProps.getIfAvailable();
+        String base = (ai != null && ai.base() != null && !ai.base().isBlank()) ? ai.base() : AI_DEFAULT_BASE;
+        boolean apiKeyPresent = ai != null && ai.key() != null && !ai.key().isBlank();
+
+        WebClient.Builder builder = builderProvider.getIfAvailable(WebClient::builder)
+                .clientConnector(new ReactorClientHttpConnector(internalNettyHttpClient))
+                .baseUrl(base)
+                .defaultHeader(HttpHeaders.CONTENT_TYPE, "application/json");
+        if (apiKeyPresent) builder.defaultHeader("X-AI-API-Key", ai.key());
+
+        log.info("[InternalHttp] ai client initialized. baseUrl={}, apiKeyPresent={}", base, apiKeyPresent);
+        return new InternalHttpClient("ai", builder.build(), props.client("ai"), registry);
+    }
+}
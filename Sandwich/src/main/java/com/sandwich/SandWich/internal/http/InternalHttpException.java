@@ -0,0 +1,19 @@
+package com.sandwich.SandWich.internal.http;
+
+import lombok.Getter;
+
+/** 내부 서비스 호출 실패 (타임아웃, 연결 오류, 5xx, 서킷 open, bulkhead 초과) — 4xx 는 WebClientResponseException 그대로 */
+@Getter
+public class InternalHttpException extends RuntimeException {
+
+    private final String client;
+    private final String endpoint;
+    private final String reason; // timeout | connect | upstream_5xx | circuit_open | bulkhead_full | error
+
+    public InternalHttpException(String client, String endpoint, String reason, Throwable cause) {
+        super("[" + client + "/" + endpoint + "] " + reason + (cause != null ? ": " + cause.getMessage() : ""), cause);
+        this.client = client;
+        this.endpoint = endpoint;
+        this.reason = reason;
+    }
+}
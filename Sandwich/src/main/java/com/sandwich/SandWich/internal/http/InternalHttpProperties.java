@@ -0,0 +1,81 @@
+package com.sandwich.SandWich.internal.http;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 내부 서비스(AI 등) 호출 공통 설정 (app.internal-http).
+ * 커넥션 풀은 모든 클라이언트가 공유, 타임아웃/재시도/동시성/서킷은 클라이언트·엔드포인트별.
+ * 예) app.internal-http.clients.ai.endpoints.judge-leaderboard.timeout=5s
+ */
+@Getter @Setter
+@Component
+@ConfigurationProperties(prefix = "app.internal-http")
+public class InternalHttpProperties {
+
+    private Pool pool = new Pool();
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    private Map<String, Client> clients = new HashMap<>(Map.of("ai", aiDefaults()));
+
+    public Client client(String name) {
+        return clients.getOrDefault(name, new Client());
+    }
+
+    @Getter @Setter
+    public static class Pool {
+        private int maxConnections = 100;
+        /** 풀이 꽉 찼을 때 커넥션을 기다리는 최대 시간 */
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(2);
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+    }
+
+    @Getter @Setter
+    public static class Client {
+        /** 시도 1회당 응답 타임아웃 */
+        private Duration timeout = Duration.ofSeconds(3);
+        /** GET 재시도 횟수 (타임아웃/연결 오류/5xx 만, 지수 백오프 + 지터) */
+        private int retries = 1;
+        private Duration retryBackoff = Duration.ofMillis(200);
+        /** 엔드포인트별 동시 호출 상한 (bulkhead) — 넘으면 기다리지 않고 바로 거절 */
+        private int maxConcurrent = 16;
+        private Breaker breaker = new Breaker();
+        private Map<String, Endpoint> endpoints = new HashMap<>();
+    }
+
+    /** 엔드포인트별 덮어쓰기 (null 이면 클라이언트 값) */
+    @Getter @Setter
+    public static class Endpoint {
+        private Duration timeout;
+        private Integer retries;
+        private Integer maxConcurrent;
+    }
+
+    @Getter @Setter
+    public static class Breaker {
+        /** 최근 windowSize 번 중 실패율이 이 % 이상이면 open */
+        private int failureRateThreshold = 50;
+        private int windowSize = 20;
+        /** 판단에 필요한 최소 호출 수 */
+        private int minimumCalls = 10;
+        /** open 유지 시간 — 지나면 halfOpenCalls 개만 시험 호출 */
+        private Duration openDuration = Duration.ofSeconds(30);
+        private int halfOpenCalls = 3;
+    }
+
+    private static Client aiDefaults() {
+        Client c = new Client();
+        Endpoint judge = new Endpoint();
+        judge.setTimeout(Duration.ofSeconds(5)); // 채점 결과 집계는 조금 더 느림
+        c.getEndpoints().put("judge-leaderboard", judge);
+        c.getEndpoints().put("judge-result", judge);
+        return c;
+    }
+}
@@ -21,6 +21,9 @@ public class FileSecurityProperties {
 
     private Local local = new Local();
     private S3 s3 = new S3();
+    private Cache cache = new Cache();
+    private Download download = new Download();
+    private Presign presign = new Presign();
 
     public Set<String> extSet() {
         return Stream.of(allowedExtensions.split(","))
@@ -36,5 +39,26 @@ public class FileSecurityProperties {
         private String bucket;
         private String keyPrefix = "attachments/";
         private String region;
+        /** 스트리밍 업로드 시 멀티파트 파트 크기(MB, 5 ~ 2047) — 업로드당 힙 사용 상한 */
+        private int multipartPartSizeMb = 8;
     }
-}
\ No newline at end of file
+    /** S3 앞단 로컬 디스크 캐시 (storage=s3 일 때만) */
+    @Getter @Setter public static class Cache {
+        private boolean enabled = true;
+        private String dir = System.getProperty("java.io.tmpdir") + "/sandwich-storage-cache";
+        private int maxSizeMb = 512;
+    }
+    /** 첨부 다운로드 응답 방식 */
+    @Getter @Setter public static class Download {
+        /** S3: redirect = presigned URL 로 302, proxy = Range 그대로 S3 범위 GET 으로 중계 */
+        private String s3Mode = "redirect";
+        /** 브라우저 캐시 (private, max-age) — ETag 재검증과 함께 사용 */
+        private int maxAgeSeconds = 3600;
+    }
+    /** presigned URL 캐시 — 만료 safetyMargin 전까지 같은 URL 재사용 */
+    @Getter @Setter public static class Presign {
+        private int ttlSeconds = 900;
+        private int safetyMarginSeconds = 120;
+        private int maxEntries = 20_000;
+    }
+}
@@ -0,0 +1,29 @@
+package com.sandwich.SandWich.message.attach.config;
+
+import com.sandwich.SandWich.message.attach.storage.CachingStorageService;
+import com.sandwich.SandWich.message.attach.storage.S3StorageService;
+import com.sandwich.SandWich.message.attach.storage.StorageService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.nio.file.Path;
+
+/** storage=s3 일 때 S3StorageService 를 디스크 캐시로 감싸 기본 StorageService 로 노출 */
+@Configuration
+@ConditionalOnProperty(name = "app.files.storage", havingValue = "s3")
+public class StorageCacheConfig {
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "app.files.cache.enabled", havingValue = "true", matchIfMissing = true)
+    public StorageService cachingStorageService(S3StorageService s3StorageService,
+                                                FileSecurityProperties props,
+                                                MeterRegistry registry) {
+        var c = props.getCache();
+        return new CachingStorageService(s3StorageService, Path.of(c.getDir()),
+                c.getMaxSizeMb() * 1024L * 1024L, registry);
+    }
+}
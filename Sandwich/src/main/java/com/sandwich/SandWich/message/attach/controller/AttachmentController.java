@@ -1,28 +1,30 @@
 package com.sandwich.SandWich.message.attach.controller;
 
 import com.sandwich.SandWich.auth.security.UserDetailsImpl;
-import com.sandwich.SandWich.message.attach.config.FileSecurityProperties;
+import com.sandwich.SandWich.message.attach.derivative.ImageDerivative;
+import com.sandwich.SandWich.message.attach.derivative.ImageDerivativeService;
 import com.sandwich.SandWich.message.attach.domain.AttachmentMetadata;
+import com.sandwich.SandWich.message.attach.service.AttachmentDownloadWriter;
 import com.sandwich.SandWich.message.attach.service.AttachmentService;
-import com.sandwich.SandWich.message.attach.storage.StorageService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.Resource;
 import org.springframework.http.*;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.net.URI;
-import java.net.URL;
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequiredArgsConstructor
 public class AttachmentController {
 
     private final AttachmentService service;
-    private final StorageService storage;
-    private final FileSecurityProperties props;
+    private final AttachmentDownloadWriter downloadWriter;
+    private final ImageDerivativeService derivatives;
 
     @PostMapping(value = "/api/messages/{roomId}/attachments", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<?> upload(@PathVariable Long roomId,
@@ -32,23 +34,57 @@ public class AttachmentController {
         return ResponseEntity.status(HttpStatus.CREATED).body(messageDto);
     }
 
+    /** 목록 화면에서 여러 첨부의 presigned URL 을 한 번에 받기 (S3 전용, local 이면 빈 맵) */
+    @PostMapping("/api/files/presign")
+    public Map<String, String> presign(@RequestBody List<String> filenames,
+                                       @AuthenticationPrincipal UserDetailsImpl me) {
+        return service.presignAll(filenames, me.getId());
+    }
+
     @GetMapping("/api/files/{filename}")
-    public ResponseEntity<?> download(@PathVariable String filename,
-                                      @AuthenticationPrincipal UserDetailsImpl me) {
-        AttachmentMetadata md = service.getForDownload(filename, me.getUser().getId());
+    public void download(@PathVariable String filename,
+                         @AuthenticationPrincipal UserDetailsImpl me,
+                         @RequestParam(required = false) Integer w,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        AttachmentMetadata md = service.getForDownload(filename, me.getId());
 
-        if ("s3".equalsIgnoreCase(props.getStorage())) {
-            URL url = service.presignIfS3(md.getStorageKey());
-            return ResponseEntity.status(HttpStatus.FOUND).location(URI.create(url.toString())).build();
+        // w 지정 시 요청 크기에 맞는 파생본 우선 (목록/미리보기용), 없으면 원본
+        String key = md.getStorageKey();
+        String mime = md.getMimeType();
+        long size = md.getSize();
+        String etag = md.getSha256() != null ? md.getSha256() : Integer.toHexString(key.hashCode()) + "-" + size;
+        String downloadName = md.getOriginalFilename();
+        boolean weak = false;
+        if (w != null && w > 0) {
+            ImageDerivative d = derivatives.bestMatch(key, w);
+            if (d != null) {
+                // 파생본 바이트 해시는 따로 없음 — 원본 해시 + 파생본 키/크기로 만든 약한 ETag (바이트 단위 동일성은 보장 못 함)
+                key = d.getStorageKey();
+                mime = d.getContentType();
+                size = d.getBytes();
+                etag = etag + "-" + Integer.toHexString(key.hashCode()) + "-" + size;
+                weak = true;
+                downloadName = derivativeFilename(downloadName, mime);
+            }
         }
 
-        Resource resource = storage.loadAsResource(md.getStorageKey());
-        String cd = ContentDisposition.attachment()
-                .filename(md.getOriginalFilename(), StandardCharsets.UTF_8).build().toString();
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, cd)
-                .contentType(MediaType.parseMediaType(md.getMimeType()))
-                .contentLength(md.getSize())
-                .body(resource);
+        // Range / If-None-Match / sendfile 처리는 writer 에서
+        downloadWriter.write(new AttachmentDownloadWriter.Target(key, mime, size, etag, weak, downloadName),
+                request, response);
+    }
+
+    /** 파생본은 포맷이 바뀌므로(webp/jpg) 원본 이름의 확장자를 파생본 Content-Type 에 맞춰 바꾼다 */
+    static String derivativeFilename(String original, String contentType) {
+        String ext = switch (contentType == null ? "" : contentType) {
+            case "image/webp" -> "webp";
+            case "image/jpeg" -> "jpg";
+            case "image/png" -> "png";
+            default -> null;
+        };
+        String base = original == null || original.isBlank() ? "image" : original;
+        if (ext == null) return base;
+        int dot = base.lastIndexOf('.');
+        return (dot > 0 ? base.substring(0, dot) : base) + "." + ext;
     }
-}
\ No newline at end of file
+}
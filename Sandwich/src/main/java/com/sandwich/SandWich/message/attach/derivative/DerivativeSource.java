@@ -0,0 +1,7 @@
+package com.sandwich.SandWich.message.attach.derivative;
+
+/** 파생 이미지 원본의 출처 (저장 경로가 다름) */
+public enum DerivativeSource {
+    ATTACHMENT,     // 채팅 첨부 (StorageService)
+    PROJECT_IMAGE   // 프로젝트 이미지 (S3Uploader)
+}
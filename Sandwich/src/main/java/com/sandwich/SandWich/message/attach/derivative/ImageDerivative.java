@@ -0,0 +1,42 @@
+package com.sandwich.SandWich.message.attach.derivative;
+
+import com.sandwich.SandWich.common.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 원본 이미지(sourceKey)에서 만든 크기별 파생본.
+ * 첨부 메타데이터와 같은 층위의 메타데이터로, 첨부/프로젝트 이미지 모두 sourceKey 로 묶인다.
+ */
+@Entity
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+@Table(name = "image_derivative", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_image_derivative_source_size", columnNames = {"source_key", "size_px"})
+}, indexes = {
+        @Index(name = "idx_image_derivative_source", columnList = "source_key")
+})
+public class ImageDerivative extends BaseEntity {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private DerivativeSource source;
+
+    @Column(name = "source_key", nullable = false, length = 512)
+    private String sourceKey;
+
+    @Column(name = "size_px", nullable = false)
+    private int sizePx;               // 긴 변 목표 크기
+
+    private int width;
+    private int height;
+
+    @Column(nullable = false, length = 512)
+    private String storageKey;
+
+    @Column(nullable = false, length = 40)
+    private String contentType;
+
+    private long bytes;
+}
@@ -0,0 +1,48 @@
+package com.sandwich.SandWich.message.attach.derivative;
+
+import com.sandwich.SandWich.message.attach.domain.AttachmentMetadata;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 파생본이 없는 기존 이미지 첨부를 큐에 채워 넣는 백필 작업.
+ * 큐 여유분만큼만 넣고 멈추므로 실시간 업로드 처리를 밀어내지 않는다. 남은 것은 다음 실행에서 이어서 처리.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.files.derivatives.backfill.enabled", havingValue = "true")
+public class ImageDerivativeBackfillJob {
+
+    private final ImageDerivativeProperties props;
+    private final ImageDerivativeRepository repo;
+    private final ImageDerivativeService service;
+
+    @Scheduled(cron = "${app.files.derivatives.backfill.cron:0 30 4 * * *}")
+    public void run() {
+        int batch = Math.max(1, props.getBackfill().getBatchSize());
+        long afterId = 0L;
+        int enqueued = 0;
+
+        while (true) {
+            // 실시간 작업 몫으로 큐 절반은 남겨둔다
+            int room = service.remainingCapacity() - props.getQueueCapacity() / 2;
+            if (room <= 0) break;
+
+            List<AttachmentMetadata> page = repo.findAttachmentsWithoutDerivatives(afterId, PageRequest.of(0, Math.min(batch, room)));
+            if (page.isEmpty()) break;
+            for (AttachmentMetadata md : page) {
+                if (!service.enqueue(DerivativeSource.ATTACHMENT, md.getStorageKey())) break;
+                enqueued++;
+            }
+            afterId = page.get(page.size() - 1).getId();
+        }
+        log.info("[DERIVATIVE][BACKFILL] enqueued={}", enqueued);
+    }
+}
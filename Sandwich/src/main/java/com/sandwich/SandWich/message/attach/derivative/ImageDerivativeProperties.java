@@ -0,0 +1,37 @@
+package com.sandwich.SandWich.message.attach.derivative;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Getter @Setter
+@Component
+@ConfigurationProperties(prefix = "app.files.derivatives")
+public class ImageDerivativeProperties {
+    private boolean enabled = true;
+
+    /** 생성할 긴 변 크기들 (원본보다 큰 크기는 건너뜀) */
+    private List<Integer> sizes = List.of(64, 256, 1024);
+
+    /** JPEG 품질 (WebP writer 가 있으면 WebP 로 인코딩) */
+    private float quality = 0.82f;
+
+    // 작업 큐
+    private int queueCapacity = 500;
+    private int workers = 2;
+    private int maxAttempts = 3;
+    private long baseBackoffMillis = 1000;
+
+    // 기존 첨부 백필
+    private Backfill backfill = new Backfill();
+
+    @Getter @Setter
+    public static class Backfill {
+        private boolean enabled = false;
+        private String cron = "0 30 4 * * *";
+        private int batchSize = 100;
+    }
+}
@@ -0,0 +1,25 @@
+package com.sandwich.SandWich.message.attach.derivative;
+
+import com.sandwich.SandWich.message.attach.domain.AttachmentMetadata;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ImageDerivativeRepository extends JpaRepository<ImageDerivative, Long> {
+
+    List<ImageDerivative> findBySourceKeyOrderBySizePxAsc(String sourceKey);
+
+    boolean existsBySourceKeyAndSizePx(String sourceKey, int sizePx);
+
+    // 백필: 파생본이 하나도 없는 이미지 첨부 (id keyset)
+    @Query("""
+        select a from AttachmentMetadata a
+         where a.id > :afterId
+           and a.mimeType like 'image/%'
+           and not exists (select 1 from ImageDerivative d where d.sourceKey = a.storageKey)
+         order by a.id asc""")
+    List<AttachmentMetadata> findAttachmentsWithoutDerivatives(@Param("afterId") Long afterId, Pageable pageable);
+}
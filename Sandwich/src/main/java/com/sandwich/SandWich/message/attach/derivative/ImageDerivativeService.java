@@ -0,0 +1,240 @@
+package com.sandwich.SandWich.message.attach.derivative;
+
+import com.sandwich.SandWich.message.attach.event.AttachmentStoredEvent;
+import com.sandwich.SandWich.message.attach.image.ImageProcessor;
+import com.sandwich.SandWich.message.attach.storage.StorageService;
+import com.sandwich.SandWich.message.attach.util.ImageHeaderReader;
+import com.sandwich.SandWich.upload.util.S3Uploader;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 원본 저장 이후 크기별 파생 이미지(기본 64/256/1024)를 비동기로 만든다.
+ * - 제한된 큐(app.files.derivatives.queue-capacity) + 고정 워커. 큐가 차면 버리고 백필에 맡긴다.
+ * - 실패 시 지수 백오프로 max-attempts 까지 재시도
+ * - 원본은 한 번만 (서브샘플링) 디코딩하고, 큰 크기부터 차례로 줄여 다음 크기의 입력으로 쓴다
+ */
+@Slf4j
+@Service
+public class ImageDerivativeService {
+
+    private static final String WEBP = "webp";
+
+    private final ImageDerivativeProperties props;
+    private final ImageDerivativeRepository repo;
+    private final StorageService storage;
+    private final S3Uploader s3Uploader;
+    private final ImageProcessor imageProcessor;
+
+    private final Counter generated;
+    private final Counter failed;
+    private final Counter rejected;
+
+    private ThreadPoolExecutor executor;
+    private ScheduledExecutorService retryScheduler;
+
+    public record Job(DerivativeSource source, String sourceKey, int attempt) {}
+
+    public ImageDerivativeService(ImageDerivativeProperties props,
+                                  ImageDerivativeRepository repo,
+                                  StorageService storage,
+                                  S3Uploader s3Uploader,
+                                  ImageProcessor imageProcessor,
+                                  MeterRegistry registry) {
+        this.props = props;
+        this.repo = repo;
+        this.storage = storage;
+        this.s3Uploader = s3Uploader;
+        this.imageProcessor = imageProcessor;
+        this.generated = Counter.builder("image_derivative_generated_total").description("Derivatives generated").register(registry);
+        this.failed    = Counter.builder("image_derivative_failed_total").description("Derivative jobs given up").register(registry);
+        this.rejected  = Counter.builder("image_derivative_rejected_total").description("Derivative jobs rejected (queue full)").register(registry);
+        Gauge.builder("image_derivative_queue_size", this, s -> s.executor == null ? 0 : s.executor.getQueue().size())
+                .description("Pending derivative jobs").register(registry);
+    }
+
+    @PostConstruct
+    void start() {
+        int workers = Math.max(1, props.getWorkers());
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, props.getQueueCapacity())),
+                r -> {
+                    Thread t = new Thread(r, "img-derivative-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "img-derivative-retry");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        retryScheduler.shutdownNow();
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) executor.shutdownNow();
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ───── 진입점 ─────
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAttachmentStored(AttachmentStoredEvent ev) {
+        if (ev.mimeType() == null || !ev.mimeType().startsWith("image/")) return;
+        enqueue(DerivativeSource.ATTACHMENT, ev.storageKey());
+    }
+
+    /** 큐에 넣었으면 true, 비활성/가득 참이면 false */
+    public boolean enqueue(DerivativeSource source, String sourceKey) {
+        if (!props.isEnabled() || sourceKey == null) return false;
+        return submit(new Job(source, sourceKey, 1));
+    }
+
+    public int remainingCapacity() {
+        return executor.getQueue().remainingCapacity();
+    }
+
+    /**
+     * 요청 크기(px)에 가장 잘 맞는 파생본: 요청 이상 중 가장 작은 것, 없으면 가장 큰 것.
+     * 파생본이 아직 없으면 null (호출자는 원본 사용)
+     */
+    public ImageDerivative bestMatch(String sourceKey, int requestedPx) {
+        List<ImageDerivative> list = repo.findBySourceKeyOrderBySizePxAsc(sourceKey);
+        if (list.isEmpty()) return null;
+        for (ImageDerivative d : list) {
+            if (d.getSizePx() >= requestedPx) return d;
+        }
+        return list.get(list.size() - 1);
+    }
+
+    /** 프로젝트 이미지 URL → 요청 크기에 맞는 파생본 URL (없으면 원본 URL) */
+    public String bestProjectImageUrl(String imageUrl, int requestedPx) {
+        ImageDerivative d = bestMatch(S3Uploader.keyOf(imageUrl), requestedPx);
+        return d == null ? imageUrl : s3Uploader.urlOf(d.getStorageKey());
+    }
+
+    // ───── 작업 실행 ─────
+
+    private boolean submit(Job job) {
+        try {
+            executor.execute(() -> run(job));
+            return true;
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("[DERIVATIVE][REJECT] queue full source={} key={}", job.source(), job.sourceKey());
+            return false;
+        }
+    }
+
+    private void run(Job job) {
+        try {
+            generate(job.source(), job.sourceKey());
+        } catch (Exception e) {
+            if (job.attempt() >= props.getMaxAttempts()) {
+                failed.increment();
+                log.warn("[DERIVATIVE][GIVEUP] key={} attempts={} err={}", job.sourceKey(), job.attempt(), e.toString());
+                return;
+            }
+            long backoff = props.getBaseBackoffMillis() * (1L << (job.attempt() - 1));
+            long jitter = ThreadLocalRandom.current().nextLong(Math.max(1, backoff / 2));
+            log.info("[DERIVATIVE][RETRY] key={} attempt={} in {}ms err={}", job.sourceKey(), job.attempt(), backoff + jitter, e.toString());
+            try {
+                retryScheduler.schedule(() -> submit(new Job(job.source(), job.sourceKey(), job.attempt() + 1)),
+                        backoff + jitter, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException ignore) {
+                // 종료 중
+            }
+        }
+    }
+
+    void generate(DerivativeSource source, String sourceKey) throws Exception {
+        byte[] original = load(source, sourceKey);
+        if (original == null || original.length == 0) {
+            log.info("[DERIVATIVE][SKIP] source missing key={}", sourceKey);
+            return;
+        }
+        ImageHeaderReader.ImageInfo info = ImageHeaderReader.read(new ByteArrayInputStream(original));
+        if (info == null) return;
+        int originalMax = Math.max(info.width(), info.height());
+
+        List<Integer> sizes = props.getSizes().stream()
+                .filter(s -> s > 0 && s < originalMax)            // 확대는 하지 않음
+                .filter(s -> !repo.existsBySourceKeyAndSizePx(sourceKey, s))
+                .sorted(Comparator.reverseOrder())
+                .toList();
+        if (sizes.isEmpty()) return;
+
+        BufferedImage cur = imageProcessor.decode(new ByteArrayInputStream(original), sizes.get(0));
+        if (cur == null) return;
+
+        boolean webp = ImageProcessor.canWrite(WEBP);
+        String format = webp ? WEBP : "jpg";
+        String contentType = webp ? "image/webp" : "image/jpeg";
+
+        for (int size : sizes) {
+            cur = imageProcessor.scaleToFit(cur, size);   // 직전(더 큰) 결과를 입력으로 재사용
+            byte[] bytes = ImageProcessor.encode(cur, format, props.getQuality());
+            String key = derivedKey(sourceKey, size, webp ? "webp" : "jpg");
+            save(source, key, bytes, contentType);
+
+            repo.save(ImageDerivative.builder()
+                    .source(source)
+                    .sourceKey(sourceKey)
+                    .sizePx(size)
+                    .width(cur.getWidth())
+                    .height(cur.getHeight())
+                    .storageKey(key)
+                    .contentType(contentType)
+                    .bytes(bytes.length)
+                    .build());
+            generated.increment();
+        }
+        log.debug("[DERIVATIVE][OK] key={} sizes={}", sourceKey, sizes);
+    }
+
+    private byte[] load(DerivativeSource source, String key) {
+        return switch (source) {
+            case ATTACHMENT -> storage.load(key);
+            case PROJECT_IMAGE -> s3Uploader.download(key);
+        };
+    }
+
+    private void save(DerivativeSource source, String key, byte[] bytes, String contentType) {
+        switch (source) {
+            case ATTACHMENT -> storage.save(bytes, key, contentType);
+            case PROJECT_IMAGE -> s3Uploader.putBytes(key, bytes, contentType);
+        }
+    }
+
+    /** a/b/uuid.png + 256 → a/b/derived/uuid_256.jpg */
+    static String derivedKey(String sourceKey, int size, String ext) {
+        int slash = sourceKey.lastIndexOf('/');
+        String dir = slash >= 0 ? sourceKey.substring(0, slash + 1) : "";
+        String name = slash >= 0 ? sourceKey.substring(slash + 1) : sourceKey;
+        int dot = name.lastIndexOf('.');
+        String base = dot > 0 ? name.substring(0, dot) : name;
+        return dir + "derived/" + base + "_" + size + "." + ext;
+    }
+}
@@ -37,4 +37,7 @@ public class AttachmentMetadata {
     private String storageKey;
 
     private String thumbnailKey;
+
+    @Column(length = 64)
+    private String sha256;             // 저장 시 스트리밍으로 계산한 내용 해시
 }
\ No newline at end of file
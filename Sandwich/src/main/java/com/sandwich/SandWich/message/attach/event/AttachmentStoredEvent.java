@@ -0,0 +1,4 @@
+package com.sandwich.SandWich.message.attach.event;
+
+/** 첨부 원본 저장 + 메타데이터 커밋 이후 후처리(파생 이미지 등)용 이벤트 */
+public record AttachmentStoredEvent(Long attachmentId, String storageKey, String mimeType) {}
@@ -0,0 +1,153 @@
+package com.sandwich.SandWich.message.attach.image;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+/**
+ * 첨부 이미지 처리 단계.
+ * - 디코딩은 한 번만, 목표 크기의 2배 이상이 남도록 서브샘플링해서 읽는다(큰 원본을 통째로 펼치지 않음)
+ * - 축소는 getScaledInstance 대신 절반씩 줄여 나가는 점진적 bilinear 스케일러 사용
+ * - 디코딩/스케일 소요 시간은 Micrometer 타이머로 노출
+ */
+@Component
+public class ImageProcessor {
+
+    private final Timer decodeTimer;
+    private final Timer scaleTimer;
+
+    public ImageProcessor(MeterRegistry registry) {
+        this.decodeTimer = Timer.builder("attachment_image_decode_seconds")
+                .description("Attachment image decode latency").register(registry);
+        this.scaleTimer  = Timer.builder("attachment_image_scale_seconds")
+                .description("Attachment image scale latency").register(registry);
+    }
+
+    /** 서브샘플링 디코딩. 판별 불가면 null */
+    public BufferedImage decode(InputStream in, int targetMax) throws IOException {
+        long start = System.nanoTime();
+        try (ImageInputStream iis = ImageIO.createImageInputStream(in)) {
+            if (iis == null) return null;
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+            if (!readers.hasNext()) return null;
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, true);
+                int w = reader.getWidth(0), h = reader.getHeight(0);
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = subsamplingStep(Math.max(w, h), targetMax);
+                if (step > 1) param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        } finally {
+            decodeTimer.record(System.nanoTime() - start, java.util.concurrent.TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /** 긴 변이 max 이하가 되도록 축소 (확대는 하지 않음). 결과는 TYPE_INT_RGB */
+    public BufferedImage scaleToFit(BufferedImage src, int max) {
+        long start = System.nanoTime();
+        try {
+            int w = src.getWidth(), h = src.getHeight();
+            float ratio = Math.min(1f, (float) max / Math.max(w, h));
+            int tw = Math.max(1, Math.round(w * ratio));
+            int th = Math.max(1, Math.round(h * ratio));
+            return progressiveBilinear(src, tw, th);
+        } finally {
+            scaleTimer.record(System.nanoTime() - start, java.util.concurrent.TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /** decode → scale → JPEG. 이미지가 아니면 null */
+    public byte[] thumbnailJpeg(InputStream in, int max) throws IOException {
+        BufferedImage src = decode(in, max);
+        if (src == null) return null;
+        return encodeJpeg(scaleToFit(src, max), 0.85f);
+    }
+
+    public static byte[] encodeJpeg(BufferedImage img, float quality) throws IOException {
+        return encode(img, "jpg", quality);
+    }
+
+    /** 포맷별 ImageWriter 로 인코딩. 압축 품질을 지원하지 않는 writer 는 기본값 사용 */
+    public static byte[] encode(BufferedImage img, String formatName, float quality) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(formatName);
+        if (!writers.hasNext()) throw new IOException("no ImageWriter for " + formatName);
+        ImageWriter writer = writers.next();
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(bos)) {
+            writer.setOutput(ios);
+            ImageWriteParam p = writer.getDefaultWriteParam();
+            if (p.canWriteCompressed()) {
+                p.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                String[] types = p.getCompressionTypes();
+                if (types != null && types.length > 0 && p.getCompressionType() == null) {
+                    p.setCompressionType(types[0]);
+                }
+                p.setCompressionQuality(quality);
+            }
+            writer.write(null, new IIOImage(img, null, null), p);
+        } finally {
+            writer.dispose();
+        }
+        return bos.toByteArray();
+    }
+
+    /** 런타임에 WebP writer 플러그인이 있는지 (JDK 기본에는 없음) */
+    public static boolean canWrite(String formatName) {
+        return ImageIO.getImageWritersByFormatName(formatName).hasNext();
+    }
+
+    /** 디코딩 후에도 긴 변이 targetMax*2 이상 남는 최대 정수 스텝 */
+    static int subsamplingStep(int srcMax, int targetMax) {
+        if (targetMax <= 0) return 1;
+        return Math.max(1, srcMax / (targetMax * 2));
+    }
+
+    /**
+     * 한 번에 1/2 이하로 줄이지 않고 단계적으로 bilinear 축소 → 한 번에 크게 줄일 때의 앨리어싱 방지.
+     * 알파가 있으면 흰 배경에 합성한다(JPEG 출력용).
+     */
+    static BufferedImage progressiveBilinear(BufferedImage src, int tw, int th) {
+        BufferedImage cur = src;
+        int w = src.getWidth(), h = src.getHeight();
+        boolean first = true;
+        do {
+            w = Math.max(tw, w / 2);
+            h = Math.max(th, h / 2);
+            BufferedImage next = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_SPEED);
+                if (first) {
+                    g.setColor(Color.WHITE);
+                    g.fillRect(0, 0, w, h);
+                }
+                g.drawImage(cur, 0, 0, w, h, null);
+            } finally {
+                g.dispose();
+            }
+            cur = next;
+            first = false;
+        } while (w != tw || h != th);
+        return cur;
+    }
+}
@@ -3,8 +3,11 @@ package com.sandwich.SandWich.message.attach.repository;
 import com.sandwich.SandWich.message.attach.domain.AttachmentMetadata;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface AttachmentMetadataRepository extends JpaRepository<AttachmentMetadata, Long> {
     Optional<AttachmentMetadata> findByFilename(String filename);
+    List<AttachmentMetadata> findByFilenameIn(Collection<String> filenames);
 }
\ No newline at end of file
@@ -0,0 +1,153 @@
+package com.sandwich.SandWich.message.attach.service;
+
+import com.sandwich.SandWich.message.attach.config.FileSecurityProperties;
+import com.sandwich.SandWich.message.attach.storage.PresignedUrlCache;
+import com.sandwich.SandWich.message.attach.storage.StorageService;
+import com.sandwich.SandWich.message.attach.util.ByteRange;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 첨부 다운로드 응답을 직접 써 내려간다 (힙에 파일을 올리지 않음).
+ * - 강한 ETag(SHA-256) + If-None-Match → 304, If-Range 불일치면 전체 응답
+ * - 파생본처럼 바이트 해시가 없는 대상은 약한 ETag — 304 재검증만, If-Range 는 항상 전체 응답
+ * - 단일 Range → 206 / 범위 밖 → 416
+ * - 로컬: Tomcat sendfile 지원 시 커널 복사, 아니면 FileChannel.transferTo
+ * - S3: 기본은 presigned 302 (S3 가 Range 처리), proxy 모드면 범위 GET 결과를 그대로 중계
+ * - max-age 는 200/206/304 에만. 302 는 no-store (presigned URL 유효기간보다 오래 캐시되면 안 됨)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AttachmentDownloadWriter {
+
+    private static final String SENDFILE_SUPPORT  = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START    = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END      = "org.apache.tomcat.sendfile.end";
+
+    private final StorageService storage;
+    private final FileSecurityProperties props;
+    private final PresignedUrlCache presignCache;
+
+    /** 다운로드 대상 (원본 또는 파생본). weakEtag 면 W/"..." 로 내보냄 */
+    public record Target(String key, String mimeType, long size, String etag, boolean weakEtag, String filename) {}
+
+    public void write(Target t, HttpServletRequest req, HttpServletResponse res) throws IOException {
+        String etag = t.etag() == null ? null : (t.weakEtag() ? "W/" : "") + "\"" + t.etag() + "\"";
+        if (etag != null) res.setHeader(HttpHeaders.ETAG, etag);
+        String cacheControl = "private, max-age=" + props.getDownload().getMaxAgeSeconds();
+
+        if (etag != null && matches(req.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            res.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+            res.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        String disposition = ContentDisposition.attachment()
+                .filename(t.filename(), StandardCharsets.UTF_8).build().toString();
+
+        boolean s3 = "s3".equalsIgnoreCase(props.getStorage());
+        if (s3 && !"proxy".equalsIgnoreCase(props.getDownload().getS3Mode())) {
+            // 같은 파일이면 재서명 전까지 같은 URL → 브라우저 캐시 적중
+            res.setStatus(HttpServletResponse.SC_FOUND);
+            res.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+            res.setHeader(HttpHeaders.LOCATION, presignCache.get(t.key(), disposition).toString());
+            return;
+        }
+
+        ByteRange range = null;
+        String ifRange = req.getHeader(HttpHeaders.IF_RANGE);
+        // If-Range 는 강한 비교만 허용 (RFC 9110 13.1.5)
+        if (ifRange == null || (etag != null && !t.weakEtag() && ifRange.trim().equals(etag))) {
+            range = ByteRange.parse(req.getHeader(HttpHeaders.RANGE), t.size());
+        }
+        if (range == ByteRange.UNSATISFIABLE) {
+            res.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            res.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + t.size());
+            return;
+        }
+
+        long start = range == null ? 0 : range.start();
+        long end = range == null ? t.size() - 1 : range.end();
+        long length = end - start + 1;
+
+        res.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        res.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        res.setHeader(HttpHeaders.CONTENT_DISPOSITION, disposition);
+        res.setContentType(t.mimeType());
+        res.setContentLengthLong(length);
+        if (range != null) {
+            res.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            res.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + t.size());
+        }
+        if (length <= 0 || "HEAD".equalsIgnoreCase(req.getMethod())) return;
+
+        Path path = storage.localPath(t.key());
+        if (path != null) {
+            writeFile(path, start, length, req, res);
+            return;
+        }
+        try (InputStream in = storage.openRange(t.key(), start, end)) {
+            if (in == null) {
+                res.reset();
+                res.sendError(HttpServletResponse.SC_NOT_FOUND);
+                return;
+            }
+            in.transferTo(res.getOutputStream());
+        }
+    }
+
+    private void writeFile(Path path, long start, long length,
+                           HttpServletRequest req, HttpServletResponse res) throws IOException {
+        if (Boolean.TRUE.equals(req.getAttribute(SENDFILE_SUPPORT))) {
+            // 본문은 Tomcat 이 응답 완료 후 sendfile 로 직접 보냄
+            req.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+            req.setAttribute(SENDFILE_START, start);
+            req.setAttribute(SENDFILE_END, start + length);
+            return;
+        }
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+            OutputStream out = res.getOutputStream();
+            WritableByteChannel target = Channels.newChannel(out);
+            long pos = start, remaining = length;
+            while (remaining > 0) {
+                long n = ch.transferTo(pos, remaining, target);
+                if (n <= 0) break;
+                pos += n;
+                remaining -= n;
+            }
+            out.flush();
+        }
+    }
+
+    /** If-None-Match — 약한 비교 (W/ 접두어 무시) */
+    private static boolean matches(String header, String etag) {
+        if (header == null) return false;
+        String opaque = stripWeak(etag);
+        for (String tag : header.split(",")) {
+            String s = tag.trim();
+            if (s.equals("*") || stripWeak(s).equals(opaque)) return true;
+        }
+        return false;
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
@@ -2,38 +2,44 @@ package com.sandwich.SandWich.message.attach.service;
 import jakarta.annotation.PostConstruct;
 import com.sandwich.SandWich.message.attach.config.FileSecurityProperties;
 import com.sandwich.SandWich.message.attach.domain.AttachmentMetadata;
+import com.sandwich.SandWich.message.attach.event.AttachmentStoredEvent;
+import com.sandwich.SandWich.message.attach.image.ImageProcessor;
 import com.sandwich.SandWich.message.attach.repository.AttachmentMetadataRepository;
+import com.sandwich.SandWich.message.attach.storage.PresignedUrlCache;
 import com.sandwich.SandWich.message.attach.storage.StorageService;
+import com.sandwich.SandWich.message.attach.storage.StoredObject;
 import com.sandwich.SandWich.message.attach.util.AttachmentValidator;
 import com.sandwich.SandWich.message.repository.MessageRoomRepository;
 import com.sandwich.SandWich.message.service.MessageService;
 import com.sandwich.SandWich.user.domain.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.ContentDisposition;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
-import javax.imageio.ImageIO;
-import java.awt.*;
-import java.awt.image.BufferedImage;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
 import java.net.URL;
-import java.time.Duration;
-
-import java.util.UUID;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AttachmentService {
 
+    private static final int MAX_PRESIGN_BATCH = 200;
+
     private final FileSecurityProperties props;
     private final StorageService storage;
     private final AttachmentMetadataRepository repo;
     private final MessageRoomRepository roomRepo;
     private final MessageService messageService;
+    private final ImageProcessor imageProcessor;
+    private final ApplicationEventPublisher events;
+    private final PresignedUrlCache presignCache;
 
     @PostConstruct
     void logStorageImpl() {
@@ -63,44 +69,24 @@ public class AttachmentService {
                 ? props.getS3().getKeyPrefix()
                 : "") + "messages/" + roomId + "/" + filename;
 
-        // 1) 업로드 직전에 파일 바이트 한 번만 확보
-        byte[] fileBytes;
-        try {
-            fileBytes = file.getBytes();
-        } catch (Exception e) {
-            throw new RuntimeException("파일 읽기 실패", e);
-        }
-
-        // 2) 저장
-        try {
-            storage.save(fileBytes, key, mime);
+        // 1) 저장: multipart 스트림을 그대로 저장소로 흘려보냄 (해시/스니핑 동시 계산)
+        StoredObject stored;
+        try (InputStream in = file.getInputStream()) {
+            stored = storage.save(in, key, mime);
         } catch (Exception e) {
             throw new RuntimeException("파일 저장 실패", e);
         }
+        if (stored.sniffedContentType() != null && !stored.sniffedContentType().equals(mime)) {
+            log.warn("[Attach] content-type mismatch key={} declared={} sniffed={}",
+                    key, mime, stored.sniffedContentType());
+        }
 
         // 2) 썸네일 (이미지일 때)
         String thumbKey = null;
         if (mime.startsWith("image/")) {
-            try {
-                BufferedImage src = ImageIO.read(new ByteArrayInputStream(fileBytes));
-                if (src != null) {
-                    final int max = 256;
-                    int w = src.getWidth(), h = src.getHeight();
-                    float ratio = Math.min(1f, (float) max / Math.max(w, h));
-                    int tw = Math.max(1, Math.round(w * ratio));
-                    int th = Math.max(1, Math.round(h * ratio));
-
-                    Image scaled = src.getScaledInstance(tw, th, Image.SCALE_SMOOTH);
-                    BufferedImage thumb = new BufferedImage(tw, th, BufferedImage.TYPE_INT_RGB);
-                    Graphics2D g = thumb.createGraphics();
-                    g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
-                    g.drawImage(scaled, 0, 0, null);
-                    g.dispose();
-
-                    ByteArrayOutputStream bos = new ByteArrayOutputStream();
-                    ImageIO.write(thumb, "jpg", bos);
-                    byte[] thumbBytes = bos.toByteArray();
-
+            try (InputStream in = file.getInputStream()) {
+                byte[] thumbBytes = imageProcessor.thumbnailJpeg(in, 256);
+                if (thumbBytes != null) {
                     thumbKey = ("s3".equalsIgnoreCase(props.getStorage()) ? props.getS3().getKeyPrefix() : "")
                             + "thumbnails/messages/" + roomId + "/" + uuid + ".jpg";
 
@@ -116,13 +102,15 @@ public class AttachmentService {
                 .filename(filename)
                 .originalFilename(original)
                 .mimeType(mime)
-                .size(file.getSize())
+                .size(stored.size())
+                .sha256(stored.sha256())
                 .roomId(roomId)
                 .uploader(me)
                 .storageKey(key)
                 .thumbnailKey(thumbKey)
                 .build();
         repo.save(md);
+        events.publishEvent(new AttachmentStoredEvent(md.getId(), key, mime)); // 커밋 후 파생 이미지 생성
 
         String fileUrl = "/api/files/" + filename; // 보호 URL
         return messageService.createAttachmentMessage(roomId, me, fileUrl, original, mime, file.getSize());
@@ -138,8 +126,29 @@ public class AttachmentService {
 
     public URL presignIfS3(String storageKey) {
         if ("s3".equalsIgnoreCase(props.getStorage())) {
-            return storage.presignedGetUrl(storageKey, Duration.ofMinutes(2));
+            return presignCache.get(storageKey, null);
         }
         return null;
     }
+
+    /**
+     * 목록 응답용 일괄 presign: filename → URL.
+     * 요청자가 참여하지 않은 방의 파일, 존재하지 않는 파일은 조용히 제외. local 저장소면 빈 맵.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, String> presignAll(Collection<String> filenames, Long requesterId) {
+        if (!"s3".equalsIgnoreCase(props.getStorage()) || filenames == null || filenames.isEmpty()) return Map.of();
+
+        Map<Long, Boolean> member = new HashMap<>();
+        Map<String, String> out = new LinkedHashMap<>();
+        Set<String> wanted = new LinkedHashSet<>(filenames.stream().limit(MAX_PRESIGN_BATCH).toList());
+        for (AttachmentMetadata md : repo.findByFilenameIn(wanted)) {
+            if (!member.computeIfAbsent(md.getRoomId(), r -> roomRepo.isParticipant(r, requesterId))) continue;
+            String cd = ContentDisposition.attachment()
+                    .filename(md.getOriginalFilename(), StandardCharsets.UTF_8).build().toString();
+            URL url = presignCache.get(md.getStorageKey(), cd);
+            if (url != null) out.put(md.getFilename(), url.toString());
+        }
+        return out;
+    }
 }
\ No newline at end of file
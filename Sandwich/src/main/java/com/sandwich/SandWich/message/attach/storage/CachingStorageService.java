@@ -0,0 +1,250 @@
+package com.sandwich.SandWich.message.attach.storage;
+
+import com.sandwich.SandWich.common.singleflight.SingleFlight;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * S3 앞단의 로컬 디스크 캐시 (StorageService 데코레이터).
+ * - 크기 상한(maxBytes)을 넘으면 가장 오래 안 쓴 항목부터 삭제 (접근 순서 LRU)
+ * - 항목마다 SHA-256 을 기억해 두고 읽을 때 검증, 불일치면 버리고 원본에서 다시 받음
+ * - 같은 키의 동시 미스는 한 번만 원본을 읽고 결과를 공유 (single-flight)
+ * - 원본 읽기 중에 그 키가 저장/무효화되면 읽어 온 (옛) 내용은 캐시에 넣지 않음 (fill 티켓)
+ * - 파일은 설정 디렉터리 아래 전용 하위 디렉터리(entries/)에 sc- 접두어로만 만들고,
+ *   기동 시에는 그 파일들만 지운다 (인덱스는 메모리에만 있음). 설정 경로가 잘못/공유돼도 다른 파일은 건드리지 않음
+ */
+@Slf4j
+public class CachingStorageService implements StorageService {
+
+    static final String SUBDIR = "entries";
+    static final String FILE_PREFIX = "sc-";
+
+    private final StorageService delegate;
+    private final Path dir;
+    private final long maxBytes;
+
+    private final Object lock = new Object();
+    private final LinkedHashMap<String, Entry> index = new LinkedHashMap<>(256, 0.75f, true);
+    private long currentBytes = 0;
+    /** 원본 읽기 중인 키 → 티켓. 저장/무효화가 지우면 그 읽기 결과는 버려짐 (lock 으로 보호) */
+    private final Map<String, Object> fills = new HashMap<>();
+
+    private final SingleFlight loads;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+    private final Counter checksumFailures;
+
+    private record Entry(Path path, long size, byte[] sha256) {}
+
+    public CachingStorageService(StorageService delegate, Path dir, long maxBytes, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.dir = dir.resolve(SUBDIR);
+        this.maxBytes = maxBytes;
+        this.loads = new SingleFlight("storage-load", registry);
+        resetDir();
+
+        this.hits             = Counter.builder("storage_cache_hits_total").description("Storage disk cache hits").register(registry);
+        this.misses           = Counter.builder("storage_cache_misses_total").description("Storage disk cache misses").register(registry);
+        this.evictions        = Counter.builder("storage_cache_evictions_total").description("Storage disk cache evictions").register(registry);
+        this.checksumFailures = Counter.builder("storage_cache_checksum_failures_total").description("Cached files failing checksum").register(registry);
+        Gauge.builder("storage_cache_bytes", this, s -> s.currentBytes).description("Bytes on disk").register(registry);
+        Gauge.builder("storage_cache_hit_ratio", this, CachingStorageService::hitRatio).description("Hit ratio since start").register(registry);
+    }
+
+    // ───── 쓰기: 원본에 먼저 쓰고 캐시는 write-through/무효화 ─────
+
+    @Override
+    public void save(byte[] bytes, String key, String contentType) {
+        delegate.save(bytes, key, contentType);
+        put(key, bytes);
+    }
+
+    @Override
+    public StoredObject save(InputStream in, String key, String contentType) {
+        StoredObject stored = delegate.save(in, key, contentType);
+        invalidate(key); // 스트리밍 저장은 내용을 들고 있지 않으므로 다음 읽기에서 채움
+        return stored;
+    }
+
+    @Override public Resource loadAsResource(String key) { return delegate.loadAsResource(key); }
+
+    @Override public URL presignedGetUrl(String key, Duration ttl) { return delegate.presignedGetUrl(key, ttl); }
+
+    @Override public URL presignedGetUrl(String key, Duration ttl, String cd) { return delegate.presignedGetUrl(key, ttl, cd); }
+
+    // 범위 요청(대용량/동영상)은 캐시를 거치지 않고 원본에서 구간만 받음
+    @Override public InputStream openRange(String key, long start, long endInclusive) { return delegate.openRange(key, start, endInclusive); }
+
+    // ───── 읽기 ─────
+
+    @Override
+    public byte[] load(String key) {
+        byte[] cached = readCached(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+
+        return loads.execute(key, () -> {
+            Object ticket = new Object();
+            synchronized (lock) {
+                fills.put(key, ticket);
+            }
+            try {
+                byte[] bytes = delegate.load(key);
+                if (bytes != null) put(key, bytes, ticket);
+                return bytes;
+            } finally {
+                synchronized (lock) {
+                    fills.remove(key, ticket);
+                }
+            }
+        });
+    }
+
+    public double hitRatio() {
+        double h = hits.count(), m = misses.count();
+        return (h + m) == 0 ? 0 : h / (h + m);
+    }
+
+    // ───── 내부 ─────
+
+    private byte[] readCached(String key) {
+        Entry e;
+        synchronized (lock) {
+            e = index.get(key); // 접근 순서 갱신
+        }
+        if (e == null) return null;
+        try {
+            byte[] bytes = Files.readAllBytes(e.path());
+            if (!Arrays.equals(sha256(bytes), e.sha256())) {
+                checksumFailures.increment();
+                log.warn("[StorageCache] checksum mismatch, dropping key={}", key);
+                invalidate(key);
+                return null;
+            }
+            return bytes;
+        } catch (IOException ex) {
+            invalidate(key);
+            return null;
+        }
+    }
+
+    /** write-through 저장 — 진행 중인 원본 읽기보다 우선 */
+    private void put(String key, byte[] bytes) {
+        put(key, bytes, null);
+    }
+
+    /** ticket 이 있으면 원본 읽기 결과 — 그 사이 저장/무효화됐으면 버림 */
+    private void put(String key, byte[] bytes, Object ticket) {
+        if (bytes.length > maxBytes) {
+            if (ticket == null) invalidate(key);
+            return;
+        }
+        Path target = dir.resolve(FILE_PREFIX + fileName(key));
+        Path tmp;
+        try {
+            tmp = Files.createTempFile(dir, FILE_PREFIX, ".tmp");
+            Files.write(tmp, bytes);
+        } catch (IOException e) {
+            log.warn("[StorageCache] write failed key={} err={}", key, e.toString());
+            if (ticket == null) invalidate(key);
+            return;
+        }
+        byte[] digest = sha256(bytes);
+        synchronized (lock) {
+            if (ticket != null && fills.get(key) != ticket) {
+                deleteQuietly(tmp);
+                return;
+            }
+            fills.remove(key);
+            try {
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                log.warn("[StorageCache] write failed key={} err={}", key, e.toString());
+                deleteQuietly(tmp);
+                Entry stale = index.remove(key);
+                if (stale != null) currentBytes -= stale.size();
+                return;
+            }
+            Entry prev = index.put(key, new Entry(target, bytes.length, digest));
+            if (prev != null) currentBytes -= prev.size();
+            currentBytes += bytes.length;
+            evictIfNeeded();
+        }
+    }
+
+    private void invalidate(String key) {
+        Entry e;
+        synchronized (lock) {
+            fills.remove(key);
+            e = index.remove(key);
+            if (e != null) currentBytes -= e.size();
+        }
+        if (e != null) deleteQuietly(e.path());
+    }
+
+    // lock 보유 상태에서 호출
+    private void evictIfNeeded() {
+        Iterator<Map.Entry<String, Entry>> it = index.entrySet().iterator();
+        while (currentBytes > maxBytes && it.hasNext()) {
+            Entry e = it.next().getValue();
+            it.remove();
+            currentBytes -= e.size();
+            deleteQuietly(e.path());
+            evictions.increment();
+        }
+    }
+
+    /** 이전 실행이 남긴 캐시 파일만 삭제 (하위 디렉터리·링크·다른 이름의 파일은 그대로) */
+    private void resetDir() {
+        try {
+            Files.createDirectories(dir);
+            try (DirectoryStream<Path> ds = Files.newDirectoryStream(dir, FILE_PREFIX + "*")) {
+                for (Path p : ds) {
+                    if (Files.isRegularFile(p, LinkOption.NOFOLLOW_LINKS)) deleteQuietly(p);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("storage cache dir init failed: " + dir, e);
+        }
+    }
+
+    private static void deleteQuietly(Path p) {
+        try { Files.deleteIfExists(p); } catch (IOException ignore) {}
+    }
+
+    private static String fileName(String key) {
+        byte[] d = sha256(key.getBytes(java.nio.charset.StandardCharsets.UTF_8));
+        StringBuilder sb = new StringBuilder(d.length * 2);
+        for (byte b : d) sb.append(String.format("%02x", b));
+        return sb.toString();
+    }
+
+    private static byte[] sha256(byte[] bytes) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(bytes);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.sandwich.SandWich.message.attach.storage;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * 저장소로 흘려보내는 동안 SHA-256 과 바이트 수를 계산하고,
+ * 선두 {@link #HEAD_SIZE} 바이트를 붙잡아 매직 넘버로 콘텐츠 타입을 판별하는 스트림.
+ * 전체 내용을 메모리에 올리지 않는다.
+ */
+public class InspectingInputStream extends FilterInputStream {
+
+    static final int HEAD_SIZE = 16;
+
+    private final MessageDigest digest;
+    private final byte[] head = new byte[HEAD_SIZE];
+    private int headLen = 0;
+    private long count = 0;
+
+    public InspectingInputStream(InputStream in) {
+        super(in);
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b >= 0) {
+            digest.update((byte) b);
+            if (headLen < HEAD_SIZE) head[headLen++] = (byte) b;
+            count++;
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = super.read(b, off, len);
+        if (n > 0) {
+            digest.update(b, off, n);
+            if (headLen < HEAD_SIZE) {
+                int copy = Math.min(HEAD_SIZE - headLen, n);
+                System.arraycopy(b, off, head, headLen, copy);
+                headLen += copy;
+            }
+            count += n;
+        }
+        return n;
+    }
+
+    // 해시가 모든 바이트를 보도록 skip/mark 는 지원하지 않음
+    @Override
+    public long skip(long n) throws IOException {
+        byte[] buf = new byte[(int) Math.min(8192, Math.max(0, n))];
+        long skipped = 0;
+        while (skipped < n) {
+            int r = read(buf, 0, (int) Math.min(buf.length, n - skipped));
+            if (r < 0) break;
+            skipped += r;
+        }
+        return skipped;
+    }
+
+    @Override public boolean markSupported() { return false; }
+    @Override public synchronized void mark(int readlimit) { }
+    @Override public synchronized void reset() throws IOException { throw new IOException("mark/reset not supported"); }
+
+    public long count() { return count; }
+
+    /** 스트림을 끝까지 읽은 뒤 호출 */
+    public String sha256Hex() {
+        byte[] d = digest.digest();
+        StringBuilder sb = new StringBuilder(d.length * 2);
+        for (byte x : d) sb.append(String.format("%02x", x));
+        return sb.toString();
+    }
+
+    public String sniffedContentType() {
+        return sniff(Arrays.copyOf(head, headLen));
+    }
+
+    public StoredObject toStoredObject(String key) {
+        return new StoredObject(key, count, sha256Hex(), sniffedContentType());
+    }
+
+    /** 허용 업로드 타입 위주의 매직 넘버 판별 */
+    static String sniff(byte[] h) {
+        if (startsWith(h, 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n')) return "image/png";
+        if (startsWith(h, 0xFF, 0xD8, 0xFF)) return "image/jpeg";
+        if (startsWith(h, 'G', 'I', 'F', '8')) return "image/gif";
+        if (h.length >= 12 && startsWith(h, 'R', 'I', 'F', 'F')
+                && "WEBP".equals(new String(h, 8, 4, StandardCharsets.US_ASCII))) return "image/webp";
+        if (startsWith(h, '%', 'P', 'D', 'F', '-')) return "application/pdf";
+        if (startsWith(h, 'P', 'K', 0x03, 0x04)) return "application/zip";
+        return null;
+    }
+
+    private static boolean startsWith(byte[] h, int... sig) {
+        if (h.length < sig.length) return false;
+        for (int i = 0; i < sig.length; i++) {
+            if ((h[i] & 0xFF) != sig[i]) return false;
+        }
+        return true;
+    }
+}
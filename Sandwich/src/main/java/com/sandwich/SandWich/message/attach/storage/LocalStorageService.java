@@ -11,9 +11,14 @@ import org.springframework.stereotype.Service;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.time.Duration;
 
 @Service
@@ -35,6 +40,26 @@ public class LocalStorageService implements StorageService, InitializingBean {
         } catch (Exception e) { throw new RuntimeException("로컬 저장 실패"); }
     }
 
+    @Override
+    public StoredObject save(InputStream in, String key, String contentType) {
+        Path path = Path.of(props.getLocal().getBaseDir(), key);
+        Path tmp = null;
+        try {
+            Files.createDirectories(path.getParent());
+            // 같은 디렉터리의 임시 파일로 받은 뒤 원자적으로 교체 (중간 실패 시 반쪽 파일 방지)
+            tmp = Files.createTempFile(path.getParent(), ".upload-", ".tmp");
+            InspectingInputStream ins = new InspectingInputStream(in);
+            Files.copy(ins, tmp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return ins.toStoredObject(key);
+        } catch (Exception e) {
+            if (tmp != null) {
+                try { Files.deleteIfExists(tmp); } catch (IOException ignore) {}
+            }
+            throw new RuntimeException("로컬 저장 실패", e);
+        }
+    }
+
     @Override
     public Resource loadAsResource(String key) {
         File f = Path.of(props.getLocal().getBaseDir(), key).toFile();
@@ -42,6 +67,26 @@ public class LocalStorageService implements StorageService, InitializingBean {
         return new FileSystemResource(f);
     }
 
+    @Override
+    public Path localPath(String key) {
+        Path path = Path.of(props.getLocal().getBaseDir(), key);
+        return Files.isRegularFile(path) ? path : null;
+    }
+
+    @Override
+    public InputStream openRange(String key, long start, long endInclusive) {
+        Path path = Path.of(props.getLocal().getBaseDir(), key);
+        try {
+            FileChannel ch = FileChannel.open(path, StandardOpenOption.READ);
+            ch.position(start);
+            return new BoundedInputStream(Channels.newInputStream(ch), endInclusive - start + 1);
+        } catch (java.nio.file.NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new RuntimeException("로컬 파일 로드 실패: " + path, e);
+        }
+    }
+
     @Override public URL presignedGetUrl(String key, Duration ttl) { return null; }
 
     @Override
@@ -0,0 +1,59 @@
+package com.sandwich.SandWich.message.attach.storage;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sandwich.SandWich.message.attach.config.FileSecurityProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.net.URL;
+import java.time.Duration;
+
+/**
+ * (key, disposition) 단위 presigned URL 캐시.
+ * - 만료 safetyMargin 전까지는 같은 URL 을 돌려준다 → 브라우저/CDN 캐시 키가 안정적
+ * - 크기 상한(maxEntries)과 만료는 Caffeine 이 관리 (expireAfterWrite = ttl - margin)
+ * - presign 을 지원하지 않는 저장소(local)는 null 을 돌려주고 캐시하지 않음
+ */
+@Component
+public class PresignedUrlCache {
+
+    private record Key(String storageKey, String disposition) {}
+
+    private final StorageService storage;
+    private final FileSecurityProperties props;
+    private final Cache<Key, URL> cache;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public PresignedUrlCache(StorageService storage, FileSecurityProperties props, MeterRegistry registry) {
+        this.storage = storage;
+        this.props = props;
+        FileSecurityProperties.Presign p = props.getPresign();
+        long margin = Math.min(p.getSafetyMarginSeconds(), p.getTtlSeconds() / 2L);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(p.getMaxEntries())
+                .expireAfterWrite(Duration.ofSeconds(p.getTtlSeconds() - margin))
+                .build();
+        this.hits   = Counter.builder("storage_presign_cache_hits_total").description("Presigned URL reused").register(registry);
+        this.misses = Counter.builder("storage_presign_cache_misses_total").description("Presigned URL signed").register(registry);
+        Gauge.builder("storage_presign_cache_size", cache, Cache::estimatedSize).description("Cached presigned URLs").register(registry);
+    }
+
+    public URL get(String storageKey, String disposition) {
+        Key k = new Key(storageKey, disposition);
+        URL cached = cache.getIfPresent(k);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+
+        URL url = storage.presignedGetUrl(storageKey, Duration.ofSeconds(props.getPresign().getTtlSeconds()), disposition);
+        if (url != null) cache.put(k, url);
+        return url;
+    }
+}
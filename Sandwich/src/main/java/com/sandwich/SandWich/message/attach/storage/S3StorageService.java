@@ -1,44 +1,60 @@
 package com.sandwich.SandWich.message.attach.storage;
 
 import com.sandwich.SandWich.message.attach.config.FileSecurityProperties;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
-import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.*;
 import software.amazon.awssdk.services.s3.model.*;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 
+import java.io.InputStream;
 import java.net.URL;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 @Service
 @ConditionalOnProperty(name = "app.files.storage", havingValue = "s3")
 @RequiredArgsConstructor
 public class S3StorageService implements StorageService {
 
+    // S3 멀티파트 파트 크기 한도 (최소는 마지막 파트 제외)
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+    private static final long MAX_PART_SIZE = 5L * 1024 * 1024 * 1024;
+    // 파트 하나를 byte[] 로 버퍼링하므로 배열 한도도 넘을 수 없음
+    private static final long MAX_BUFFER_SIZE = Integer.MAX_VALUE - 8;
+
     private final FileSecurityProperties props;
+    private final S3Client s3;            // 공유 클라이언트 (upload.config.S3Config)
+    private final S3Presigner presigner;
 
-    private S3Client client() {
-        return S3Client.builder()
-                .region(Region.of(props.getS3().getRegion()))
-                .credentialsProvider(DefaultCredentialsProvider.create())
-                .build();
+    private int partSize;
+
+    /** 잘못된 파트 크기 설정은 첫 업로드가 아니라 기동 시에 실패시킨다 */
+    @PostConstruct
+    void init() {
+        this.partSize = partSizeBytes(props.getS3().getMultipartPartSizeMb());
     }
-    private S3Presigner presigner() {
-        return S3Presigner.builder()
-                .region(Region.of(props.getS3().getRegion()))
-                .credentialsProvider(DefaultCredentialsProvider.create())
-                .build();
+
+    static int partSizeBytes(int mb) {
+        long bytes = mb * 1024L * 1024L;
+        if (bytes < MIN_PART_SIZE || bytes > MAX_PART_SIZE) {
+            throw new IllegalStateException("app.files.s3.multipart-part-size-mb 는 S3 파트 한도(5 MiB ~ 5 GiB) 안이어야 함: " + mb);
+        }
+        if (bytes > MAX_BUFFER_SIZE) {
+            throw new IllegalStateException("app.files.s3.multipart-part-size-mb 는 파트 버퍼 한도(2 GiB) 미만이어야 함: " + mb);
+        }
+        return (int) bytes;
     }
 
     @Override
     public void save(byte[] bytes, String key, String contentType) {
-        try (S3Client s3 = client()) {
+        try {
             PutObjectRequest req = PutObjectRequest.builder()
                     .bucket(props.getS3().getBucket())
                     .key(key)
@@ -48,14 +64,87 @@ public class S3StorageService implements StorageService {
         } catch (Exception e) { throw new RuntimeException("S3 업로드 실패"); }
     }
 
+    /**
+     * 파트 크기만큼만 버퍼링하며 멀티파트 업로드.
+     * 첫 파트 안에 전체가 들어오면 단일 PutObject 로 끝낸다. 실패 시 멀티파트 업로드는 abort.
+     */
+    @Override
+    public StoredObject save(InputStream in, String key, String contentType) {
+        String bucket = props.getS3().getBucket();
+        int partSize = this.partSize;
+        InspectingInputStream ins = new InspectingInputStream(in);
+        byte[] buf = new byte[partSize];
+
+        try {
+            int n = ins.readNBytes(buf, 0, partSize);
+            if (n < partSize) {
+                s3.putObject(PutObjectRequest.builder()
+                                .bucket(bucket).key(key).contentType(contentType).build(),
+                        RequestBody.fromBytes(java.util.Arrays.copyOf(buf, n)));
+                return ins.toStoredObject(key);
+            }
+
+            String uploadId = s3.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                    .bucket(bucket).key(key).contentType(contentType).build()).uploadId();
+            try {
+                List<CompletedPart> parts = new ArrayList<>();
+                int partNo = 1;
+                while (n > 0) {
+                    UploadPartResponse res = s3.uploadPart(UploadPartRequest.builder()
+                                    .bucket(bucket).key(key).uploadId(uploadId)
+                                    .partNumber(partNo).contentLength((long) n).build(),
+                            RequestBody.fromInputStream(new java.io.ByteArrayInputStream(buf, 0, n), n));
+                    parts.add(CompletedPart.builder().partNumber(partNo).eTag(res.eTag()).build());
+                    partNo++;
+                    n = ins.readNBytes(buf, 0, partSize);
+                }
+                s3.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                        .bucket(bucket).key(key).uploadId(uploadId)
+                        .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                        .build());
+                return ins.toStoredObject(key);
+            } catch (Exception e) {
+                try {
+                    s3.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                            .bucket(bucket).key(key).uploadId(uploadId).build());
+                } catch (Exception ignore) {}
+                throw e;
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("S3 업로드 실패", e);
+        }
+    }
+
     @Override
     public URL presignedGetUrl(String key, Duration ttl) {
-        try (S3Presigner p = presigner()) {
-            GetObjectRequest get = GetObjectRequest.builder()
-                    .bucket(props.getS3().getBucket()).key(key).build();
-            return p.presignGetObject(
-                    GetObjectPresignRequest.builder().getObjectRequest(get).signatureDuration(ttl).build()
-            ).url();
+        return presignedGetUrl(key, ttl, null);
+    }
+
+    @Override
+    public URL presignedGetUrl(String key, Duration ttl, String contentDisposition) {
+        GetObjectRequest get = GetObjectRequest.builder()
+                .bucket(props.getS3().getBucket()).key(key)
+                .responseContentDisposition(contentDisposition)
+                .build();
+        return presigner.presignGetObject(
+                GetObjectPresignRequest.builder().getObjectRequest(get).signatureDuration(ttl).build()
+        ).url();
+    }
+
+    /** 범위 GET — 필요한 구간만 받아 그대로 흘려보냄 */
+    @Override
+    public InputStream openRange(String key, long start, long endInclusive) {
+        try {
+            return s3.getObject(GetObjectRequest.builder()
+                    .bucket(props.getS3().getBucket())
+                    .key(key)
+                    .range("bytes=" + start + "-" + endInclusive)
+                    .build());
+        } catch (NoSuchKeyException e) {
+            return null;
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) return null;
+            throw new RuntimeException("S3 파일 로드 실패", e);
         }
     }
 
@@ -63,7 +152,7 @@ public class S3StorageService implements StorageService {
 
     @Override
     public byte[] load(String key) {
-        try (S3Client s3 = client()) {
+        try {
             GetObjectRequest req = GetObjectRequest.builder()
                     .bucket(props.getS3().getBucket())
                     .key(key).build();
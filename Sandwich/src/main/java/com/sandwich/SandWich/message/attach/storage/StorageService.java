@@ -1,17 +1,55 @@
 package com.sandwich.SandWich.message.attach.storage;
 
 import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 
 public interface StorageService {
     void save(byte[] bytes, String key, String contentType);
 
+    /**
+     * 스트리밍 저장: 전체를 byte[] 로 올리지 않고 in 을 그대로 저장소에 흘려보낸다.
+     * 저장하면서 SHA-256/크기/스니핑 타입을 함께 계산해 돌려준다. in 은 호출자가 닫는다.
+     */
+    StoredObject save(InputStream in, String key, String contentType);
+
+    default StoredObject save(Path file, String key, String contentType) {
+        try (InputStream in = Files.newInputStream(file)) {
+            return save(in, key, contentType);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     Resource loadAsResource(String key);           // local 전용
 
     URL presignedGetUrl(String key, Duration ttl); // s3 전용
 
+    /** Content-Disposition 을 서명에 포함한 presigned URL (지원하지 않으면 disposition 무시) */
+    default URL presignedGetUrl(String key, Duration ttl, String contentDisposition) {
+        return presignedGetUrl(key, ttl);
+    }
+
     default byte[] load(String key) {
         throw new UnsupportedOperationException();
     }
-}
\ No newline at end of file
+
+    /**
+     * [start, endInclusive] 구간 스트림 (다운로드 Range/프록시용). 호출자가 닫는다.
+     * 키가 없으면 null.
+     */
+    default InputStream openRange(String key, long start, long endInclusive) {
+        throw new UnsupportedOperationException();
+    }
+
+    /** 로컬 디스크에 실제 파일이 있으면 그 경로 (sendfile/transferTo 용), 아니면 null */
+    default Path localPath(String key) {
+        return null;
+    }
+}
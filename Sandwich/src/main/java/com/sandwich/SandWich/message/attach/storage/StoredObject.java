@@ -0,0 +1,11 @@
+package com.sandwich.SandWich.message.attach.storage;
+
+/**
+ * 스트리밍 저장 결과.
+ * @param key                저장 키
+ * @param size               실제로 기록된 바이트 수
+ * @param sha256             저장된 내용의 SHA-256 (hex)
+ * @param sniffedContentType 선두 바이트(매직 넘버)로 판별한 타입, 판별 불가면 null
+ */
+public record StoredObject(String key, long size, String sha256, String sniffedContentType) {
+}
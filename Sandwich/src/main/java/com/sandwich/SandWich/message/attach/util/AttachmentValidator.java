@@ -4,8 +4,6 @@ import com.sandwich.SandWich.common.exception.exceptiontype.BadRequestException;
 import com.sandwich.SandWich.common.exception.exceptiontype.PayloadTooLargeException;
 import org.springframework.web.multipart.MultipartFile;
 
-import javax.imageio.ImageIO;
-import java.awt.image.BufferedImage;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Set;
@@ -45,9 +43,10 @@ public final class AttachmentValidator {
                     }
                 }
             } else if (mime.startsWith("image/")) {
+                // 헤더만 읽어 포맷/크기 확인 (픽셀 디코딩은 썸네일 단계에서 한 번만)
                 try (InputStream in2 = file.getInputStream()) {
-                    BufferedImage bi = ImageIO.read(in2);
-                    if (bi == null) {
+                    ImageHeaderReader.ImageInfo info = ImageHeaderReader.read(in2);
+                    if (info == null) {
                         throw new BadRequestException("손상된 이미지이거나 이미지가 아닙니다.");
                     }
                 }
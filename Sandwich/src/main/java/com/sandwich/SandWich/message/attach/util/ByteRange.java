@@ -0,0 +1,39 @@
+package com.sandwich.SandWich.message.attach.util;
+
+/**
+ * 단일 HTTP Range(bytes=a-b / a- / -n) 파서.
+ * 다중 범위·형식 오류는 RFC 9110 에 따라 무시(전체 응답)하고, 범위가 파일 밖이면 UNSATISFIABLE.
+ */
+public record ByteRange(long start, long end) {
+
+    public static final ByteRange UNSATISFIABLE = new ByteRange(-1, -1);
+
+    public long length() { return end - start + 1; }
+
+    /** @return null = 전체 응답, UNSATISFIABLE = 416, 그 외 [start, end] (end 포함) */
+    public static ByteRange parse(String header, long size) {
+        if (header == null || !header.startsWith("bytes=")) return null;
+        String spec = header.substring(6).trim();
+        if (spec.isEmpty() || spec.indexOf(',') >= 0) return null;
+        int dash = spec.indexOf('-');
+        if (dash < 0) return null;
+        try {
+            String a = spec.substring(0, dash).trim();
+            String b = spec.substring(dash + 1).trim();
+            if (a.isEmpty()) {                       // 접미사: 마지막 n 바이트
+                if (b.isEmpty()) return null;
+                long n = Long.parseLong(b);
+                if (n <= 0 || size == 0) return UNSATISFIABLE;
+                return new ByteRange(Math.max(0, size - n), size - 1);
+            }
+            long start = Long.parseLong(a);
+            long end = b.isEmpty() ? size - 1 : Long.parseLong(b);
+            if (start < 0) return null;
+            if (start >= size) return UNSATISFIABLE;
+            if (end < start) return null;
+            return new ByteRange(start, Math.min(end, size - 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
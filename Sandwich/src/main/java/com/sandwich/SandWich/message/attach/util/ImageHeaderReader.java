@@ -0,0 +1,38 @@
+package com.sandwich.SandWich.message.attach.util;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+/**
+ * 픽셀을 디코딩하지 않고 ImageReader 로 헤더만 읽어 포맷/크기를 확인한다.
+ */
+public final class ImageHeaderReader {
+    private ImageHeaderReader() {}
+
+    public record ImageInfo(String format, int width, int height) {
+        public long pixels() { return (long) width * height; }
+    }
+
+    /** 판별/헤더 파싱 실패 시 null */
+    public static ImageInfo read(InputStream in) throws IOException {
+        try (ImageInputStream iis = ImageIO.createImageInputStream(in)) {
+            if (iis == null) return null;
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+            if (!readers.hasNext()) return null;
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, true);
+                int w = reader.getWidth(0);
+                int h = reader.getHeight(0);
+                if (w <= 0 || h <= 0) return null;
+                return new ImageInfo(reader.getFormatName().toLowerCase(), w, h);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+}
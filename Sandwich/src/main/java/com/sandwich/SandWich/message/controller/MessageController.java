@@ -10,6 +10,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.Map;
 
@@ -56,6 +57,19 @@ public class MessageController {
                 .body(png);
     }
 
+    // 긴 대화방용: Java2D 타일 렌더링 결과를 그대로 스트리밍
+    @GetMapping("/{roomId}/screenshot/tiled")
+    public ResponseEntity<StreamingResponseBody> screenshotTiled(
+            @AuthenticationPrincipal UserDetailsImpl me,
+            @PathVariable Long roomId
+    ) {
+        StreamingResponseBody body = messageScreenshotService.streamRoomTiled(me.getId(), roomId);
+        return ResponseEntity.ok()
+                .header("Content-Disposition", "attachment; filename=\"room-%d.png\"".formatted(roomId))
+                .header("Content-Type", "image/png")
+                .body(body);
+    }
+
     @DeleteMapping("/{messageId}")
     public Map<String, Object> delete(
             @AuthenticationPrincipal UserDetailsImpl me,
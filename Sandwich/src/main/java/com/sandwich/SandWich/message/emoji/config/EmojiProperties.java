@@ -0,0 +1,20 @@
+package com.sandwich.SandWich.message.emoji.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter @Setter
+@Component
+@ConfigurationProperties(prefix = "app.emoji")
+public class EmojiProperties {
+    /** 자주 쓰이는 (카테고리, 검색어) 결과 캐시 최대 개수 — 넘치면 사용 빈도 낮은 절반을 버림 */
+    private int queryCacheMaxEntries = 2000;
+
+    /** 유저별 최근 사용 이모지 보관 개수 */
+    private int recentMax = 36;
+
+    /** 최근 사용 기록 보관 기간(일) */
+    private int recentTtlDays = 180;
+}
@@ -1,10 +1,16 @@
 package com.sandwich.SandWich.message.emoji.controller;
 
+import com.sandwich.SandWich.auth.security.UserDetailsImpl;
+import com.sandwich.SandWich.message.emoji.dto.EmojiItem;
 import com.sandwich.SandWich.message.emoji.dto.EmojiPageResponse;
+import com.sandwich.SandWich.message.emoji.dto.EmojiRecentRequest;
 import com.sandwich.SandWich.message.emoji.service.EmojiCatalogService;
+import com.sandwich.SandWich.message.emoji.service.EmojiRecentService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.Duration;
@@ -15,6 +21,7 @@ import java.util.List;
 @RequestMapping("/api/emojis")
 public class EmojiController {
     private final EmojiCatalogService catalog;
+    private final EmojiRecentService recents;
 
     // 카테고리 탭
     @GetMapping("/categories")
@@ -37,4 +44,25 @@ public class EmojiController {
                 .cacheControl(CacheControl.maxAge(Duration.ofDays(1))) // 거의 정적 데이터
                 .body(body);
     }
+
+    // 최근 사용 (유저별, 최신순) — 개인화 응답이라 캐시하지 않음
+    @GetMapping("/recent")
+    public ResponseEntity<List<EmojiItem>> recent(
+            @RequestParam(required = false) Integer limit,
+            @AuthenticationPrincipal UserDetailsImpl me
+    ) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(recents.list(me.getId(), limit));
+    }
+
+    // 이모지 선택 시 기록
+    @PostMapping("/recent")
+    public ResponseEntity<Void> recordRecent(
+            @Valid @RequestBody EmojiRecentRequest req,
+            @AuthenticationPrincipal UserDetailsImpl me
+    ) {
+        boolean ok = recents.record(me.getId(), req.ch());
+        return ok ? ResponseEntity.noContent().build() : ResponseEntity.badRequest().build();
+    }
 }
@@ -0,0 +1,8 @@
+package com.sandwich.SandWich.message.emoji.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotBlank;
+
+public record EmojiRecentRequest(
+        @JsonProperty("char") @NotBlank String ch
+) {}
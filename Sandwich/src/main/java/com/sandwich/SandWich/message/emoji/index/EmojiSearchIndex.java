@@ -0,0 +1,185 @@
+package com.sandwich.SandWich.message.emoji.index;
+
+import com.sandwich.SandWich.message.emoji.dto.EmojiItem;
+
+import java.text.Normalizer;
+import java.util.*;
+
+/**
+ * 이모지 카탈로그 검색 인덱스 (불변, 로드 시 한 번 구성).
+ * - 항목마다 shortcode / keywords / 문자 자체를 미리 NFKC+소문자 정규화해 둔다
+ * - 정규화 문자열의 글자 1-gram, 2-gram → 항목 순번(카탈로그 순서) posting
+ * - 질의는 가장 짧은 posting 만 후보로 잡고 부분일치를 확인 → 매 키 입력마다 전체 스캔 없음
+ * 결과 순서: 단어 접두 일치(shortcode/키워드의 시작 또는 '_'·공백 뒤) 먼저, 그 다음 부분일치, 각각 카탈로그 순서
+ */
+public final class EmojiSearchIndex {
+
+    private static final int[] NONE = new int[0];
+
+    private final List<EmojiItem> items;
+    private final String[][] fields;        // 순번 → 정규화된 검색 대상들
+    private final String[] categories;      // 순번 → 정규화된 카테고리
+    private final Map<Integer, int[]> grams; // 1/2-gram 키 → 오름차순 순번
+    private final Map<String, int[]> byCategory;
+    private final Map<String, Integer> byChar;
+    private final int[] all;
+
+    public EmojiSearchIndex(List<EmojiItem> items) {
+        this.items = List.copyOf(items);
+        int n = this.items.size();
+        this.fields = new String[n][];
+        this.categories = new String[n];
+
+        Map<Integer, IntList> gramBuild = new HashMap<>();
+        Map<String, IntList> catBuild = new LinkedHashMap<>();
+        Map<String, Integer> chars = new HashMap<>();
+
+        for (int ord = 0; ord < n; ord++) {
+            EmojiItem e = this.items.get(ord);
+            LinkedHashSet<String> fs = new LinkedHashSet<>();
+            addField(fs, e.getShortcode());
+            if (e.getKeywords() != null) e.getKeywords().forEach(kw -> addField(fs, kw));
+            addField(fs, e.getCh());
+            fields[ord] = fs.toArray(String[]::new);
+            categories[ord] = normalize(e.getCategory());
+
+            for (String f : fields[ord]) {
+                for (int i = 0; i < f.length(); i++) {
+                    gramBuild.computeIfAbsent(unigram(f.charAt(i)), k -> new IntList()).addDistinct(ord);
+                    if (i + 1 < f.length()) {
+                        gramBuild.computeIfAbsent(bigram(f.charAt(i), f.charAt(i + 1)), k -> new IntList()).addDistinct(ord);
+                    }
+                }
+            }
+            catBuild.computeIfAbsent(categories[ord], k -> new IntList()).addDistinct(ord);
+            if (e.getCh() != null) chars.putIfAbsent(e.getCh(), ord);
+        }
+
+        Map<Integer, int[]> g = new HashMap<>(gramBuild.size() * 2);
+        gramBuild.forEach((k, v) -> g.put(k, v.toArray()));
+        this.grams = g;
+        Map<String, int[]> c = new HashMap<>();
+        catBuild.forEach((k, v) -> c.put(k, v.toArray()));
+        this.byCategory = c;
+        this.byChar = chars;
+        this.all = new int[n];
+        for (int i = 0; i < n; i++) all[i] = i;
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    public EmojiItem item(int ord) {
+        return items.get(ord);
+    }
+
+    /** 문자 그대로 조회 (최근 사용 기록 검증용) */
+    public EmojiItem findByChar(String ch) {
+        Integer ord = ch == null ? null : byChar.get(ch);
+        return ord == null ? null : items.get(ord);
+    }
+
+    /**
+     * 정규화된 카테고리/질의로 일치하는 순번을 랭킹 순서대로 반환.
+     * 둘 다 비어 있으면 전체(카탈로그 순서).
+     */
+    public int[] search(String normCategory, String normQuery) {
+        int[] scope = normCategory.isEmpty() ? null : byCategory.getOrDefault(normCategory, NONE);
+        if (normQuery.isEmpty()) {
+            return scope != null ? scope : all;
+        }
+
+        int[] candidates = smallestPosting(normQuery);
+        IntList prefix = new IntList();
+        IntList contains = new IntList();
+        for (int ord : candidates) {
+            if (scope != null && !normCategory.equals(categories[ord])) continue;
+            int m = match(fields[ord], normQuery);
+            if (m == 2) prefix.add(ord);
+            else if (m == 1) contains.add(ord);
+        }
+        return prefix.concat(contains);
+    }
+
+    /** NFKC 정규화 + 소문자 + trim (영/숫자/한글에 모두 안정적) */
+    public static String normalize(String s) {
+        if (s == null) return "";
+        return Normalizer.normalize(s, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT).trim();
+    }
+
+    /** 검색어 정규화 — ":rocket:" 처럼 콜론으로 감싼 입력도 허용 */
+    public static String normalizeQuery(String q) {
+        String n = normalize(q);
+        int from = 0, to = n.length();
+        while (from < to && n.charAt(from) == ':') from++;
+        while (to > from && n.charAt(to - 1) == ':') to--;
+        return from == to ? n : n.substring(from, to);
+    }
+
+    // ───── 내부 ─────
+
+    /** 0 = 불일치, 1 = 부분일치, 2 = 단어 접두 일치 */
+    static int match(String[] fs, String q) {
+        int best = 0;
+        for (String f : fs) {
+            int at = f.indexOf(q);
+            while (at >= 0) {
+                if (at == 0 || f.charAt(at - 1) == '_' || f.charAt(at - 1) == ' ') return 2;
+                best = 1;
+                at = f.indexOf(q, at + 1);
+            }
+        }
+        return best;
+    }
+
+    private int[] smallestPosting(String q) {
+        if (q.length() == 1) return grams.getOrDefault(unigram(q.charAt(0)), NONE);
+        int[] best = null;
+        for (int i = 0; i + 1 < q.length(); i++) {
+            int[] p = grams.get(bigram(q.charAt(i), q.charAt(i + 1)));
+            if (p == null) return NONE;
+            if (best == null || p.length < best.length) best = p;
+        }
+        return best;
+    }
+
+    private static void addField(Set<String> out, String raw) {
+        String n = normalize(raw);
+        if (!n.isEmpty()) out.add(n);
+    }
+
+    // 1-gram 은 상위 16비트를 0xFFFF 로 두어 2-gram 과 겹치지 않게 함 (0xFFFF 는 비문자)
+    private static int unigram(char c) {
+        return 0xFFFF0000 | c;
+    }
+
+    private static int bigram(char a, char b) {
+        return (a << 16) | b;
+    }
+
+    private static final class IntList {
+        private int[] a = new int[4];
+        private int n;
+
+        void add(int v) {
+            if (n == a.length) a = Arrays.copyOf(a, n * 2);
+            a[n++] = v;
+        }
+
+        // 순번은 오름차순으로만 들어오므로 마지막 값만 보면 중복 제거 가능
+        void addDistinct(int v) {
+            if (n == 0 || a[n - 1] != v) add(v);
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(a, n);
+        }
+
+        int[] concat(IntList other) {
+            int[] out = Arrays.copyOf(a, n + other.n);
+            System.arraycopy(other.a, 0, out, n, other.n);
+            return out;
+        }
+    }
+}
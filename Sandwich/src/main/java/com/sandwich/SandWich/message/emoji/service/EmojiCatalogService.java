@@ -3,49 +3,72 @@ package com.sandwich.SandWich.message.emoji.service;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sandwich.SandWich.message.emoji.config.EmojiProperties;
 import com.sandwich.SandWich.message.emoji.dto.EmojiItem;
 import com.sandwich.SandWich.message.emoji.dto.EmojiPageResponse;
+import com.sandwich.SandWich.message.emoji.index.EmojiSearchIndex;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.io.InputStream;
-import java.text.Normalizer;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * 이모지 카탈로그 — 로드 시 EmojiSearchIndex 를 한 번 만들고 검색은 인덱스로만 처리.
+ * 키 입력마다 호출되므로 자주 나오는 (카테고리, 검색어) 결과는 사용 빈도 기준으로 캐시한다.
+ */
 @Service
-@RequiredArgsConstructor
 public class EmojiCatalogService {
 
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final EmojiProperties props;
 
-    private List<EmojiItem> all = List.of();
+    private volatile EmojiSearchIndex index = new EmojiSearchIndex(List.of());
     private List<String> categories = List.of();
 
+    /** (카테고리, 검색어) → 랭킹된 순번, hits 로 사용 빈도 추적 */
+    private final Map<String, CachedResult> queryCache = new ConcurrentHashMap<>();
+
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+
+    private record CachedResult(int[] ordinals, LongAdder hits) {}
+
+    public EmojiCatalogService(EmojiProperties props, MeterRegistry registry) {
+        this.props = props;
+        this.cacheHits   = Counter.builder("emoji_search_cache_hits_total").description("Emoji search served from query cache").register(registry);
+        this.cacheMisses = Counter.builder("emoji_search_cache_misses_total").description("Emoji search computed from index").register(registry);
+    }
+
     @PostConstruct
     void load() {
         try (InputStream is = getClass().getResourceAsStream("/emoji/emoji.json")) {
             List<EmojiItem> list = objectMapper.readValue(is, new TypeReference<>() {});
             // null 안전 처리 + 정렬(카테고리, shortcode 기준)
-            this.all = list.stream()
+            List<EmojiItem> all = list.stream()
                     .filter(e -> e.getCh() != null && !e.getCh().isBlank())
                     .map(this::sanitize)
                     .sorted(Comparator.comparing((EmojiItem e) -> Optional.ofNullable(e.getCategory()).orElse(""))
                             .thenComparing(e -> Optional.ofNullable(e.getShortcode()).orElse("")))
                     .toList();
 
-            this.categories = this.all.stream()
+            this.categories = all.stream()
                     .map(EmojiItem::getCategory)
                     .filter(Objects::nonNull)
                     .distinct()
                     .sorted()
                     .toList();
+            this.index = new EmojiSearchIndex(all);
 
         } catch (Exception e) {
-            this.all = List.of();
+            this.index = new EmojiSearchIndex(List.of());
             this.categories = List.of();
         }
+        queryCache.clear();
     }
 
     private EmojiItem sanitize(EmojiItem e) {
@@ -61,35 +84,14 @@ public class EmojiCatalogService {
         return categories;
     }
 
-    // NFKC 정규화 + 소문자 변환 (영/숫자/한글에 모두 안정적)
-    private String norm(String s) {
-        if (s == null) return "";
-        String n = Normalizer.normalize(s, Normalizer.Form.NFKC);
-        return n.toLowerCase(Locale.ROOT).trim();
-    }
-
-    private boolean containsIgnoreCaseNorm(String haystack, String needle) {
-        if (needle.isBlank()) return true;
-        return norm(haystack).contains(norm(needle));
+    public EmojiItem findByChar(String ch) {
+        return index.findByChar(ch);
     }
 
     public EmojiPageResponse search(String category, String q, int page, int size) {
-        String cat = norm(category);
-        String query = norm(q);
-
-        List<EmojiItem> filtered = all.stream()
-                .filter(e -> cat.isBlank() || norm(e.getCategory()).equals(cat))
-                .filter(e -> {
-                    if (query.isBlank()) return true;
-                    // shortcode/keywords/문자 자체에 대해 부분일치
-                    if (containsIgnoreCaseNorm(e.getShortcode(), query)) return true;
-                    if (e.getKeywords() != null && e.getKeywords().stream()
-                            .anyMatch(kw -> containsIgnoreCaseNorm(kw, query))) return true;
-                    return containsIgnoreCaseNorm(e.getCh(), query);
-                })
-                .toList();
-
-        int total = filtered.size();
+        EmojiSearchIndex idx = this.index;
+        int[] matched = lookup(idx, EmojiSearchIndex.normalize(category), EmojiSearchIndex.normalizeQuery(q));
+        int total = matched.length;
 
         // 페이지네이션
         int safeSize = Math.max(1, Math.min(size, 200)); // 과도한 size 방지
@@ -99,7 +101,8 @@ public class EmojiCatalogService {
                     .total(total).page(page).size(safeSize).items(List.of()).build();
         }
         int to = Math.min(from + safeSize, total);
-        List<EmojiItem> pageItems = filtered.subList(from, to);
+        List<EmojiItem> pageItems = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) pageItems.add(idx.item(matched[i]));
 
         return EmojiPageResponse.builder()
                 .total(total)
@@ -108,4 +111,47 @@ public class EmojiCatalogService {
                 .items(pageItems)
                 .build();
     }
+
+    // ───── 내부 ─────
+
+    private int[] lookup(EmojiSearchIndex idx, String cat, String query) {
+        // 검색어 없는 탭 전환은 인덱스가 배열을 그대로 돌려주므로 캐시 불필요
+        if (query.isEmpty()) return idx.search(cat, query);
+
+        String key = cat + '\u0000' + query;
+        CachedResult cached = queryCache.get(key);
+        if (cached != null) {
+            cached.hits().increment();
+            cacheHits.increment();
+            return cached.ordinals();
+        }
+        cacheMisses.increment();
+        int[] result = idx.search(cat, query);
+        if (idx == this.index) { // 로드 도중 교체됐으면 캐시에 넣지 않음
+            CachedResult fresh = new CachedResult(result, new LongAdder());
+            fresh.hits().increment();
+            queryCache.putIfAbsent(key, fresh);
+            if (queryCache.size() > Math.max(16, props.getQueryCacheMaxEntries())) evictLeastUsed();
+        }
+        return result;
+    }
+
+    /** 사용 빈도 하위 절반 제거 + 남은 항목 빈도 반감 (오래된 인기 검색어가 영원히 남지 않도록) */
+    private synchronized void evictLeastUsed() {
+        int limit = Math.max(16, props.getQueryCacheMaxEntries());
+        if (queryCache.size() <= limit) return;
+        List<Map.Entry<String, CachedResult>> entries = new ArrayList<>(queryCache.entrySet());
+        entries.sort(Comparator.comparingLong(e -> e.getValue().hits().sum()));
+        int drop = entries.size() - limit / 2;
+        for (int i = 0; i < entries.size(); i++) {
+            var e = entries.get(i);
+            if (i < drop) {
+                queryCache.remove(e.getKey(), e.getValue());
+            } else {
+                LongAdder h = e.getValue().hits();
+                long half = h.sum() / 2;
+                h.add(-half);
+            }
+        }
+    }
 }
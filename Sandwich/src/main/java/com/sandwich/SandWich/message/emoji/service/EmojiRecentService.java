@@ -0,0 +1,62 @@
+package com.sandwich.SandWich.message.emoji.service;
+
+import com.sandwich.SandWich.message.emoji.config.EmojiProperties;
+import com.sandwich.SandWich.message.emoji.dto.EmojiItem;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 유저별 최근 사용 이모지 — Redis ZSET(score = 사용 시각), 최신순 상위 recentMax 개만 유지.
+ * 기록은 ZADD + ZREMRANGEBYRANK + EXPIRE 를 파이프라인 한 번으로 보낸다.
+ */
+@Service
+@RequiredArgsConstructor
+public class EmojiRecentService {
+
+    private final StringRedisTemplate redis;
+    private final EmojiCatalogService catalog;
+    private final EmojiProperties props;
+
+    /** 카탈로그에 없는 문자는 무시하고 false */
+    public boolean record(Long userId, String ch) {
+        EmojiItem item = catalog.findByChar(ch);
+        if (item == null) return false;
+
+        String key = key(userId);
+        int max = Math.max(1, props.getRecentMax());
+        long ttlSeconds = Math.max(1, props.getRecentTtlDays()) * 86_400L;
+        double now = System.currentTimeMillis();
+        redis.executePipelined((RedisCallback<Object>) conn -> {
+            StringRedisConnection c = (StringRedisConnection) conn;
+            c.zAdd(key, now, item.getCh());
+            c.zRemRange(key, 0, -(max + 1));
+            c.expire(key, ttlSeconds);
+            return null;
+        });
+        return true;
+    }
+
+    public List<EmojiItem> list(Long userId, Integer limit) {
+        int max = Math.max(1, props.getRecentMax());
+        int size = (limit == null || limit <= 0 || limit > max) ? max : limit;
+        Set<String> chars = redis.opsForZSet().reverseRange(key(userId), 0, size - 1);
+        if (chars == null || chars.isEmpty()) return List.of();
+        List<EmojiItem> out = new ArrayList<>(chars.size());
+        for (String ch : chars) {
+            EmojiItem item = catalog.findByChar(ch);
+            if (item != null) out.add(item); // 카탈로그 교체로 사라진 항목은 건너뜀
+        }
+        return out;
+    }
+
+    private static String key(Long userId) {
+        return "emoji:recent:" + userId;
+    }
+}
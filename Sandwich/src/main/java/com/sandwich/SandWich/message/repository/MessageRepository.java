@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,9 +25,28 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
     SELECT m FROM Message m
      JOIN FETCH m.sender s
     WHERE m.room.id = :roomId
-    ORDER BY m.createdAt ASC""")
+    ORDER BY m.createdAt ASC, m.id ASC""")
     java.util.List<Message> findAllByRoomIdOrderByCreatedAtAsc(@Param("roomId") Long roomId);
 
+    // 스트리밍 스크린샷용 keyset 페이지 — 위 전체 조회와 같은 createdAt 오름차순 (같은 시각은 id 순)
+    @Query("""
+    SELECT m FROM Message m
+     JOIN FETCH m.sender s
+    WHERE m.room.id = :roomId
+    ORDER BY m.createdAt ASC, m.id ASC""")
+    List<Message> findFirstPageAscByRoomId(@Param("roomId") Long roomId, Pageable pageable);
+
+    @Query("""
+    SELECT m FROM Message m
+     JOIN FETCH m.sender s
+    WHERE m.room.id = :roomId
+      AND (m.createdAt > :afterCreatedAt OR (m.createdAt = :afterCreatedAt AND m.id > :afterId))
+    ORDER BY m.createdAt ASC, m.id ASC""")
+    List<Message> findPageAscByRoomIdAfter(@Param("roomId") Long roomId,
+                                           @Param("afterCreatedAt") OffsetDateTime afterCreatedAt,
+                                           @Param("afterId") Long afterId,
+                                           Pageable pageable);
+
 
     @Query("select m from Message m join fetch m.room where m.id = :id")
     Optional<Message> findWithRoomById(@Param("id") Long id);
@@ -14,6 +14,14 @@ public class ScreenshotProperties {
     /** Playwright 페이지 타임아웃(ms) */
     private int timeoutMs = 15000;
 
+    /** 타일 스트리밍 렌더: 한 번에 읽을 메시지 수 */
+    private int pageSize = 500;
+
+    /** 타일 스트리밍 렌더: 타일 높이(px). 힙 사용량 ≈ 900 * tileHeight * 4 bytes */
+    private int tileHeight = 1024;
+
     public void setMaxCount(int maxCount) { this.maxCount = maxCount; }
     public void setTimeoutMs(int timeoutMs) { this.timeoutMs = timeoutMs; }
+    public void setPageSize(int pageSize) { this.pageSize = pageSize; }
+    public void setTileHeight(int tileHeight) { this.tileHeight = tileHeight; }
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.microsoft.playwright.*;
 import com.sandwich.SandWich.common.exception.exceptiontype.InvalidRangeException;
 import com.sandwich.SandWich.common.exception.exceptiontype.ScreenshotTooLargeException;
 import com.sandwich.SandWich.common.exception.exceptiontype.*;
+import com.sandwich.SandWich.message.attach.derivative.ImageDerivativeService;
 import com.sandwich.SandWich.message.attach.repository.AttachmentMetadataRepository;
 import com.sandwich.SandWich.message.attach.storage.StorageService;
 import com.sandwich.SandWich.message.domain.Message;
@@ -11,11 +12,15 @@ import com.sandwich.SandWich.message.dto.MessageType;
 import com.sandwich.SandWich.message.repository.MessageRepository;
 import com.sandwich.SandWich.message.repository.MessageRoomRepository;
 import com.sandwich.SandWich.message.screenshot.config.ScreenshotProperties;
+import com.sandwich.SandWich.message.attach.util.DefaultThumbnailResolver;
 import com.sandwich.SandWich.message.util.ChatScreenshotHtmlRenderer;
+import com.sandwich.SandWich.message.util.ChatScreenshotRenderer;
 import com.sandwich.SandWich.user.domain.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.ZoneId;
 import java.util.*;
@@ -28,6 +33,7 @@ public class MessageScreenshotService {
     private final MessageRepository messageRepo;
     private final AttachmentMetadataRepository attachmentMetadataRepository;
     private final StorageService storageService;
+    private final ImageDerivativeService derivativeService;
     private final Browser browser;
     private final ScreenshotProperties props;
 
@@ -62,6 +68,25 @@ public class MessageScreenshotService {
         }
     }
 
+    /**
+     * 방 전체 PNG (Java2D 타일 스트리밍 모드).
+     * 권한 검사는 즉시 하고, 렌더링은 응답 스트림에 직접 쓴다.
+     * 페이지마다 별도 조회로 끝나도록 트랜잭션을 걸지 않는다(영속성 컨텍스트에 전체 방이 쌓이지 않게).
+     */
+    public StreamingResponseBody streamRoomTiled(Long meId, Long roomId) {
+        roomRepo.findById(roomId).orElseThrow(MessageRoomNotFoundException::new);
+        ensureParticipant(meId, roomId);
+
+        var resolver = new DefaultThumbnailResolver(attachmentMetadataRepository, storageService);
+        // screenshotRoom 과 같은 순서 (createdAt, id)
+        ChatScreenshotRenderer.MessagePageSource source = (after, size) -> after == null
+                ? messageRepo.findFirstPageAscByRoomId(roomId, PageRequest.of(0, size))
+                : messageRepo.findPageAscByRoomIdAfter(roomId, after.getCreatedAt(), after.getId(), PageRequest.of(0, size));
+
+        return out -> ChatScreenshotRenderer.renderTiledPng(source, meId, resolver,
+                props.getPageSize(), props.getTileHeight(), out);
+    }
+
     // 뷰포트 범위 PNG
     @Transactional(readOnly = true)
     public byte[] screenshotRangePng(Long meId, Long roomId, long fromId, long toId,
@@ -151,12 +176,16 @@ public class MessageScreenshotService {
             var mdOpt = attachmentMetadataRepository.findByFilename(filename);
             if (mdOpt.isEmpty()) continue;
             var md = mdOpt.get();
-            if (md.getThumbnailKey() == null) continue;
 
-            byte[] bytes = storageService.load(md.getThumbnailKey());
+            // 파생본(256) 우선, 없으면 업로드 시 썸네일
+            var derived = derivativeService.bestMatch(md.getStorageKey(), 256);
+            String thumbKey = derived != null ? derived.getStorageKey() : md.getThumbnailKey();
+            if (thumbKey == null) continue;
+
+            byte[] bytes = storageService.load(thumbKey);
             if (bytes == null || bytes.length == 0) continue;
 
-            String keyLower = md.getThumbnailKey().toLowerCase();
+            String keyLower = thumbKey.toLowerCase();
             String outMime = keyLower.endsWith(".png") ? "image/png"
                     : keyLower.endsWith(".webp") ? "image/webp"
                     : "image/jpeg";
@@ -12,11 +12,15 @@ import java.awt.font.*;
 import java.awt.geom.RoundRectangle2D;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.text.AttributedCharacterIterator;
 import java.text.AttributedString;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.imageio.ImageIO;
 
 public class ChatScreenshotRenderer {
@@ -24,21 +28,31 @@ public class ChatScreenshotRenderer {
     private static final ObjectMapper M = new ObjectMapper();
 
     // -------------------- Font Loader --------------------
+    // TTF 파싱은 무거우므로 원본 폰트는 한 번만 로드하고, 크기별 파생 폰트도 캐시해 재사용
+    private static final String KOREAN_FONT_PATH = "/fonts/NotoSansKR-Regular.ttf";
+    private static final String EMOJI_FONT_PATH = "/fonts/OpenMoji-black-glyf.ttf";
+    private static final Map<String, java.awt.Font> BASE_FONTS = new ConcurrentHashMap<>();
+    private static final Map<String, java.awt.Font> DERIVED_FONTS = new ConcurrentHashMap<>();
+
     private static java.awt.Font loadKoreanFont(float size) {
-        try (var is = ChatScreenshotRenderer.class.getResourceAsStream("/fonts/NotoSansKR-Regular.ttf")) {
-            java.awt.Font base = java.awt.Font.createFont(java.awt.Font.TRUETYPE_FONT, is);
-            return base.deriveFont(size);
-        } catch (Exception e) {
-            return new java.awt.Font("SansSerif", java.awt.Font.PLAIN, (int) size);
-        }
+        return derivedFont(KOREAN_FONT_PATH, size);
     }
     private static java.awt.Font loadEmojiFont(float size) {
-        try (var is = ChatScreenshotRenderer.class.getResourceAsStream("/fonts/OpenMoji-black-glyf.ttf")) {
-            java.awt.Font base = java.awt.Font.createFont(java.awt.Font.TRUETYPE_FONT, is);
-            return base.deriveFont(size);
-        } catch (Exception e) {
-            return new java.awt.Font("SansSerif", java.awt.Font.PLAIN, (int) size);
-        }
+        return derivedFont(EMOJI_FONT_PATH, size);
+    }
+    private static java.awt.Font derivedFont(String path, float size) {
+        return DERIVED_FONTS.computeIfAbsent(path + "@" + size,
+                k -> baseFont(path).deriveFont(size));
+    }
+    private static java.awt.Font baseFont(String path) {
+        return BASE_FONTS.computeIfAbsent(path, p -> {
+            try (var is = ChatScreenshotRenderer.class.getResourceAsStream(p)) {
+                if (is == null) throw new IllegalStateException("font not found: " + p);
+                return java.awt.Font.createFont(java.awt.Font.TRUETYPE_FONT, is);
+            } catch (Exception e) {
+                return new java.awt.Font("SansSerif", java.awt.Font.PLAIN, 1);
+            }
+        });
     }
 
     // -------------------- Emoji Helpers --------------------
@@ -163,113 +177,105 @@ public class ChatScreenshotRenderer {
         return renderPng(messages, meId, thumbResolver, DesignTokens.defaults());
     }
 
+    /**
+     * 타일 스트리밍 모드.
+     * 메시지를 페이지 단위로 한 번만 읽으며 고정 높이 타일에 그리고, 타일이 찰 때마다 PNG 행으로 바로 인코딩한다.
+     * 전체 높이는 다 그린 뒤에야 알 수 있으므로 인코더는 높이 미정 모드(압축 IDAT 를 임시 파일에 모음)로 쓴다.
+     * 힙 사용량은 타일 1장 + 메시지 1페이지로 고정되어 방 길이와 무관하다.
+     */
+    public static void renderTiledPng(MessagePageSource source, Long meId, ThumbnailResolver thumbResolver,
+                                      int pageSize, int tileHeight, OutputStream out) throws IOException {
+        if (pageSize <= 0 || tileHeight <= 0) throw new IllegalArgumentException("pageSize/tileHeight must be positive");
+        Layout l = new Layout(DesignTokens.defaults());
+
+        BufferedImage tile = new BufferedImage(l.width, tileHeight, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = tile.createGraphics();
+        enableQuality(g);
+        try (StreamingPngEncoder png = new StreamingPngEncoder(out, l.width)) {
+            int tileTop = 0;
+            clearTile(g, tile, l, tile.getHeight()); // 높이 미정 — 일단 전부 배경
+
+            int y = l.padding;
+            Message cursor = null;
+            while (true) {
+                List<Message> page = source.nextPage(cursor, pageSize);
+                if (page.isEmpty()) break;
+                for (Message m : page) {
+                    int[] wh = measure(g, m, l, thumbResolver);
+                    int bubbleBottom = y + wh[1];
+                    // 말풍선이 타일 경계를 넘으면 현재 타일을 내보내고 다음 타일에 나머지를 다시 그린다
+                    while (true) {
+                        if (bubbleBottom >= tileTop && y < tileTop + tile.getHeight()) {
+                            g.translate(0, -tileTop);
+                            drawMessage(g, m, y, wh[0], wh[1], meId, l);
+                            g.translate(0, tileTop);
+                        }
+                        if (bubbleBottom < tileTop + tile.getHeight()) break;
+                        png.writeRows(tile, tile.getHeight());
+                        tileTop += tile.getHeight();
+                        clearTile(g, tile, l, tile.getHeight());
+                    }
+                    y = bubbleBottom + l.gap;
+                }
+                cursor = page.get(page.size() - 1);
+                if (page.size() < pageSize) break;
+            }
+
+            // 높이 확정: 배경은 totalHeight 까지, 최소 높이(200)까지 남는 부분은 투명
+            final int totalHeight = y + l.padding;
+            final int imageHeight = Math.max(totalHeight, 200);
+            clearRows(g, tile, Math.max(0, totalHeight - tileTop));
+            while (tileTop < imageHeight) {
+                png.writeRows(tile, Math.min(tile.getHeight(), imageHeight - tileTop));
+                tileTop += tile.getHeight();
+                clearTile(g, tile, l, totalHeight - tileTop);
+            }
+            png.finish(imageHeight);
+        } finally {
+            g.dispose();
+        }
+    }
+
+    /** 스트리밍 모드용 메시지 페이지 공급자 ((createdAt, id) 오름차순 keyset 페이지) */
+    @FunctionalInterface
+    public interface MessagePageSource {
+        /** @param after 직전 페이지의 마지막 메시지 — 이보다 뒤의 메시지부터 (null 이면 처음부터) */
+        List<Message> nextPage(Message after, int size);
+    }
+
     // -------------------- Core Render --------------------
     private static byte[] renderPng(List<Message> messages, Long meId,
                                     ThumbnailResolver thumbResolver, DesignTokens t) throws Exception {
-        final int width = 900;
-        final int padding = 20;
-        final int bubblePaddingX = t.spacing.bubblePaddingX;
-        final int bubblePaddingY = t.spacing.bubblePaddingY;
-        final int gap = t.spacing.gap;
-        final int radius = t.radius;
-        final int timestampArea = 18;
-        final int rightGutter = 200;
-        final int contentWidth = width - padding * 2 - rightGutter;
-
-        // AWT 폰트는 java.awt.Font로 명시
-        java.awt.Font font  = loadKoreanFont((float) t.font.size);
-        java.awt.Font emoji = loadEmojiFont((float) t.font.size);
-        java.awt.Font small = loadKoreanFont(Math.max(11, t.font.size - 2));
-        DateTimeFormatter dtf = DateTimeFormatter.ofPattern(t.timestampFormat);
+        Layout l = new Layout(t);
 
         // --- Pre-pass ---
         BufferedImage tmpImg = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
         Graphics2D tg = tmpImg.createGraphics();
         enableQuality(tg);
 
-        final int thumbW = 160, thumbH = 160;
-        List<Integer> preHeights = new ArrayList<>(messages.size());
-        List<Integer> preWidths  = new ArrayList<>(messages.size());
-        List<Boolean> hasThumb   = new ArrayList<>(messages.size());
-
-        int totalHeight = padding;
+        List<int[]> pre = new ArrayList<>(messages.size());
+        int totalHeight = l.padding;
         for (Message m : messages) {
-            String text = getDisplayText(m);
-            var it = buildAttrRuns(text, font, emoji);
-            List<TextLayout> lines = layoutLines(tg, it, contentWidth - bubblePaddingX * 2);
-
-            int textHeight = linesHeight(lines, 2);
-            int maxLineW   = maxLineWidth(lines);
-
-            boolean showThumb = false;
-            if (m.getType() == MessageType.ATTACHMENT && thumbResolver != null) {
-                try { showThumb = (thumbResolver.resolveFor(m) != null); } catch (Exception ignore) {}
-            }
-            hasThumb.add(showThumb);
-
-            int bubbleH = textHeight + bubblePaddingY * 2 + timestampArea;
-            int bubbleW = Math.min(contentWidth, maxLineW + bubblePaddingX * 2);
-
-            if (showThumb) {
-                bubbleH = Math.max(bubbleH, thumbH + bubblePaddingY * 2 + timestampArea);
-                bubbleW = Math.max(bubbleW, thumbW + bubblePaddingX * 2);
-            }
-
-            preHeights.add(bubbleH);
-            preWidths.add(bubbleW);
-            totalHeight += bubbleH + gap;
+            int[] wh = measure(tg, m, l, thumbResolver);
+            pre.add(wh);
+            totalHeight += wh[1] + l.gap;
         }
         tg.dispose();
-        totalHeight += padding;
+        totalHeight += l.padding;
 
         // --- Draw ---
-        BufferedImage img = new BufferedImage(width, Math.max(totalHeight, 200), BufferedImage.TYPE_INT_ARGB);
+        BufferedImage img = new BufferedImage(l.width, Math.max(totalHeight, 200), BufferedImage.TYPE_INT_ARGB);
         Graphics2D g = img.createGraphics();
         enableQuality(g);
 
-        g.setColor(parseColor(t.colors.bg));
-        g.fillRect(0, 0, width, totalHeight);
-
-        Color meBg = parseColor(t.colors.meBubble);
-        Color otherBg = parseColor(t.colors.youBubble);
-        Color border = parseColor(t.colors.border);
-        Color textColor = parseColor(t.colors.text);
-        Color tsColor = parseColor(t.colors.timestamp);
+        g.setColor(l.bg);
+        g.fillRect(0, 0, l.width, totalHeight);
 
-        int y = padding;
+        int y = l.padding;
         for (int i = 0; i < messages.size(); i++) {
-            Message m = messages.get(i);
-            boolean mine = m.getSender().getId().equals(meId);
-            String preview = getDisplayText(m);
-
-            var it = buildAttrRuns(preview, font, emoji);
-            List<TextLayout> lines = layoutLines(g, it, contentWidth - bubblePaddingX * 2);
-
-            int bubbleW = preWidths.get(i);
-            int bubbleH = preHeights.get(i);
-            int x = mine ? (width - padding - bubbleW) : padding;
-
-            // Bubble
-            g.setColor(mine ? meBg : otherBg);
-            g.fillRoundRect(x, y, bubbleW, bubbleH, radius, radius);
-            g.setColor(border);
-            g.drawRoundRect(x, y, bubbleW, bubbleH, radius, radius);
-
-            int contentX = x + bubblePaddingX;
-            int contentY = y + bubblePaddingY;
-
-            // 텍스트
-            g.setColor(textColor);
-            drawLayouts(g, lines, contentX, contentY, 2);
-
-            // 타임스탬프
-            g.setFont(small);
-            g.setColor(tsColor);
-            String ts = dtf.format(m.getCreatedAt());
-            g.drawString(ts, x + bubblePaddingX, y + bubbleH - 6);
-            g.setFont(font);
-
-            y += bubbleH + gap;
+            int[] wh = pre.get(i);
+            drawMessage(g, messages.get(i), y, wh[0], wh[1], meId, l);
+            y += wh[1] + l.gap;
         }
         g.dispose();
 
@@ -278,6 +284,112 @@ public class ChatScreenshotRenderer {
         return baos.toByteArray();
     }
 
+    /** 말풍선 크기 계산 → {width, height} */
+    private static int[] measure(Graphics2D g, Message m, Layout l, ThumbnailResolver thumbResolver) {
+        var it = buildAttrRuns(getDisplayText(m), l.font, l.emoji);
+        List<TextLayout> lines = layoutLines(g, it, l.contentWidth - l.bubblePaddingX * 2);
+
+        int textHeight = linesHeight(lines, 2);
+        int maxLineW   = maxLineWidth(lines);
+
+        boolean showThumb = false;
+        if (m.getType() == MessageType.ATTACHMENT && thumbResolver != null) {
+            try { showThumb = (thumbResolver.resolveFor(m) != null); } catch (Exception ignore) {}
+        }
+
+        int bubbleH = textHeight + l.bubblePaddingY * 2 + l.timestampArea;
+        int bubbleW = Math.min(l.contentWidth, maxLineW + l.bubblePaddingX * 2);
+
+        if (showThumb) {
+            bubbleH = Math.max(bubbleH, Layout.THUMB_H + l.bubblePaddingY * 2 + l.timestampArea);
+            bubbleW = Math.max(bubbleW, Layout.THUMB_W + l.bubblePaddingX * 2);
+        }
+        return new int[]{bubbleW, bubbleH};
+    }
+
+    private static void drawMessage(Graphics2D g, Message m, int y, int bubbleW, int bubbleH, Long meId, Layout l) {
+        boolean mine = m.getSender().getId().equals(meId);
+
+        var it = buildAttrRuns(getDisplayText(m), l.font, l.emoji);
+        List<TextLayout> lines = layoutLines(g, it, l.contentWidth - l.bubblePaddingX * 2);
+
+        int x = mine ? (l.width - l.padding - bubbleW) : l.padding;
+
+        // Bubble
+        g.setColor(mine ? l.meBg : l.otherBg);
+        g.fillRoundRect(x, y, bubbleW, bubbleH, l.radius, l.radius);
+        g.setColor(l.border);
+        g.drawRoundRect(x, y, bubbleW, bubbleH, l.radius, l.radius);
+
+        int contentX = x + l.bubblePaddingX;
+        int contentY = y + l.bubblePaddingY;
+
+        // 텍스트
+        g.setColor(l.textColor);
+        drawLayouts(g, lines, contentX, contentY, 2);
+
+        // 타임스탬프
+        g.setFont(l.small);
+        g.setColor(l.tsColor);
+        String ts = l.dtf.format(m.getCreatedAt());
+        g.drawString(ts, x + l.bubblePaddingX, y + bubbleH - 6);
+        g.setFont(l.font);
+    }
+
+    /** 타일을 초기화 — 위쪽 bgRows 행만 배경, 나머지는 투명 */
+    private static void clearTile(Graphics2D g, BufferedImage tile, Layout l, int bgRows) {
+        clearRows(g, tile, 0);
+        bgRows = Math.min(tile.getHeight(), bgRows);
+        if (bgRows > 0) {
+            g.setColor(l.bg);
+            g.fillRect(0, 0, tile.getWidth(), bgRows);
+        }
+    }
+
+    /** fromRow 부터 타일 끝까지 투명으로 */
+    private static void clearRows(Graphics2D g, BufferedImage tile, int fromRow) {
+        if (fromRow >= tile.getHeight()) return;
+        Composite prev = g.getComposite();
+        g.setComposite(AlphaComposite.Clear);
+        g.fillRect(0, fromRow, tile.getWidth(), tile.getHeight() - fromRow);
+        g.setComposite(prev);
+    }
+
+    /** 디자인 토큰에서 파생되는 치수/폰트/색상 묶음 */
+    private static final class Layout {
+        static final int THUMB_W = 160, THUMB_H = 160;
+
+        final int width = 900;
+        final int padding = 20;
+        final int timestampArea = 18;
+        final int rightGutter = 200;
+        final int bubblePaddingX, bubblePaddingY, gap, radius, contentWidth;
+        final java.awt.Font font, emoji, small;
+        final DateTimeFormatter dtf;
+        final Color bg, meBg, otherBg, border, textColor, tsColor;
+
+        Layout(DesignTokens t) {
+            this.bubblePaddingX = t.spacing.bubblePaddingX;
+            this.bubblePaddingY = t.spacing.bubblePaddingY;
+            this.gap = t.spacing.gap;
+            this.radius = t.radius;
+            this.contentWidth = width - padding * 2 - rightGutter;
+
+            // AWT 폰트는 java.awt.Font로 명시
+            this.font  = loadKoreanFont((float) t.font.size);
+            this.emoji = loadEmojiFont((float) t.font.size);
+            this.small = loadKoreanFont(Math.max(11, t.font.size - 2));
+            this.dtf = DateTimeFormatter.ofPattern(t.timestampFormat);
+
+            this.bg = parseColor(t.colors.bg);
+            this.meBg = parseColor(t.colors.meBubble);
+            this.otherBg = parseColor(t.colors.youBubble);
+            this.border = parseColor(t.colors.border);
+            this.textColor = parseColor(t.colors.text);
+            this.tsColor = parseColor(t.colors.timestamp);
+        }
+    }
+
     // -------------------- Message Text --------------------
     private static String getDisplayText(Message m) {
         MessageType t = m.getType();
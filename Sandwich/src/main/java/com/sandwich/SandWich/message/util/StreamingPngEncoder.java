@@ -0,0 +1,219 @@
+package com.sandwich.SandWich.message.util;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * 전체 이미지를 메모리에 올리지 않고 행(row) 단위로 PNG(RGBA 8bit)를 써 내려가는 인코더.
+ * 압축 데이터는 IDAT 청크(최대 {@link #IDAT_CHUNK_SIZE})로 잘라 바로 out 으로 흘려보낸다.
+ * 높이를 모르고 시작하면({@link #StreamingPngEncoder(OutputStream, int)}) IHDR 을 먼저 쓸 수 없으므로
+ * 압축된 IDAT 를 임시 파일에 모았다가 {@link #finish(int)} 에서 헤더 뒤에 이어 붙인다 (힙 사용량은 동일).
+ */
+public class StreamingPngEncoder implements AutoCloseable {
+
+    private static final byte[] SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final int IDAT_CHUNK_SIZE = 64 * 1024;
+
+    private final OutputStream out;
+    private final int width;
+    private int height;          // -1 = finish(int) 에서 확정
+    private final Path spool;    // 높이 미정일 때 IDAT 임시 저장
+    private final OutputStream idatOut;
+    private final ChunkBuffer idat = new ChunkBuffer();
+    private final DeflaterOutputStream zout;
+    private final Deflater deflater;
+    private final byte[] rowBuf;
+    private int rowsWritten = 0;
+    private boolean finished = false;
+
+    public StreamingPngEncoder(OutputStream out, int width, int height) throws IOException {
+        if (width <= 0 || height <= 0) throw new IllegalArgumentException("invalid png size " + width + "x" + height);
+        this.out = out;
+        this.width = width;
+        this.height = height;
+        this.spool = null;
+        this.idatOut = out;
+        this.deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        this.zout = new DeflaterOutputStream(idat, deflater, 8192);
+        this.rowBuf = new byte[1 + width * 4];
+        writeHeader();
+    }
+
+    /** 높이 미정 — 행을 다 쓴 뒤 {@link #finish(int)} 로 확정 */
+    public StreamingPngEncoder(OutputStream out, int width) throws IOException {
+        if (width <= 0) throw new IllegalArgumentException("invalid png width " + width);
+        this.out = out;
+        this.width = width;
+        this.height = -1;
+        this.spool = Files.createTempFile("png-idat-", ".part");
+        try {
+            this.idatOut = new BufferedOutputStream(Files.newOutputStream(spool), IDAT_CHUNK_SIZE);
+        } catch (IOException e) {
+            Files.deleteIfExists(spool);
+            throw e;
+        }
+        this.deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        this.zout = new DeflaterOutputStream(idat, deflater, 8192);
+        this.rowBuf = new byte[1 + width * 4];
+    }
+
+    private void writeHeader() throws IOException {
+        out.write(SIGNATURE);
+        byte[] ihdr = new byte[13];
+        putInt(ihdr, 0, width);
+        putInt(ihdr, 4, height);
+        ihdr[8] = 8;  // bit depth
+        ihdr[9] = 6;  // color type: RGBA
+        ihdr[10] = 0; // compression
+        ihdr[11] = 0; // filter
+        ihdr[12] = 0; // interlace
+        writeChunk(out, "IHDR", ihdr, 0, ihdr.length);
+    }
+
+    /** TYPE_INT_ARGB 타일의 상단 rows 개 행을 이어서 기록 */
+    public void writeRows(BufferedImage tile, int rows) throws IOException {
+        if (tile.getType() != BufferedImage.TYPE_INT_ARGB || tile.getWidth() != width) {
+            throw new IllegalArgumentException("tile must be TYPE_INT_ARGB with width " + width);
+        }
+        int[] px = ((DataBufferInt) tile.getRaster().getDataBuffer()).getData();
+        int n = Math.min(rows, tile.getHeight());
+        if (height >= 0) n = Math.min(n, height - rowsWritten);
+        for (int r = 0; r < n; r++) {
+            rowBuf[0] = 0; // filter: None
+            int base = r * width;
+            int o = 1;
+            for (int x = 0; x < width; x++) {
+                int argb = px[base + x];
+                rowBuf[o++] = (byte) (argb >>> 16);
+                rowBuf[o++] = (byte) (argb >>> 8);
+                rowBuf[o++] = (byte) argb;
+                rowBuf[o++] = (byte) (argb >>> 24);
+            }
+            zout.write(rowBuf, 0, rowBuf.length);
+        }
+        rowsWritten += n;
+    }
+
+    public int rowsWritten() { return rowsWritten; }
+
+    /** 남은 행은 투명으로 채우고 IDAT/IEND 를 마무리 */
+    public void finish() throws IOException {
+        if (height < 0) throw new IllegalStateException("height unknown — use finish(height)");
+        finish(height);
+    }
+
+    /** 높이 미정 모드: 여기서 높이를 확정하고 헤더 + 모아둔 IDAT 를 out 으로 내보낸다 */
+    public void finish(int finalHeight) throws IOException {
+        if (finished) return;
+        if (finalHeight < Math.max(1, rowsWritten) || (height >= 0 && finalHeight != height)) {
+            throw new IllegalArgumentException("invalid png height " + finalHeight + " (rows written " + rowsWritten + ")");
+        }
+        finished = true;
+        if (rowsWritten < finalHeight) {
+            java.util.Arrays.fill(rowBuf, (byte) 0);
+            while (rowsWritten < finalHeight) {
+                zout.write(rowBuf, 0, rowBuf.length);
+                rowsWritten++;
+            }
+        }
+        zout.finish();
+        idat.drain(true);
+        if (spool != null) {
+            idatOut.close();
+            height = finalHeight;
+            writeHeader();
+            Files.copy(spool, out);
+        }
+        writeChunk(out, "IEND", new byte[0], 0, 0);
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (height >= 0) finish();
+        } finally {
+            deflater.end();
+            if (spool != null) {
+                try {
+                    idatOut.close();
+                } finally {
+                    Files.deleteIfExists(spool);
+                }
+            }
+        }
+    }
+
+    private static void writeChunk(OutputStream to, String type, byte[] data, int off, int len) throws IOException {
+        byte[] t = type.getBytes(StandardCharsets.US_ASCII);
+        byte[] lenBytes = new byte[4];
+        putInt(lenBytes, 0, len);
+        to.write(lenBytes);
+        to.write(t);
+        to.write(data, off, len);
+        CRC32 crc = new CRC32();
+        crc.update(t);
+        crc.update(data, off, len);
+        byte[] crcBytes = new byte[4];
+        putInt(crcBytes, 0, (int) crc.getValue());
+        to.write(crcBytes);
+    }
+
+    private static void putInt(byte[] b, int off, int v) {
+        b[off] = (byte) (v >>> 24);
+        b[off + 1] = (byte) (v >>> 16);
+        b[off + 2] = (byte) (v >>> 8);
+        b[off + 3] = (byte) v;
+    }
+
+    /** deflate 출력이 IDAT_CHUNK_SIZE 만큼 모이면 청크로 내보내는 버퍼 */
+    private final class ChunkBuffer extends ByteArrayOutputStream {
+        ChunkBuffer() { super(IDAT_CHUNK_SIZE); }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            super.write(b, off, len);
+            drainQuietly();
+        }
+
+        @Override
+        public synchronized void write(int b) {
+            super.write(b);
+            drainQuietly();
+        }
+
+        private void drainQuietly() {
+            try {
+                drain(false);
+            } catch (IOException e) {
+                throw new java.io.UncheckedIOException(e);
+            }
+        }
+
+        void drain(boolean all) throws IOException {
+            int off = 0;
+            while (count - off >= IDAT_CHUNK_SIZE) {
+                writeChunk(idatOut, "IDAT", buf, off, IDAT_CHUNK_SIZE);
+                off += IDAT_CHUNK_SIZE;
+            }
+            if (all && count - off > 0) {
+                writeChunk(idatOut, "IDAT", buf, off, count - off);
+                off = count;
+            }
+            if (off > 0) {
+                System.arraycopy(buf, off, buf, 0, count - off);
+                count -= off;
+            }
+        }
+    }
+}
@@ -18,7 +18,7 @@ public class NotificationController {
 
     @GetMapping("/unread-count")
     public UnreadCountResponse unread(@AuthenticationPrincipal UserDetailsImpl me) {
-        Long meId = me.getUser().getId();
+        Long meId = me.getId();
         log.info("[API] /unread-count me.id={}", meId);   // ★ 내 id 확인
         return svc.unreadCount(meId);
     }
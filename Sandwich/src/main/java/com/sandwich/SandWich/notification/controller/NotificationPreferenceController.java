@@ -18,7 +18,7 @@ public class NotificationPreferenceController {
 
     @GetMapping("/me")
     public ResponseEntity<NotificationPrefsResponse> getMy(@AuthenticationPrincipal UserDetailsImpl user) {
-        return ResponseEntity.ok(service.getMy(user.getUser().getId()));
+        return ResponseEntity.ok(service.getMy(user.getId()));
     }
 
     // 부분 업데이트지만, 네 요구대로 PUT 사용 (null 필드는 무시)
@@ -26,6 +26,6 @@ public class NotificationPreferenceController {
     public ResponseEntity<NotificationPrefsResponse> updateMy(
             @AuthenticationPrincipal UserDetailsImpl user,
             @RequestBody NotificationPrefsUpdateRequest req) {
-        return ResponseEntity.ok(service.upsertMy(user.getUser().getId(), req));
+        return ResponseEntity.ok(service.upsertMy(user.getId(), req));
     }
 }
@@ -103,7 +103,7 @@ public class OAuth2SuccessHandler implements AuthenticationSuccessHandler {
         }
 
         // ---- create tokens
-        String accessToken = jwtUtil.createAccessToken(user.getEmail(), user.getRole().name());
+        String accessToken = jwtUtil.createAccessToken(user.getEmail(), user.getRole().name(), user.getTokenVersion());
         String refreshToken = jwtUtil.createRefreshToken(user.getEmail());
         redisUtil.saveRefreshToken(String.valueOf(user.getId()), refreshToken);
 
@@ -13,6 +13,7 @@ import com.sandwich.SandWich.project.service.ProjectService;
 import com.sandwich.SandWich.project.service.ProjectViewQueryService;
 import com.sandwich.SandWich.project.service.ProjectViewService;
 import com.sandwich.SandWich.project.support.UploadWindow;
+import com.sandwich.SandWich.project.search.ProjectSearchMode;
 import com.sandwich.SandWich.user.domain.User;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -86,6 +87,7 @@ public class ProjectController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "12") int size,
             @RequestParam(required = false) String q,
+            @RequestParam(required = false) String mode,   // contains | prefix | fuzzy | fulltext
             @RequestParam(required = false) UploadWindow uploadedWithin,
             @RequestParam(defaultValue = "false") boolean followingOnly,
             @RequestParam(required = false) Long authorId,
@@ -110,7 +112,8 @@ public class ProjectController {
             currentUserId = userDetails.getId(); // 사용 안 해도 무방
         }
 
-        return projectService.findAllProjects(q, uploadedWithin, followingOnly, currentUserId, pageable);
+        return projectService.findAllProjects(q, ProjectSearchMode.from(mode, null),
+                uploadedWithin, followingOnly, currentUserId, pageable);
     }
 
     @GetMapping("/user/{userId}")
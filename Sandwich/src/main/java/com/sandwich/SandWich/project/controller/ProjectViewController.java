@@ -26,8 +26,8 @@ public class ProjectViewController {
             @PathVariable Long userId,
             @AuthenticationPrincipal UserDetailsImpl userDetails
     ) {
-        Long currentUserId = userDetails.getUser().getId();
-        Role role = userDetails.getUser().getRole();
+        Long currentUserId = userDetails.getId();
+        Role role = userDetails.getRole();
 
         // 일반 사용자는 자기 자신만 조회 가능
         if (role == Role.ROLE_USER && !userId.equals(currentUserId)) {
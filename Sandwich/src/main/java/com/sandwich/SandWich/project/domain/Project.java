@@ -4,6 +4,8 @@ import com.sandwich.SandWich.common.domain.BaseEntity;
 import com.sandwich.SandWich.user.domain.User;
 import jakarta.persistence.*;
 import lombok.*;
+
+import java.time.OffsetDateTime;
 import java.util.*;
 
 @Entity
@@ -61,6 +63,15 @@ public class Project extends BaseEntity {
 
     private String qrImageUrl;
 
+    // QR 이미지 생성 상태 (null = QR 미사용/이전 데이터)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "qr_status", length = 16)
+    private QrStatus qrStatus;
+
+    // 마지막으로 QR 생성을 요청(PENDING)한 시각 — 오래 PENDING 인 행을 다시 큐에 넣는 기준
+    @Column(name = "qr_requested_at")
+    private OffsetDateTime qrRequestedAt;
+
     @Column(name = "view_count", nullable = false)
     private Long viewCount = 0L;
 
@@ -0,0 +1,8 @@
+package com.sandwich.SandWich.project.domain;
+
+/** 프로젝트 QR 이미지 생성 상태 (생성은 커밋 이후 백그라운드) */
+public enum QrStatus {
+    PENDING,  // 생성 대기/진행 중 — qrImageUrl 은 아직 비어 있거나 이전 값
+    READY,
+    FAILED    // 재시도 소진
+}
@@ -27,6 +27,7 @@ public class ProjectDetailResponse {
     private Boolean qrCodeEnabled;
     private Boolean deployEnabled;
     private String qrImageUrl;
+    private String qrStatus;           // PENDING 이면 qrImageUrl 은 곧 채워짐
     private String frontendBuildCommand;
     private String backendBuildCommand;
     private Integer portNumber;
@@ -0,0 +1,4 @@
+package com.sandwich.SandWich.project.event;
+
+/** 커밋 후 QR 이미지 생성 요청 (targetUrl = QR 에 담을 demoUrl) */
+public record ProjectQrRequestedEvent(Long projectId, String targetUrl) {}
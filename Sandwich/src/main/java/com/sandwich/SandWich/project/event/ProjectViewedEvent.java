@@ -0,0 +1,4 @@
+package com.sandwich.SandWich.project.event;
+
+/** 회원의 (1시간 내 중복 제외) 프로젝트 조회 — 활동 집계용 */
+public record ProjectViewedEvent(Long projectId, Long ownerId) {}
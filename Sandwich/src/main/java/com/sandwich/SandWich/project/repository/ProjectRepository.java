@@ -1,6 +1,7 @@
 package com.sandwich.SandWich.project.repository;
 
 import com.sandwich.SandWich.project.domain.Project;
+import com.sandwich.SandWich.project.domain.QrStatus;
 import com.sandwich.SandWich.user.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
@@ -12,6 +13,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -92,4 +94,38 @@ public interface ProjectRepository extends JpaRepository<Project, Long>, JpaSpec
     where p.id in :ids
     """)
     List<Project> findAllByIdInWithUser(@Param("ids") List<Long> ids);
-}
\ No newline at end of file
+
+    /** 요청 시각이 before 이전인 채로 남은 QR 작업 (id 순 페이지) */
+    interface QrPendingRow {
+        Long getId();
+        String getDemoUrl();
+    }
+
+    @Query("""
+    select p.id as id, p.demoUrl as demoUrl
+    from Project p
+    where p.qrStatus = :status
+      and p.demoUrl is not null
+      and (p.qrRequestedAt is null or p.qrRequestedAt < :before)
+      and p.id > :afterId
+    order by p.id
+    """)
+    List<QrPendingRow> findStaleQr(@Param("status") QrStatus status,
+                                   @Param("before") OffsetDateTime before,
+                                   @Param("afterId") Long afterId,
+                                   Pageable pageable);
+
+    /** 여러 인스턴스가 같은 행을 다시 넣지 않도록 요청 시각을 조건부로 갱신 (1 = 이 호출이 가져감) */
+    @Modifying
+    @Transactional
+    @Query("""
+    update Project p set p.qrRequestedAt = :now
+    where p.id = :id
+      and p.qrStatus = :status
+      and (p.qrRequestedAt is null or p.qrRequestedAt < :before)
+    """)
+    int claimStaleQr(@Param("id") Long id,
+                     @Param("status") QrStatus status,
+                     @Param("before") OffsetDateTime before,
+                     @Param("now") OffsetDateTime now);
+}
@@ -31,4 +31,18 @@ public final class ProjectSpecs {
                 cb.like(cb.lower(r.get("tools")), like)
         );
     }
+
+    /** PREFIX 모드의 DB 독립 대체: 제목/기술스택이 q 로 시작하거나 단어 경계에서 q 로 시작 */
+    public static Specification<Project> keywordPrefix(String qstr) {
+        if (qstr == null || qstr.isBlank()) return null;
+        String lower = qstr.trim().toLowerCase();
+        String head = lower + "%";
+        String word = "% " + lower + "%";
+        return (r, q, cb) -> cb.or(
+                cb.like(cb.lower(r.get("title")), head),
+                cb.like(cb.lower(r.get("title")), word),
+                cb.like(cb.lower(r.get("tools")), head),
+                cb.like(cb.lower(r.get("tools")), word)
+        );
+    }
 }
\ No newline at end of file
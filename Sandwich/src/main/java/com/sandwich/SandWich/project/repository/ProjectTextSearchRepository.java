@@ -0,0 +1,90 @@
+package com.sandwich.SandWich.project.repository;
+
+import com.sandwich.SandWich.project.search.ProjectSearchMode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * PostgreSQL 전용 프로젝트 검색 (search_tsv / pg_trgm 인덱스 사용, 스키마는 ProjectSearchSchemaInitializer).
+ * 관련도 순 id 한 페이지와 전체 건수만 돌려주고, 엔티티 로딩은 호출자가 id 로 한 번에 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectTextSearchRepository {
+
+    public record RankedIds(List<Long> ids, long total) {}
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public RankedIds search(String q, ProjectSearchMode mode, double fuzzyThreshold,
+                            Instant since, Set<Long> authorIds, int offset, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("q", q.trim().toLowerCase())
+                .addValue("limit", limit)
+                .addValue("offset", offset);
+
+        String match;
+        String rank;
+        switch (mode) {
+            case FULLTEXT -> {
+                match = "p.search_tsv @@ websearch_to_tsquery('simple', :q)";
+                rank = "ts_rank(p.search_tsv, websearch_to_tsquery('simple', :q))";
+            }
+            case PREFIX -> {
+                String tsq = prefixQuery(q);
+                if (tsq.isEmpty()) return new RankedIds(List.of(), 0);
+                params.addValue("tsq", tsq);
+                match = "p.search_tsv @@ to_tsquery('simple', :tsq)";
+                rank = "ts_rank(p.search_tsv, to_tsquery('simple', :tsq))";
+            }
+            case FUZZY -> {
+                // 연산자 형태(%, <%)여야 trigram GIN 인덱스를 탄다 — 임계값은 세션 설정으로 전달
+                jdbc.getJdbcTemplate().queryForObject(
+                        "select set_config('pg_trgm.similarity_threshold', ?, true), "
+                                + "set_config('pg_trgm.word_similarity_threshold', ?, true)",
+                        String.class, String.valueOf(fuzzyThreshold), String.valueOf(fuzzyThreshold));
+                match = "(lower(p.title) % :q or lower(p.tools) % :q or :q <% lower(p.description))";
+                rank = "greatest(similarity(lower(p.title), :q), similarity(lower(coalesce(p.tools, '')), :q), "
+                        + "word_similarity(:q, lower(coalesce(p.description, ''))) * 0.8)";
+            }
+            default -> throw new IllegalArgumentException("unsupported mode for text search: " + mode);
+        }
+
+        List<String> where = new ArrayList<>();
+        where.add(match);
+        if (since != null) {
+            where.add("p.created_at >= :since");
+            params.addValue("since", Timestamp.from(since));
+        }
+        if (authorIds != null) {
+            where.add("p.user_id in (:authorIds)");
+            params.addValue("authorIds", authorIds);
+        }
+        String cond = String.join(" and ", where);
+
+        List<Long> ids = jdbc.queryForList(
+                "select p.id from project p where " + cond
+                        + " order by " + rank + " desc, p.created_at desc limit :limit offset :offset",
+                params, Long.class);
+        Long total = jdbc.queryForObject("select count(*) from project p where " + cond, params, Long.class);
+        return new RankedIds(ids, total == null ? 0 : total);
+    }
+
+    /** "spring boo" → "spring:* & boo:*" (tsquery 특수문자는 제거) */
+    static String prefixQuery(String q) {
+        List<String> terms = new ArrayList<>();
+        for (String t : q.toLowerCase().split("\\s+")) {
+            String clean = t.replaceAll("[^\\p{L}\\p{N}_]", "");
+            if (!clean.isEmpty()) terms.add(clean + ":*");
+        }
+        return String.join(" & ", terms);
+    }
+}
@@ -0,0 +1,58 @@
+package com.sandwich.SandWich.project.scheduler;
+
+import com.sandwich.SandWich.project.domain.QrStatus;
+import com.sandwich.SandWich.project.repository.ProjectRepository;
+import com.sandwich.SandWich.project.service.ProjectQrService;
+import com.sandwich.SandWich.project.support.ProjectQrProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * 오래 PENDING 으로 남은 QR 행을 다시 큐에 넣는다.
+ * 커밋 후 이벤트는 메모리 큐에만 있으므로 재시작·큐 거절·종료 중 재시도 취소로 작업이 사라질 수 있음.
+ * 행마다 요청 시각을 조건부로 갱신해 가져가므로 여러 인스턴스가 돌아도 한 곳에서만 다시 넣는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectQrSweeper {
+
+    private final ProjectQrProperties props;
+    private final ProjectRepository projectRepository;
+    private final ProjectQrService qrService;
+    private final Clock clock;
+
+    @Scheduled(fixedDelayString = "${app.project.qr.sweep-interval-ms:300000}", initialDelay = 60_000L)
+    public void sweep() {
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        OffsetDateTime before = now.minusNanos(props.getStaleAfterMillis() * 1_000_000L);
+        int batch = Math.max(1, props.getSweepBatchSize());
+        long afterId = 0L;
+        int requeued = 0;
+
+        while (true) {
+            // 새 요청 몫으로 큐 절반은 남겨둔다
+            int room = qrService.remainingCapacity() - props.getQueueCapacity() / 2;
+            if (room <= 0) break;
+
+            List<ProjectRepository.QrPendingRow> page = projectRepository.findStaleQr(
+                    QrStatus.PENDING, before, afterId, PageRequest.of(0, Math.min(batch, room)));
+            if (page.isEmpty()) break;
+            for (ProjectRepository.QrPendingRow row : page) {
+                if (projectRepository.claimStaleQr(row.getId(), QrStatus.PENDING, before, now) != 1) continue;
+                // 거절돼도 요청 시각은 갱신됐으니 다음 주기 이후 다시 대상이 됨
+                if (!qrService.resubmit(row.getId(), row.getDemoUrl())) break;
+                requeued++;
+            }
+            afterId = page.get(page.size() - 1).getId();
+        }
+        if (requeued > 0) log.info("[QR][SWEEP] requeued={}", requeued);
+    }
+}
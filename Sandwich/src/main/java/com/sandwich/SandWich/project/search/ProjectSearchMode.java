@@ -0,0 +1,24 @@
+package com.sandwich.SandWich.project.search;
+
+import java.util.Locale;
+
+/** 프로젝트 키워드 검색 방식 (요청 파라미터 mode) */
+public enum ProjectSearchMode {
+    /** 기존 동작: 제목/설명/기술스택 부분 문자열 (LIKE '%q%') */
+    CONTAINS,
+    /** 단어 접두 일치 (tsquery 'q:*') */
+    PREFIX,
+    /** 오타 허용 trigram 유사도 */
+    FUZZY,
+    /** 전문 검색 (websearch_to_tsquery, ts_rank 정렬) */
+    FULLTEXT;
+
+    public static ProjectSearchMode from(String raw, ProjectSearchMode fallback) {
+        if (raw == null || raw.isBlank()) return fallback;
+        try {
+            return valueOf(raw.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return fallback;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.sandwich.SandWich.project.search;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter @Setter
+@Component
+@ConfigurationProperties(prefix = "app.search.projects")
+public class ProjectSearchProperties {
+    /** PostgreSQL 이면 기동 시 tsvector/pg_trgm 스키마 적용 후 PREFIX/FUZZY/FULLTEXT 사용 */
+    private boolean pgEnabled = true;
+
+    /** mode 파라미터가 없을 때 */
+    private ProjectSearchMode defaultMode = ProjectSearchMode.CONTAINS;
+
+    /** FUZZY 모드 유사도 하한 (pg_trgm.similarity_threshold / word_similarity_threshold) */
+    private double fuzzyThreshold = 0.3;
+}
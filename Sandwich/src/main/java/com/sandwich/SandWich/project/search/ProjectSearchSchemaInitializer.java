@@ -0,0 +1,51 @@
+package com.sandwich.SandWich.project.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+/**
+ * PostgreSQL 일 때만 db/project-search-postgres.sql 을 적용하고 사용 가능 여부를 기록한다.
+ * H2 등 다른 DB 이거나 확장 설치 권한이 없어 실패하면 available=false → LIKE 검색으로 대체.
+ * (엔티티에 매핑되지 않은 컬럼/인덱스라 ddl-auto=update 와 충돌하지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectSearchSchemaInitializer implements ApplicationRunner {
+
+    private static final String SCRIPT = "db/project-search-postgres.sql";
+
+    private final DataSource dataSource;
+    private final ProjectSearchProperties props;
+
+    private volatile boolean available = false;
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!props.isPgEnabled()) return;
+        try (Connection c = dataSource.getConnection()) {
+            String product = c.getMetaData().getDatabaseProductName();
+            if (!"PostgreSQL".equalsIgnoreCase(product)) {
+                log.info("[ProjectSearch] {} detected, using LIKE fallback", product);
+                return;
+            }
+            new ResourceDatabasePopulator(new ClassPathResource(SCRIPT)).populate(c);
+            available = true;
+            log.info("[ProjectSearch] tsvector/pg_trgm schema ready");
+        } catch (Exception e) {
+            log.warn("[ProjectSearch] schema init failed, using LIKE fallback err={}", e.toString());
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.sandwich.SandWich.project.service;
+
+import com.sandwich.SandWich.common.util.QRCodeGenerator;
+import com.sandwich.SandWich.project.domain.QrStatus;
+import com.sandwich.SandWich.project.event.ProjectQrRequestedEvent;
+import com.sandwich.SandWich.project.repository.ProjectRepository;
+import com.sandwich.SandWich.project.support.ProjectQrProperties;
+import com.sandwich.SandWich.upload.util.S3Uploader;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 프로젝트 QR 이미지를 커밋 이후 백그라운드에서 생성/업로드한다.
+ * - 요청 트랜잭션에서는 qrStatus=PENDING 만 기록하고 이벤트 발행
+ * - 키는 (크기, URL) 해시로 정해져 같은 URL 이면 같은 객체를 재사용 (이미 있으면 생성·업로드 생략)
+ * - 실패 시 지수 백오프 재시도, 소진되면 FAILED
+ * - 처리 도중 demoUrl 이 바뀌었으면 결과를 버림 (새 요청이 따로 들어옴)
+ * - 재시작 등으로 사라진 작업은 ProjectQrSweeper 가 qrRequestedAt 기준으로 다시 넣음
+ */
+@Slf4j
+@Service
+public class ProjectQrService {
+
+    private final ProjectQrProperties props;
+    private final ProjectRepository projectRepository;
+    private final S3Uploader s3Uploader;
+    private final TransactionTemplate tx;
+
+    private final Counter generated;
+    private final Counter reused;
+    private final Counter failed;
+
+    private ThreadPoolExecutor executor;
+    private ScheduledExecutorService retryScheduler;
+
+    private record Job(Long projectId, String targetUrl, int attempt) {}
+
+    public ProjectQrService(ProjectQrProperties props,
+                            ProjectRepository projectRepository,
+                            S3Uploader s3Uploader,
+                            PlatformTransactionManager txManager,
+                            MeterRegistry registry) {
+        this.props = props;
+        this.projectRepository = projectRepository;
+        this.s3Uploader = s3Uploader;
+        this.tx = new TransactionTemplate(txManager);
+        this.generated = Counter.builder("project_qr_generated_total").description("QR images generated and uploaded").register(registry);
+        this.reused    = Counter.builder("project_qr_reused_total").description("QR images reused by content key").register(registry);
+        this.failed    = Counter.builder("project_qr_failed_total").description("QR jobs given up").register(registry);
+    }
+
+    @PostConstruct
+    void start() {
+        int workers = Math.max(1, props.getWorkers());
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, props.getQueueCapacity())),
+                r -> {
+                    Thread t = new Thread(r, "project-qr-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "project-qr-retry");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        retryScheduler.shutdownNow();
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) executor.shutdownNow();
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onQrRequested(ProjectQrRequestedEvent ev) {
+        submit(new Job(ev.projectId(), ev.targetUrl(), 1));
+    }
+
+    /**
+     * 유실된 PENDING 작업을 다시 넣는다 (ProjectQrSweeper).
+     * 큐가 가득 차면 FAILED 로 바꾸지 않고 false — 다음 스윕에서 다시 시도
+     */
+    public boolean resubmit(Long projectId, String targetUrl) {
+        Job job = new Job(projectId, targetUrl, 1);
+        try {
+            executor.execute(() -> run(job));
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    public int remainingCapacity() {
+        return executor.getQueue().remainingCapacity();
+    }
+
+    private void submit(Job job) {
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            log.warn("[QR][REJECT] queue full projectId={}", job.projectId());
+            markFailed(job);
+        }
+    }
+
+    private void run(Job job) {
+        try {
+            String url = produce(job.targetUrl());
+            apply(job, url);
+        } catch (Exception e) {
+            if (job.attempt() >= props.getMaxAttempts()) {
+                log.warn("[QR][GIVEUP] projectId={} attempts={} err={}", job.projectId(), job.attempt(), e.toString());
+                markFailed(job);
+                return;
+            }
+            long backoff = props.getBaseBackoffMillis() * (1L << (job.attempt() - 1));
+            long jitter = ThreadLocalRandom.current().nextLong(Math.max(1, backoff / 2));
+            log.info("[QR][RETRY] projectId={} attempt={} in {}ms err={}", job.projectId(), job.attempt(), backoff + jitter, e.toString());
+            try {
+                retryScheduler.schedule(() -> submit(new Job(job.projectId(), job.targetUrl(), job.attempt() + 1)),
+                        backoff + jitter, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException ignore) {
+                // 종료 중 — PENDING 으로 남음
+            }
+        }
+    }
+
+    /** 같은 (크기, URL) 이면 같은 키 → 이미 올라가 있으면 그대로 사용 */
+    String produce(String targetUrl) {
+        int size = props.getSizePx();
+        String hash = contentHash(size + "|" + targetUrl);
+        if (s3Uploader.qrImageExists(hash)) {
+            reused.increment();
+            return s3Uploader.qrImageUrl(hash);
+        }
+        byte[] png = QRCodeGenerator.generateQRCodeImage(targetUrl, size, size);
+        String url = s3Uploader.uploadQrImage(png, hash);
+        generated.increment();
+        return url;
+    }
+
+    private void apply(Job job, String qrImageUrl) {
+        tx.executeWithoutResult(s -> projectRepository.findById(job.projectId()).ifPresent(p -> {
+            if (!Objects.equals(p.getDemoUrl(), job.targetUrl())) {
+                log.info("[QR][STALE] projectId={} demoUrl changed, dropping result", p.getId());
+                return;
+            }
+            p.setQrImageUrl(qrImageUrl);
+            p.setQrStatus(QrStatus.READY);
+            log.info("[QR 업로드] projectId={} S3 URL={}", p.getId(), qrImageUrl);
+        }));
+    }
+
+    private void markFailed(Job job) {
+        failed.increment();
+        try {
+            tx.executeWithoutResult(s -> projectRepository.findById(job.projectId()).ifPresent(p -> {
+                if (Objects.equals(p.getDemoUrl(), job.targetUrl())) p.setQrStatus(QrStatus.FAILED);
+            }));
+        } catch (Exception e) {
+            log.warn("[QR][FAIL-MARK] projectId={} err={}", job.projectId(), e.toString());
+        }
+    }
+
+    private static String contentHash(String s) {
+        try {
+            byte[] d = MessageDigest.getInstance("SHA-256").digest(s.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(d);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,23 +1,29 @@
 package com.sandwich.SandWich.project.service;
 
 import com.sandwich.SandWich.common.dto.PageResponse;
-import com.sandwich.SandWich.common.util.QRCodeGenerator;
 import com.sandwich.SandWich.discovery.service.HotDeveloperService;
 import com.sandwich.SandWich.project.domain.Project;
+import com.sandwich.SandWich.project.domain.QrStatus;
 import com.sandwich.SandWich.project.dto.ProjectDetailResponse;
 import com.sandwich.SandWich.project.dto.ProjectListItemResponse;
 import com.sandwich.SandWich.project.dto.ProjectRequest;
 import com.sandwich.SandWich.project.dto.ProjectResponse;
+import com.sandwich.SandWich.project.event.ProjectQrRequestedEvent;
 import com.sandwich.SandWich.project.repository.ProjectRepository;
 import com.sandwich.SandWich.project.repository.ProjectSpecs;
+import com.sandwich.SandWich.project.repository.ProjectTextSearchRepository;
+import com.sandwich.SandWich.project.search.ProjectSearchMode;
+import com.sandwich.SandWich.project.search.ProjectSearchProperties;
+import com.sandwich.SandWich.project.search.ProjectSearchSchemaInitializer;
 import com.sandwich.SandWich.project.support.UploadWindow;
 import com.sandwich.SandWich.reward.service.CreditUseService;
 import com.sandwich.SandWich.social.repository.FollowRepository;
-import com.sandwich.SandWich.upload.util.S3Uploader;
 import com.sandwich.SandWich.user.domain.User;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
@@ -29,18 +35,26 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ProjectService {
 
     private final ProjectRepository projectRepository;
-    private final S3Uploader s3Uploader;
     private final FollowRepository followRepository;
     private final Clock clock;
     private final CreditUseService creditUseService;
     private final HotDeveloperService hotDeveloperService;
+    private final ApplicationEventPublisher events;
+    private final ProjectTextSearchRepository textSearchRepository;
+    private final ProjectSearchSchemaInitializer searchSchema;
+    private final ProjectSearchProperties searchProps;
 
     private static final Logger log = LoggerFactory.getLogger(ProjectService.class);
 
@@ -120,11 +134,11 @@ public class ProjectService {
                 );
             }
 
-            log.info("[QR 생성][CREATE] demoUrl 기반 - {}", demoUrl);
-            byte[] qrImage = QRCodeGenerator.generateQRCodeImage(demoUrl, 300, 300);
-            String qrImageUrl = s3Uploader.uploadQrImage(qrImage);
-            saved.setQrImageUrl(qrImageUrl);
-            log.info("[QR 업로드][CREATE] projectId={} S3 URL={}", saved.getId(), qrImageUrl);
+            // 생성/업로드는 커밋 이후 ProjectQrService 가 처리
+            saved.setQrStatus(QrStatus.PENDING);
+            saved.setQrRequestedAt(OffsetDateTime.now(clock));
+            events.publishEvent(new ProjectQrRequestedEvent(saved.getId(), demoUrl));
+            log.info("[QR 요청][CREATE] projectId={} demoUrl={}", saved.getId(), demoUrl);
         }
 
         // --- 크레딧 차감 정책 ---
@@ -140,8 +154,7 @@ public class ProjectService {
                     user.getId(), saved.getId(), PROJECT_DEPLOY_COST, remaining);
         }
 
-        // 다시 저장 (shareUrl + demoUrl + qrImageUrl 포함)
-        projectRepository.save(saved);
+        // shareUrl/demoUrl/qrStatus 는 영속 상태인 saved 에 반영되어 커밋 시 flush
 
         return new ProjectResponse(saved.getId(), shareUrl);
     }
@@ -179,6 +192,7 @@ public class ProjectService {
                 .qrCodeEnabled(project.getQrCodeEnabled())
                 .deployEnabled(project.getDeployEnabled())
                 .qrImageUrl(project.getQrImageUrl())
+                .qrStatus(project.getQrStatus() != null ? project.getQrStatus().name() : null)
                 .frontendBuildCommand(project.getFrontendBuildCommand())
                 .backendBuildCommand(project.getBackendBuildCommand())
                 .portNumber(project.getPortNumber())
@@ -204,20 +218,33 @@ public class ProjectService {
             boolean followingOnly,
             Long currentUserId,
             Pageable pageable
+    ) {
+        return findAllProjects(q, null, uploadedWithin, followingOnly, currentUserId, pageable);
+    }
+
+    /**
+     * mode: CONTAINS(기본, LIKE) / PREFIX / FUZZY / FULLTEXT.
+     * PostgreSQL 검색 스키마가 준비된 경우 PREFIX/FUZZY/FULLTEXT 는 관련도 순, 아니면 LIKE 계열로 대체(최신순).
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<ProjectListItemResponse> findAllProjects(
+            String q,
+            ProjectSearchMode mode,
+            UploadWindow uploadedWithin,
+            boolean followingOnly,
+            Long currentUserId,
+            Pageable pageable
     ) {
         Specification<Project> spec = Specification.where(ProjectSpecs.always());
+        boolean hasQuery = q != null && !q.isBlank();
+        ProjectSearchMode effective = mode != null ? mode : searchProps.getDefaultMode();
 
-        if (uploadedWithin != null) {
-            spec = spec.and(ProjectSpecs.createdAfter(uploadedWithin.since(clock)));
-        }
-        if (q != null && !q.isBlank()) {
-            spec = spec.and(ProjectSpecs.keywordLike(q));
-        }
+        Set<Long> followingIds = null;
         if (followingOnly) {
             if (currentUserId == null) {
                 throw new IllegalStateException("Login required for followingOnly=true");
             }
-            Set<Long> followingIds = followRepository.findFollowingUserIds(currentUserId);
+            followingIds = followRepository.findFollowingUserIds(currentUserId);
             if (followingIds.isEmpty()) {
                 Page<Project> empty = Page.empty(pageable);
                 Page<ProjectListItemResponse> mappedEmpty = empty.map(ProjectListItemResponse::new);
@@ -226,6 +253,19 @@ public class ProjectService {
             spec = spec.and(ProjectSpecs.authorIn(followingIds));
         }
 
+        if (hasQuery && effective != ProjectSearchMode.CONTAINS && searchSchema.isAvailable()) {
+            return rankedSearch(q, effective, uploadedWithin, followingIds, pageable);
+        }
+
+        if (uploadedWithin != null) {
+            spec = spec.and(ProjectSpecs.createdAfter(uploadedWithin.since(clock)));
+        }
+        if (hasQuery) {
+            spec = spec.and(effective == ProjectSearchMode.PREFIX
+                    ? ProjectSpecs.keywordPrefix(q)
+                    : ProjectSpecs.keywordLike(q));
+        }
+
         Pageable byLatest = PageRequest.of(
                 pageable.getPageNumber(),
                 pageable.getPageSize(),
@@ -237,6 +277,27 @@ public class ProjectService {
         return PageResponse.of(mapped);
     }
 
+    private PageResponse<ProjectListItemResponse> rankedSearch(String q, ProjectSearchMode mode,
+                                                               UploadWindow uploadedWithin, Set<Long> authorIds,
+                                                               Pageable pageable) {
+        ProjectTextSearchRepository.RankedIds ranked = textSearchRepository.search(
+                q, mode, searchProps.getFuzzyThreshold(),
+                uploadedWithin != null ? uploadedWithin.since(clock) : null,
+                authorIds, (int) pageable.getOffset(), pageable.getPageSize());
+
+        // 관련도 순서 유지하며 한 번에 로딩
+        Map<Long, Project> byId = ranked.ids().isEmpty()
+                ? Map.of()
+                : projectRepository.findAllByIdInWithUser(ranked.ids()).stream()
+                        .collect(Collectors.toMap(Project::getId, p -> p));
+        List<ProjectListItemResponse> items = ranked.ids().stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .map(ProjectListItemResponse::new)
+                .toList();
+        return PageResponse.of(new PageImpl<>(items, pageable, ranked.total()));
+    }
+
     @Transactional(readOnly = true)
     public PageResponse<ProjectListItemResponse> findProjectsByAuthor(Long authorId, Pageable pageable) {
         Specification<Project> spec = Specification.where(ProjectSpecs.always())
@@ -262,6 +323,7 @@ public class ProjectService {
         }
 
         Boolean beforeDeployEnabled = project.getDeployEnabled();
+        String beforeDemoUrl = project.getDemoUrl();
 
         project.setTitle(request.getTitle());
         project.setDescription(request.getDescription());
@@ -318,11 +380,16 @@ public class ProjectService {
                 );
             }
 
-            log.info("[QR 생성][UPDATE] projectId={} demoUrl={}", project.getId(), demoUrl);
-            byte[] qrImage = QRCodeGenerator.generateQRCodeImage(demoUrl, 300, 300);
-            String qrImageUrl = s3Uploader.uploadQrImage(qrImage);
-            project.setQrImageUrl(qrImageUrl);
-            log.info("[QR 업로드][UPDATE] projectId={} S3 URL={}", project.getId(), qrImageUrl);
+            // demoUrl 이 그대로고 이미 만들어져 있으면 다시 만들 필요 없음
+            boolean upToDate = project.getQrStatus() == QrStatus.READY
+                    && project.getQrImageUrl() != null
+                    && demoUrl.equals(beforeDemoUrl);
+            if (!upToDate) {
+                project.setQrStatus(QrStatus.PENDING);
+                project.setQrRequestedAt(OffsetDateTime.now(clock));
+                events.publishEvent(new ProjectQrRequestedEvent(project.getId(), demoUrl));
+                log.info("[QR 요청][UPDATE] projectId={} demoUrl={}", project.getId(), demoUrl);
+            }
         }
 
         projectRepository.save(project);
@@ -4,11 +4,13 @@ import com.sandwich.SandWich.common.util.RedisUtil;
 import com.sandwich.SandWich.project.domain.Project;
 import com.sandwich.SandWich.project.domain.ProjectView;
 import com.sandwich.SandWich.project.dto.ProjectViewDto;
+import com.sandwich.SandWich.project.event.ProjectViewedEvent;
 import com.sandwich.SandWich.project.repository.ProjectRepository;
 import com.sandwich.SandWich.project.repository.ProjectViewRepository;
 import com.sandwich.SandWich.user.domain.User;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +29,7 @@ public class ProjectViewService {
     private final ProjectRepository projectRepository;
     private final ProjectViewRepository projectViewRepository;
     private final RedisUtil redisUtil;
+    private final ApplicationEventPublisher events;
 
     private static final long TTL_HOURS = 1;
 
@@ -80,6 +83,10 @@ public class ProjectViewService {
                     .viewedAt(OffsetDateTime.now())
                     .build());
         }
+        if (!isDuplicate) {
+            // 작성자 일별 활동 롤업(핫 개발자 트렌드)에 커밋 후 반영
+            events.publishEvent(new ProjectViewedEvent(projectId, project.getUser().getId()));
+        }
     }
 
     private String generateRedisKey(Long projectId, User viewer, HttpServletRequest request) {
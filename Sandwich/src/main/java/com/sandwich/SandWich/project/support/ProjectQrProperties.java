@@ -0,0 +1,25 @@
+package com.sandwich.SandWich.project.support;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter @Setter
+@Component
+@ConfigurationProperties(prefix = "app.project.qr")
+public class ProjectQrProperties {
+    /** QR PNG 한 변 크기(px) */
+    private int sizePx = 300;
+
+    // 작업 큐
+    private int queueCapacity = 200;
+    private int workers = 1;
+    private int maxAttempts = 4;
+    private long baseBackoffMillis = 1000;
+
+    // PENDING 복구 — 재시작/큐 거절로 잃어버린 작업을 다시 넣음
+    /** 요청 후 이 시간이 지나도 PENDING 이면 유실로 보고 다시 큐에 넣음 (재시도 백오프 합계보다 충분히 길게) */
+    private long staleAfterMillis = 600_000;
+    private int sweepBatchSize = 100;
+}
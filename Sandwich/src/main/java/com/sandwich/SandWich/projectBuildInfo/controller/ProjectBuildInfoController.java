@@ -28,7 +28,7 @@ public class ProjectBuildInfoController {
             return ResponseEntity.badRequest().body("gitUrl is required");
         }
 
-        Long userId = userDetails.getUser().getId();
+        Long userId = userDetails.getId();
         ProjectBuildInfo saved = buildInfoService.saveOrUpdateBuildInfo(userId, projectId, gitUrl);
 
         return ResponseEntity.ok(saved);
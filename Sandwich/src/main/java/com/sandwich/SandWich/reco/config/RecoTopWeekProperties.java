@@ -0,0 +1,23 @@
+package com.sandwich.SandWich.reco.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter @Setter
+@Component
+@ConfigurationProperties(prefix = "app.reco.top-week")
+public class RecoTopWeekProperties {
+    /** 주기 갱신 간격(ms) */
+    private long refreshIntervalMs = 10 * 60 * 1000L;
+
+    /** 스냅샷이 이보다 오래되면 응답은 그대로 주고 백그라운드 재검증 (stale-while-revalidate) */
+    private long staleAfterMs = 15 * 60 * 1000L;
+
+    /** 노드 메모리 사본 유효 시간(ms) — 이 안에서는 Redis 도 안 감 */
+    private long localTtlMs = 30_000L;
+
+    /** 여러 노드가 동시에 AI 서버를 부르지 않도록 잡는 갱신 락 TTL(ms) */
+    private long lockTtlMs = 60_000L;
+}
@@ -4,64 +4,192 @@ import com.sandwich.SandWich.internal.ai.AiRecoClient;
 import com.sandwich.SandWich.project.domain.Project;
 import com.sandwich.SandWich.project.dto.ProjectListItemResponse;
 import com.sandwich.SandWich.project.repository.ProjectRepository;
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sandwich.SandWich.reco.config.RecoTopWeekProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
+/**
+ * 이번 주 추천 TOP — AI 랭킹 + 프로젝트 카드를 미리 조립한 스냅샷을 Redis 에 두고 서빙.
+ * 홈 화면 응답이 AI 서버 지연/장애와 분리되도록 주기/웹훅으로만 갱신하고, 오래된 스냅샷은 stale-while-revalidate.
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class RecoTopWeekService {
 
+    private static final String SNAPSHOT_KEY = "reco:topweek:snapshot";
+    private static final String LOCK_KEY = "reco:topweek:lock";
+    private static final Duration SNAPSHOT_RETENTION = Duration.ofDays(14); // 갱신이 계속 실패해도 지난 스냅샷 유지
+    private static final String NO_LOCK = ""; // Redis 장애로 락 없이 진행 — 풀 것도 없음
+
+    // 내 토큰일 때만 삭제 — 갱신이 lockTtl 보다 길어져 다른 노드가 다시 잡은 락을 지우지 않게
+    private static final RedisScript<Long> UNLOCK = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
     private final AiRecoClient ai;
     private final ProjectRepository projects;
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+    private final RecoTopWeekProperties props;
+    private final MeterRegistry registry;
+    private final TransactionTemplate tx;
+
+    private volatile Snapshot local;
+    private volatile long localLoadedAt;
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+    private final ThreadPoolExecutor refresher = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1), r -> {
+                Thread t = new Thread(r, "reco-topweek-refresh");
+                t.setDaemon(true);
+                return t;
+            });
+
+    private final Counter refreshSuccess;
+    private final Counter refreshFailure;
+
+    public RecoTopWeekService(AiRecoClient ai,
+                              ProjectRepository projects,
+                              StringRedisTemplate redis,
+                              ObjectMapper objectMapper,
+                              RecoTopWeekProperties props,
+                              PlatformTransactionManager txManager,
+                              MeterRegistry registry) {
+        this.ai = ai;
+        this.projects = projects;
+        this.redis = redis;
+        this.objectMapper = objectMapper;
+        this.props = props;
+        this.registry = registry;
+        this.tx = new TransactionTemplate(txManager);
+        this.tx.setReadOnly(true);
+        this.refreshSuccess = Counter.builder("reco_top_week_refresh_total").tag("result", "success").description("Top-week snapshot refreshes").register(registry);
+        this.refreshFailure = Counter.builder("reco_top_week_refresh_total").tag("result", "failure").description("Top-week snapshot refreshes").register(registry);
+        Gauge.builder("reco_top_week_snapshot_age_seconds", this,
+                        s -> s.local == null ? -1 : (System.currentTimeMillis() - s.local.refreshedAt()) / 1000.0)
+                .description("Age of the snapshot held by this node").register(registry);
+    }
 
     // 최종 응답(프론트 요구 스펙)
     public record Response(String week, Integer total, List<Item> content) {}
 
-    // content 항목: 기존 ProjectListItemResponse 형태를 복사하되 email만 제외
-    public static final class Item {
-        public final Long id;
-        public final String title;
-        public final String description;
-        public final String coverUrl;
-        public final Boolean isTeam;
-        public final String username;
-        public final String shareUrl;
-        public final String qrImageUrl;
-        public final Owner owner; // email 제외
-
-        public Item(Long id, String title, String description, String coverUrl, Boolean isTeam,
-                    String username, String shareUrl, String qrImageUrl, Owner owner) {
-            this.id = id;
-            this.title = title;
-            this.description = description;
-            this.coverUrl = coverUrl;
-            this.isTeam = isTeam;
-            this.username = username;
-            this.shareUrl = shareUrl;
-            this.qrImageUrl = qrImageUrl;
-            this.owner = owner;
+    // content 항목: 기존 ProjectListItemResponse 형태를 복사하되 email만 제외 (Redis 스냅샷에 JSON 으로 저장)
+    public record Item(Long id, String title, String description, String coverUrl, Boolean isTeam,
+                       String username, String shareUrl, String qrImageUrl,
+                       Owner owner /* email 제외 */) {
+
+        public record Owner(Long id, String nickname, String avatarUrl, String username) {}
+    }
+
+    /** Redis 에 저장되는 스냅샷 (카드까지 조립된 응답 + 갱신 시각) */
+    public record Snapshot(Response response, long refreshedAt) {}
+
+    /**
+     * 메모리 사본 → Redis 스냅샷 순으로 바로 응답하고, 오래됐으면 백그라운드 재검증.
+     * 스냅샷이 전혀 없을 때(첫 기동 직후)만 AI 서버를 동기로 부른다.
+     */
+    public Response get() {
+        long now = System.currentTimeMillis();
+        Snapshot local = this.local;
+        if (local != null && now - localLoadedAt < props.getLocalTtlMs()) {
+            served("local");
+            return local.response();
+        }
+
+        Snapshot snap = readRedis();
+        if (snap != null) {
+            this.local = snap;
+            this.localLoadedAt = now;
+            if (now - snap.refreshedAt() > props.getStaleAfterMs()) refreshAsync();
+            served("redis");
+            return snap.response();
+        }
+        if (local != null) { // Redis 장애 — 마지막 사본이라도
+            refreshAsync();
+            served("local");
+            return local.response();
         }
 
-        public static final class Owner {
-            public final Long id;
-            public final String nickname;
-            public final String avatarUrl;
-            public final String username;
-            public Owner(Long id, String nickname, String avatarUrl, String username) {
-                this.id = id;
-                this.nickname = nickname;
-                this.avatarUrl = avatarUrl;
-                this.username = username;
-            }
+        try {
+            Snapshot fresh = refresh();
+            served("upstream");
+            return fresh.response();
+        } catch (Exception e) {
+            log.warn("[RecoTopWeek] no snapshot and upstream failed err={}", e.toString());
+            served("empty");
+            return new Response(null, 0, List.of());
         }
     }
 
-    @Transactional(readOnly = true)
-    public Response get() {
+    /** 주기 갱신 (노드 간 락으로 한 곳만 AI 서버 호출) */
+    @Scheduled(fixedDelayString = "${app.reco.top-week.refresh-interval-ms:600000}", initialDelay = 30_000L)
+    public void scheduledRefresh() {
+        refreshAsync();
+    }
+
+    /** reco-push 웹훅 등에서 즉시 갱신 요청 — 이미 갱신 중이면 무시 */
+    public boolean refreshAsync() {
+        if (!refreshing.compareAndSet(false, true)) return false;
+        try {
+            refresher.execute(() -> {
+                String lock = null;
+                try {
+                    lock = tryLock();
+                    if (lock != null) refresh();
+                } catch (Exception e) {
+                    log.warn("[RecoTopWeek] background refresh failed err={}", e.toString());
+                } finally {
+                    if (lock != null) unlock(lock);
+                    refreshing.set(false);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            refreshing.set(false);
+            return false;
+        }
+    }
+
+    /** AI 랭킹 조회 → 프로젝트 카드 조립 → Redis/메모리 교체 */
+    Snapshot refresh() {
+        Snapshot snap;
+        try {
+            snap = new Snapshot(load(), System.currentTimeMillis());
+        } catch (RuntimeException e) {
+            refreshFailure.increment();
+            throw e;
+        }
+        writeRedis(snap);
+        this.local = snap;
+        this.localLoadedAt = System.currentTimeMillis();
+        refreshSuccess.increment();
+        return snap;
+    }
+
+    /** AI 호출은 트랜잭션 밖에서 — 응답을 기다리는 동안 커넥션을 잡지 않도록 */
+    private Response load() {
         var aiResp = ai.getTopWeekRanking();
         if (aiResp == null || aiResp.data() == null || aiResp.data().isEmpty()) {
             return new Response(aiResp != null ? aiResp.week() : null, aiResp != null ? aiResp.total() : 0, List.of());
@@ -71,6 +199,12 @@ public class RecoTopWeekService {
                 .filter(it -> it.projectId() != null)
                 .collect(Collectors.toMap(AiRecoClient.TopWeekResp.Item::projectId, AiRecoClient.TopWeekResp.Item::score, (a,b)->a));
 
+        List<Item> content = tx.execute(s -> cards(scoreMap));
+        return new Response(aiResp.week(), aiResp.total(), content);
+    }
+
+    /** 조회 + 카드 매핑(지연 로딩 포함)만 읽기 전용 트랜잭션 안에서 */
+    private List<Item> cards(Map<Long, Double> scoreMap) {
         var ids = new ArrayList<>(scoreMap.keySet());
         // 필요시 fetch-join 메서드로 교체
         List<Project> rows = projects.findAllById(ids);
@@ -79,11 +213,58 @@ public class RecoTopWeekService {
                 .<Project>comparingDouble(p -> -scoreMap.getOrDefault(p.getId(), 0.0))
                 .thenComparing(Project::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder())));
 
-        List<Item> content = rows.stream()
+        return rows.stream()
                 .map(this::toPublicItem)
                 .toList();
+    }
 
-        return new Response(aiResp.week(), aiResp.total(), content);
+    // ───── Redis ─────
+
+    private Snapshot readRedis() {
+        try {
+            String json = redis.opsForValue().get(SNAPSHOT_KEY);
+            return json == null ? null : objectMapper.readValue(json, Snapshot.class);
+        } catch (Exception e) {
+            log.debug("[RecoTopWeek] snapshot read failed err={}", e.toString());
+            return null;
+        }
+    }
+
+    private void writeRedis(Snapshot snap) {
+        try {
+            redis.opsForValue().set(SNAPSHOT_KEY, objectMapper.writeValueAsString(snap), SNAPSHOT_RETENTION);
+        } catch (Exception e) {
+            log.warn("[RecoTopWeek] snapshot write failed err={}", e.toString());
+        }
+    }
+
+    /** 잡았으면 소유 토큰, 다른 노드가 잡고 있으면 null */
+    private String tryLock() {
+        String token = UUID.randomUUID().toString();
+        try {
+            return Boolean.TRUE.equals(redis.opsForValue()
+                    .setIfAbsent(LOCK_KEY, token, Duration.ofMillis(props.getLockTtlMs()))) ? token : null;
+        } catch (Exception e) {
+            return NO_LOCK; // Redis 장애면 각 노드가 알아서 갱신
+        }
+    }
+
+    private void unlock(String token) {
+        if (token.isEmpty()) return;
+        try {
+            redis.execute(UNLOCK, List.of(LOCK_KEY), token);
+        } catch (Exception ignore) {
+            // TTL 로 풀림
+        }
+    }
+
+    private void served(String source) {
+        registry.counter("reco_top_week_served_total", "source", source).increment();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refresher.shutdownNow();
     }
 
     /** Project → email 없는 public item */
@@ -0,0 +1,22 @@
+package com.sandwich.SandWich.search.autocomplete;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter @Setter
+@Component
+@ConfigurationProperties(prefix = "app.search.autocomplete")
+public class AutocompleteProperties {
+    private boolean enabled = true;
+
+    /** 전체 재구성 주기(ms) — 조회수/팔로워 가중치와 새 프로젝트 반영 */
+    private long refreshIntervalMs = 10 * 60 * 1000L;
+
+    /** 프로필 변경이 있을 때 재구성을 당겨오는 확인 주기(ms) */
+    private long dirtyCheckIntervalMs = 60 * 1000L;
+
+    /** 타입별 최대 제안 수 */
+    private int maxLimit = 10;
+}
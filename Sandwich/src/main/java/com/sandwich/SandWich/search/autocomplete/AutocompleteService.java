@@ -0,0 +1,164 @@
+package com.sandwich.SandWich.search.autocomplete;
+
+import com.sandwich.SandWich.user.event.AccountProfileChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 검색창 자동완성. 요청 경로는 메모리 색인 조회뿐 (DB/Redis 왕복 없음).
+ * - 닉네임(팔로워 수), 프로젝트 제목(조회수), 기술 스택·관심사(사용 빈도)로 가중치
+ * - 제목은 단어 시작마다 키를 추가해 "샌드위치 앱" 이 "앱" 으로도 걸림
+ * - 주기적으로 통째 재구성해 교체, 프로필 변경 이벤트가 있으면 재구성을 앞당김
+ */
+@Slf4j
+@Service
+public class AutocompleteService {
+
+    private static final int MAX_WORD_KEYS = 6;
+
+    private final SuggestionSourceRepository source;
+    private final AutocompleteProperties props;
+    private final Timer buildTimer;
+    private final Timer queryTimer;
+
+    private volatile Map<SuggestionType, SuggestionIndex> indexes = Map.of();
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "autocomplete-index");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public AutocompleteService(SuggestionSourceRepository source, AutocompleteProperties props, MeterRegistry registry) {
+        this.source = source;
+        this.props = props;
+        this.buildTimer = Timer.builder("autocomplete_index_build_seconds").description("Autocomplete index rebuild").register(registry);
+        this.queryTimer = Timer.builder("autocomplete_query_seconds").description("Autocomplete lookups").register(registry);
+        Gauge.builder("autocomplete_index_entries", this,
+                s -> s.indexes.values().stream().mapToInt(SuggestionIndex::size).sum())
+                .description("Autocomplete keys").register(registry);
+    }
+
+    @PreDestroy
+    void stop() {
+        worker.shutdownNow();
+    }
+
+    public Map<SuggestionType, List<SuggestionIndex.Suggestion>> suggest(String q, Set<SuggestionType> types, int limit) {
+        if (q == null || q.isBlank()) return Map.of();
+        int k = Math.max(1, Math.min(limit, props.getMaxLimit()));
+        Map<SuggestionType, SuggestionIndex> snapshot = indexes;
+        return queryTimer.record(() -> {
+            Map<SuggestionType, List<SuggestionIndex.Suggestion>> out = new EnumMap<>(SuggestionType.class);
+            for (SuggestionType t : types) {
+                out.put(t, snapshot.getOrDefault(t, SuggestionIndex.EMPTY).suggest(q, k));
+            }
+            return out;
+        });
+    }
+
+    // ───── 재구성 ─────
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (props.isEnabled()) worker.execute(this::rebuild);
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.autocomplete.refresh-interval-ms:600000}",
+               initialDelayString = "${app.search.autocomplete.refresh-interval-ms:600000}")
+    public void scheduledRebuild() {
+        if (props.isEnabled()) worker.execute(this::rebuild);
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.autocomplete.dirty-check-interval-ms:60000}")
+    public void rebuildIfDirty() {
+        if (props.isEnabled() && dirty.compareAndSet(true, false)) worker.execute(this::rebuild);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProfileChanged(AccountProfileChangedEvent ev) {
+        dirty.set(true);
+    }
+
+    void rebuild() {
+        try {
+            indexes = buildTimer.record(this::build);
+            log.info("[Autocomplete] rebuilt users={} projects={} tags={}",
+                    indexes.get(SuggestionType.USER).size(),
+                    indexes.get(SuggestionType.PROJECT).size(),
+                    indexes.get(SuggestionType.TAG).size());
+        } catch (Exception e) {
+            log.warn("[Autocomplete] rebuild failed (keeping previous) err={}", e.toString());
+        }
+    }
+
+    private Map<SuggestionType, SuggestionIndex> build() {
+        List<SuggestionIndex.Entry> users = new ArrayList<>();
+        for (Object[] r : source.userNicknames()) {
+            Long id = (Long) r[0];
+            String nick = (String) r[1];
+            long followers = r[2] == null ? 0 : ((Number) r[2]).longValue();
+            addWithWordStarts(users, nick, id, followers * 10 + 1);
+        }
+
+        List<SuggestionIndex.Entry> projects = new ArrayList<>();
+        Map<String, long[]> tagCounts = new HashMap<>();
+        Map<String, String> tagLabels = new HashMap<>();
+        for (Object[] r : source.projects()) {
+            Long id = (Long) r[0];
+            String title = (String) r[1];
+            long views = r[2] == null ? 0 : ((Number) r[2]).longValue();
+            addWithWordStarts(projects, title, id, views + 1);
+            String tools = (String) r[3];
+            if (tools != null) {
+                for (String tool : tools.split(",")) countTag(tagCounts, tagLabels, tool, 1);
+            }
+        }
+        for (Object[] r : source.interestCounts()) {
+            countTag(tagCounts, tagLabels, (String) r[0], ((Number) r[1]).longValue());
+        }
+        List<SuggestionIndex.Entry> tags = new ArrayList<>(tagCounts.size());
+        tagCounts.forEach((key, c) -> tags.add(new SuggestionIndex.Entry(key, tagLabels.get(key), null, c[0])));
+
+        Map<SuggestionType, SuggestionIndex> next = new EnumMap<>(SuggestionType.class);
+        next.put(SuggestionType.USER, new SuggestionIndex(users));
+        next.put(SuggestionType.PROJECT, new SuggestionIndex(projects));
+        next.put(SuggestionType.TAG, new SuggestionIndex(tags));
+        return next;
+    }
+
+    private static void addWithWordStarts(List<SuggestionIndex.Entry> out, String label, Long id, long weight) {
+        if (label == null || label.isBlank()) return;
+        String trimmed = label.trim();
+        out.add(new SuggestionIndex.Entry(trimmed, trimmed, id, weight));
+        int added = 0;
+        for (int i = 1; i < trimmed.length() && added < MAX_WORD_KEYS; i++) {
+            if (Character.isWhitespace(trimmed.charAt(i - 1)) && !Character.isWhitespace(trimmed.charAt(i))) {
+                out.add(new SuggestionIndex.Entry(trimmed.substring(i), trimmed, id, weight));
+                added++;
+            }
+        }
+    }
+
+    private static void countTag(Map<String, long[]> counts, Map<String, String> labels, String raw, long n) {
+        if (raw == null) return;
+        String label = raw.trim();
+        String key = SuggestionIndex.normalize(label);
+        if (key.isEmpty()) return;
+        counts.computeIfAbsent(key, k -> new long[1])[0] += n;
+        labels.putIfAbsent(key, label);
+    }
+}
@@ -0,0 +1,107 @@
+package com.sandwich.SandWich.search.autocomplete;
+
+import java.text.Normalizer;
+import java.util.*;
+
+/**
+ * 가중치 접두 검색용 압축 색인 (불변).
+ * 정규화 키를 정렬한 배열 + 가중치 argmax 세그먼트 트리로 구성:
+ * 접두사 → 이분 탐색으로 [lo, hi) 범위 → 범위 최댓값을 꺼내고 좌우로 쪼개는 방식으로 상위 k 개를 O(k log n) 에 뽑는다.
+ * 노드마다 자식 맵을 두는 트라이보다 메모리가 작고, 재구성은 통째 교체로 한다.
+ */
+public final class SuggestionIndex {
+
+    /** 색인 입력: key 는 매칭용 문자열, label 은 화면 표시용 */
+    public record Entry(String key, String label, Long refId, long weight) {}
+
+    public record Suggestion(String label, Long refId, long weight) {}
+
+    public static final SuggestionIndex EMPTY = new SuggestionIndex(List.of());
+
+    private final String[] keys;
+    private final Entry[] entries;
+    private final int n;
+    private final int[] tree; // 세그먼트 트리: 구간 내 weight 최댓값의 인덱스
+
+    public SuggestionIndex(Collection<Entry> input) {
+        List<Entry> sorted = new ArrayList<>(input.size());
+        List<String> sortedKeys = new ArrayList<>(input.size());
+        List<Map.Entry<String, Entry>> tmp = new ArrayList<>(input.size());
+        for (Entry e : input) {
+            String k = normalize(e.key());
+            if (!k.isEmpty()) tmp.add(Map.entry(k, e));
+        }
+        tmp.sort(Map.Entry.comparingByKey());
+        for (Map.Entry<String, Entry> me : tmp) {
+            sortedKeys.add(me.getKey());
+            sorted.add(me.getValue());
+        }
+        this.keys = sortedKeys.toArray(new String[0]);
+        this.entries = sorted.toArray(new Entry[0]);
+        this.n = keys.length;
+        this.tree = new int[Math.max(1, 2 * n)];
+        for (int i = 0; i < n; i++) tree[n + i] = i;
+        for (int i = n - 1; i > 0; i--) tree[i] = better(tree[2 * i], tree[2 * i + 1]);
+    }
+
+    public int size() { return n; }
+
+    /** 접두사 일치 항목 중 weight 상위 limit 개 (같은 refId/label 은 한 번만) */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String p = normalize(prefix);
+        if (p.isEmpty() || n == 0 || limit <= 0) return List.of();
+        int lo = lowerBound(p);
+        int hi = lowerBound(p + Character.MAX_VALUE);
+        if (lo >= hi) return List.of();
+
+        // (구간, 구간 최댓값) 우선순위 큐
+        PriorityQueue<int[]> pq = new PriorityQueue<>((a, b) -> Long.compare(entries[b[2]].weight(), entries[a[2]].weight()));
+        pq.add(new int[]{lo, hi, argmax(lo, hi)});
+        List<Suggestion> out = new ArrayList<>(limit);
+        Set<Object> seen = new HashSet<>();
+        while (!pq.isEmpty() && out.size() < limit) {
+            int[] cur = pq.poll();
+            Entry e = entries[cur[2]];
+            if (seen.add(e.refId() != null ? e.refId() : e.label())) {
+                out.add(new Suggestion(e.label(), e.refId(), e.weight()));
+            }
+            if (cur[0] < cur[2]) pq.add(new int[]{cur[0], cur[2], argmax(cur[0], cur[2])});
+            if (cur[2] + 1 < cur[1]) pq.add(new int[]{cur[2] + 1, cur[1], argmax(cur[2] + 1, cur[1])});
+        }
+        return out;
+    }
+
+    private int lowerBound(String s) {
+        int lo = 0, hi = n;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[mid].compareTo(s) < 0) lo = mid + 1; else hi = mid;
+        }
+        return lo;
+    }
+
+    /** [l, r) 구간 최댓값 인덱스 */
+    private int argmax(int l, int r) {
+        int best = -1;
+        for (l += n, r += n; l < r; l >>= 1, r >>= 1) {
+            if ((l & 1) == 1) best = pick(best, tree[l++]);
+            if ((r & 1) == 1) best = pick(best, tree[--r]);
+        }
+        return best;
+    }
+
+    private int pick(int best, int candidate) {
+        return best < 0 ? candidate : better(best, candidate);
+    }
+
+    private int better(int a, int b) {
+        long wa = entries[a].weight(), wb = entries[b].weight();
+        if (wa != wb) return wa > wb ? a : b;
+        return Math.min(a, b); // 동점이면 사전순 앞쪽
+    }
+
+    static String normalize(String s) {
+        if (s == null) return "";
+        return Normalizer.normalize(s, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT).trim();
+    }
+}
@@ -0,0 +1,49 @@
+package com.sandwich.SandWich.search.autocomplete;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/** 자동완성 색인 원천 (재구성 시에만 호출되는 집계 쿼리들) */
+@Repository
+@Transactional(readOnly = true)
+public class SuggestionSourceRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    /** [userId, nickname, followerCount] */
+    public List<Object[]> userNicknames() {
+        return em.createQuery("""
+                select u.id, COALESCE(p.nickname, u.username), count(f.id)
+                  from User u
+                  left join u.profile p
+                  left join Follow f on f.following = u
+                 where u.isDeleted = false
+                   and u.role = 'ROLE_USER'
+                 group by u.id, p.nickname, u.username
+                """, Object[].class).getResultList();
+    }
+
+    /** [projectId, title, viewCount, tools] */
+    public List<Object[]> projects() {
+        return em.createQuery("""
+                select p.id, p.title, p.viewCount, p.tools
+                  from Project p
+                 where p.title is not null
+                """, Object[].class).getResultList();
+    }
+
+    /** [interestName, userCount] */
+    public List<Object[]> interestCounts() {
+        return em.createQuery("""
+                select i.name, count(ui.id)
+                  from UserInterest ui
+                  join ui.interest i
+                 group by i.name
+                """, Object[].class).getResultList();
+    }
+}
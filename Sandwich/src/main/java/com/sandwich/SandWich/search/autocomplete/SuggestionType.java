@@ -0,0 +1,7 @@
+package com.sandwich.SandWich.search.autocomplete;
+
+public enum SuggestionType {
+    USER,     // 닉네임
+    PROJECT,  // 프로젝트 제목
+    TAG       // 기술 스택 / 관심사
+}
@@ -0,0 +1,56 @@
+package com.sandwich.SandWich.search.controller;
+
+import com.sandwich.SandWich.search.autocomplete.AutocompleteService;
+import com.sandwich.SandWich.search.autocomplete.SuggestionIndex;
+import com.sandwich.SandWich.search.autocomplete.SuggestionType;
+import com.sandwich.SandWich.search.dto.SuggestionResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/search/suggest")
+public class AutocompleteController {
+
+    private final AutocompleteService service;
+
+    // 키 입력마다 호출되는 경량 경로: ?q=샌드&types=user,project,tag&limit=5
+    @GetMapping
+    public ResponseEntity<SuggestionResponse> suggest(
+            @RequestParam(name = "q", required = false) String q,
+            @RequestParam(name = "types", required = false) String types,
+            @RequestParam(name = "limit", defaultValue = "5") int limit
+    ) {
+        Map<SuggestionType, List<SuggestionIndex.Suggestion>> res = service.suggest(q, parseTypes(types), limit);
+        SuggestionResponse body = new SuggestionResponse(
+                items(res.get(SuggestionType.USER)),
+                items(res.get(SuggestionType.PROJECT)),
+                items(res.get(SuggestionType.TAG)));
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(30, TimeUnit.SECONDS).cachePublic())
+                .body(body);
+    }
+
+    private static Set<SuggestionType> parseTypes(String raw) {
+        if (raw == null || raw.isBlank()) return EnumSet.allOf(SuggestionType.class);
+        Set<SuggestionType> out = EnumSet.noneOf(SuggestionType.class);
+        for (String t : raw.split(",")) {
+            try {
+                out.add(SuggestionType.valueOf(t.trim().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException ignore) {
+                // 모르는 타입은 무시
+            }
+        }
+        return out;
+    }
+
+    private static List<SuggestionResponse.Item> items(List<SuggestionIndex.Suggestion> list) {
+        if (list == null) return List.of();
+        return list.stream().map(s -> new SuggestionResponse.Item(s.label(), s.refId())).toList();
+    }
+}
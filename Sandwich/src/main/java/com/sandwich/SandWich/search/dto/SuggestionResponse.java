@@ -0,0 +1,12 @@
+package com.sandwich.SandWich.search.dto;
+
+import java.util.List;
+
+public record SuggestionResponse(
+        List<Item> users,
+        List<Item> projects,
+        List<Item> tags
+) {
+    /** refId: 사용자/프로젝트 id (태그는 null) */
+    public record Item(String label, Long refId) {}
+}
@@ -0,0 +1,90 @@
+package com.sandwich.SandWich.search.recent;
+
+import com.sandwich.SandWich.search.repository.RecentSearchBatchRepository;
+import com.sandwich.SandWich.search.repository.RecentSearchRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 최근 검색어 write-behind.
+ * 변경된 유저(recent:dirty)만 모아 Redis 의 현재 상태로 DB 행을 통째로 교체한다.
+ * 같은 유저가 주기 안에 몇 번을 검색하든 DB 에는 한 번만 쓴다.
+ * Redis 키가 cold(만료/유실)면 교체할 원본이 없으므로 DB 는 건드리지 않는다.
+ * updated_at 은 반영 시각이 아니라 Redis 에 기록된 시각(score) — 복원 시 순서/시각이 그대로 돌아온다.
+ */
+@Slf4j
+@Component
+public class RecentSearchPersistJob {
+
+    private final RecentSearchStore store;
+    private final RecentSearchRepository repo;
+    private final RecentSearchBatchRepository batchRepo;
+    private final RecentSearchProperties props;
+    private final TransactionTemplate tx;
+
+    private final Counter flushedUsers;
+    private final Counter flushFailures;
+
+    public RecentSearchPersistJob(RecentSearchStore store,
+                                  RecentSearchRepository repo,
+                                  RecentSearchBatchRepository batchRepo,
+                                  RecentSearchProperties props,
+                                  PlatformTransactionManager txManager,
+                                  MeterRegistry registry) {
+        this.store = store;
+        this.repo = repo;
+        this.batchRepo = batchRepo;
+        this.props = props;
+        this.tx = new TransactionTemplate(txManager);
+        this.flushedUsers  = Counter.builder("recent_search_flush_users_total").description("Users whose recent searches were written to DB").register(registry);
+        this.flushFailures = Counter.builder("recent_search_flush_failures_total").description("Recent search write-behind failures").register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.recent.flush-interval-ms:30000}")
+    public void flush() {
+        if (!props.isPersistEnabled()) return;
+        List<Long> userIds;
+        try {
+            userIds = store.popDirty(Math.max(1, props.getFlushBatchSize()));
+        } catch (Exception e) {
+            log.warn("[RecentSearch] dirty pop failed: {}", e.toString());
+            return;
+        }
+        for (Long userId : userIds) {
+            try {
+                flushUser(userId);
+                flushedUsers.increment();
+            } catch (Exception e) {
+                flushFailures.increment();
+                log.warn("[RecentSearch] flush failed userId={} err={}", userId, e.toString());
+                store.markDirty(userId);
+            }
+        }
+    }
+
+    private void flushUser(long userId) {
+        RecentSearchStore.Snapshot snap = store.list(userId);
+        if (snap.cold()) {
+            log.debug("[RecentSearch] skip flush, key is cold userId={}", userId);
+            return;
+        }
+        List<RecentSearchStore.Entry> entries = snap.entries();
+        tx.executeWithoutResult(s -> {
+            repo.deleteByUserId(userId);
+            List<RecentSearchBatchRepository.Row> rows = new ArrayList<>(entries.size());
+            for (int i = entries.size() - 1; i >= 0; i--) {
+                var e = entries.get(i);
+                rows.add(new RecentSearchBatchRepository.Row(e.type(), e.keyword(), e.updatedAt()));
+            }
+            batchRepo.insertAll(userId, rows);
+        });
+    }
+}
@@ -0,0 +1,26 @@
+package com.sandwich.SandWich.search.recent;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter @Setter
+@Component
+@ConfigurationProperties(prefix = "app.search.recent")
+public class RecentSearchProperties {
+    /** 유저당 최대 보관 개수 (ZSET 크기 상한) */
+    private int maxPerUser = 20;
+
+    /** 마지막 기록 이후 Redis 키 보관 기간(일) */
+    private int ttlDays = 90;
+
+    /** write-behind: 변경된 유저만 모아 주기적으로 DB 에 반영, 키가 없으면 DB 에서 복원 */
+    private boolean persistEnabled = true;
+
+    /** write-behind 반영 주기(ms) */
+    private long flushIntervalMs = 30_000L;
+
+    /** 한 번의 반영에서 처리할 최대 유저 수 */
+    private int flushBatchSize = 200;
+}
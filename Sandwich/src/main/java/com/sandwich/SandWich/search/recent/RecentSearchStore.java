@@ -0,0 +1,235 @@
+package com.sandwich.SandWich.search.recent;
+
+import com.sandwich.SandWich.search.domain.RecentSearchType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 유저별 최근 검색어 Redis 저장소.
+ * - recent:{userId}     ZSET  member = TYPE:소문자키워드, score = 기록 시각(ms, 유저 내 단조 증가 → id 로 사용)
+ * - recent:{userId}:kw  HASH  member → 사용자가 입력한 그대로의 키워드, '_' = 로드됨 표시
+ * - recent:dirty        SET   DB 반영 대기 중인 userId (write-behind)
+ * 기록/조회/삭제 모두 Lua 스크립트 한 번(= 왕복 1회)으로 끝난다.
+ * kw 해시가 없으면(만료/유실) cold — 기록/삭제 스크립트는 아무것도 쓰지 않고 -1 을 돌려주고,
+ * 호출 측이 DB 백업으로 seed 한 뒤 다시 실행한다. 전부 지워도 '_' 는 남으므로 '비어 있음' 과 'cold' 가 구분된다.
+ * 스크립트는 해시태그로 같은 슬롯인 유저 키만 건드리고, dirty 표시는 같은 파이프라인에 SADD 로 붙인다 (클러스터 CROSSSLOT 방지).
+ */
+@Component
+@RequiredArgsConstructor
+public class RecentSearchStore {
+
+    static final String DIRTY_KEY = "recent:dirty";
+
+    /** 같은 키워드(대소문자 무시)는 score 만 갱신, 상한 초과분은 오래된 것부터 제거. ARGV[6]='1' 이면 cold 일 때 -1 */
+    private static final String ADD = """
+            if ARGV[6] == '1' and redis.call('EXISTS', KEYS[2]) == 0 then return -1 end
+            local score = tonumber(ARGV[3])
+            local top = redis.call('ZREVRANGE', KEYS[1], 0, 0, 'WITHSCORES')
+            if top[2] and tonumber(top[2]) >= score then score = tonumber(top[2]) + 1 end
+            redis.call('ZADD', KEYS[1], score, ARGV[1])
+            redis.call('HSET', KEYS[2], ARGV[1], ARGV[2], '_', '1')
+            local over = redis.call('ZRANGE', KEYS[1], 0, -(tonumber(ARGV[4]) + 1))
+            if #over > 0 then
+              redis.call('ZREM', KEYS[1], unpack(over))
+              redis.call('HDEL', KEYS[2], unpack(over))
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[5])
+            redis.call('EXPIRE', KEYS[2], ARGV[5])
+            return score
+            """;
+
+    /** 최신순 [상태, member, score, keyword, ...] — 상태 cold = 키 없음 */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> LIST = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[2]) == 0 then return {'cold'} end
+            local rows = redis.call('ZREVRANGE', KEYS[1], 0, -1, 'WITHSCORES')
+            local out = {'ok'}
+            for i = 1, #rows, 2 do
+              out[#out + 1] = rows[i]
+              out[#out + 1] = rows[i + 1]
+              out[#out + 1] = redis.call('HGET', KEYS[2], rows[i]) or rows[i]
+            end
+            return out
+            """, List.class);
+
+    /** ARGV[1] = 지울 score(id) 또는 '' , ARGV[2] = member 접두어('' = 전부), ARGV[3] = ttl, ARGV[4]='1' 이면 cold 일 때 -1 */
+    private static final String REMOVE = """
+            if redis.call('EXISTS', KEYS[2]) == 0 then
+              if ARGV[4] == '1' then return -1 end
+              return 0
+            end
+            redis.call('HSET', KEYS[2], '_', '1')
+            local members
+            if ARGV[1] ~= '' then
+              members = redis.call('ZRANGEBYSCORE', KEYS[1], ARGV[1], ARGV[1])
+            else
+              members = redis.call('ZRANGE', KEYS[1], 0, -1)
+            end
+            local removed = 0
+            for _, m in ipairs(members) do
+              if ARGV[2] == '' or string.sub(m, 1, #ARGV[2]) == ARGV[2] then
+                redis.call('ZREM', KEYS[1], m)
+                redis.call('HDEL', KEYS[2], m)
+                removed = removed + 1
+              end
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            redis.call('EXPIRE', KEYS[2], ARGV[3])
+            return removed
+            """;
+
+    /** DB 에서 복원 — ARGV 는 [ttl, score, member, keyword, ...], 이미 키가 생겼으면 건드리지 않음 (빈 목록도 로드됨 표시) */
+    private static final RedisScript<Long> SEED = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[2]) == 1 then return 0 end
+            for i = 2, #ARGV, 3 do
+              redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i + 1])
+              redis.call('HSET', KEYS[2], ARGV[i + 1], ARGV[i + 2])
+            end
+            redis.call('HSET', KEYS[2], '_', '1')
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            redis.call('EXPIRE', KEYS[2], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redis;
+    private final RecentSearchProperties props;
+
+    public record Entry(long id, RecentSearchType type, String keyword, OffsetDateTime updatedAt) {}
+
+    /** 조회 결과 — cold 면 Redis 에 아무것도 없고 DB 복원이 필요함 (write-behind 사용 시에만) */
+    public record Snapshot(boolean cold, List<Entry> entries) {}
+
+    /** cold 면 아무것도 쓰지 않고 null — seed 후 다시 호출 */
+    public Entry add(long userId, RecentSearchType type, String keyword) {
+        Object score = evalMarkingDirty(userId, ADD, ReturnType.INTEGER,
+                member(type, keyword), keyword, String.valueOf(System.currentTimeMillis()),
+                String.valueOf(props.getMaxPerUser()), String.valueOf(ttlSeconds()), requireWarm());
+        long id = score instanceof Number n ? n.longValue() : System.currentTimeMillis();
+        if (id < 0) return null;
+        return new Entry(id, type, keyword, toTime(id));
+    }
+
+    public Snapshot list(long userId) {
+        List<?> raw = redis.execute(LIST, keys(userId));
+        if (raw == null || raw.isEmpty()) return new Snapshot(false, List.of());
+        if ("cold".equals(String.valueOf(raw.get(0)))) {
+            return new Snapshot(props.isPersistEnabled(), List.of());
+        }
+        List<Entry> out = new ArrayList<>((raw.size() - 1) / 3);
+        for (int i = 1; i + 2 < raw.size(); i += 3) {
+            Entry e = parse(String.valueOf(raw.get(i)), String.valueOf(raw.get(i + 1)), String.valueOf(raw.get(i + 2)));
+            if (e != null) out.add(e);
+        }
+        return new Snapshot(false, out);
+    }
+
+    /** cold 면 아무것도 지우지 않고 false — seed 후 다시 호출 */
+    public boolean removeById(long userId, long id) {
+        return applied(evalMarkingDirty(userId, REMOVE, ReturnType.INTEGER,
+                String.valueOf(id), "", String.valueOf(ttlSeconds()), requireWarm()));
+    }
+
+    /** cold 면 아무것도 지우지 않고 false — seed 후 다시 호출 */
+    public boolean removeAll(long userId, RecentSearchType type) {
+        String prefix = type == null ? "" : type.name() + ":";
+        return applied(evalMarkingDirty(userId, REMOVE, ReturnType.INTEGER,
+                "", prefix, String.valueOf(ttlSeconds()), requireWarm()));
+    }
+
+    /** 오래된 것 → 최신 순으로 넘겨받아 ZSET 을 채움 (score 는 updatedAt, 같으면 1ms 씩 밀어 순서 유지). 비어 있어도 로드됨으로 표시 */
+    public void seed(long userId, List<Entry> oldestFirst) {
+        List<String> args = new ArrayList<>(1 + oldestFirst.size() * 3);
+        args.add(String.valueOf(ttlSeconds()));
+        long last = Long.MIN_VALUE;
+        for (Entry e : oldestFirst) {
+            long score = Math.max(e.updatedAt().toInstant().toEpochMilli(), last + 1);
+            last = score;
+            args.add(String.valueOf(score));
+            args.add(member(e.type(), e.keyword()));
+            args.add(e.keyword());
+        }
+        redis.execute(SEED, keys(userId), args.toArray());
+    }
+
+    /** write-behind 대상 유저를 최대 count 명 꺼냄 */
+    public List<Long> popDirty(int count) {
+        List<String> ids = redis.opsForSet().pop(DIRTY_KEY, count);
+        if (ids == null) return List.of();
+        return ids.stream().map(Long::valueOf).toList();
+    }
+
+    /** 반영 실패 시 다음 주기에 다시 시도하도록 되돌림 */
+    public void markDirty(long userId) {
+        redis.opsForSet().add(DIRTY_KEY, String.valueOf(userId));
+    }
+
+    // ───── 내부 ─────
+
+    /** 유저 키 대상 스크립트 + (write-behind 사용 시) dirty SADD 를 파이프라인 한 번으로, 스크립트 결과 반환 */
+    private Object evalMarkingDirty(long userId, String script, ReturnType type, String... args) {
+        List<String> keys = keys(userId);
+        String[] keysAndArgs = new String[keys.size() + args.length];
+        for (int i = 0; i < keys.size(); i++) keysAndArgs[i] = keys.get(i);
+        System.arraycopy(args, 0, keysAndArgs, keys.size(), args.length);
+        boolean persist = props.isPersistEnabled();
+
+        List<Object> results = redis.executePipelined((RedisCallback<Object>) conn -> {
+            StringRedisConnection c = (StringRedisConnection) conn;
+            c.eval(script, type, keys.size(), keysAndArgs);
+            if (persist) c.sAdd(DIRTY_KEY, String.valueOf(userId));
+            return null;
+        });
+        return results.isEmpty() ? null : results.get(0);
+    }
+
+    private String requireWarm() {
+        return props.isPersistEnabled() ? "1" : "0";
+    }
+
+    private static boolean applied(Object result) {
+        return !(result instanceof Number n) || n.longValue() >= 0;
+    }
+
+    static String member(RecentSearchType type, String keyword) {
+        return type.name() + ":" + keyword.toLowerCase(Locale.ROOT);
+    }
+
+    private static Entry parse(String member, String score, String keyword) {
+        int sep = member.indexOf(':');
+        if (sep < 0) return null;
+        RecentSearchType type;
+        try {
+            type = RecentSearchType.valueOf(member.substring(0, sep));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        long id = (long) Double.parseDouble(score);
+        return new Entry(id, type, keyword, toTime(id));
+    }
+
+    private static OffsetDateTime toTime(long epochMillis) {
+        return OffsetDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC);
+    }
+
+    private static List<String> keys(long userId) {
+        return List.of("recent:{" + userId + "}", "recent:{" + userId + "}:kw");
+    }
+
+    private long ttlSeconds() {
+        return Math.max(1, props.getTtlDays()) * 86_400L;
+    }
+
+}
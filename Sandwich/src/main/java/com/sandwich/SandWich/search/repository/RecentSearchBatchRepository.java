@@ -0,0 +1,40 @@
+package com.sandwich.SandWich.search.repository;
+
+import com.sandwich.SandWich.search.domain.RecentSearchType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * recent_search 다건 insert — write-behind 반영용 (RecentSearch 엔티티 테이블).
+ * 엔티티로 넣으면 @UpdateTimestamp 가 반영 시각을 찍으므로, Redis 에 기록된 시각을 그대로 updated_at 으로 쓴다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecentSearchBatchRepository {
+
+    public record Row(RecentSearchType type, String keyword, OffsetDateTime updatedAt) {}
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public int insertAll(long userId, List<Row> rows) {
+        if (rows.isEmpty()) return 0;
+        StringBuilder sql = new StringBuilder(
+                "insert into recent_search (user_id, type, keyword, created_at, updated_at) values ");
+        MapSqlParameterSource params = new MapSqlParameterSource("u", userId);
+        for (int i = 0; i < rows.size(); i++) {
+            Row r = rows.get(i);
+            if (i > 0) sql.append(',');
+            sql.append("(:u, :t").append(i).append(", :k").append(i)
+               .append(", :at").append(i).append(", :at").append(i).append(')');
+            params.addValue("t" + i, r.type().name())
+                  .addValue("k" + i, r.keyword())
+                  .addValue("at" + i, r.updatedAt());
+        }
+        return jdbc.update(sql.toString(), params);
+    }
+}
@@ -1,23 +1,21 @@
 package com.sandwich.SandWich.search.repository;
 
 import com.sandwich.SandWich.search.domain.RecentSearch;
-import com.sandwich.SandWich.search.domain.RecentSearchType;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
-import java.util.Optional;
 
+// 원본은 Redis(RecentSearchStore), DB 는 write-behind 백업 + 키 유실 시 복원용
 public interface RecentSearchRepository extends JpaRepository<RecentSearch, Long> {
-    // 대소문자 무시 중복 체크
-    Optional<RecentSearch> findFirstByUser_IdAndTypeAndKeywordIgnoreCase(Long userId, RecentSearchType type, String keyword);
 
-    // 리스트(최신순)
+    // 복원용 — updated_at 은 write-behind 가 Redis 기록 시각으로 채운다 (touchKeyword 로 갱신된 행도 순서 유지)
     List<RecentSearch> findByUser_IdOrderByUpdatedAtDesc(Long userId, Pageable pageable);
-    List<RecentSearch> findByUser_IdAndTypeOrderByUpdatedAtDesc(Long userId, RecentSearchType type, Pageable pageable);
 
-    long countByUser_Id(Long userId);
-
-    // 오래된 것 정리
-    List<RecentSearch> findByUser_IdOrderByUpdatedAtAsc(Long userId, Pageable pageable);
-}
\ No newline at end of file
+    @Modifying
+    @Query("delete from RecentSearch r where r.user.id = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
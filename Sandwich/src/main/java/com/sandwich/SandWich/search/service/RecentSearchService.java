@@ -6,6 +6,8 @@ import com.sandwich.SandWich.search.domain.RecentSearch;
 import com.sandwich.SandWich.search.domain.RecentSearchType;
 import com.sandwich.SandWich.search.dto.RecentSearchItem;
 import com.sandwich.SandWich.search.dto.RecentSearchRequest;
+import com.sandwich.SandWich.search.recent.RecentSearchProperties;
+import com.sandwich.SandWich.search.recent.RecentSearchStore;
 import com.sandwich.SandWich.search.repository.RecentSearchRepository;
 import com.sandwich.SandWich.user.domain.User;
 import lombok.RequiredArgsConstructor;
@@ -13,81 +15,89 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * 최근 검색어 — Redis ZSET(RecentSearchStore)이 원본.
+ * 기록/조회는 Redis 왕복 1회, DB 는 write-behind(RecentSearchPersistJob)로만 갱신된다.
+ * 키가 만료/유실된 상태(cold)면 기록·삭제 전에 DB 백업을 먼저 복원한다 — 안 그러면 다음 반영 때 DB 가 덮어써진다.
+ */
 @Service
 @RequiredArgsConstructor
 public class RecentSearchService {
 
-    private static final int MAX_RECENTS = 20; // 유저당 최대 저장
-
+    private final RecentSearchStore store;
     private final RecentSearchRepository repo;
+    private final RecentSearchProperties props;
 
-    @Transactional
     public RecentSearchItem add(User user, RecentSearchRequest req) {
         String trimmed = req.keyword().trim();
         if (trimmed.isEmpty()) {
             throw new IllegalArgumentException("keyword must not be blank");
         }
-        var existing = repo.findFirstByUser_IdAndTypeAndKeywordIgnoreCase(user.getId(), req.type(), trimmed);
-        RecentSearch saved;
-        if (existing.isPresent()) {
-            // 같은 키워드 → 최신화
-            var rs = existing.get();
-            rs.touchKeyword(trimmed); // updatedAt 갱신
-            saved = rs;
-        } else {
-            saved = RecentSearch.builder()
-                    .user(user)
-                    .type(req.type())
-                    .keyword(trimmed)
-                    .build();
-            repo.save(saved);
-        }
-
-        // 용량 초과 시 오래된 것 제거
-        long count = repo.countByUser_Id(user.getId());
-        if (count > MAX_RECENTS) {
-            int over = (int) (count - MAX_RECENTS);
-            var oldOnes = repo.findByUser_IdOrderByUpdatedAtAsc(user.getId(), PageRequest.of(0, over));
-            repo.deleteAllInBatch(oldOnes);
+        // 같은 키워드(대소문자 무시) → 최신화, 용량 초과분 제거까지 스크립트 한 번에
+        RecentSearchStore.Entry added = store.add(user.getId(), req.type(), trimmed);
+        if (added == null) {
+            restore(user.getId());
+            added = store.add(user.getId(), req.type(), trimmed);
+            if (added == null) throw new IllegalStateException("recent search key is cold after restore");
         }
-
-        return toItem(saved);
+        return toItem(added);
     }
 
-    @Transactional(readOnly = true)
     public PageResponse<RecentSearchItem> list(User user, Integer limit, RecentSearchType type) {
-        int size = (limit == null || limit <= 0 || limit > MAX_RECENTS) ? MAX_RECENTS : limit;
-        List<RecentSearch> rows = (type == null)
-                ? repo.findByUser_IdOrderByUpdatedAtDesc(user.getId(), PageRequest.of(0, size))
-                : repo.findByUser_IdAndTypeOrderByUpdatedAtDesc(user.getId(), type, PageRequest.of(0, size));
+        int max = props.getMaxPerUser();
+        int size = (limit == null || limit <= 0 || limit > max) ? max : limit;
 
-        List<RecentSearchItem> mapped = rows.stream().map(this::toItem).toList();
+        List<RecentSearchStore.Entry> entries = load(user.getId());
+        List<RecentSearchItem> mapped = entries.stream()
+                .filter(e -> type == null || e.type() == type)
+                .limit(size)
+                .map(this::toItem)
+                .toList();
         // PageResponse 모양 맞추기(고정 크기 리스트라 PageImpl 사용)
         Page<RecentSearchItem> page = new PageImpl<>(mapped, PageRequest.of(0, size), mapped.size());
         return PageResponse.of(page);
     }
 
-    @Transactional
     public void deleteOne(User user, Long id) {
-        repo.findById(id)
-                .filter(rs -> rs.getUser().getId().equals(user.getId()))
-                .ifPresentOrElse(repo::delete, () -> { /* 없는 건 무시 */ });
+        // 남의 것/없는 건 해당 유저 키에 없으므로 자연히 무시
+        if (!store.removeById(user.getId(), id)) {
+            restore(user.getId());
+            store.removeById(user.getId(), id);
+        }
     }
 
-    @Transactional
     public void deleteAll(User user, RecentSearchType type) {
         // 타입 지정 시 해당 타입만, 아니면 전부 삭제
-        List<RecentSearch> rows = (type == null)
-                ? repo.findByUser_IdOrderByUpdatedAtDesc(user.getId(), PageRequest.of(0, MAX_RECENTS))
-                : repo.findByUser_IdAndTypeOrderByUpdatedAtDesc(user.getId(), type, PageRequest.of(0, MAX_RECENTS));
-        repo.deleteAllInBatch(rows);
+        if (!store.removeAll(user.getId(), type)) {
+            restore(user.getId());
+            store.removeAll(user.getId(), type);
+        }
+    }
+
+    /** Redis 키가 없으면(만료/유실) DB 백업에서 한 번 복원 */
+    private List<RecentSearchStore.Entry> load(long userId) {
+        RecentSearchStore.Snapshot snap = store.list(userId);
+        if (!snap.cold()) return snap.entries();
+        restore(userId);
+        return store.list(userId).entries();
+    }
+
+    /** DB 백업 → Redis (백업이 비어 있어도 '로드됨' 으로 표시해 다음 조회부터 DB 를 안 탐) */
+    private void restore(long userId) {
+        List<RecentSearch> rows = repo.findByUser_IdOrderByUpdatedAtDesc(userId, PageRequest.of(0, props.getMaxPerUser()));
+        List<RecentSearchStore.Entry> oldestFirst = new ArrayList<>(rows.size());
+        for (int i = rows.size() - 1; i >= 0; i--) {
+            RecentSearch r = rows.get(i);
+            oldestFirst.add(new RecentSearchStore.Entry(0, r.getType(), r.getKeyword(), r.getUpdatedAt()));
+        }
+        store.seed(userId, oldestFirst);
     }
 
-    private RecentSearchItem toItem(RecentSearch r) {
-        return new RecentSearchItem(r.getId(), r.getKeyword(), r.getType(), r.getUpdatedAt());
+    private RecentSearchItem toItem(RecentSearchStore.Entry e) {
+        return new RecentSearchItem(e.id(), e.keyword(), e.type(), e.updatedAt());
     }
-}
\ No newline at end of file
+}
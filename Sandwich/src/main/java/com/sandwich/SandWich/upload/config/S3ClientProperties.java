@@ -0,0 +1,27 @@
+package com.sandwich.SandWich.upload.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공유 S3 클라이언트(SDK v2) 커넥션 풀/타임아웃 설정.
+ * 호출 전체 시간 제한(apiCallTimeout)은 두지 않는다 — 배포 파일 같은 큰 단일 PutObject 도 같은 클라이언트를 쓰므로,
+ * 멈춘 연결은 socketTimeout(읽기/쓰기 사이 대기)으로 끊는다.
+ */
+@Getter @Setter
+@Component
+@ConfigurationProperties(prefix = "app.s3.client")
+public class S3ClientProperties {
+    private int maxConnections = 64;
+    private long connectionTimeoutMs = 2000;
+    private long connectionAcquisitionTimeoutMs = 5000;
+    private long socketTimeoutMs = 30000;
+    private long connectionMaxIdleMs = 60000;
+    private boolean tcpKeepAlive = true;
+
+    /** MinIO 등 S3 호환 엔드포인트 (비우면 AWS) */
+    private String endpointOverride;
+    private boolean pathStyleAccess = false;
+}
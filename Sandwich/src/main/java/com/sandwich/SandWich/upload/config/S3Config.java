@@ -1,31 +1,110 @@
 package com.sandwich.SandWich.upload.config;
 
-import com.amazonaws.auth.AWSStaticCredentialsProvider;
-import com.amazonaws.auth.BasicAWSCredentials;
-import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * 애플리케이션 전체가 공유하는 S3 클라이언트 계층 (AWS SDK v2).
+ * 자격 증명 해석/TLS/커넥션 풀은 여기서 한 번만 만들고, 빈 종료 시 close 된다.
+ * 첨부 저장소(S3StorageService)와 프로젝트 이미지 업로드(S3Uploader), 배포 파일이 모두 이 빈을 쓴다.
+ */
+@Slf4j
 @Configuration
+@RequiredArgsConstructor
 public class S3Config {
 
-    @Value("${cloud.aws.region.static}")
+    private final S3ClientProperties props;
+
+    // cloud.aws.region.static 우선, 없으면 첨부 저장소가 쓰던 app.files.s3.region
+    @Value("${cloud.aws.region.static:}")
     private String region;
 
-    @Value("${cloud.aws.credentials.access-key}")
+    @Value("${app.files.s3.region:}")
+    private String filesRegion;
+
+    @Value("${cloud.aws.credentials.access-key:}")
     private String accessKey;
 
-    @Value("${cloud.aws.credentials.secret-key}")
+    @Value("${cloud.aws.credentials.secret-key:}")
     private String secretKey;
 
     @Bean
-    public AmazonS3 amazonS3() {
-        BasicAWSCredentials credentials = new BasicAWSCredentials(accessKey, secretKey);
-        return AmazonS3ClientBuilder.standard()
-                .withRegion(region)
-                .withCredentials(new AWSStaticCredentialsProvider(credentials))
+    public AwsCredentialsProvider awsCredentialsProvider() {
+        if (StringUtils.hasText(accessKey) && StringUtils.hasText(secretKey)) {
+            return StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey));
+        }
+        return DefaultCredentialsProvider.create();
+    }
+
+    @Bean(destroyMethod = "close")
+    public SdkHttpClient s3HttpClient() {
+        return ApacheHttpClient.builder()
+                .maxConnections(props.getMaxConnections())
+                .connectionTimeout(Duration.ofMillis(props.getConnectionTimeoutMs()))
+                .connectionAcquisitionTimeout(Duration.ofMillis(props.getConnectionAcquisitionTimeoutMs()))
+                .socketTimeout(Duration.ofMillis(props.getSocketTimeoutMs()))
+                .connectionMaxIdleTime(Duration.ofMillis(props.getConnectionMaxIdleMs()))
+                .tcpKeepAlive(props.isTcpKeepAlive())
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public S3Client s3Client(SdkHttpClient s3HttpClient, AwsCredentialsProvider awsCredentialsProvider) {
+        var builder = S3Client.builder()
+                .region(region())
+                .credentialsProvider(awsCredentialsProvider)
+                .httpClient(s3HttpClient)
+                .serviceConfiguration(s3Configuration());
+        if (StringUtils.hasText(props.getEndpointOverride())) {
+            builder.endpointOverride(URI.create(props.getEndpointOverride()));
+        }
+        return builder.build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public S3Presigner s3Presigner(AwsCredentialsProvider awsCredentialsProvider) {
+        var builder = S3Presigner.builder()
+                .region(region())
+                .credentialsProvider(awsCredentialsProvider)
+                .serviceConfiguration(s3Configuration());
+        if (StringUtils.hasText(props.getEndpointOverride())) {
+            builder.endpointOverride(URI.create(props.getEndpointOverride()));
+        }
+        return builder.build();
+    }
+
+    private Region region() {
+        if (StringUtils.hasText(region)) {
+            if (StringUtils.hasText(filesRegion) && !filesRegion.equals(region)) {
+                log.warn("[S3] cloud.aws.region.static={} 와 app.files.s3.region={} 가 다름 — 공유 클라이언트는 {} 사용",
+                        region, filesRegion, region);
+            }
+            return Region.of(region);
+        }
+        if (StringUtils.hasText(filesRegion)) return Region.of(filesRegion);
+        throw new IllegalStateException("S3 region 미설정: cloud.aws.region.static (또는 app.files.s3.region)");
+    }
+
+    private S3Configuration s3Configuration() {
+        return S3Configuration.builder()
+                .pathStyleAccessEnabled(props.isPathStyleAccess())
                 .build();
     }
 }
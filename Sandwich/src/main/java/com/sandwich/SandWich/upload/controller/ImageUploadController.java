@@ -1,5 +1,7 @@
 package com.sandwich.SandWich.upload.controller;
 
+import com.sandwich.SandWich.message.attach.derivative.DerivativeSource;
+import com.sandwich.SandWich.message.attach.derivative.ImageDerivativeService;
 import com.sandwich.SandWich.upload.util.S3Uploader;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -23,6 +25,7 @@ import java.util.Map;
 public class ImageUploadController {
 
     private final S3Uploader s3Uploader;
+    private final ImageDerivativeService derivativeService;
 
     @Operation(
             summary = "이미지 업로드",
@@ -44,6 +47,17 @@ public class ImageUploadController {
             @RequestPart("file") MultipartFile file   // @RequestParam이어도 동작하지만 @RequestPart가 문서화에 더 명확
     ) throws IOException {
         String imageUrl = s3Uploader.upload(file, "images");
+        derivativeService.enqueue(DerivativeSource.PROJECT_IMAGE, S3Uploader.keyOf(imageUrl));
         return ResponseEntity.ok(Map.of("url", imageUrl));
     }
+
+    @Operation(
+            summary = "이미지 크기별 URL",
+            description = "업로드된 이미지 URL과 표시 크기(px)를 받아 가장 알맞은 파생 이미지 URL을 반환합니다. 파생본이 없으면 원본 URL."
+    )
+    @GetMapping(value = "/image/best", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Map<String, String>> bestImage(@RequestParam String url,
+                                                         @RequestParam(defaultValue = "256") int w) {
+        return ResponseEntity.ok(Map.of("url", derivativeService.bestProjectImageUrl(url, w)));
+    }
 }
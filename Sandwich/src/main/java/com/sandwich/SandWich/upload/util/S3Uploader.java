@@ -1,7 +1,5 @@
 package com.sandwich.SandWich.upload.util;
 
-import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.sandwich.SandWich.project.service.ProjectService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -9,16 +7,24 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.beans.factory.annotation.Value;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetUrlRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
 public class S3Uploader {
 
-    private final AmazonS3 amazonS3;
+    private final S3Client s3Client;
     private static final Logger log = LoggerFactory.getLogger(ProjectService.class);
 
     @Value("${cloud.aws.s3.bucket}")
@@ -29,27 +35,84 @@ public class S3Uploader {
         String extension = originalName.substring(originalName.lastIndexOf('.'));
         String fileName = dirName + "/" + UUID.randomUUID() + extension;
 
-        ObjectMetadata metadata = new ObjectMetadata();
-        metadata.setContentLength(file.getSize());
-        metadata.setContentType(file.getContentType());
-
         log.info("[S3 업로드] 파일 업로드 시작: {}", fileName);
-        amazonS3.putObject(bucket, fileName, file.getInputStream(), metadata);
-        log.info("[S3 업로드] 완료 - {}", amazonS3.getUrl(bucket, fileName));
+        try (InputStream in = file.getInputStream()) {
+            s3Client.putObject(PutObjectRequest.builder()
+                            .bucket(bucket).key(fileName).contentType(file.getContentType()).build(),
+                    RequestBody.fromInputStream(in, file.getSize()));
+        }
+        String url = urlOf(fileName);
+        log.info("[S3 업로드] 완료 - {}", url);
+
+        return url;
+    }
+
+    /** 지정 키로 바이트 업로드 (파생 이미지 등) → 공개 URL */
+    public String putBytes(String key, byte[] bytes, String contentType) {
+        try {
+            s3Client.putObject(PutObjectRequest.builder()
+                            .bucket(bucket).key(key).contentType(contentType).build(),
+                    RequestBody.fromBytes(bytes));
+            return urlOf(key);
+        } catch (Exception e) {
+            throw new RuntimeException("S3 업로드 실패", e);
+        }
+    }
+
+    /** 키로 원본 다운로드, 없으면 null */
+    public byte[] download(String key) {
+        try {
+            return s3Client.getObjectAsBytes(GetObjectRequest.builder().bucket(bucket).key(key).build())
+                    .asByteArray();
+        } catch (NoSuchKeyException e) {
+            return null;
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) return null;
+            throw e;
+        }
+    }
+
+    public String urlOf(String key) {
+        return s3Client.utilities()
+                .getUrl(GetUrlRequest.builder().bucket(bucket).key(key).build())
+                .toString();
+    }
 
-        return amazonS3.getUrl(bucket, fileName).toString();
+    /** upload() 가 돌려준 URL → 버킷 내 키 */
+    public static String keyOf(String url) {
+        String path = java.net.URI.create(url).getPath();
+        return path.startsWith("/") ? path.substring(1) : path;
     }
 
-    public String uploadQrImage(byte[] imageBytes) {
-        String fileName = "qr/" + UUID.randomUUID() + ".png";
-        ObjectMetadata metadata = new ObjectMetadata();
-        metadata.setContentLength(imageBytes.length);
-        metadata.setContentType("image/png");
+    /** QR 이미지는 내용 해시(크기+URL)로 키를 정해 같은 QR 은 한 번만 저장 */
+    public boolean qrImageExists(String contentHash) {
+        try {
+            s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(qrKey(contentHash)).build());
+            return true;
+        } catch (NoSuchKeyException e) {
+            return false;
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) return false;
+            throw e;
+        }
+    }
+
+    public String qrImageUrl(String contentHash) {
+        return urlOf(qrKey(contentHash));
+    }
+
+    private static String qrKey(String contentHash) {
+        return "qr/" + contentHash + ".png";
+    }
 
-        try (ByteArrayInputStream inputStream = new ByteArrayInputStream(imageBytes)) {
-            amazonS3.putObject(bucket, fileName, inputStream, metadata);
-            return amazonS3.getUrl(bucket, fileName).toString();
-        } catch (IOException e) {
+    public String uploadQrImage(byte[] imageBytes, String contentHash) {
+        String fileName = qrKey(contentHash);
+        try {
+            s3Client.putObject(PutObjectRequest.builder()
+                            .bucket(bucket).key(fileName).contentType("image/png").build(),
+                    RequestBody.fromBytes(imageBytes));
+            return urlOf(fileName);
+        } catch (Exception e) {
             throw new RuntimeException("S3 QR 업로드 실패", e);
         }
     }
@@ -49,7 +49,7 @@ public class UserController {
     @DeleteMapping("/me")
     public ResponseEntity<?> deleteMyAccount(@AuthenticationPrincipal UserDetailsImpl userDetails) {
         userService.deleteMe(userDetails.getUser());
-        redisTemplate.delete("refresh:userId:" + userDetails.getUser().getId());
+        redisTemplate.delete("refresh:userId:" + userDetails.getId());
 
         return ResponseEntity.ok("회원 탈퇴 완료");
     }
@@ -3,6 +3,7 @@ package com.sandwich.SandWich.user.domain;
 import com.sandwich.SandWich.notification.domain.Notification;
 import com.sandwich.SandWich.comment.domain.Comment;
 import com.sandwich.SandWich.common.domain.BaseEntity;
+import com.sandwich.SandWich.auth.security.UserPrincipalListener;
 import com.sandwich.SandWich.project.domain.Project;
 import com.sandwich.SandWich.social.domain.Follow;
 import jakarta.persistence.*;
@@ -17,6 +18,7 @@ import java.util.*;
 @Builder
 @Entity
 @Table(name = "users")
+@EntityListeners(UserPrincipalListener.class)
 public class User extends BaseEntity {
 
     @Id
@@ -98,6 +100,15 @@ public class User extends BaseEntity {
     @Column(name = "mfa_required", nullable = false)
     private boolean mfaRequired = false;
 
+    // 액세스 토큰 tv 클레임과 비교 — 올리면 기존 액세스 토큰이 모두 무효 (로그아웃/탈퇴/권한 변경)
+    @Builder.Default
+    @Column(name = "token_version", nullable = false, columnDefinition = "bigint default 0 not null")
+    private Long tokenVersion = 0L;
+
+    public void bumpTokenVersion() {
+        this.tokenVersion = (tokenVersion == null ? 0L : tokenVersion) + 1;
+    }
+
     public void setIsDeleted(boolean isDeleted) {
         this.isDeleted = isDeleted;
     }
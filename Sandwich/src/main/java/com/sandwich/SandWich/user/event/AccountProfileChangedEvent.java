@@ -0,0 +1,4 @@
+package com.sandwich.SandWich.user.event;
+
+/** 검색에 쓰이는 계정 필드(닉네임/탈퇴)가 바뀜 → 커밋 후 색인 갱신 */
+public record AccountProfileChangedEvent(Long userId) {}
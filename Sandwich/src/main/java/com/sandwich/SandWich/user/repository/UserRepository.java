@@ -45,6 +45,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.id = :id AND u.isDeleted = false")
     Optional<User> findByIdIfNotDeleted(@Param("id") Long id);
 
+    /** JwtFilter 인증용 경량 조회 (엔티티 로드 없이) */
+    @Query("""
+        SELECT new com.sandwich.SandWich.auth.security.AuthPrincipal(u.id, u.email, u.role, u.isVerified, u.tokenVersion)
+        FROM User u
+        WHERE u.email = :email AND u.isDeleted = false
+        """)
+    Optional<com.sandwich.SandWich.auth.security.AuthPrincipal> findPrincipalByEmail(@Param("email") String email);
+
 
 
     /** 배우 정보 경량 뷰 (닉네임/이메일/프로필URL) */
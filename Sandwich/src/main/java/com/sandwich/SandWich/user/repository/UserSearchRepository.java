@@ -6,6 +6,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface UserSearchRepository extends JpaRepository<User, Long> {
 
     @Query(value = """
@@ -49,4 +52,58 @@ public interface UserSearchRepository extends JpaRepository<User, Long> {
            )
         """)
     Page<UserAccountRow> searchAccounts(@Param("q") String q, Pageable pageable);
+
+    // ───── 메모리 색인(AccountSearchIndex) 용 ─────
+
+    /** 색인 원천 행 (id 오름차순 keyset 배치) */
+    interface IndexSourceRow {
+        Long getId();
+        String getNickname();
+        String getUsername();
+        String getEmail();
+    }
+
+    @Query("""
+        select u.id as id,
+               COALESCE(p.nickname, u.username) as nickname,
+               u.username as username,
+               u.email as email
+          from User u
+          left join u.profile p
+         where u.isDeleted = false
+           and u.role = 'ROLE_USER'
+           and u.id > :afterId
+         order by u.id
+        """)
+    List<IndexSourceRow> findIndexSourceAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("""
+        select u.id as id,
+               COALESCE(p.nickname, u.username) as nickname,
+               u.username as username,
+               u.email as email
+          from User u
+          left join u.profile p
+         where u.isDeleted = false
+           and u.role = 'ROLE_USER'
+           and u.id = :id
+        """)
+    List<IndexSourceRow> findIndexSourceById(@Param("id") Long id);
+
+    /** 색인이 고른 id 들을 한 번에 하이드레이트 (순서는 호출자가 복원) */
+    @Query("""
+        select u.id as id,
+               COALESCE(p.nickname, u.username) as nickname,
+               u.email as email,
+               p.profileImage as avatarUrl,
+               u.isVerified as isVerified,
+               pos.name as position
+          from User u
+          left join u.profile p
+          left join u.userPosition up
+          left join up.position pos
+         where u.id in :ids
+           and u.isDeleted = false
+        """)
+    List<UserAccountRow> findAccountRowsByIds(@Param("ids") Collection<Long> ids);
 }
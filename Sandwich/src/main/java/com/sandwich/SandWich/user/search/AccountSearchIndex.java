@@ -0,0 +1,212 @@
+package com.sandwich.SandWich.user.search;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 계정 검색용 메모리 역색인 (문자 bigram → 문서 목록).
+ * - 질의의 bigram 중 가장 짧은 posting 만 후보로 훑고, 실제 부분 문자열 일치로 검증·점수화
+ *   → LIKE '%q%' 와 같은 결과를 전체 스캔 없이 얻는다 (1글자 질의만 전체 문서 검증)
+ * - 갱신은 새 ordinal 을 붙이고 이전 ordinal 을 죽은 것으로 표시 (posting 은 append-only),
+ *   죽은 문서가 많아지면 살아있는 문서로 다시 색인
+ * 스레드 안전 (읽기/쓰기 락).
+ */
+public class AccountSearchIndex {
+
+    /** 색인 대상 필드 (null 허용) — DB 대체 경로(UserRepository.searchAccounts)와 같은 필드 */
+    public record Doc(long userId, String nickname, String username, String email) {}
+
+    /** 점수 내림차순 → userId 오름차순으로 정렬된 한 페이지 */
+    public record Hits(List<Long> userIds, long total) {}
+
+    private static final int COMPACT_MIN_DEAD = 10_000;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Norm[] docs = new Norm[1024];
+    private int nextOrd = 0;
+    private final BitSet live = new BitSet();
+    private int dead = 0;
+    private final Map<Long, Integer> ordOf = new HashMap<>();
+    private final Map<Integer, IntList> postings = new HashMap<>();
+
+    // ───── 쓰기 ─────
+
+    public void upsert(Doc doc) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(doc.userId());
+            addLocked(new Norm(doc));
+            if (dead >= COMPACT_MIN_DEAD && dead > live.cardinality()) compactLocked();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long userId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(userId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 전체 교체 (기동/주기 재색인) */
+    public void replaceAll(Collection<Doc> all) {
+        lock.writeLock().lock();
+        try {
+            clearLocked();
+            for (Doc d : all) addLocked(new Norm(d));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordOf.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ───── 읽기 ─────
+
+    public Hits search(String query, int offset, int limit) {
+        String q = normalize(query);
+        if (q.isEmpty()) return new Hits(List.of(), 0);
+
+        lock.readLock().lock();
+        try {
+            List<long[]> matched = new ArrayList<>(); // {score, userId}
+            if (q.length() >= 2) {
+                IntList smallest = null;
+                for (int i = 0; i + 1 < q.length(); i++) {
+                    IntList p = postings.get(bigram(q.charAt(i), q.charAt(i + 1)));
+                    if (p == null) return new Hits(List.of(), 0);
+                    if (smallest == null || p.size < smallest.size) smallest = p;
+                }
+                for (int i = 0; i < smallest.size; i++) {
+                    int ord = smallest.a[i];
+                    if (live.get(ord)) collect(docs[ord], q, matched);
+                }
+            } else {
+                for (int ord = live.nextSetBit(0); ord >= 0; ord = live.nextSetBit(ord + 1)) {
+                    collect(docs[ord], q, matched);
+                }
+            }
+
+            matched.sort((x, y) -> x[0] != y[0] ? Long.compare(y[0], x[0]) : Long.compare(x[1], y[1]));
+            int from = Math.min(Math.max(0, offset), matched.size());
+            int to = Math.min(from + Math.max(0, limit), matched.size());
+            List<Long> ids = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) ids.add(matched.get(i)[1]);
+            return new Hits(ids, matched.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void collect(Norm d, String q, List<long[]> out) {
+        int s = score(d, q);
+        if (s > 0) out.add(new long[]{s, d.userId});
+    }
+
+    /** 필드별 가중치: 닉네임 > 아이디 > 이메일 */
+    static int score(Norm d, String q) {
+        int s = 0;
+        s += fieldScore(d.nickname, q, 100, 60, 40);
+        s += fieldScore(d.username, q, 90, 50, 30);
+        s += fieldScore(d.email, q, 25, 25, 15);
+        return s;
+    }
+
+    private static int fieldScore(String field, String q, int exact, int prefix, int contains) {
+        if (field.isEmpty()) return 0;
+        if (field.equals(q)) return exact;
+        if (field.startsWith(q)) return prefix;
+        return field.contains(q) ? contains : 0;
+    }
+
+    // ───── 내부 ─────
+
+    private void addLocked(Norm d) {
+        int ord = nextOrd++;
+        if (ord == docs.length) docs = Arrays.copyOf(docs, docs.length * 2);
+        docs[ord] = d;
+        live.set(ord);
+        ordOf.put(d.userId, ord);
+        for (int gram : d.bigrams()) {
+            postings.computeIfAbsent(gram, k -> new IntList()).add(ord);
+        }
+    }
+
+    private void removeLocked(long userId) {
+        Integer old = ordOf.remove(userId);
+        if (old != null) {
+            live.clear(old);
+            docs[old] = null;
+            dead++;
+        }
+    }
+
+    private void compactLocked() {
+        List<Norm> alive = new ArrayList<>(ordOf.size());
+        for (int ord = live.nextSetBit(0); ord >= 0; ord = live.nextSetBit(ord + 1)) alive.add(docs[ord]);
+        clearLocked();
+        for (Norm d : alive) addLocked(d);
+    }
+
+    private void clearLocked() {
+        docs = new Norm[1024];
+        nextOrd = 0;
+        live.clear();
+        dead = 0;
+        ordOf.clear();
+        postings.clear();
+    }
+
+    static String normalize(String s) {
+        if (s == null) return "";
+        return Normalizer.normalize(s, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT).trim();
+    }
+
+    private static int bigram(char a, char b) {
+        return (a << 16) | b;
+    }
+
+    /** 정규화된 문서 */
+    static final class Norm {
+        final long userId;
+        final String nickname, username, email;
+
+        Norm(Doc d) {
+            this.userId = d.userId();
+            this.nickname = normalize(d.nickname());
+            this.username = normalize(d.username());
+            this.email = normalize(d.email());
+        }
+
+        /** 필드 경계를 넘지 않는 서로 다른 bigram */
+        Set<Integer> bigrams() {
+            Set<Integer> out = new HashSet<>();
+            for (String f : new String[]{nickname, username, email}) {
+                for (int i = 0; i + 1 < f.length(); i++) out.add(bigram(f.charAt(i), f.charAt(i + 1)));
+            }
+            return out;
+        }
+    }
+
+    private static final class IntList {
+        int[] a = new int[4];
+        int size;
+
+        void add(int v) {
+            if (size == a.length) a = Arrays.copyOf(a, size * 2);
+            a[size++] = v;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.sandwich.SandWich.user.search;
+
+import com.sandwich.SandWich.user.event.AccountProfileChangedEvent;
+import com.sandwich.SandWich.user.repository.UserSearchRepository;
+import com.sandwich.SandWich.user.repository.UserSearchRepository.IndexSourceRow;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * AccountSearchIndex 를 DB 와 맞춰 두는 쪽.
+ * - 기동 직후 / rebuild-cron 마다 전체 재색인 (준비 전에는 search() 가 empty → 호출자는 DB 검색)
+ * - 프로필 변경 이벤트(커밋 후)마다 해당 사용자만 다시 읽어 반영
+ * - 재색인 중 들어온 변경은 모아 두었다가 교체 직후 다시 반영 (교체로 덮어쓰이지 않게)
+ * 색인은 인스턴스별 메모리라 다른 인스턴스의 변경은 다음 주기 재색인에서 수렴한다.
+ */
+@Slf4j
+@Service
+public class AccountSearchIndexService {
+
+    private final UserSearchRepository repo;
+    private final AccountSearchProperties props;
+    private final AccountSearchIndex index = new AccountSearchIndex();
+    private final Timer queryTimer;
+    private final Timer rebuildTimer;
+
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "account-search-index");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private volatile boolean ready = false;
+    private volatile boolean rebuilding = false;
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    public AccountSearchIndexService(UserSearchRepository repo, AccountSearchProperties props, MeterRegistry registry) {
+        this.repo = repo;
+        this.props = props;
+        this.queryTimer = Timer.builder("account_search_index_query_seconds").description("In-memory account search").register(registry);
+        this.rebuildTimer = Timer.builder("account_search_index_rebuild_seconds").description("Full account index rebuild").register(registry);
+        Gauge.builder("account_search_index_docs", index, AccountSearchIndex::size).description("Indexed accounts").register(registry);
+    }
+
+    @PreDestroy
+    void stop() {
+        worker.shutdownNow();
+    }
+
+    /** 색인이 준비되지 않았거나 꺼져 있으면 empty */
+    public Optional<AccountSearchIndex.Hits> search(String q, int offset, int limit) {
+        if (!props.isIndexEnabled() || !ready) return Optional.empty();
+        return Optional.of(queryTimer.record(() -> index.search(q, offset, limit)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (props.isIndexEnabled()) worker.execute(this::rebuild);
+    }
+
+    @Scheduled(cron = "${app.search.accounts.rebuild-cron:0 */30 * * * *}")
+    public void scheduledRebuild() {
+        if (props.isIndexEnabled()) worker.execute(this::rebuild);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProfileChanged(AccountProfileChangedEvent ev) {
+        if (!props.isIndexEnabled() || ev.userId() == null) return;
+        if (rebuilding) changedDuringRebuild.add(ev.userId());
+        worker.execute(() -> refresh(ev.userId()));
+    }
+
+    void refresh(Long userId) {
+        try {
+            List<IndexSourceRow> rows = repo.findIndexSourceById(userId);
+            if (rows.isEmpty()) {
+                index.remove(userId); // 탈퇴/권한 변경
+                return;
+            }
+            index.upsert(toDoc(rows.get(0)));
+        } catch (Exception e) {
+            log.warn("[AccountIndex] refresh failed userId={} err={}", userId, e.toString());
+        }
+    }
+
+    void rebuild() {
+        rebuilding = true;
+        changedDuringRebuild.clear();
+        try {
+            rebuildTimer.record(() -> {
+                List<AccountSearchIndex.Doc> all = new ArrayList<>();
+                long after = 0L;
+                int batch = Math.max(100, props.getBatchSize());
+                while (true) {
+                    List<IndexSourceRow> rows = repo.findIndexSourceAfter(after, PageRequest.of(0, batch));
+                    if (rows.isEmpty()) break;
+                    for (IndexSourceRow r : rows) all.add(toDoc(r));
+                    after = rows.get(rows.size() - 1).getId();
+                    if (rows.size() < batch) break;
+                }
+                index.replaceAll(all);
+            });
+            ready = true;
+            log.info("[AccountIndex] rebuilt docs={}", index.size());
+        } catch (Exception e) {
+            log.warn("[AccountIndex] rebuild failed (keeping previous index) err={}", e.toString());
+        } finally {
+            rebuilding = false;
+            for (Long id : changedDuringRebuild) refresh(id);
+            changedDuringRebuild.clear();
+        }
+    }
+
+    private static AccountSearchIndex.Doc toDoc(IndexSourceRow r) {
+        return new AccountSearchIndex.Doc(r.getId(), r.getNickname(), r.getUsername(), r.getEmail());
+    }
+}
@@ -0,0 +1,20 @@
+package com.sandwich.SandWich.user.search;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter @Setter
+@Component
+@ConfigurationProperties(prefix = "app.search.accounts")
+public class AccountSearchProperties {
+    /** false 면 기존 LIKE 쿼리 사용 */
+    private boolean indexEnabled = true;
+
+    /** 전체 재색인 주기 — 다른 인스턴스/경로에서 바뀐 프로필까지 수렴 */
+    private String rebuildCron = "0 */30 * * * *";
+
+    /** 재색인 시 DB 배치 크기 */
+    private int batchSize = 5000;
+}
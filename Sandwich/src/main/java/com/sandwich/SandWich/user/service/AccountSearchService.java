@@ -5,8 +5,12 @@ import com.sandwich.SandWich.project.repository.ProjectRepository;
 import com.sandwich.SandWich.user.dto.AccountSearchItem;
 import com.sandwich.SandWich.user.repository.UserAccountRow;
 import com.sandwich.SandWich.user.repository.UserRepository;
+import com.sandwich.SandWich.user.repository.UserSearchRepository;
+import com.sandwich.SandWich.user.search.AccountSearchIndex;
+import com.sandwich.SandWich.user.search.AccountSearchIndexService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,6 +18,9 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,6 +29,8 @@ public class AccountSearchService {
 
     private final UserRepository userRepo;
     private final ProjectRepository projectRepo;
+    private final UserSearchRepository searchRepo;
+    private final AccountSearchIndexService searchIndex;
 
     @Transactional(readOnly = true)
     public PageResponse<AccountSearchItem> search(String rawQ, Pageable pageable) {
@@ -29,7 +38,7 @@ public class AccountSearchService {
 
         Page<UserAccountRow> page = q.isEmpty()
                 ? userRepo.findAllAccounts(pageable)
-                : userRepo.searchAccounts(q, pageable);
+                : searchViaIndex(q, pageable).orElseGet(() -> userRepo.searchAccounts(q, pageable));
 
         // 1) 응답에 포함될 사용자 id 목록
         List<Long> userIds = page.getContent().stream()
@@ -67,4 +76,22 @@ public class AccountSearchService {
 
         return PageResponse.of(mapped);
     }
+
+    /**
+     * 메모리 색인에서 관련도 순 id 한 페이지 → 한 번의 IN 쿼리로 하이드레이트.
+     * 색인 준비 전이면 empty (DB LIKE 검색으로 대체). 정렬은 관련도 고정 (pageable sort 무시)
+     */
+    private Optional<Page<UserAccountRow>> searchViaIndex(String q, Pageable pageable) {
+        Optional<AccountSearchIndex.Hits> hits =
+                searchIndex.search(q, (int) pageable.getOffset(), pageable.getPageSize());
+        if (hits.isEmpty()) return Optional.empty();
+
+        List<Long> ids = hits.get().userIds();
+        Map<Long, UserAccountRow> byId = ids.isEmpty()
+                ? Map.of()
+                : searchRepo.findAccountRowsByIds(ids).stream()
+                        .collect(Collectors.toMap(UserAccountRow::getId, Function.identity(), (a, b) -> a));
+        List<UserAccountRow> rows = ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+        return Optional.of(new PageImpl<>(rows, pageable, hits.get().total()));
+    }
 }
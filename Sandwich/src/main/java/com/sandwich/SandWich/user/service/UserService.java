@@ -2,6 +2,7 @@ package com.sandwich.SandWich.user.service;
 
 
 import com.sandwich.SandWich.auth.dto.SignupRequest;
+import com.sandwich.SandWich.auth.security.PrincipalCache;
 import com.sandwich.SandWich.comment.domain.Comment;
 import com.sandwich.SandWich.comment.repository.CommentRepository;
 import com.sandwich.SandWich.common.exception.exceptiontype.InterestNotFoundException;
@@ -13,6 +14,8 @@ import com.sandwich.SandWich.user.domain.*;
 import com.sandwich.SandWich.user.dto.*;
 import com.sandwich.SandWich.user.repository.*;
 import com.sandwich.SandWich.user.domain.User;
+import com.sandwich.SandWich.user.event.AccountProfileChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -38,6 +41,8 @@ public class UserService {
     private final ProjectRepository projectRepository;
     private static final Logger log = LoggerFactory.getLogger(UserService.class);
     private final JdbcTemplate jdbc;
+    private final ApplicationEventPublisher events;
+    private final PrincipalCache principalCache;
 
 
     @Transactional
@@ -108,6 +113,7 @@ public class UserService {
         // 4) 저장
         userRepository.save(user);
         ensureWallet(user.getId());
+        events.publishEvent(new AccountProfileChangedEvent(user.getId()));
     }
 
 
@@ -230,13 +236,16 @@ public class UserService {
         user.setIsProfileSet(true);
         userRepository.save(user);
         ensureWallet(user.getId());
+        events.publishEvent(new AccountProfileChangedEvent(user.getId()));
     }
 
     @Transactional
     public void deleteMe(User user) {
         log.info("회원 탈퇴 요청 실행됨 - 이메일: {}", user.getEmail());
 
-        // 1) 소프트 삭제 + 로그인 차단
+        // 1) 소프트 삭제 + 로그인 차단 (이메일이 마스킹되므로 원래 이메일 기준 인증 캐시는 직접 비움)
+        principalCache.evict(user.getEmail());
+        user.bumpTokenVersion();
         user.setIsDeleted(true);
         user.setInteractiveLoginEnabled(false);
         user.setMfaRequired(false);
@@ -287,6 +296,7 @@ public class UserService {
 
         // 6) 저장
         userRepository.save(user);
+        events.publishEvent(new AccountProfileChangedEvent(user.getId())); // 검색 색인에서 제거
     }
 
     private String maskEmail(String email, Long userId) {
@@ -343,6 +353,7 @@ public class UserService {
         profile.setProfileSlug(slug);
         userRepository.save(user);
         ensureWallet(user.getId()); // 기존 지갑 보장 로직 유지
+        events.publishEvent(new AccountProfileChangedEvent(userId));
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,17 @@
+-- 프로젝트 검색용 PostgreSQL 전용 스키마 (ProjectSearchSchemaInitializer 가 기동 시 적용, 모두 멱등)
+-- 한국어 형태소 분석기가 없으므로 'simple' 설정 + 제목(A) > 기술스택(B) > 설명(C) 가중치
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE project ADD COLUMN IF NOT EXISTS search_tsv tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(tools, '')), 'B') ||
+        setweight(to_tsvector('simple', coalesce(description, '')), 'C')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_project_search_tsv ON project USING GIN (search_tsv);
+
+-- lower(col) 기준 trigram 인덱스: 유사도(%, <%) 검색과 기존 lower(col) LIKE '%q%' 모두 사용 가능
+CREATE INDEX IF NOT EXISTS idx_project_title_trgm       ON project USING GIN (lower(title) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_project_tools_trgm       ON project USING GIN (lower(tools) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_project_description_trgm ON project USING GIN (lower(description) gin_trgm_ops);
@@ -45,6 +45,15 @@ class JwtUtilTest {
         assertEquals(email, claims.getSubject());
     }
 
+    @Test
+    void accessToken_토큰버전_클레임_포함_옛_토큰은_0() {
+        String versioned = jwtUtil.createAccessToken("tv@example.com", "ROLE_USER", 3L);
+        String legacy = jwtUtil.createRefreshToken("tv@example.com"); // tv 클레임 없음
+
+        assertEquals(3L, JwtUtil.tokenVersion(jwtUtil.parseClaims(versioned)));
+        assertEquals(0L, JwtUtil.tokenVersion(jwtUtil.parseClaims(legacy)));
+    }
+
     @Test
     void 잘못된_토큰_입력시_JwtInvalidException_발생() {
         // given: 형식이 완전히 잘못된 JWT 문자열
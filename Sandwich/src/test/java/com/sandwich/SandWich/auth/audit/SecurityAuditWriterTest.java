@@ -0,0 +1,99 @@
+package com.sandwich.SandWich.auth.audit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SecurityAuditWriterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    /** DB 대신 배치 크기만 기록, gate 가 열릴 때까지 insert 를 붙잡아 둘 수 있음 */
+    static class FakeRepo extends SecurityEventBatchRepository {
+        final List<Integer> batches = new CopyOnWriteArrayList<>();
+        final CountDownLatch gate;
+
+        FakeRepo(CountDownLatch gate) {
+            super(null);
+            this.gate = gate;
+        }
+
+        @Override
+        public int insertAll(List<Row> rows) {
+            try {
+                gate.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            batches.add(rows.size());
+            return rows.size();
+        }
+
+        int total() { return batches.stream().mapToInt(Integer::intValue).sum(); }
+    }
+
+    private SecurityAuditWriter writer(FakeRepo repo, int capacity, int batchSize) {
+        SecurityAuditProperties props = new SecurityAuditProperties();
+        props.setQueueCapacity(capacity);
+        props.setBatchSize(batchSize);
+        props.setPollInterval(Duration.ofMillis(20));
+        SecurityAuditWriter w = new SecurityAuditWriter(repo, props, registry);
+        w.start();
+        return w;
+    }
+
+    private static SecurityEventBatchRepository.Row row(int i) {
+        return new SecurityEventBatchRepository.Row("OTP_ISSUE", (long) i, null, "pid-" + i, null, null, null, OffsetDateTime.now());
+    }
+
+    @Test
+    void 쌓인_이벤트는_batchSize_단위로_묶어_기록하고_종료_시_모두_비운다() {
+        CountDownLatch gate = new CountDownLatch(1);
+        FakeRepo repo = new FakeRepo(gate);
+        SecurityAuditWriter w = writer(repo, 1_000, 50);
+
+        for (int i = 0; i < 230; i++) assertThat(w.enqueue(row(i))).isTrue();
+        gate.countDown();
+        w.stop();
+
+        assertThat(repo.total()).isEqualTo(230);
+        assertThat(repo.batches).allMatch(n -> n <= 50);
+        assertThat(repo.batches.size()).isLessThan(230); // 한 건씩 쓰지 않음
+        assertThat(registry.get("security_audit_written_total").counter().count()).isEqualTo(230);
+    }
+
+    @Test
+    void 큐가_가득_차면_새_이벤트를_버리고_카운트한다() {
+        CountDownLatch gate = new CountDownLatch(1);
+        FakeRepo repo = new FakeRepo(gate);
+        SecurityAuditWriter w = writer(repo, 10, 5);
+
+        int accepted = 0;
+        for (int i = 0; i < 100; i++) if (w.enqueue(row(i))) accepted++;
+        gate.countDown();
+        w.stop();
+
+        double dropped = registry.get("security_audit_dropped_total").tag("reason", "overflow").counter().count();
+        assertThat(accepted + (int) dropped).isEqualTo(100);
+        assertThat(dropped).isGreaterThan(0);
+        assertThat(repo.total()).isEqualTo(accepted);
+    }
+
+    @Test
+    void 종료_후에는_받지_않는다() {
+        FakeRepo repo = new FakeRepo(new CountDownLatch(0));
+        SecurityAuditWriter w = writer(repo, 10, 5);
+        w.stop();
+
+        assertThat(w.enqueue(row(1))).isFalse();
+        assertThat(registry.get("security_audit_dropped_total").tag("reason", "shutdown").counter().count()).isEqualTo(1);
+    }
+}
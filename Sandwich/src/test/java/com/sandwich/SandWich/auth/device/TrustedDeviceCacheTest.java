@@ -0,0 +1,64 @@
+package com.sandwich.SandWich.auth.device;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.OffsetDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrustedDeviceCacheTest {
+
+    private final TrustedDeviceCache cache = new TrustedDeviceCache(new ConcurrentMapCacheManager());
+    private final AtomicInteger verifications = new AtomicInteger();
+
+    private final UserDevice device = UserDevice.builder()
+            .userId(7L).deviceId("dev-1")
+            .trustUntil(OffsetDateTime.now().plusDays(30))
+            .build();
+
+    // DB + BCrypt 대신: 토큰이 "secret" 일 때만 성공
+    private Supplier<TrustedDeviceCache.VerifiedDevice> verifier(String token) {
+        return () -> {
+            verifications.incrementAndGet();
+            return "secret".equals(token) ? cache.verified(device, token) : null;
+        };
+    }
+
+    @Test
+    void 같은_토큰은_한_번만_검증한다() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(cache.get("dev-1", "secret", verifier("secret"))).isNotNull();
+        }
+        assertThat(verifications).hasValue(1);
+    }
+
+    @Test
+    void 다른_토큰은_캐시를_통과하지_못하고_다시_검증한다() {
+        cache.get("dev-1", "secret", verifier("secret"));
+
+        assertThat(cache.get("dev-1", "guess", verifier("guess"))).isNull();
+        assertThat(verifications).hasValue(2);
+        // 실패가 기존 검증 결과를 지우지는 않음
+        assertThat(cache.get("dev-1", "secret", verifier("secret"))).isNotNull();
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    void 실패_결과는_캐시하지_않는다() {
+        assertThat(cache.get("dev-1", "guess", verifier("guess"))).isNull();
+        assertThat(cache.get("dev-1", "secret", verifier("secret"))).isNotNull();
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    void evict_후에는_다시_검증한다() {
+        cache.get("dev-1", "secret", verifier("secret"));
+        cache.evict("dev-1");
+
+        cache.get("dev-1", "secret", verifier("secret"));
+        assertThat(verifications).hasValue(2);
+    }
+}
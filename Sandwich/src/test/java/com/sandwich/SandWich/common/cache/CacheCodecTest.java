@@ -0,0 +1,62 @@
+package com.sandwich.SandWich.common.cache;
+
+import com.sandwich.SandWich.discovery.dto.HotDeveloperDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** L2 에 실제로 들어가는 값들이 같은 코덱으로 다시 읽히는지 */
+class CacheCodecTest {
+
+    private final GenericJackson2JsonRedisSerializer codec = CacheCodec.serializer();
+
+    private Object roundTrip(Object value) {
+        return codec.deserialize(codec.serialize(value));
+    }
+
+    @Test
+    void hotDevelopers_목록은_record_와_원소_타입까지_그대로_복원된다() {
+        List<HotDeveloperDto> value = new ArrayList<>(List.of(
+                new HotDeveloperDto(1L, "샌드", "BACKEND", "https://cdn/a.png", 12.5,
+                        new ArrayList<>(List.of(new HotDeveloperDto.ProjectCard(10L, "https://cdn/p.png"),
+                                new HotDeveloperDto.ProjectCard(11L, null)))),
+                new HotDeveloperDto(2L, "탈퇴한 사용자", null, null, 0.0, new ArrayList<>())));
+
+        Object read = roundTrip(value);
+
+        assertThat(read).isInstanceOf(List.class).isEqualTo(value);
+        assertThat(((List<?>) read).get(0)).isInstanceOf(HotDeveloperDto.class);
+        assertThat(((HotDeveloperDto) ((List<?>) read).get(0)).projects().get(0)).isInstanceOf(HotDeveloperDto.ProjectCard.class);
+    }
+
+    @Test
+    void List_of_같은_JDK_불변_컬렉션도_읽힌다() {
+        List<HotDeveloperDto> value = List.of(
+                new HotDeveloperDto(3L, "n", "FRONTEND", null, 1.0, List.of()),
+                new HotDeveloperDto(4L, "m", null, null, 2.0, Collections.unmodifiableList(new ArrayList<>(
+                        List.of(new HotDeveloperDto.ProjectCard(20L, null))))));
+
+        assertThat(roundTrip(value)).isEqualTo(value);
+        assertThat(roundTrip(List.of())).isEqualTo(List.of());
+        assertThat(roundTrip(Set.of("a"))).isEqualTo(Set.of("a"));
+        assertThat(roundTrip(Map.of("k", 1L))).isEqualTo(Map.of("k", 1L));
+    }
+
+    @Test
+    void 스칼라_값도_타입이_유지된다() {
+        OffsetDateTime at = OffsetDateTime.of(2026, 1, 2, 3, 4, 5, 0, ZoneOffset.UTC);
+
+        assertThat(roundTrip("text")).isEqualTo("text");
+        assertThat(roundTrip(42L)).isEqualTo(42L);
+        assertThat(roundTrip(at)).isEqualTo(at);
+    }
+}
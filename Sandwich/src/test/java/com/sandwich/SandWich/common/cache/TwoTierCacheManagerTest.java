@@ -0,0 +1,94 @@
+package com.sandwich.SandWich.common.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TwoTierCacheManagerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private TwoTierCacheManager manager;
+
+    @BeforeEach
+    void setUp() {
+        TwoTierCacheProperties props = new TwoTierCacheProperties();
+        props.setRedisEnabled(false);
+        TwoTierCacheProperties.Spec small = new TwoTierCacheProperties.Spec();
+        small.setTtl(Duration.ofMinutes(1));
+        small.setMaxSize(2);
+        props.getSpecs().put("small", small);
+
+        manager = new TwoTierCacheManager(props, null, new GenericJackson2JsonRedisSerializer(), registry);
+        manager.afterPropertiesSet();
+    }
+
+    @Test
+    void 설정된_캐시와_미등록_캐시_모두_생성() {
+        assertThat(manager.getCacheNames()).contains("hotDevelopers", "small");
+        Cache other = manager.getCache("someNewCache");
+        assertThat(other).isInstanceOf(TwoTierCache.class);
+        assertThat(manager.getCacheNames()).contains("someNewCache");
+    }
+
+    @Test
+    void 로더는_한번만_호출되고_null_도_캐시() {
+        Cache cache = manager.getCache("hotDevelopers");
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThat(cache.get("12:0", () -> "v" + calls.incrementAndGet())).isEqualTo("v1");
+        assertThat(cache.get("12:0", () -> "v" + calls.incrementAndGet())).isEqualTo("v1");
+        assertThat(cache.get("none", () -> { calls.incrementAndGet(); return null; })).isNull();
+        assertThat(cache.get("none")).isNotNull(); // null 값도 래퍼로 캐시됨
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void evict_clear() {
+        Cache cache = manager.getCache("hotDevelopers");
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.evict("a");
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.get("b", Integer.class)).isEqualTo(2);
+        cache.clear();
+        assertThat(cache.get("b")).isNull();
+    }
+
+    @Test
+    void 크기_상한을_넘으면_제거() {
+        Cache cache = manager.getCache("small");
+        for (int i = 0; i < 50; i++) cache.put("k" + i, i);
+        @SuppressWarnings("unchecked")
+        var nativeCache = (com.github.benmanes.caffeine.cache.Cache<String, Object>) cache.getNativeCache();
+        nativeCache.cleanUp();
+        assertThat(nativeCache.estimatedSize()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void 다른_노드의_무효화_메시지는_L1_만_비움() {
+        Cache cache = manager.getCache("hotDevelopers");
+        cache.put("x", "1");
+        cache.put("y", "2");
+
+        manager.onMessage(message("other-node\thotDevelopers\tx"), null);
+        assertThat(cache.get("x")).isNull();
+        assertThat(cache.get("y")).isNotNull();
+
+        manager.onMessage(message("other-node\thotDevelopers\t*"), null);
+        assertThat(cache.get("y")).isNull();
+        assertThat(registry.get("cache_invalidations_received_total").counter().count()).isEqualTo(2.0);
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage("cache:invalidate".getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
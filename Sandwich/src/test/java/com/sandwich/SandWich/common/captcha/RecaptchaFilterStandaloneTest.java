@@ -6,6 +6,9 @@ import com.sandwich.SandWich.common.exception.CustomException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.bind.annotation.*;
@@ -16,6 +19,16 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -113,4 +126,57 @@ class RecaptchaFilterStandaloneTest {
         m.perform(post("/api/auth/login"))
                 .andExpect(status().isOk());
     }
+
+    @Test @DisplayName("같은 토큰으로 동시에 들어온 요청 → 하나만 통과 (siteverify 토큰은 1회용)")
+    void onlyOneConcurrentRequestPassesWithSameToken() throws Exception {
+        // siteverify 흉내: 토큰은 처음 한 번만 성공, 호출이 겹치도록 잠깐 붙잡음
+        Set<String> used = ConcurrentHashMap.newKeySet();
+        AtomicInteger calls = new AtomicInteger();
+        RecaptchaVerifier onceOnly = new RecaptchaVerifier() {
+            @Override
+            public boolean verifyV3(String token, String secret, Double threshold) {
+                calls.incrementAndGet();
+                try { Thread.sleep(100); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+                return token != null && used.add(token);
+            }
+
+            @Override
+            public boolean verifyV2(String token, String secret) {
+                return verifyV3(token, secret, null);
+            }
+        };
+        RecaptchaFilter filter = new RecaptchaFilter(enabledProps(), onceOnly);
+
+        int n = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(n);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger passed = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        try {
+            Future<?>[] futures = new Future<?>[n];
+            for (int i = 0; i < n; i++) {
+                futures[i] = pool.submit(() -> {
+                    start.await();
+                    MockHttpServletRequest req = new MockHttpServletRequest("POST", "/api/auth/login");
+                    req.addHeader("X-Recaptcha-Token", "solved-once");
+                    MockFilterChain chain = new MockFilterChain();
+                    try {
+                        filter.doFilter(req, new MockHttpServletResponse(), chain);
+                        if (chain.getRequest() != null) passed.incrementAndGet();
+                    } catch (CustomException ex) {
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            for (Future<?> f : futures) f.get(5, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(passed.get()).isEqualTo(1);
+        assertThat(rejected.get()).isEqualTo(n - 1);
+        assertThat(calls.get()).isEqualTo(n); // 요청마다 각자 검증
+    }
 }
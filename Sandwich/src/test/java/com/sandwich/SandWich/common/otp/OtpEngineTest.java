@@ -0,0 +1,66 @@
+package com.sandwich.SandWich.common.otp;
+
+import com.sandwich.SandWich.support.RedisContainerSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.sandwich.SandWich.common.otp.OtpEngine.Result.EXPIRED;
+import static com.sandwich.SandWich.common.otp.OtpEngine.Result.INVALID;
+import static com.sandwich.SandWich.common.otp.OtpEngine.Result.LOCKED;
+import static com.sandwich.SandWich.common.otp.OtpEngine.Result.OK;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** ISSUE / VERIFY 스크립트를 실제 Redis 로 */
+class OtpEngineTest extends RedisContainerSupport {
+
+    private static final int MAX_TRIES = 3;
+
+    private OtpEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        OtpProperties props = new OtpProperties();
+        props.setHmacSecret("test-secret");
+        engine = new OtpEngine(redis, props, null);
+    }
+
+    @Test
+    void 맞는_코드는_한_번만_통과한다() {
+        engine.issue("login", "pid-1", "123456");
+
+        assertThat(engine.verify("login", "pid-1", "123456", MAX_TRIES)).isEqualTo(OK);
+        assertThat(engine.verify("login", "pid-1", "123456", MAX_TRIES)).isEqualTo(EXPIRED);
+        assertThat(redis.keys("otp:*")).isEmpty(); // 코드·횟수 모두 삭제
+    }
+
+    @Test
+    void 틀린_코드가_한도에_닿으면_맞는_코드도_잠긴다() {
+        engine.issue("login", "pid-1", "123456");
+
+        for (int i = 0; i < MAX_TRIES; i++) {
+            assertThat(engine.verify("login", "pid-1", "000000", MAX_TRIES)).isEqualTo(INVALID);
+        }
+        assertThat(engine.verify("login", "pid-1", "123456", MAX_TRIES)).isEqualTo(LOCKED);
+    }
+
+    @Test
+    void 재발급해도_실패_횟수는_유지된다() {
+        engine.issue("email", "a@b.c", "111111");
+        assertThat(engine.verify("email", "a@b.c", "000000", MAX_TRIES)).isEqualTo(INVALID);
+        assertThat(engine.verify("email", "a@b.c", "000000", MAX_TRIES)).isEqualTo(INVALID);
+
+        engine.issue("email", "a@b.c", "222222");
+        assertThat(engine.verify("email", "a@b.c", "111111", MAX_TRIES)).isEqualTo(INVALID); // 이전 코드는 무효
+        assertThat(engine.verify("email", "a@b.c", "222222", MAX_TRIES)).isEqualTo(LOCKED);
+        assertThat(redis.getExpire("otp:email:{a@b.c}:try")).isPositive();
+    }
+
+    @Test
+    void 다른_흐름이나_대상의_코드로는_검증되지_않는다() {
+        engine.issue("login", "pid-1", "123456");
+
+        assertThat(engine.verify("email", "pid-1", "123456", MAX_TRIES)).isEqualTo(EXPIRED);
+        assertThat(engine.verify("login", "pid-2", "123456", MAX_TRIES)).isEqualTo(EXPIRED);
+        assertThat(engine.verify("login", "pid-1", "123456", MAX_TRIES)).isEqualTo(OK);
+    }
+}
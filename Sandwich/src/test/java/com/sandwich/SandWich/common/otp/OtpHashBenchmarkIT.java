@@ -0,0 +1,71 @@
+package com.sandwich.SandWich.common.otp;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * OTP 검증 한 건당 해시 비용 (수치는 로그로만 확인, 시간 단언 없음).
+ * 비교 기준: 기존 OtpService 의 BCrypt(cost 10) encode + matches.
+ * Redis 왕복은 기존 GET code·TTL·GET try + DEL/INCR (4~5회) → 스크립트 1회.
+ * 기본 테스트에서는 빠지고, 필요할 때만 실행 (스크립트 동작은 OtpEngineTest):
+ *
+ *   RUN_BENCHMARKS=true ./gradlew test --tests '*OtpHashBenchmarkIT'
+ */
+@EnabledIfEnvironmentVariable(named = "RUN_BENCHMARKS", matches = "true")
+class OtpHashBenchmarkIT {
+
+    @Test
+    void hmacMatchesBcryptDecisionsAtAFractionOfTheCost() {
+        OtpProperties props = new OtpProperties();
+        props.setHmacSecret("bench-secret");
+        OtpEngine engine = new OtpEngine(null, props, null);
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder();
+
+        String code = engine.newCode();
+        String wrong = String.format("%06d", (Integer.parseInt(code) + 1) % 1_000_000);
+
+        // 동등성: 같은 입력이면 같은 판정
+        String stored = engine.hash("login", "pid-1", code);
+        String bstored = bcrypt.encode(code);
+        assertThat(engine.hash("login", "pid-1", code)).isEqualTo(stored);
+        assertThat(engine.hash("login", "pid-1", wrong)).isNotEqualTo(stored);
+        assertThat(bcrypt.matches(code, bstored)).isTrue();
+        assertThat(bcrypt.matches(wrong, bstored)).isFalse();
+        // 다른 흐름(scope/subject)의 해시는 재사용 불가
+        assertThat(engine.hash("email", "pid-1", code)).isNotEqualTo(stored);
+        assertThat(engine.hash("login", "pid-2", code)).isNotEqualTo(stored);
+
+        int bRounds = 20;
+        long[] bcryptNs = new long[bRounds];
+        for (int i = 0; i < bRounds; i++) {
+            long s = System.nanoTime();
+            String h = bcrypt.encode(code);          // 발급
+            boolean ok = bcrypt.matches(code, h);    // 검증
+            bcryptNs[i] = System.nanoTime() - s;
+            assertThat(ok).isTrue();
+        }
+
+        int hRounds = 200_000;
+        long sink = 0;
+        for (int i = 0; i < hRounds; i++) sink += engine.hash("login", "pid-" + (i & 1023), code).length(); // 워밍업
+        long[] hmacNs = new long[5];
+        for (int r = 0; r < 5; r++) {
+            long s = System.nanoTime();
+            for (int i = 0; i < hRounds; i++) {
+                String h = engine.hash("login", "pid-" + (i & 1023), code);             // 발급
+                if (h.equals(engine.hash("login", "pid-" + (i & 1023), code))) sink++; // 검증
+            }
+            hmacNs[r] = (System.nanoTime() - s) / hRounds;
+        }
+
+        Arrays.sort(bcryptNs);
+        Arrays.sort(hmacNs);
+        System.out.printf("[OtpHash] bcrypt median=%.2fms/otp | hmac median=%dns/otp (sink=%d)%n",
+                bcryptNs[bRounds / 2] / 1_000_000.0, hmacNs[2], sink);
+    }
+}
@@ -0,0 +1,138 @@
+package com.sandwich.SandWich.common.ratelimit;
+
+import com.sandwich.SandWich.common.captcha.RecaptchaProperties;
+import com.sandwich.SandWich.common.exception.GlobalExceptionHandler;
+import com.sandwich.SandWich.common.route.RouteClassifier;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class RateLimitInterceptorPolicyTest {
+
+    // 키별 고정 윈도우 카운터 — Redis 스크립트 대신 Decision(남은 수·리셋) 을 돌려줌
+    static class CountingLimiter extends RateLimiter {
+        final Map<String, AtomicInteger> counters = new ConcurrentHashMap<>();
+
+        CountingLimiter() { super(null); }
+
+        @Override
+        public Decision acquire(String key, RateLimitProperties.Limit limit) {
+            int n = counters.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+            return new Decision(n <= limit.getCapacity(), limit.getCapacity(),
+                    Math.max(0, limit.getCapacity() - n), limit.getWindow().toMillis());
+        }
+    }
+
+    @RestController
+    @RequestMapping(value = "/api/search", produces = MediaType.APPLICATION_JSON_VALUE)
+    static class SearchController {
+        @GetMapping public void search() { }
+    }
+
+    @RestController
+    @RequestMapping(value = "/api/email", produces = MediaType.APPLICATION_JSON_VALUE)
+    static class EmailController {
+        @PostMapping("/verify") public void verify() { }
+    }
+
+    private final CountingLimiter limiter = new CountingLimiter();
+
+    private MockMvc mvc(String keyBy, Long userId) {
+        RateLimitProperties.Limit burst = new RateLimitProperties.Limit();
+        burst.setCapacity(2);
+        burst.setWindow(Duration.ofSeconds(10));
+        burst.setCode("RATE_LIMIT_SEARCH");
+        RateLimitProperties.Limit hourly = new RateLimitProperties.Limit();
+        hourly.setCapacity(100);
+        hourly.setWindow(Duration.ofHours(1));
+
+        RateLimitProperties.Policy search = new RateLimitProperties.Policy();
+        search.setPaths(List.of("/api/search/**"));
+        search.setKeyBy(RateLimitProperties.KeyBy.valueOf(keyBy));
+        search.setLimits(List.of(burst, hourly));
+
+        RateLimitProperties props = new RateLimitProperties();
+        props.getPolicies().put("search", search);
+
+        RateLimitInterceptor interceptor = new RateLimitInterceptor(props, limiter, () -> userId,
+                new RouteClassifier(new RecaptchaProperties(), props));
+        return MockMvcBuilders.standaloneSetup(new SearchController())
+                .addInterceptors(interceptor)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void 허용_응답에는_가장_빡빡한_한도의_RateLimit_헤더를_붙인다() throws Exception {
+        mvc("USER_OR_IP", 7L).perform(get("/api/search"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("RateLimit-Limit", "2"))
+                .andExpect(header().string("RateLimit-Remaining", "1"))
+                .andExpect(header().string("RateLimit-Reset", "10"));
+    }
+
+    @Test
+    void 한도를_넘으면_정책의_코드와_Retry_After_로_429() throws Exception {
+        MockMvc m = mvc("USER_OR_IP", 7L);
+        m.perform(get("/api/search")).andExpect(status().isOk());
+        m.perform(get("/api/search")).andExpect(status().isOk());
+        m.perform(get("/api/search"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.code").value("RATE_LIMIT_SEARCH"))
+                .andExpect(header().string("RateLimit-Remaining", "0"))
+                .andExpect(header().string("Retry-After", "10"));
+    }
+
+    @Test
+    void 이메일_코드_검증은_이메일이_아니라_요청자_IP_기준으로_막는다() throws Exception {
+        RateLimitProperties props = new RateLimitProperties();
+        MockMvc m = MockMvcBuilders.standaloneSetup(new EmailController())
+                .addInterceptors(new RateLimitInterceptor(props, limiter, () -> null,
+                        new RouteClassifier(new RecaptchaProperties(), props)))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        for (int i = 0; i < 10; i++) {
+            m.perform(post("/api/email/verify").with(r -> { r.setRemoteAddr("203.0.113.7"); return r; })
+                            .contentType(MediaType.APPLICATION_JSON).content("{\"email\":\"v" + i + "@example.com\"}"))
+                    .andExpect(status().isOk());
+        }
+        m.perform(post("/api/email/verify").with(r -> { r.setRemoteAddr("203.0.113.7"); return r; }))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.code").value("RATE_LIMIT_EMAIL_VERIFY"));
+        m.perform(post("/api/email/verify").with(r -> { r.setRemoteAddr("198.51.100.1"); return r; }))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void X_Forwarded_For_를_바꿔도_IP_기준_한도를_우회하지_못한다() throws Exception {
+        MockMvc m = mvc("IP", null);
+        for (int i = 0; i < 3; i++) {
+            int n = i;
+            m.perform(get("/api/search").with(r -> { r.setRemoteAddr("203.0.113.7"); return r; })
+                            .header("X-Forwarded-For", "10.0.0." + n))
+                    .andExpect(n < 2 ? status().isOk() : status().isTooManyRequests());
+        }
+    }
+
+    @Test
+    void USER_기준_정책은_비로그인_요청을_세지_않는다() throws Exception {
+        MockMvc m = mvc("USER", null);
+        for (int i = 0; i < 5; i++) {
+            m.perform(get("/api/search")).andExpect(status().isOk())
+                    .andExpect(header().doesNotExist("RateLimit-Limit"));
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.sandwich.SandWich.common.ratelimit;
+
+import com.sandwich.SandWich.support.RedisContainerSupport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisCallback;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** 판정 Lua 스크립트를 실제 Redis 에서 — 스크립트가 Redis TIME 을 쓰므로 시각은 Redis 기준으로 맞춘다 */
+class RateLimiterScriptTest extends RedisContainerSupport {
+
+    private RateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties props = new RateLimitProperties();
+        props.getNearCache().setEnabled(false); // 매번 스크립트까지
+        limiter = new RateLimiter(redis, props, new SimpleMeterRegistry());
+    }
+
+    private static RateLimitProperties.Limit limit(RateLimitProperties.Algorithm algorithm, int capacity, Duration window) {
+        RateLimitProperties.Limit l = new RateLimitProperties.Limit();
+        l.setAlgorithm(algorithm);
+        l.setCapacity(capacity);
+        l.setWindow(window);
+        return l;
+    }
+
+    private int acquireAll(String key, RateLimitProperties.Limit l, int times) {
+        int allowed = 0;
+        for (int i = 0; i < times; i++) {
+            if (limiter.acquire(key, l).allowed()) allowed++;
+        }
+        return allowed;
+    }
+
+    private static long redisNowMillis() {
+        return redis.execute((RedisCallback<Long>) c -> c.serverCommands().time());
+    }
+
+    /** Redis 시계로 다음 윈도우 경계까지 offsetMs 남은(음수면 지난) 시점까지 대기 */
+    private static void sleepUntilBoundary(long windowMs, long offsetMs) throws InterruptedException {
+        long now = redisNowMillis();
+        long boundary = (now / windowMs + 1) * windowMs;
+        long wait = boundary - offsetMs - now;
+        if (wait < 0) wait += windowMs;
+        Thread.sleep(wait);
+    }
+
+    @Test
+    void 슬라이딩_윈도우는_경계_직후_몰아치기를_막는다() throws Exception {
+        long win = 2_000;
+        RateLimitProperties.Limit l = limit(RateLimitProperties.Algorithm.SLIDING_WINDOW, 10, Duration.ofMillis(win));
+
+        sleepUntilBoundary(win, 400);
+        assertThat(acquireAll("burst", l, 10)).isEqualTo(10);
+        Object before = redis.opsForHash().get("rl:burst", "w");
+
+        sleepUntilBoundary(win, -100); // 새 고정 윈도우에 막 들어선 시점
+        int afterEdge = acquireAll("burst", l, 10);
+        Object after = redis.opsForHash().get("rl:burst", "w");
+
+        assertThat(Long.parseLong((String) after)).isEqualTo(Long.parseLong((String) before) + 1);
+        // 고정 윈도우였다면 10개 모두 허용 — 직전 윈도우 가중치(≈95%) 때문에 많아야 1개
+        assertThat(afterEdge).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    void 슬라이딩_윈도우_거부_응답은_남은_수_0_과_리셋_시각을_준다() {
+        RateLimitProperties.Limit l = limit(RateLimitProperties.Algorithm.SLIDING_WINDOW, 3, Duration.ofSeconds(30));
+
+        RateLimiter.Decision first = limiter.acquire("hdr", l);
+        acquireAll("hdr", l, 2);
+        RateLimiter.Decision denied = limiter.acquire("hdr", l);
+
+        assertThat(first.allowed()).isTrue();
+        assertThat(first.remaining()).isEqualTo(2);
+        assertThat(denied.allowed()).isFalse();
+        assertThat(denied.remaining()).isZero();
+        assertThat(denied.resetMillis()).isBetween(1L, 30_000L);
+        assertThat(redis.getExpire("rl:hdr")).isPositive();
+    }
+
+    @Test
+    void 토큰_버킷은_소진_후_경과_시간만큼_다시_찬다() throws Exception {
+        // 10초에 5개 → 2초에 1개
+        RateLimitProperties.Limit l = limit(RateLimitProperties.Algorithm.TOKEN_BUCKET, 5, Duration.ofSeconds(10));
+
+        assertThat(acquireAll("bucket", l, 5)).isEqualTo(5);
+        RateLimiter.Decision denied = limiter.acquire("bucket", l);
+        assertThat(denied.allowed()).isFalse();
+        assertThat(denied.remaining()).isZero();
+        assertThat(denied.resetMillis()).isBetween(1L, 2_000L);
+
+        Thread.sleep(denied.resetMillis() + 100);
+
+        RateLimiter.Decision refilled = limiter.acquire("bucket", l);
+        assertThat(refilled.allowed()).isTrue();
+        assertThat(refilled.remaining()).isZero();
+        assertThat(limiter.acquire("bucket", l).allowed()).isFalse(); // 한 개만 찼음
+    }
+
+    @Test
+    void 토큰_버킷은_키마다_따로_센다() {
+        RateLimitProperties.Limit l = limit(RateLimitProperties.Algorithm.TOKEN_BUCKET, 2, Duration.ofMinutes(1));
+
+        assertThat(acquireAll("a", l, 3)).isEqualTo(2);
+        assertThat(acquireAll("b", l, 3)).isEqualTo(2);
+    }
+}
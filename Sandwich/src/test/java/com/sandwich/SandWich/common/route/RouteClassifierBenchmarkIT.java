@@ -0,0 +1,104 @@
+package com.sandwich.SandWich.common.route;
+
+import com.sandwich.SandWich.common.captcha.RecaptchaProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 패턴 목록 기준 요청당 경로 분류 비용 (수치는 로그로만 확인, 시간 단언 없음).
+ * 비교 기준: 기존 필터들이 요청마다 하던 방식
+ * (JwtFilter AntPathMatcher 루프 + RateLimitInterceptor 정규식 + Recaptcha Set 조회)
+ * 기본 테스트에서는 빠지고, 필요할 때만 실행:
+ *
+ *   RUN_BENCHMARKS=true ./gradlew test --tests '*RouteClassifierBenchmarkIT'
+ */
+@EnabledIfEnvironmentVariable(named = "RUN_BENCHMARKS", matches = "true")
+class RouteClassifierBenchmarkIT {
+
+    private static final String[] PATHS = {
+            "/api/projects/123", "/api/challenges/42/submissions", "/api/challenges/42/votes",
+            "/api/auth/login", "/api/auth/otp/verify", "/api/users/me", "/api/messages/7/attachments",
+            "/swagger-ui/index.html", "/api/search/recent", "/api/notifications", "/error",
+            "/api/challenges/42/leaderboard", "/api/auth/devices/trust-check", "/login/oauth2/code/google"
+    };
+    private static final String[] METHODS = {"GET", "POST", "PUT"};
+
+    private static final AntPathMatcher ANT = new AntPathMatcher();
+
+    @Test
+    void classifierMatchesLegacyAndIsCheaperPerRequest() {
+        RecaptchaProperties captcha = new RecaptchaProperties();
+        captcha.getV3().setPaths("/api/auth/login,/api/auth/signup");
+        Set<String> v3 = captcha.getV3().pathSet();
+        RouteClassifier classifier = new RouteClassifier(captcha);
+
+        // 동등성: 기존 판단과 같은 결과
+        for (String path : PATHS) {
+            for (String method : METHODS) {
+                RouteClassification rc = classifier.classify(method, path);
+                assertThat(rc.has(RoutePolicy.PUBLIC)).as(path).isEqualTo(legacyPublic(path));
+                assertThat(rc.rateLimitBucket()).as(method + " " + path).isEqualTo(legacyBucket(method, path));
+                assertThat(rc.has(RoutePolicy.CAPTCHA_V3)).as(path).isEqualTo(v3.contains(path));
+            }
+        }
+
+        int rounds = 200_000;
+        long sink = 0;
+        // 워밍업
+        for (int i = 0; i < rounds; i++) {
+            sink += legacy(PATHS[i % PATHS.length], METHODS[i % METHODS.length], captcha);
+            sink += classifier.classify(METHODS[i % METHODS.length], PATHS[i % PATHS.length]).policies().size();
+        }
+
+        long[] legacyNs = new long[5];
+        long[] trieNs = new long[5];
+        for (int r = 0; r < 5; r++) {
+            long s = System.nanoTime();
+            for (int i = 0; i < rounds; i++) sink += legacy(PATHS[i % PATHS.length], METHODS[i % METHODS.length], captcha);
+            legacyNs[r] = (System.nanoTime() - s) / rounds;
+
+            s = System.nanoTime();
+            for (int i = 0; i < rounds; i++) {
+                sink += classifier.classify(METHODS[i % METHODS.length], PATHS[i % PATHS.length]).policies().size();
+            }
+            trieNs[r] = (System.nanoTime() - s) / rounds;
+        }
+
+        Arrays.sort(legacyNs);
+        Arrays.sort(trieNs);
+        System.out.printf("[RouteClassifier] patterns=%d legacy median=%dns/req | trie median=%dns/req (sink=%d)%n",
+                RouteClassifier.PUBLIC_PATHS.size() + RouteClassifier.DEVICE_TRUST_PATHS.size() + 2 + v3.size(),
+                legacyNs[2], trieNs[2], sink);
+    }
+
+    // 기존 필터들이 요청마다 하던 판단 (RecaptchaFilter 는 pathSet() 를 요청마다 새로 만들었음)
+    private static int legacy(String path, String method, RecaptchaProperties captcha) {
+        int n = legacyPublic(path) ? 1 : 0;
+        if (legacyBucket(method, path) != null) n++;
+        if (captcha.getV3().pathSet().contains(path) || captcha.getV2().pathSet().contains(path)) n++;
+        return n;
+    }
+
+    private static boolean legacyPublic(String path) {
+        List<String> excludes = RouteClassifier.PUBLIC_PATHS;
+        for (String p : excludes) {
+            if (ANT.match(p, path)) return true;
+        }
+        return false;
+    }
+
+    private static String legacyBucket(String method, String path) {
+        boolean isWrite = "POST".equalsIgnoreCase(method) || "PUT".equalsIgnoreCase(method);
+        if (!isWrite) return null;
+        if (path.matches("^/api/challenges/\\d+/submissions$")) return "submit";
+        if (path.startsWith("/api/challenges/") && path.contains("/votes")) return "vote";
+        return null;
+    }
+}
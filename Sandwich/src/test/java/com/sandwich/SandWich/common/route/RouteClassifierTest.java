@@ -0,0 +1,72 @@
+package com.sandwich.SandWich.common.route;
+
+import com.sandwich.SandWich.common.captcha.RecaptchaProperties;
+import com.sandwich.SandWich.common.ratelimit.RateLimitProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RouteClassifierTest {
+
+    private final RouteClassifier classifier = new RouteClassifier(captcha());
+
+    private static RecaptchaProperties captcha() {
+        RecaptchaProperties p = new RecaptchaProperties();
+        p.getV3().setPaths("/api/auth/login,/api/auth/signup");
+        p.getV2().setPaths("/api/auth/otp/resend");
+        return p;
+    }
+
+    @Test
+    void 로그인은_공개_캡차v3_신뢰기기_정책을_모두_가진다() {
+        RouteClassification rc = classifier.classify("POST", "/api/auth/login");
+
+        assertThat(rc.policies()).containsExactlyInAnyOrder(
+                RoutePolicy.PUBLIC, RoutePolicy.CAPTCHA_V3, RoutePolicy.DEVICE_TRUST);
+    }
+
+    @Test
+    void 제출은_숫자_id_의_쓰기_요청만_레이트리밋_대상이다() {
+        assertThat(classifier.classify("POST", "/api/challenges/12/submissions").rateLimitBucket()).isEqualTo("submit");
+        assertThat(classifier.classify("GET", "/api/challenges/12/submissions").has(RoutePolicy.RATE_LIMITED)).isFalse();
+        assertThat(classifier.classify("POST", "/api/challenges/abc/submissions").has(RoutePolicy.RATE_LIMITED)).isFalse();
+        assertThat(classifier.classify("PUT", "/api/challenges/3/votes/me").rateLimitBucket()).isEqualTo("vote");
+    }
+
+    @Test
+    void 와일드카드_패턴은_하위_경로와_자기_자신에_매칭되고_나머지는_정책이_없다() {
+        assertThat(classifier.classify("GET", "/error").has(RoutePolicy.PUBLIC)).isTrue();
+        assertThat(classifier.classify("GET", "/api/auth/otp/verify").has(RoutePolicy.PUBLIC)).isTrue();
+        assertThat(classifier.classify("GET", "/api/auth/devices").policies()).containsExactly(RoutePolicy.DEVICE_TRUST);
+        assertThat(classifier.classify("GET", "/api/projects/1").policies()).isEmpty();
+    }
+
+    @Test
+    void 선언형_레이트리밋_정책은_경로와_메서드로_매칭되고_겹치면_모두_가진다() {
+        RateLimitProperties rl = new RateLimitProperties();
+        RateLimitProperties.Policy challenges = new RateLimitProperties.Policy();
+        challenges.setPaths(List.of("/api/challenges/**"));
+        rl.getPolicies().put("challenges", challenges);
+        RouteClassifier withPolicies = new RouteClassifier(captcha(), rl);
+
+        assertThat(withPolicies.classify("POST", "/api/challenges/12/submissions").rateLimitBuckets())
+                .containsExactlyInAnyOrder("submit", "challenges");
+        assertThat(withPolicies.classify("GET", "/api/challenges/12").rateLimitBuckets()).containsExactly("challenges");
+        // 기본 auth 정책은 POST 만
+        assertThat(withPolicies.classify("POST", "/api/auth/login").rateLimitBuckets()).containsExactly("auth");
+        assertThat(withPolicies.classify("GET", "/api/auth/login").has(RoutePolicy.RATE_LIMITED)).isFalse();
+    }
+
+    @Test
+    void 요청당_한_번만_계산하고_요청_속성으로_공유한다() {
+        MockHttpServletRequest req = new MockHttpServletRequest("POST", "/api/auth/signup");
+
+        RouteClassification first = classifier.classify(req);
+
+        assertThat(req.getAttribute(RouteClassifier.ATTR)).isSameAs(first);
+        assertThat(classifier.classify(req)).isSameAs(first);
+    }
+}
@@ -0,0 +1,59 @@
+package com.sandwich.SandWich.common.singleflight;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private final SingleFlight flight = new SingleFlight("test", new SimpleMeterRegistry());
+
+    @Test
+    void 같은_키_동시_호출은_loader를_한_번만_실행하고_결과를_공유한다() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(pool.submit(() -> flight.execute("k", () -> {
+                    calls.incrementAndGet();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return "v";
+                })));
+            }
+            // 모든 호출이 합류할 시간을 준 뒤 리더를 풀어 줌
+            Thread.sleep(200);
+            release.countDown();
+            for (Future<String> f : results) assertThat(f.get(5, TimeUnit.SECONDS)).isEqualTo("v");
+        } finally {
+            pool.shutdownNow();
+        }
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(flight.inflightCount()).isZero();
+    }
+
+    @Test
+    void 리더의_예외는_그대로_전파되고_다음_호출은_다시_실행된다() {
+        assertThatThrownBy(() -> flight.execute("k", () -> { throw new IllegalStateException("boom"); }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("boom");
+
+        assertThat(flight.<String>execute("k", () -> "ok")).isEqualTo("ok");
+    }
+}
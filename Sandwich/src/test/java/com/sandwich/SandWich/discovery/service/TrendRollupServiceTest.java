@@ -0,0 +1,103 @@
+package com.sandwich.SandWich.discovery.service;
+
+import com.sandwich.SandWich.discovery.repository.TrendRollupRepository;
+import com.sandwich.SandWich.discovery.support.TrendProperties;
+import com.sandwich.SandWich.project.event.ProjectViewedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TrendRollupServiceTest {
+
+    private final TrendRollupRepository repo = mock(TrendRollupRepository.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> ops = mock(ValueOperations.class);
+    private TrendRollupService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        DataSource dataSource = mock(DataSource.class);
+        Connection conn = mock(Connection.class);
+        DatabaseMetaData meta = mock(DatabaseMetaData.class);
+        when(dataSource.getConnection()).thenReturn(conn);
+        when(conn.getMetaData()).thenReturn(meta);
+        when(meta.getDatabaseProductName()).thenReturn("PostgreSQL");
+
+        TrendProperties props = new TrendProperties();
+        props.setBackfillOnStartup(false);
+        StringRedisTemplate redis = mock(StringRedisTemplate.class);
+        when(redis.opsForValue()).thenReturn(ops);
+        when(ops.setIfAbsent(anyString(), anyString(), any())).thenReturn(true);
+        service = new TrendRollupService(repo, props, mock(HotDeveloperService.class), redis, dataSource,
+                mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+        service.onReady(); // 초기 스냅샷 (빈 결과)
+    }
+
+    @Test
+    void 다른_노드가_락을_잡고_있으면_스냅샷을_교체하지_않는다() {
+        when(ops.setIfAbsent(anyString(), anyString(), any())).thenReturn(false);
+
+        service.refreshSnapshot();
+
+        verify(repo, times(1)).computeScores(any(), anyInt(), anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyInt());
+        verify(repo, times(1)).replaceSnapshot(any(), any()); // onReady 때 한 번뿐
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 종료_시_남은_증가분을_기록하고_이후_이벤트는_받지_않는다() {
+        service.onProjectViewed(new ProjectViewedEvent(10L, 7L));
+        service.onProjectViewed(new ProjectViewedEvent(11L, 7L));
+
+        service.stop();
+        service.onProjectViewed(new ProjectViewedEvent(12L, 7L));
+        service.flush();
+
+        ArgumentCaptor<List<TrendRollupRepository.Increment>> batch = ArgumentCaptor.forClass(List.class);
+        verify(repo, times(1)).upsert(batch.capture());
+        assertThat(batch.getValue()).singleElement()
+                .satisfies(i -> {
+                    assertThat(i.userId()).isEqualTo(7L);
+                    assertThat(i.views()).isEqualTo(2);
+                });
+    }
+
+    @Test
+    void 종료_시_기록이_실패해도_예외를_던지지_않는다() {
+        service.onProjectViewed(new ProjectViewedEvent(10L, 7L));
+        doThrow(new IllegalStateException("db down")).when(repo).upsert(anyList());
+
+        service.stop();
+
+        verify(repo).upsert(anyList());
+    }
+
+    @Test
+    void 쌓인_것이_없으면_종료_시_기록하지_않는다() {
+        service.stop();
+
+        verify(repo, never()).upsert(any());
+    }
+}
@@ -3,6 +3,7 @@ package com.sandwich.SandWich.email;
 import com.sandwich.SandWich.email.service.EmailVerificationService;
 import com.sandwich.SandWich.common.exception.exceptiontype.EmailVerificationExpiredException;
 import com.sandwich.SandWich.common.exception.exceptiontype.InvalidVerificationCodeException;
+import com.sandwich.SandWich.common.otp.OtpEngine;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.redis.core.ValueOperations;
@@ -15,15 +16,17 @@ class EmailVerificationServiceTest {
 
     private StringRedisTemplate redisTemplate;
     private ValueOperations<String, String> valueOperations;
+    private OtpEngine otpEngine;
     private EmailVerificationService emailVerificationService;
 
     @BeforeEach
     void setUp() {
         redisTemplate = mock(StringRedisTemplate.class);
         valueOperations = mock(ValueOperations.class);
+        otpEngine = mock(OtpEngine.class);
 
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        emailVerificationService = new EmailVerificationService(null, redisTemplate, null);
+        emailVerificationService = new EmailVerificationService(null, redisTemplate, otpEngine, null);
     }
 
     @Test
@@ -31,7 +34,7 @@ class EmailVerificationServiceTest {
         // given
         String email = "test@example.com";
         String inputCode = "123456";
-        when(valueOperations.get("email:verify:" + email)).thenReturn("123456");
+        when(otpEngine.verify("email", email, inputCode, 20)).thenReturn(OtpEngine.Result.OK);
 
         // when & then
         assertDoesNotThrow(() -> {
@@ -43,7 +46,7 @@ class EmailVerificationServiceTest {
     void 인증번호가_없을경우_예외발생() {
         // given
         String email = "expired@example.com";
-        when(valueOperations.get("email:verify:" + email)).thenReturn(null);
+        when(otpEngine.verify("email", email, "123456", 20)).thenReturn(OtpEngine.Result.EXPIRED);
 
         // when & then
         assertThrows(EmailVerificationExpiredException.class, () -> {
@@ -55,7 +58,7 @@ class EmailVerificationServiceTest {
     void 인증번호가_일치하지_않을경우_예외발생() {
         // given
         String email = "wrongcode@example.com";
-        when(valueOperations.get("email:verify:" + email)).thenReturn("654321");
+        when(otpEngine.verify("email", email, "123456", 20)).thenReturn(OtpEngine.Result.INVALID);
 
         // when & then
         assertThrows(InvalidVerificationCodeException.class, () -> {
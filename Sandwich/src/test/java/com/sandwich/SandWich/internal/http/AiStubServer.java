@@ -0,0 +1,65 @@
+package com.sandwich.SandWich.internal.http;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * 테스트용 로컬 AI 서버 스텁 (JDK HttpServer).
+ * 경로별로 "n 번째 호출 → 응답" 을 정해 두고, 호출 횟수를 센다.
+ */
+class AiStubServer implements AutoCloseable {
+
+    record Reply(int status, String body, long delayMs) {
+        static Reply ok(String json) { return new Reply(200, json, 0); }
+        static Reply status(int status) { return new Reply(status, "{\"error\":\"stub\"}", 0); }
+        static Reply slow(String json, long delayMs) { return new Reply(200, json, delayMs); }
+    }
+
+    private final HttpServer server;
+    private final Map<String, IntFunction<Reply>> routes = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> hits = new ConcurrentHashMap<>();
+
+    AiStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(java.util.concurrent.Executors.newCachedThreadPool());
+        server.createContext("/", ex -> {
+            String path = ex.getRequestURI().getPath();
+            int n = hits.computeIfAbsent(path, k -> new AtomicInteger()).incrementAndGet();
+            IntFunction<Reply> route = routes.get(path);
+            Reply r = route != null ? route.apply(n) : Reply.status(404);
+            try {
+                if (r.delayMs() > 0) Thread.sleep(r.delayMs());
+                byte[] bytes = r.body().getBytes(StandardCharsets.UTF_8);
+                ex.getResponseHeaders().add("Content-Type", "application/json");
+                ex.sendResponseHeaders(r.status(), bytes.length);
+                try (OutputStream os = ex.getResponseBody()) { os.write(bytes); }
+            } catch (InterruptedException | IOException ignore) {
+                // 클라이언트가 타임아웃으로 끊은 경우
+            } finally {
+                ex.close();
+            }
+        });
+        server.start();
+    }
+
+    /** nth(1부터) 호출마다 응답 결정 */
+    void route(String path, IntFunction<Reply> reply) { routes.put(path, reply); }
+
+    int hits(String path) {
+        AtomicInteger c = hits.get(path);
+        return c == null ? 0 : c.get();
+    }
+
+    String baseUrl() { return "http://127.0.0.1:" + server.getAddress().getPort(); }
+
+    @Override
+    public void close() { server.stop(0); }
+}
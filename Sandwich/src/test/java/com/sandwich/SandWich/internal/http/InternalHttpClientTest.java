@@ -0,0 +1,108 @@
+package com.sandwich.SandWich.internal.http;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InternalHttpClientTest {
+
+    record Week(String week, Integer total) {}
+
+    private AiStubServer stub;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = new AiStubServer();
+        registry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.close();
+    }
+
+    private InternalHttpClient client(InternalHttpProperties.Client cfg) {
+        return new InternalHttpClient("ai", WebClient.builder().baseUrl(stub.baseUrl()).build(), cfg, registry);
+    }
+
+    private static InternalHttpProperties.Client cfg() {
+        InternalHttpProperties.Client c = new InternalHttpProperties.Client();
+        c.setTimeout(Duration.ofMillis(500));
+        c.setRetries(2);
+        c.setRetryBackoff(Duration.ofMillis(10));
+        return c;
+    }
+
+    @Test
+    void 정상_응답은_DTO로_변환하고_지연_히스토그램을_남긴다() {
+        stub.route("/api/reco/top/week", n -> AiStubServer.Reply.ok("{\"week\":\"2025-W40\",\"total\":3}"));
+
+        Week w = client(cfg()).get("reco-top-week", "/api/reco/top/week", Week.class);
+
+        assertThat(w).isEqualTo(new Week("2025-W40", 3));
+        assertThat(registry.get("internal_http_client_seconds")
+                .tags("client", "ai", "endpoint", "reco-top-week", "outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 일시적_5xx는_재시도해서_성공한다() {
+        stub.route("/api/reco/weekly", n -> n < 3 ? AiStubServer.Reply.status(503) : AiStubServer.Reply.ok("{\"week\":\"W\"}"));
+
+        Week w = client(cfg()).get("reco-weekly-latest", "/api/reco/weekly", Week.class);
+
+        assertThat(w.week()).isEqualTo("W");
+        assertThat(stub.hits("/api/reco/weekly")).isEqualTo(3);
+    }
+
+    @Test
+    void 4xx는_재시도하지_않고_그대로_던진다() {
+        stub.route("/api/reco/judge/result/W/u", n -> AiStubServer.Reply.status(404));
+
+        assertThatThrownBy(() -> client(cfg()).get("judge-result", "/api/reco/judge/result/{w}/{u}", Week.class, "W", "u"))
+                .isInstanceOf(WebClientResponseException.NotFound.class);
+        assertThat(stub.hits("/api/reco/judge/result/W/u")).isEqualTo(1);
+    }
+
+    @Test
+    void 엔드포인트별_타임아웃을_넘기면_timeout으로_실패한다() {
+        stub.route("/slow", n -> AiStubServer.Reply.slow("{}", 1_000));
+        InternalHttpProperties.Client c = cfg();
+        c.setRetries(0);
+        InternalHttpProperties.Endpoint ep = new InternalHttpProperties.Endpoint();
+        ep.setTimeout(Duration.ofMillis(100));
+        c.getEndpoints().put("slow", ep);
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> client(c).get("slow", "/slow", Week.class))
+                .isInstanceOfSatisfying(InternalHttpException.class, e -> assertThat(e.getReason()).isEqualTo("timeout"));
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(900));
+    }
+
+    @Test
+    void 실패가_누적되면_서킷이_열려_upstream을_호출하지_않는다() {
+        stub.route("/down", n -> AiStubServer.Reply.status(500));
+        InternalHttpProperties.Client c = cfg();
+        c.setRetries(0);
+        c.getBreaker().setMinimumCalls(4);
+        c.getBreaker().setWindowSize(4);
+        InternalHttpClient client = client(c);
+
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> client.get("down", "/down", Week.class)).isInstanceOf(InternalHttpException.class);
+        }
+        assertThat(client.circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        assertThatThrownBy(() -> client.get("down", "/down", Week.class))
+                .isInstanceOfSatisfying(InternalHttpException.class, e -> assertThat(e.getReason()).isEqualTo("circuit_open"));
+        assertThat(stub.hits("/down")).isEqualTo(4);
+    }
+}
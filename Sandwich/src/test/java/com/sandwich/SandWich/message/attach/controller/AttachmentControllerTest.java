@@ -0,0 +1,21 @@
+package com.sandwich.SandWich.message.attach.controller;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AttachmentControllerTest {
+
+    @Test
+    void 파생본_다운로드_이름은_파생본_포맷의_확장자를_쓴다() {
+        assertThat(AttachmentController.derivativeFilename("휴가 사진.png", "image/webp")).isEqualTo("휴가 사진.webp");
+        assertThat(AttachmentController.derivativeFilename("scan.v2.HEIC", "image/jpeg")).isEqualTo("scan.v2.jpg");
+        assertThat(AttachmentController.derivativeFilename("noext", "image/jpeg")).isEqualTo("noext.jpg");
+        assertThat(AttachmentController.derivativeFilename(null, "image/webp")).isEqualTo("image.webp");
+    }
+
+    @Test
+    void 모르는_Content_Type_이면_원본_이름을_그대로_쓴다() {
+        assertThat(AttachmentController.derivativeFilename("a.gif", "application/octet-stream")).isEqualTo("a.gif");
+    }
+}
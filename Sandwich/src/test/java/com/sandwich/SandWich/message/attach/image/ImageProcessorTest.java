@@ -0,0 +1,56 @@
+package com.sandwich.SandWich.message.attach.image;
+
+import com.sandwich.SandWich.message.attach.util.ImageHeaderReader;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageProcessorTest {
+
+    private static byte[] png(int w, int h) throws Exception {
+        BufferedImage img = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ImageIO.write(img, "png", bos);
+        return bos.toByteArray();
+    }
+
+    @Test @DisplayName("헤더만 읽어 포맷/크기 확인")
+    void headerOnly() throws Exception {
+        var info = ImageHeaderReader.read(new ByteArrayInputStream(png(1200, 800)));
+        assertThat(info).isNotNull();
+        assertThat(info.format()).isEqualTo("png");
+        assertThat(info.width()).isEqualTo(1200);
+        assertThat(info.height()).isEqualTo(800);
+
+        assertThat(ImageHeaderReader.read(new ByteArrayInputStream("not an image".getBytes()))).isNull();
+    }
+
+    @Test @DisplayName("썸네일: 긴 변 256 이하 JPEG + 타이머 기록")
+    void thumbnail() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ImageProcessor p = new ImageProcessor(registry);
+
+        byte[] jpg = p.thumbnailJpeg(new ByteArrayInputStream(png(2000, 1000)), 256);
+        BufferedImage out = ImageIO.read(new ByteArrayInputStream(jpg));
+
+        assertThat(out.getWidth()).isEqualTo(256);
+        assertThat(out.getHeight()).isEqualTo(128);
+        assertThat(registry.get("attachment_image_decode_seconds").timer().count()).isEqualTo(1);
+        assertThat(registry.get("attachment_image_scale_seconds").timer().count()).isEqualTo(1);
+    }
+
+    @Test @DisplayName("작은 이미지는 확대하지 않음")
+    void noUpscale() {
+        BufferedImage small = new BufferedImage(100, 50, BufferedImage.TYPE_INT_RGB);
+        BufferedImage out = ImageProcessor.progressiveBilinear(small, 100, 50);
+        assertThat(out.getWidth()).isEqualTo(100);
+        assertThat(out.getHeight()).isEqualTo(50);
+    }
+}
@@ -0,0 +1,82 @@
+package com.sandwich.SandWich.message.attach.service;
+
+import com.sandwich.SandWich.message.attach.config.FileSecurityProperties;
+import com.sandwich.SandWich.message.attach.storage.PresignedUrlCache;
+import com.sandwich.SandWich.message.attach.storage.StorageService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AttachmentDownloadWriterTest {
+
+    @TempDir Path dir;
+
+    private final StorageService storage = mock(StorageService.class);
+    private AttachmentDownloadWriter writer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(storage.localPath("k")).thenReturn(Files.writeString(dir.resolve("k"), "0123456789"));
+        writer = new AttachmentDownloadWriter(storage, new FileSecurityProperties(), mock(PresignedUrlCache.class));
+    }
+
+    private MockHttpServletResponse get(boolean weak, String header, String value) throws Exception {
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/api/files/k");
+        req.addHeader("Range", "bytes=2-4");
+        if (header != null) req.addHeader(header, value);
+        MockHttpServletResponse res = new MockHttpServletResponse();
+        writer.write(new AttachmentDownloadWriter.Target("k", "text/plain", 10, "abc", weak, "a.txt"), req, res);
+        return res;
+    }
+
+    @Test
+    void 약한_ETag_는_W_접두어로_내보내고_재검증은_약한_비교() throws Exception {
+        assertThat(get(true, null, null).getHeader("ETag")).isEqualTo("W/\"abc\"");
+        assertThat(get(true, "If-None-Match", "W/\"abc\"").getStatus()).isEqualTo(304);
+        assertThat(get(true, "If-None-Match", "\"abc\"").getStatus()).isEqualTo(304);
+        assertThat(get(false, "If-None-Match", "W/\"abc\"").getStatus()).isEqualTo(304);
+    }
+
+    @Test
+    void If_Range_는_강한_ETag_일_때만_부분_응답() throws Exception {
+        MockHttpServletResponse strong = get(false, "If-Range", "\"abc\"");
+        assertThat(strong.getStatus()).isEqualTo(206);
+        assertThat(strong.getContentAsString()).isEqualTo("234");
+
+        MockHttpServletResponse weak = get(true, "If-Range", "W/\"abc\"");
+        assertThat(weak.getStatus()).isEqualTo(200);
+        assertThat(weak.getContentAsString()).isEqualTo("0123456789");
+    }
+
+    @Test
+    void max_age_는_본문_응답과_304_에만_붙인다() throws Exception {
+        assertThat(get(false, null, null).getHeader("Cache-Control")).startsWith("private, max-age=");
+        assertThat(get(false, "If-None-Match", "\"abc\"").getHeader("Cache-Control")).startsWith("private, max-age=");
+    }
+
+    @Test
+    void S3_presigned_302_는_no_store() throws Exception {
+        FileSecurityProperties props = new FileSecurityProperties();
+        props.setStorage("s3");
+        PresignedUrlCache presign = mock(PresignedUrlCache.class);
+        when(presign.get(eq("k"), anyString())).thenReturn(URI.create("https://bucket.s3/k?sig").toURL());
+        writer = new AttachmentDownloadWriter(storage, props, presign);
+
+        MockHttpServletResponse res = get(false, null, null);
+        assertThat(res.getStatus()).isEqualTo(302);
+        assertThat(res.getHeader("Location")).isEqualTo("https://bucket.s3/k?sig");
+        assertThat(res.getHeader("Cache-Control")).isEqualTo("no-store");
+    }
+}
@@ -0,0 +1,87 @@
+package com.sandwich.SandWich.message.attach.storage;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachingStorageServiceTest {
+
+    @TempDir Path dir;
+
+    /** 메모리 원본 — load 를 latch 로 붙잡아 둘 수 있음 */
+    static class FakeOrigin implements StorageService {
+        final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+        final AtomicInteger loads = new AtomicInteger();
+        volatile CountDownLatch loading = new CountDownLatch(0);
+        volatile CountDownLatch release = new CountDownLatch(0);
+
+        @Override public void save(byte[] bytes, String key, String contentType) { objects.put(key, bytes); }
+        @Override public StoredObject save(InputStream in, String key, String contentType) { throw new UnsupportedOperationException(); }
+        @Override public Resource loadAsResource(String key) { throw new UnsupportedOperationException(); }
+        @Override public URL presignedGetUrl(String key, Duration ttl) { throw new UnsupportedOperationException(); }
+
+        @Override
+        public byte[] load(String key) {
+            loads.incrementAndGet();
+            byte[] snapshot = objects.get(key);
+            loading.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return snapshot;
+        }
+    }
+
+    private static byte[] utf8(String s) { return s.getBytes(StandardCharsets.UTF_8); }
+
+    @Test
+    void 기동_시_캐시가_만든_파일만_지운다() throws Exception {
+        Path unrelated = Files.writeString(dir.resolve("keep.txt"), "do not touch");
+        Path sub = Files.createDirectories(dir.resolve(CachingStorageService.SUBDIR));
+        Path stale = Files.writeString(sub.resolve(CachingStorageService.FILE_PREFIX + "old"), "stale");
+        Path foreign = Files.writeString(sub.resolve("notes.md"), "mine");
+
+        new CachingStorageService(new FakeOrigin(), dir, 1024, new SimpleMeterRegistry());
+
+        assertThat(unrelated).exists();
+        assertThat(foreign).exists();
+        assertThat(stale).doesNotExist();
+    }
+
+    @Test
+    void 원본_읽기_중에_저장되면_읽어온_옛_내용을_캐시에_넣지_않는다() throws Exception {
+        FakeOrigin origin = new FakeOrigin();
+        origin.objects.put("k", utf8("v1"));
+        CachingStorageService cache = new CachingStorageService(origin, dir, 1024, new SimpleMeterRegistry());
+
+        origin.loading = new CountDownLatch(1);
+        origin.release = new CountDownLatch(1);
+        CompletableFuture<byte[]> slowRead = CompletableFuture.supplyAsync(() -> cache.load("k"));
+        assertThat(origin.loading.await(5, TimeUnit.SECONDS)).isTrue(); // v1 을 읽어 둔 상태
+
+        cache.save(utf8("v2"), "k", "text/plain");
+        origin.release.countDown();
+        assertThat(slowRead.get(5, TimeUnit.SECONDS)).isEqualTo(utf8("v1"));
+
+        assertThat(cache.load("k")).isEqualTo(utf8("v2"));
+        assertThat(origin.loads.get()).isEqualTo(1); // v2 는 write-through 로 캐시에서
+    }
+}
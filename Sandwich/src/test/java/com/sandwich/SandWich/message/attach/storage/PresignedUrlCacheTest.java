@@ -0,0 +1,48 @@
+package com.sandwich.SandWich.message.attach.storage;
+
+import com.sandwich.SandWich.message.attach.config.FileSecurityProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PresignedUrlCacheTest {
+
+    private final StorageService storage = mock(StorageService.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final PresignedUrlCache cache = new PresignedUrlCache(storage, new FileSecurityProperties(), registry);
+
+    @Test
+    void 같은_키와_disposition_은_서명을_재사용한다() throws Exception {
+        when(storage.presignedGetUrl(eq("a"), any(Duration.class), isNull())).thenReturn(new URL("https://s3/a?sig=1"));
+        when(storage.presignedGetUrl(eq("a"), any(Duration.class), eq("attachment"))).thenReturn(new URL("https://s3/a?sig=2"));
+
+        URL first = cache.get("a", null);
+        URL again = cache.get("a", null);
+        URL other = cache.get("a", "attachment");
+
+        assertThat(again).isSameAs(first);
+        assertThat(other).isNotEqualTo(first);
+        verify(storage, times(1)).presignedGetUrl(eq("a"), any(Duration.class), isNull());
+        assertThat(registry.get("storage_presign_cache_hits_total").counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("storage_presign_cache_misses_total").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void presign_을_지원하지_않으면_캐시하지_않는다() {
+        assertThat(cache.get("local", null)).isNull();
+        assertThat(cache.get("local", null)).isNull();
+
+        verify(storage, times(2)).presignedGetUrl(eq("local"), any(Duration.class), isNull());
+    }
+}
@@ -0,0 +1,23 @@
+package com.sandwich.SandWich.message.attach.storage;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class S3StorageServiceTest {
+
+    @Test
+    void 파트_크기는_long_으로_계산해_넘치지_않는다() {
+        assertThat(S3StorageService.partSizeBytes(8)).isEqualTo(8 * 1024 * 1024);
+        assertThat(S3StorageService.partSizeBytes(2047)).isEqualTo(2047 * 1024 * 1024);
+    }
+
+    @Test
+    void S3_파트_한도를_벗어난_설정은_거부한다() {
+        assertThatThrownBy(() -> S3StorageService.partSizeBytes(4)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> S3StorageService.partSizeBytes(5121)).isInstanceOf(IllegalStateException.class);
+        // int 곱셈이면 음수로 넘쳐 최소값으로 조용히 바뀌던 값
+        assertThatThrownBy(() -> S3StorageService.partSizeBytes(4096)).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,65 @@
+package com.sandwich.SandWich.message.emoji.index;
+
+import com.sandwich.SandWich.message.emoji.dto.EmojiItem;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmojiSearchIndexTest {
+
+    private final List<EmojiItem> catalog = List.of(
+            new EmojiItem("😀", "grinning_face", "smileys-emotion", List.of("웃음", "smile", "happy")),
+            new EmojiItem("😺", "grinning_cat", "smileys-emotion", List.of("고양이", "cat")),
+            new EmojiItem("🚀", "rocket", "travel-places", List.of("로켓", "발사", "우주")),
+            new EmojiItem("🙂", "slightly_smiling_face", "smileys-emotion", List.of("미소", "smile")),
+            new EmojiItem("🐈", "cat", "animals-nature", List.of("고양이", "pet"))
+    );
+    private final EmojiSearchIndex index = new EmojiSearchIndex(catalog);
+
+    @Test
+    void 빈_검색어는_전체_또는_카테고리_전체() {
+        assertThat(index.search("", "")).containsExactly(0, 1, 2, 3, 4);
+        assertThat(index.search("smileys-emotion", "")).containsExactly(0, 1, 3);
+        assertThat(index.search("없는카테고리", "")).isEmpty();
+    }
+
+    @Test
+    void 단어_접두_일치가_부분일치보다_먼저() {
+        // "smil": smile 키워드(0,3) 는 접두, slightly_smiling_face(3) 도 '_' 뒤 접두
+        assertThat(index.search("", "smil")).containsExactly(0, 3);
+        // "ing": 모두 부분일치라 카탈로그 순서
+        assertThat(index.search("", "ing")).containsExactly(0, 1, 3);
+        // "cat": cat(4), 고양이 키워드 cat(1) 접두 / grinning_cat 도 '_' 뒤
+        assertThat(index.search("", "cat")).containsExactly(1, 4);
+    }
+
+    @Test
+    void 한글_한글자_카테고리_필터() {
+        assertThat(index.search("", "고")).containsExactly(1, 4);
+        assertThat(index.search("animals-nature", "고양")).containsExactly(4);
+        assertThat(index.search("", "우주선")).isEmpty();
+    }
+
+    @Test
+    void 문자_자체와_콜론_감싼_질의() {
+        assertThat(index.search("", EmojiSearchIndex.normalizeQuery("🚀"))).containsExactly(2);
+        assertThat(index.search("", EmojiSearchIndex.normalizeQuery(":Rocket:"))).containsExactly(2);
+        assertThat(index.findByChar("🐈").getShortcode()).isEqualTo("cat");
+        assertThat(index.findByChar("x")).isNull();
+    }
+
+    @Test
+    void 브루트포스_부분일치와_같은_집합() {
+        for (String q : List.of("a", "face", "in", "미", "e_f", "zz")) {
+            int[] got = index.search("", q);
+            long expected = catalog.stream().filter(e ->
+                    e.getShortcode().contains(q) || e.getCh().contains(q)
+                            || e.getKeywords().stream().anyMatch(k -> k.contains(q))).count();
+            assertThat(got).hasSize((int) expected);
+            assertThat(Arrays.stream(got).distinct().count()).isEqualTo(got.length);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.sandwich.SandWich.message.util;
+
+import com.sandwich.SandWich.message.domain.Message;
+import com.sandwich.SandWich.message.dto.MessageType;
+import com.sandwich.SandWich.user.domain.User;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatScreenshotRendererTest {
+
+    private static final long ME = 1L;
+    private static final long YOU = 2L;
+
+    private static Message msg(long id, long senderId, String text) {
+        Message m = Message.builder()
+                .id(id)
+                .sender(User.builder().id(senderId).build())
+                .type(MessageType.GENERAL)
+                .content(text)
+                .build();
+        m.setCreatedAt(OffsetDateTime.of(2026, 1, 1, 12, 0, 0, 0, ZoneOffset.UTC).plusMinutes(id));
+        return m;
+    }
+
+    private static List<Message> room(int n) {
+        List<Message> all = new ArrayList<>();
+        for (int i = 1; i <= n; i++) {
+            all.add(msg(i, i % 2 == 0 ? ME : YOU, i % 3 == 0
+                    ? "여러 줄로 접히는 긴 메시지 ".repeat(8)
+                    : "hi " + i));
+        }
+        return all;
+    }
+
+    /** 메모리 방 — 조회 기준이 된 직전 메시지 id 를 기록 */
+    private static final class RecordingSource implements ChatScreenshotRenderer.MessagePageSource {
+        final List<Message> all;
+        final List<Long> afterIds = new ArrayList<>();
+
+        RecordingSource(List<Message> all) { this.all = all; }
+
+        @Override
+        public List<Message> nextPage(Message after, int size) {
+            afterIds.add(after == null ? null : after.getId());
+            return all.stream()
+                    .filter(m -> after == null || m.getCreatedAt().isAfter(after.getCreatedAt())
+                            || (m.getCreatedAt().isEqual(after.getCreatedAt()) && m.getId() > after.getId()))
+                    .limit(size)
+                    .toList();
+        }
+    }
+
+    private static BufferedImage tiled(RecordingSource source, int pageSize, int tileHeight) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ChatScreenshotRenderer.renderTiledPng(source, ME, null, pageSize, tileHeight, out);
+        return ImageIO.read(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    @Test
+    void 타일로_나눠_그려도_한_장으로_그린_것과_픽셀이_같다() throws Exception {
+        List<Message> messages = room(7);
+        BufferedImage whole = ImageIO.read(new ByteArrayInputStream(ChatScreenshotRenderer.renderPng(messages, ME)));
+
+        // 말풍선이 타일 경계에 걸치도록 작은 타일
+        BufferedImage img = tiled(new RecordingSource(messages), 3, 37);
+
+        assertThat(img.getWidth()).isEqualTo(900);
+        assertThat(img.getHeight()).isEqualTo(whole.getHeight()).isGreaterThan(200);
+        for (int y = 0; y < img.getHeight(); y++) {
+            for (int x = 0; x < img.getWidth(); x++) {
+                if (img.getRGB(x, y) != whole.getRGB(x, y)) {
+                    throw new AssertionError("pixel mismatch at (" + x + "," + y + ")");
+                }
+            }
+        }
+    }
+
+    @Test
+    void 내_말풍선은_오른쪽_상대는_왼쪽에_그린다() throws Exception {
+        BufferedImage img = tiled(new RecordingSource(List.of(msg(1, YOU, "hi"), msg(2, ME, "yo"))), 10, 64);
+
+        int bg = 0xFFFFFFFF, otherBubble = 0xFFF3F4F6, myBubble = 0xFFF0FDF4;
+        int left = 20 + 4, right = 900 - 20 - 4; // padding 안쪽, 모서리 곡선 밖
+        assertThat(img.getRGB(0, 0)).isEqualTo(bg);
+
+        int firstOther = firstRow(img, left, otherBubble);
+        int firstMine = firstRow(img, right, myBubble);
+        assertThat(firstOther).isBetween(20, 40);
+        assertThat(firstMine).isGreaterThan(firstOther);
+        assertThat(img.getRGB(right, firstOther + 10)).isEqualTo(bg);
+        assertThat(img.getRGB(left, firstMine + 10)).isEqualTo(bg);
+    }
+
+    private static int firstRow(BufferedImage img, int x, int argb) {
+        for (int y = 0; y < img.getHeight(); y++) {
+            if (img.getRGB(x, y) == argb) return y;
+        }
+        throw new AssertionError("no pixel " + Integer.toHexString(argb) + " in column " + x);
+    }
+
+    @Test
+    void 페이지는_한_번씩만_읽는다() throws Exception {
+        RecordingSource source = new RecordingSource(room(5));
+
+        tiled(source, 2, 100);
+
+        assertThat(source.afterIds).containsExactly(null, 2L, 4L);
+    }
+
+    @Test
+    void 빈_방은_최소_높이에_배경_아래는_투명() throws Exception {
+        RecordingSource source = new RecordingSource(List.of());
+
+        BufferedImage img = tiled(source, 50, 64);
+
+        assertThat(img.getWidth()).isEqualTo(900);
+        assertThat(img.getHeight()).isEqualTo(200);
+        assertThat(img.getRGB(10, 0)).isEqualTo(0xFFFFFFFF);
+        assertThat(img.getRGB(10, 199) >>> 24).isZero();
+        assertThat(source.afterIds).containsExactly((Long) null);
+    }
+}
@@ -0,0 +1,90 @@
+package com.sandwich.SandWich.message.util;
+
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StreamingPngEncoderTest {
+
+    private static final int W = 7;
+
+    // 행마다 다른 색 (반투명 포함) — 행 순서/채널 순서가 틀리면 바로 드러나게
+    private static int colorAt(int x, int row) {
+        return ((128 + row) << 24) | ((row * 40) & 0xFF) << 16 | ((x * 30) & 0xFF) << 8 | 0x5A;
+    }
+
+    private static BufferedImage tile(int firstRow, int rows) {
+        BufferedImage t = new BufferedImage(W, rows, BufferedImage.TYPE_INT_ARGB);
+        for (int r = 0; r < rows; r++) {
+            for (int x = 0; x < W; x++) t.setRGB(x, r, colorAt(x, firstRow + r));
+        }
+        return t;
+    }
+
+    private static BufferedImage decode(byte[] png) throws Exception {
+        BufferedImage img = ImageIO.read(new ByteArrayInputStream(png));
+        assertThat(img).isNotNull();
+        return img;
+    }
+
+    @Test
+    void 높이를_알고_시작하면_타일을_이어_쓰고_남은_행은_투명() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (StreamingPngEncoder png = new StreamingPngEncoder(out, W, 8)) {
+            png.writeRows(tile(0, 3), 3);
+            png.writeRows(tile(3, 3), 2); // 타일 일부만
+        }
+
+        BufferedImage img = decode(out.toByteArray());
+        assertThat(img.getWidth()).isEqualTo(W);
+        assertThat(img.getHeight()).isEqualTo(8);
+        for (int row = 0; row < 5; row++) {
+            for (int x = 0; x < W; x++) assertThat(img.getRGB(x, row)).isEqualTo(colorAt(x, row));
+        }
+        for (int row = 5; row < 8; row++) {
+            assertThat(img.getRGB(0, row) >>> 24).isZero();
+        }
+    }
+
+    @Test
+    void 높이를_넘는_행은_버린다() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (StreamingPngEncoder png = new StreamingPngEncoder(out, W, 2)) {
+            png.writeRows(tile(0, 4), 4);
+            assertThat(png.rowsWritten()).isEqualTo(2);
+        }
+        assertThat(decode(out.toByteArray()).getHeight()).isEqualTo(2);
+    }
+
+    @Test
+    void 높이_미정_모드는_finish_에서_정한_높이로_같은_이미지를_만든다() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (StreamingPngEncoder png = new StreamingPngEncoder(out, W)) {
+            png.writeRows(tile(0, 4), 4);
+            png.writeRows(tile(4, 4), 4);
+            assertThat(out.size()).isZero(); // 헤더는 높이 확정 후
+            png.finish(10);
+        }
+
+        BufferedImage img = decode(out.toByteArray());
+        assertThat(img.getHeight()).isEqualTo(10);
+        for (int row = 0; row < 8; row++) {
+            for (int x = 0; x < W; x++) assertThat(img.getRGB(x, row)).isEqualTo(colorAt(x, row));
+        }
+        assertThat(img.getRGB(W - 1, 9) >>> 24).isZero();
+    }
+
+    @Test
+    void 높이_미정_모드에서_쓴_행보다_작은_높이는_거부() throws Exception {
+        try (StreamingPngEncoder png = new StreamingPngEncoder(new ByteArrayOutputStream(), W)) {
+            png.writeRows(tile(0, 4), 4);
+            assertThatThrownBy(() -> png.finish(3)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
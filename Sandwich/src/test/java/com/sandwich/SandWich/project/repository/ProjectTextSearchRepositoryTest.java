@@ -0,0 +1,43 @@
+package com.sandwich.SandWich.project.repository;
+
+import com.sandwich.SandWich.project.search.ProjectSearchMode;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProjectTextSearchRepositoryTest {
+
+    @Test
+    void 단어마다_접두_검색어를_AND_로_잇는다() {
+        assertThat(ProjectTextSearchRepository.prefixQuery("Spring  Boo")).isEqualTo("spring:* & boo:*");
+        assertThat(ProjectTextSearchRepository.prefixQuery("스프링 부트")).isEqualTo("스프링:* & 부트:*");
+        assertThat(ProjectTextSearchRepository.prefixQuery("react_native v18")).isEqualTo("react_native:* & v18:*");
+    }
+
+    @Test
+    void tsquery_연산자와_특수문자는_제거한다() {
+        assertThat(ProjectTextSearchRepository.prefixQuery("c++ & (node.js)!")).isEqualTo("c:* & nodejs:*");
+        assertThat(ProjectTextSearchRepository.prefixQuery("a|b <-> !c:* 'd'")).isEqualTo("ab:* & c:* & d:*");
+        assertThat(ProjectTextSearchRepository.prefixQuery("& | ! ( ) : * '")).isEmpty();
+        assertThat(ProjectTextSearchRepository.prefixQuery("   ")).isEmpty();
+    }
+
+    @Test
+    void 남는_단어가_없으면_DB_를_타지_않고_빈_결과() {
+        ProjectTextSearchRepository repo = new ProjectTextSearchRepository(null);
+
+        ProjectTextSearchRepository.RankedIds r = repo.search("!!! ***", ProjectSearchMode.PREFIX, 0.3, null, null, 0, 20);
+
+        assertThat(r.ids()).isEmpty();
+        assertThat(r.total()).isZero();
+    }
+
+    @Test
+    void CONTAINS_는_텍스트_검색_대상이_아니다() {
+        ProjectTextSearchRepository repo = new ProjectTextSearchRepository(null);
+
+        assertThatThrownBy(() -> repo.search("spring", ProjectSearchMode.CONTAINS, 0.3, null, null, 0, 20))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,66 @@
+package com.sandwich.SandWich.project.scheduler;
+
+import com.sandwich.SandWich.project.domain.QrStatus;
+import com.sandwich.SandWich.project.repository.ProjectRepository;
+import com.sandwich.SandWich.project.service.ProjectQrService;
+import com.sandwich.SandWich.project.support.ProjectQrProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProjectQrSweeperTest {
+
+    private final ProjectRepository repo = mock(ProjectRepository.class);
+    private final ProjectQrService qrService = mock(ProjectQrService.class);
+    private final ProjectQrProperties props = new ProjectQrProperties();
+    private final Clock clock = Clock.fixed(Instant.parse("2026-01-01T00:10:00Z"), ZoneOffset.UTC);
+    private final ProjectQrSweeper sweeper = new ProjectQrSweeper(props, repo, qrService, clock);
+
+    private static ProjectRepository.QrPendingRow row(long id, String demoUrl) {
+        return new ProjectRepository.QrPendingRow() {
+            @Override public Long getId() { return id; }
+            @Override public String getDemoUrl() { return demoUrl; }
+        };
+    }
+
+    @Test
+    void 오래된_PENDING_만_가져가서_다시_넣는다() {
+        OffsetDateTime before = OffsetDateTime.parse("2026-01-01T00:00:00Z");
+        OffsetDateTime now = OffsetDateTime.parse("2026-01-01T00:10:00Z");
+        when(qrService.remainingCapacity()).thenReturn(props.getQueueCapacity());
+        when(repo.findStaleQr(eq(QrStatus.PENDING), eq(before), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(row(1L, "https://a.example"), row(2L, "https://b.example")));
+        when(repo.findStaleQr(eq(QrStatus.PENDING), eq(before), eq(2L), any(Pageable.class))).thenReturn(List.of());
+        when(repo.claimStaleQr(1L, QrStatus.PENDING, before, now)).thenReturn(1);
+        when(repo.claimStaleQr(2L, QrStatus.PENDING, before, now)).thenReturn(0); // 다른 인스턴스가 먼저 가져감
+        when(qrService.resubmit(any(), any())).thenReturn(true);
+
+        sweeper.sweep();
+
+        verify(qrService).resubmit(1L, "https://a.example");
+        verify(qrService, never()).resubmit(eq(2L), any());
+    }
+
+    @Test
+    void 큐_여유가_없으면_조회하지_않는다() {
+        when(qrService.remainingCapacity()).thenReturn(props.getQueueCapacity() / 2);
+
+        sweeper.sweep();
+
+        verify(repo, never()).findStaleQr(any(), any(), anyLong(), any());
+        verify(qrService, never()).resubmit(any(), any());
+    }
+}
@@ -0,0 +1,108 @@
+package com.sandwich.SandWich.project.service;
+
+import com.sandwich.SandWich.discovery.service.HotDeveloperService;
+import com.sandwich.SandWich.project.repository.ProjectRepository;
+import com.sandwich.SandWich.project.repository.ProjectTextSearchRepository;
+import com.sandwich.SandWich.project.search.ProjectSearchMode;
+import com.sandwich.SandWich.project.search.ProjectSearchProperties;
+import com.sandwich.SandWich.project.search.ProjectSearchSchemaInitializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Clock;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/** 검색 mode 별 경로 선택 — PostgreSQL 검색 스키마가 없으면 LIKE 계열로 대체 */
+class ProjectServiceSearchModeTest {
+
+    private final ProjectRepository projectRepository = mock(ProjectRepository.class);
+    private final ProjectTextSearchRepository textSearchRepository = mock(ProjectTextSearchRepository.class);
+    private final ProjectSearchSchemaInitializer searchSchema = mock(ProjectSearchSchemaInitializer.class);
+    private final ProjectSearchProperties searchProps = new ProjectSearchProperties();
+    private final Pageable pageable = PageRequest.of(0, 20);
+
+    private ProjectService projectService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        projectService = new ProjectService(projectRepository, null, Clock.systemUTC(), null,
+                mock(HotDeveloperService.class), null, textSearchRepository, searchSchema, searchProps);
+        when(projectRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(Page.empty(pageable));
+        when(textSearchRepository.search(any(), any(), anyDouble(), any(), any(), anyInt(), anyInt()))
+                .thenReturn(new ProjectTextSearchRepository.RankedIds(List.of(), 0));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 스키마가_없으면_FUZZY_도_LIKE_검색으로_대체된다() {
+        when(searchSchema.isAvailable()).thenReturn(false);
+
+        projectService.findAllProjects("sprng", ProjectSearchMode.FUZZY, null, false, null, pageable);
+
+        verify(textSearchRepository, never()).search(any(), any(), anyDouble(), any(), any(), anyInt(), anyInt());
+        verify(projectRepository).findAll(any(Specification.class), any(Pageable.class));
+    }
+
+    @Test
+    void 스키마가_있으면_관련도_검색을_쓴다() {
+        when(searchSchema.isAvailable()).thenReturn(true);
+
+        var page = projectService.findAllProjects("spring", ProjectSearchMode.FULLTEXT, null, false, null, pageable);
+
+        verify(textSearchRepository).search(eq("spring"), eq(ProjectSearchMode.FULLTEXT), eq(0.3), isNull(), isNull(), eq(0), eq(20));
+        assertThat(page.getContent()).isEmpty();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void mode_가_없으면_기본값_CONTAINS_로_스키마가_있어도_LIKE_검색() {
+        when(searchSchema.isAvailable()).thenReturn(true);
+
+        projectService.findAllProjects("spring", null, null, false, null, pageable);
+        projectService.findAllProjects("spring", ProjectSearchMode.CONTAINS, null, false, null, pageable);
+
+        verify(textSearchRepository, never()).search(any(), any(), anyDouble(), any(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void 기본_mode_설정이_요청_mode_없을_때_적용된다() {
+        when(searchSchema.isAvailable()).thenReturn(true);
+        searchProps.setDefaultMode(ProjectSearchMode.PREFIX);
+
+        projectService.findAllProjects("boo", null, null, false, null, pageable);
+
+        verify(textSearchRepository).search(eq("boo"), eq(ProjectSearchMode.PREFIX), anyDouble(), isNull(), isNull(), eq(0), eq(20));
+    }
+
+    @Test
+    void 검색어가_없으면_mode_와_무관하게_최신순_목록() {
+        when(searchSchema.isAvailable()).thenReturn(true);
+
+        projectService.findAllProjects(" ", ProjectSearchMode.FUZZY, null, false, null, pageable);
+
+        verify(textSearchRepository, never()).search(any(), any(), anyDouble(), any(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void 알_수_없는_mode_문자열은_기본값으로() {
+        assertThat(ProjectSearchMode.from("fuzzy", ProjectSearchMode.CONTAINS)).isEqualTo(ProjectSearchMode.FUZZY);
+        assertThat(ProjectSearchMode.from("semantic", ProjectSearchMode.CONTAINS)).isEqualTo(ProjectSearchMode.CONTAINS);
+        assertThat(ProjectSearchMode.from(" ", ProjectSearchMode.PREFIX)).isEqualTo(ProjectSearchMode.PREFIX);
+    }
+}
@@ -0,0 +1,93 @@
+package com.sandwich.SandWich.reco.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sandwich.SandWich.internal.ai.AiRecoClient;
+import com.sandwich.SandWich.project.repository.ProjectRepository;
+import com.sandwich.SandWich.reco.config.RecoTopWeekProperties;
+import com.sandwich.SandWich.support.RedisContainerSupport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/** 갱신 락 — 소유 토큰으로 잡고, 내 토큰일 때만 푼다 */
+class RecoTopWeekLockTest extends RedisContainerSupport {
+
+    private static final String LOCK_KEY = "reco:topweek:lock";
+    private static final String SNAPSHOT_KEY = "reco:topweek:snapshot";
+
+    private final AiRecoClient ai = mock(AiRecoClient.class);
+    private final RecoTopWeekProperties props = new RecoTopWeekProperties();
+    private RecoTopWeekService service;
+
+    private RecoTopWeekService newService() {
+        service = new RecoTopWeekService(ai, mock(ProjectRepository.class), redis, new ObjectMapper(), props,
+                mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+        return service;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) service.shutdown();
+    }
+
+    private static AiRecoClient.TopWeekResp emptyRanking() {
+        return new AiRecoClient.TopWeekResp("2026-W01", 0, List.of());
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) throw new AssertionError("timed out");
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    void 갱신이_끝나면_내_락을_푼다() throws Exception {
+        when(ai.getTopWeekRanking()).thenReturn(emptyRanking());
+        RecoTopWeekService s = newService();
+
+        assertThat(s.refreshAsync()).isTrue();
+
+        await(() -> Boolean.TRUE.equals(redis.hasKey(SNAPSHOT_KEY)) && !Boolean.TRUE.equals(redis.hasKey(LOCK_KEY)));
+    }
+
+    @Test
+    void 다른_노드가_잡은_락이면_갱신하지_않는다() {
+        redis.opsForValue().set(LOCK_KEY, "other-node");
+        RecoTopWeekService s = newService();
+
+        assertThat(s.refreshAsync()).isTrue();
+
+        verify(ai, after(300).never()).getTopWeekRanking();
+        assertThat(redis.opsForValue().get(LOCK_KEY)).isEqualTo("other-node");
+    }
+
+    @Test
+    void 락_TTL_이_지나_다른_노드가_다시_잡았으면_그_락은_지우지_않는다() throws Exception {
+        props.setLockTtlMs(200);
+        when(ai.getTopWeekRanking()).thenAnswer(inv -> {
+            Thread.sleep(400); // 내 락 만료
+            redis.opsForValue().set(LOCK_KEY, "other-node");
+            return emptyRanking();
+        });
+        RecoTopWeekService s = newService();
+
+        assertThat(s.refreshAsync()).isTrue();
+        // 앞선 갱신이 unlock 까지 끝나야 다시 받아줌 (두 번째는 other-node 락 때문에 AI 를 부르지 않음)
+        await(s::refreshAsync);
+
+        verify(ai, after(300).times(1)).getTopWeekRanking();
+        assertThat(redis.opsForValue().get(LOCK_KEY)).isEqualTo("other-node");
+    }
+}
@@ -0,0 +1,63 @@
+package com.sandwich.SandWich.search.autocomplete;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SuggestionIndexTest {
+
+    @Test
+    void returnsPrefixMatchesByWeightCaseInsensitive() {
+        SuggestionIndex index = new SuggestionIndex(List.of(
+                new SuggestionIndex.Entry("Spring", "Spring", null, 50),
+                new SuggestionIndex.Entry("spring boot", "spring boot", null, 80),
+                new SuggestionIndex.Entry("Sprite", "Sprite", null, 10),
+                new SuggestionIndex.Entry("React", "React", null, 999)));
+
+        assertThat(index.suggest("SPR", 10))
+                .extracting(SuggestionIndex.Suggestion::label)
+                .containsExactly("spring boot", "Spring", "Sprite");
+        assertThat(index.suggest("spring", 1))
+                .extracting(SuggestionIndex.Suggestion::label)
+                .containsExactly("spring boot");
+        assertThat(index.suggest("vue", 5)).isEmpty();
+    }
+
+    @Test
+    void dedupesEntriesSharingRefId() {
+        // 단어 시작 키가 같은 프로젝트를 가리키면 한 번만
+        SuggestionIndex index = new SuggestionIndex(List.of(
+                new SuggestionIndex.Entry("샌드위치 앱", "샌드위치 앱", 1L, 5),
+                new SuggestionIndex.Entry("앱", "샌드위치 앱", 1L, 5),
+                new SuggestionIndex.Entry("앱스토어 클론", "앱스토어 클론", 2L, 3)));
+
+        assertThat(index.suggest("앱", 10))
+                .extracting(SuggestionIndex.Suggestion::refId)
+                .containsExactly(1L, 2L);
+    }
+
+    @Test
+    void topKMatchesBruteForce() {
+        Random rnd = new Random(7);
+        List<SuggestionIndex.Entry> entries = new ArrayList<>();
+        for (long i = 0; i < 5_000; i++) {
+            entries.add(new SuggestionIndex.Entry("dev" + i, "dev" + i, i, rnd.nextInt(100_000)));
+        }
+        SuggestionIndex index = new SuggestionIndex(entries);
+
+        List<Long> expected = entries.stream()
+                .filter(e -> e.key().startsWith("dev12"))
+                .sorted(Comparator.comparingLong(SuggestionIndex.Entry::weight).reversed())
+                .limit(8)
+                .map(SuggestionIndex.Entry::weight)
+                .toList();
+        assertThat(index.suggest("dev12", 8))
+                .extracting(SuggestionIndex.Suggestion::weight)
+                .containsExactlyElementsOf(expected);
+    }
+}
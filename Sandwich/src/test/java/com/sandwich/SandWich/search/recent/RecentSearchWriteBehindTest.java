@@ -0,0 +1,138 @@
+package com.sandwich.SandWich.search.recent;
+
+import com.sandwich.SandWich.search.domain.RecentSearch;
+import com.sandwich.SandWich.search.domain.RecentSearchType;
+import com.sandwich.SandWich.search.dto.RecentSearchItem;
+import com.sandwich.SandWich.search.dto.RecentSearchRequest;
+import com.sandwich.SandWich.search.repository.RecentSearchBatchRepository;
+import com.sandwich.SandWich.search.repository.RecentSearchRepository;
+import com.sandwich.SandWich.search.service.RecentSearchService;
+import com.sandwich.SandWich.support.RedisContainerSupport;
+import com.sandwich.SandWich.user.domain.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/** 키 만료 후 기록/삭제 → write-behind 반영 시 DB 백업이 덮어써지지 않는지 (실제 Redis) */
+class RecentSearchWriteBehindTest extends RedisContainerSupport {
+
+    private static final long USER_ID = 7L;
+    private static final OffsetDateTime BASE = OffsetDateTime.of(2026, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    /** DB 역할 — 저장 순서(오래된 것 → 최신) 그대로 */
+    private final List<RecentSearch> db = new ArrayList<>();
+    private final User user = User.builder().id(USER_ID).build();
+
+    private RecentSearchService service;
+    private RecentSearchPersistJob job;
+
+    @BeforeEach
+    void setUp() {
+        RecentSearchProperties props = new RecentSearchProperties();
+        RecentSearchStore store = new RecentSearchStore(redis, props);
+
+        RecentSearchRepository repo = mock(RecentSearchRepository.class);
+        when(repo.findByUser_IdOrderByUpdatedAtDesc(eq(USER_ID), any(Pageable.class)))
+                .thenAnswer(inv -> db.stream()
+                        .sorted(Comparator.comparing(RecentSearch::getUpdatedAt).reversed())
+                        .toList());
+        when(repo.deleteByUserId(USER_ID)).thenAnswer(inv -> {
+            int n = db.size();
+            db.clear();
+            return n;
+        });
+        RecentSearchBatchRepository batchRepo = mock(RecentSearchBatchRepository.class);
+        when(batchRepo.insertAll(eq(USER_ID), any())).thenAnswer(inv -> {
+            List<RecentSearchBatchRepository.Row> rows = inv.getArgument(1);
+            rows.forEach(r -> db.add(row(r.keyword(), r.updatedAt())));
+            return rows.size();
+        });
+
+        service = new RecentSearchService(store, repo, props);
+        job = new RecentSearchPersistJob(store, repo, batchRepo, props,
+                mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+
+        // 이전에 반영된 백업 3건, Redis 키는 만료되어 없음
+        db.add(row("alpha", BASE.plusMinutes(1)));
+        db.add(row("beta", BASE.plusMinutes(2)));
+        db.add(row("gamma", BASE.plusMinutes(3)));
+    }
+
+    @Test
+    void 만료_후_기록하고_반영해도_기존_백업이_남는다() {
+        service.add(user, new RecentSearchRequest("delta", RecentSearchType.PORTFOLIO));
+        job.flush();
+
+        assertThat(keywords(db)).containsExactly("alpha", "beta", "gamma", "delta");
+        assertThat(service.list(user, null, null).getContent()).extracting(RecentSearchItem::keyword)
+                .containsExactly("delta", "gamma", "beta", "alpha");
+    }
+
+    @Test
+    void 만료_후_하나_삭제하고_반영하면_그것만_빠진다() {
+        long betaId = BASE.plusMinutes(2).toInstant().toEpochMilli(); // 복원 시 id = updatedAt(ms)
+        service.deleteOne(user, betaId);
+        job.flush();
+
+        assertThat(keywords(db)).containsExactly("alpha", "gamma");
+    }
+
+    @Test
+    void 전부_삭제하면_반영_전에도_백업에서_되살아나지_않는다() {
+        service.deleteAll(user, null);
+
+        assertThat(service.list(user, null, null).getContent()).isEmpty();
+        job.flush();
+        assertThat(db).isEmpty();
+    }
+
+    @Test
+    void 키가_cold_면_반영이_DB_를_건드리지_않는다() {
+        redis.opsForSet().add(RecentSearchStore.DIRTY_KEY, String.valueOf(USER_ID));
+        job.flush();
+
+        assertThat(keywords(db)).containsExactly("alpha", "beta", "gamma");
+    }
+
+    @Test
+    void 반영은_Redis_기록_시각을_updated_at_으로_보존한다() {
+        // beta 는 재검색으로 updated_at 만 갱신된 행 — id 순서와 최신순이 다르다
+        db.get(1).setUpdatedAt(BASE.plusMinutes(10));
+
+        assertThat(service.list(user, null, null).getContent()).extracting(RecentSearchItem::keyword)
+                .containsExactly("beta", "gamma", "alpha");
+        redis.opsForSet().add(RecentSearchStore.DIRTY_KEY, String.valueOf(USER_ID));
+        job.flush();
+
+        assertThat(db).extracting(RecentSearch::getKeyword, RecentSearch::getUpdatedAt)
+                .containsExactly(
+                        tuple("alpha", BASE.plusMinutes(1)),
+                        tuple("gamma", BASE.plusMinutes(3)),
+                        tuple("beta", BASE.plusMinutes(10)));
+    }
+
+    private RecentSearch row(String keyword, OffsetDateTime updatedAt) {
+        RecentSearch r = RecentSearch.builder().user(user).type(RecentSearchType.PORTFOLIO).keyword(keyword).build();
+        r.setUpdatedAt(updatedAt);
+        return r;
+    }
+
+    private static List<String> keywords(List<RecentSearch> rows) {
+        return rows.stream().map(RecentSearch::getKeyword).toList();
+    }
+}
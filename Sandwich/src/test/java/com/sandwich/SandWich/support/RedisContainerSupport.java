@@ -0,0 +1,44 @@
+package com.sandwich.SandWich.support;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Lua 스크립트를 실제 Redis 로 돌려보는 테스트의 베이스.
+ * 클래스마다 redis:7 컨테이너 하나, 테스트마다 FLUSHALL. Docker 가 없으면 skip.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class RedisContainerSupport {
+
+    @Container
+    @SuppressWarnings("resource")
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory factory;
+    protected static StringRedisTemplate redis;
+
+    @BeforeEach
+    void connectAndFlush() {
+        if (redis == null) {
+            factory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+            factory.afterPropertiesSet();
+            factory.start();
+            redis = new StringRedisTemplate(factory);
+        }
+        redis.execute((RedisCallback<Object>) conn -> { conn.serverCommands().flushAll(); return null; });
+    }
+
+    @AfterAll
+    static void disconnect() {
+        if (factory != null) factory.destroy();
+        factory = null;
+        redis = null;
+    }
+}
@@ -0,0 +1,122 @@
+package com.sandwich.SandWich.upload;
+
+import com.sandwich.SandWich.upload.config.S3ClientProperties;
+import com.sandwich.SandWich.upload.config.S3Config;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.*;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * 호출마다 S3Client/S3Presigner 를 만들던 방식(before) vs 공유 클라이언트(after)의 연산별 지연 비교.
+ * MinIO 등 S3 호환 서버가 있을 때만 실행:
+ *
+ *   docker run -p 9000:9000 -e MINIO_ROOT_USER=minio -e MINIO_ROOT_PASSWORD=minio123 minio/minio server /data
+ *   S3_BENCH_ENDPOINT=http://localhost:9000 S3_BENCH_ACCESS_KEY=minio S3_BENCH_SECRET_KEY=minio123 \
+ *     ./gradlew test --tests '*S3ClientBenchmarkIT'
+ */
+@EnabledIfEnvironmentVariable(named = "S3_BENCH_ENDPOINT", matches = ".+")
+class S3ClientBenchmarkIT {
+
+    private static final int WARMUP = 20;
+    private static final int ITER = 200;
+    private static final String BUCKET = "sandwich-bench";
+    private static final byte[] PAYLOAD = new byte[16 * 1024];
+
+    private final String endpoint = System.getenv("S3_BENCH_ENDPOINT");
+    private final String accessKey = env("S3_BENCH_ACCESS_KEY", "minio");
+    private final String secretKey = env("S3_BENCH_SECRET_KEY", "minio123");
+
+    @Test @DisplayName("S3 put/get/presign: 호출별 클라이언트 vs 공유 클라이언트")
+    void compare() {
+        S3ClientProperties props = new S3ClientProperties();
+        props.setEndpointOverride(endpoint);
+        props.setPathStyleAccess(true);
+        S3Config config = new S3Config(props);
+        ReflectionTestUtils.setField(config, "region", "us-east-1");
+        ReflectionTestUtils.setField(config, "accessKey", accessKey);
+        ReflectionTestUtils.setField(config, "secretKey", secretKey);
+
+        var creds = config.awsCredentialsProvider();
+        try (var http = config.s3HttpClient();
+             S3Client shared = config.s3Client(http, creds);
+             S3Presigner sharedPresigner = config.s3Presigner(creds)) {
+
+            try { shared.createBucket(b -> b.bucket(BUCKET)); } catch (S3Exception ignore) { /* 이미 있음 */ }
+            shared.putObject(p -> p.bucket(BUCKET).key("get-target"), RequestBody.fromBytes(PAYLOAD));
+
+            report("put  before", i -> { try (S3Client c = perCall()) { put(c, i); } });
+            report("put  after ", i -> put(shared, i));
+            report("get  before", i -> { try (S3Client c = perCall()) { get(c); } });
+            report("get  after ", i -> get(shared));
+            report("sign before", i -> { try (S3Presigner p = perCallPresigner()) { presign(p, i); } });
+            report("sign after ", i -> presign(sharedPresigner, i));
+        }
+    }
+
+    // 이전 S3StorageService.client()/presigner() 와 같은 방식
+    private S3Client perCall() {
+        return S3Client.builder()
+                .region(Region.US_EAST_1)
+                .endpointOverride(URI.create(endpoint))
+                .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)))
+                .build();
+    }
+
+    private S3Presigner perCallPresigner() {
+        return S3Presigner.builder()
+                .region(Region.US_EAST_1)
+                .endpointOverride(URI.create(endpoint))
+                .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)))
+                .build();
+    }
+
+    private static void put(S3Client c, int i) {
+        c.putObject(PutObjectRequest.builder().bucket(BUCKET).key("bench/" + (i % 16)).build(),
+                RequestBody.fromBytes(PAYLOAD));
+    }
+
+    private static void get(S3Client c) {
+        c.getObjectAsBytes(GetObjectRequest.builder().bucket(BUCKET).key("get-target").build());
+    }
+
+    private static void presign(S3Presigner p, int i) {
+        p.presignGetObject(GetObjectPresignRequest.builder()
+                .getObjectRequest(GetObjectRequest.builder().bucket(BUCKET).key("bench/" + i).build())
+                .signatureDuration(Duration.ofMinutes(2)).build());
+    }
+
+    private static void report(String name, Consumer<Integer> op) {
+        for (int i = 0; i < WARMUP; i++) op.accept(i);
+        long[] nanos = new long[ITER];
+        for (int i = 0; i < ITER; i++) {
+            long t0 = System.nanoTime();
+            op.accept(i);
+            nanos[i] = System.nanoTime() - t0;
+        }
+        Arrays.sort(nanos);
+        System.out.printf("[S3-BENCH] %s p50=%.2fms p95=%.2fms p99=%.2fms%n", name,
+                nanos[ITER / 2] / 1e6, nanos[(int) (ITER * 0.95)] / 1e6, nanos[(int) (ITER * 0.99)] / 1e6);
+    }
+
+    private static String env(String k, String def) {
+        String v = System.getenv(k);
+        return v == null || v.isBlank() ? def : v;
+    }
+}
@@ -0,0 +1,84 @@
+package com.sandwich.SandWich.user.search;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 10만 계정 규모 색인 빌드/질의 시간 측정 (수치는 로그로만 확인, 시간 단언 없음).
+ * 비교 기준: 같은 데이터를 매 질의마다 전부 훑는 LIKE '%q%' 상당의 선형 스캔.
+ * 기본 테스트에서는 빠지고, 필요할 때만 실행:
+ *
+ *   RUN_BENCHMARKS=true ./gradlew test --tests '*AccountSearchIndexBenchmarkIT'
+ */
+@EnabledIfEnvironmentVariable(named = "RUN_BENCHMARKS", matches = "true")
+class AccountSearchIndexBenchmarkIT {
+
+    private static final int USERS = 100_000;
+    private static final String[] SYLLABLES = {"김", "이", "박", "최", "정", "민", "준", "서", "윤", "지", "도", "하", "현", "우", "수"};
+    private static final String[] SKILLS = {"java", "spring", "react", "kotlin", "python", "go", "docker", "aws", "redis", "vue"};
+
+    @Test
+    void indexBeatsLinearScanAt100kUsers() {
+        Random rnd = new Random(42);
+        List<AccountSearchIndex.Doc> docs = new ArrayList<>(USERS);
+        for (int i = 1; i <= USERS; i++) {
+            String nick = SYLLABLES[rnd.nextInt(SYLLABLES.length)] + SYLLABLES[rnd.nextInt(SYLLABLES.length)]
+                    + SYLLABLES[rnd.nextInt(SYLLABLES.length)] + i;
+            String handle = SKILLS[rnd.nextInt(SKILLS.length)] + "_" + SKILLS[rnd.nextInt(SKILLS.length)] + i;
+            docs.add(new AccountSearchIndex.Doc(i, nick, handle, "user" + i + "@example.com"));
+        }
+
+        AccountSearchIndex index = new AccountSearchIndex();
+        long t0 = System.nanoTime();
+        index.replaceAll(docs);
+        long buildMs = (System.nanoTime() - t0) / 1_000_000;
+
+        String[] queries = {"김민", "user9999", "kotlin", "준서12", "example", "도하현", "redis", "99"};
+        int rounds = 10;
+        // 선형 스캔 기준선은 정규화 비용을 빼고 비교 (DB 의 lower() 비용에 해당)
+        List<AccountSearchIndex.Norm> normalized = docs.stream().map(AccountSearchIndex.Norm::new).toList();
+
+        long[] indexNs = new long[queries.length * rounds];
+        long[] scanNs = new long[queries.length * rounds];
+        int k = 0;
+        for (int r = 0; r < rounds; r++) {
+            for (String q : queries) {
+                long s = System.nanoTime();
+                AccountSearchIndex.Hits hits = index.search(q, 0, 20);
+                indexNs[k] = System.nanoTime() - s;
+
+                s = System.nanoTime();
+                long scanTotal = linearScan(normalized, q);
+                scanNs[k] = System.nanoTime() - s;
+                k++;
+
+                assertThat(hits.total()).isEqualTo(scanTotal);
+            }
+        }
+
+        System.out.printf("[AccountSearchIndex] users=%d build=%dms index p50=%.2fms p99=%.2fms | scan p50=%.2fms p99=%.2fms%n",
+                USERS, buildMs, pct(indexNs, 50), pct(indexNs, 99), pct(scanNs, 50), pct(scanNs, 99));
+    }
+
+    private static long linearScan(List<AccountSearchIndex.Norm> docs, String q) {
+        String nq = AccountSearchIndex.normalize(q);
+        long n = 0;
+        for (AccountSearchIndex.Norm d : docs) {
+            if (AccountSearchIndex.score(d, nq) > 0) n++;
+        }
+        return n;
+    }
+
+    private static double pct(long[] ns, int p) {
+        long[] c = ns.clone();
+        Arrays.sort(c);
+        return c[Math.min(c.length - 1, c.length * p / 100)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,72 @@
+package com.sandwich.SandWich.user.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccountSearchIndexTest {
+
+    private static AccountSearchIndex.Doc doc(long id, String nick) {
+        return new AccountSearchIndex.Doc(id, nick, "user" + id, "user" + id + "@example.com");
+    }
+
+    @Test
+    void ranksNicknameMatchesAboveOtherFields() {
+        AccountSearchIndex index = new AccountSearchIndex();
+        index.replaceAll(List.of(
+                new AccountSearchIndex.Doc(1, "샌드위치", "user1", "kotlin@example.com"),
+                doc(2, "kotlin러버"),
+                doc(3, "Kotlin")));
+
+        AccountSearchIndex.Hits hits = index.search("KOTLIN", 0, 10);
+
+        assertThat(hits.total()).isEqualTo(3);
+        assertThat(hits.userIds()).containsExactly(3L, 2L, 1L); // 정확 일치 > 접두 > 이메일
+    }
+
+    @Test
+    void matchesLikeSubstringSemanticsIncludingSingleCharAndKorean() {
+        AccountSearchIndex index = new AccountSearchIndex();
+        index.replaceAll(List.of(doc(1, "샌드위치"), doc(2, "햄버거")));
+
+        assertThat(index.search("드위", 0, 10).userIds()).containsExactly(1L);
+        assertThat(index.search("거", 0, 10).userIds()).containsExactly(2L);
+        assertThat(index.search("user2@", 0, 10).userIds()).containsExactly(2L);
+        assertThat(index.search("없는단어", 0, 10).total()).isZero();
+    }
+
+    @Test
+    void upsertReplacesAndRemoveDrops() {
+        AccountSearchIndex index = new AccountSearchIndex();
+        index.upsert(doc(1, "old"));
+        index.upsert(doc(1, "new"));
+
+        assertThat(index.search("old", 0, 10).total()).isZero();
+        assertThat(index.search("new", 0, 10).userIds()).containsExactly(1L);
+
+        index.remove(1);
+        assertThat(index.search("new", 0, 10).total()).isZero();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void pagesByOffsetAndLimit() {
+        AccountSearchIndex index = new AccountSearchIndex();
+        for (long i = 1; i <= 25; i++) index.upsert(doc(i, "dev" + i));
+
+        AccountSearchIndex.Hits page2 = index.search("dev", 10, 10);
+        assertThat(page2.total()).isEqualTo(25);
+        assertThat(page2.userIds()).hasSize(10);
+    }
+
+    @Test
+    void matchesUsernameEvenWhenNicknameIsSet() {
+        AccountSearchIndex index = new AccountSearchIndex();
+        index.replaceAll(List.of(new AccountSearchIndex.Doc(1, "샌드위치", "sandwich_dev", "a@example.com")));
+
+        assertThat(index.search("wich_d", 0, 10).userIds()).containsExactly(1L);
+        assertThat(index.search("치s", 0, 10).total()).isZero(); // 필드 경계를 넘는 일치 없음
+    }
+}